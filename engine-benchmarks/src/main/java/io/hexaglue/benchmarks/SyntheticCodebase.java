@@ -0,0 +1,157 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.benchmarks;
+
+import io.hexaglue.testing.CompiledSources;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Generates and compiles a synthetic hexagonal code base for the analysis benchmarks.
+ *
+ * <p>
+ * Types come in aggregates of five: an identifier record, a value object record, a status enum,
+ * an entity class referencing the three, and a repository port in {@code ports.out}. Aggregates
+ * are spread over packages of 100. The sources are attributed in memory by the testing harness,
+ * so the analyzers see real compiler elements.
+ * </p>
+ */
+public final class SyntheticCodebase {
+
+    /** Number of types generated per aggregate. */
+    public static final int TYPES_PER_AGGREGATE = 5;
+
+    private static final int AGGREGATES_PER_PACKAGE = 100;
+
+    private SyntheticCodebase() {}
+
+    /**
+     * Compiles a code base of about {@code typeCount} types (rounded up to whole aggregates).
+     *
+     * @param typeCount number of types
+     * @return compiled sources, to be closed by the caller
+     */
+    public static CompiledSources compile(int typeCount) {
+        int aggregates = Math.max(1, (typeCount + TYPES_PER_AGGREGATE - 1) / TYPES_PER_AGGREGATE);
+        CompiledSources.Builder builder = CompiledSources.builder();
+        for (int i = 0; i < aggregates; i++) {
+            addAggregate(builder, i);
+        }
+        return builder.compile();
+    }
+
+    /**
+     * Returns the type elements of the given sources as an ordered set, as the analyzers expect.
+     *
+     * @param sources compiled sources
+     * @return type elements in source order
+     */
+    public static Set<TypeElement> elements(CompiledSources sources) {
+        return new LinkedHashSet<>(sources.typeElements());
+    }
+
+    private static void addAggregate(CompiledSources.Builder builder, int i) {
+        String domain = "com.example.bench.domain.p" + (i / AGGREGATES_PER_PACKAGE);
+        String ports = "com.example.bench.ports.out.p" + (i / AGGREGATES_PER_PACKAGE);
+        String order = "Order" + i;
+
+        builder.addSourceFile(domain + "." + order + "Id", """
+                package %1$s;
+
+                public record %2$sId(String value) {}
+                """.formatted(domain, order));
+
+        builder.addSourceFile(domain + ".Money" + i, """
+                package %1$s;
+
+                import java.math.BigDecimal;
+
+                public record Money%2$d(BigDecimal amount, String currency) {
+                    public Money%2$d add(Money%2$d other) {
+                        return new Money%2$d(amount.add(other.amount()), currency);
+                    }
+                }
+                """.formatted(domain, i));
+
+        builder.addSourceFile(domain + "." + order + "Status", """
+                package %1$s;
+
+                public enum %2$sStatus {
+                    NEW,
+                    PAID,
+                    SHIPPED,
+                    CANCELLED
+                }
+                """.formatted(domain, order));
+
+        builder.addSourceFile(domain + "." + order, """
+                package %1$s;
+
+                import java.time.Instant;
+                import java.util.List;
+
+                public class %2$s {
+                    private final %2$sId id;
+                    private final List<Money%3$d> lines;
+                    private %2$sStatus status;
+                    private Instant updatedAt;
+
+                    public %2$s(%2$sId id, List<Money%3$d> lines) {
+                        this.id = id;
+                        this.lines = List.copyOf(lines);
+                        this.status = %2$sStatus.NEW;
+                    }
+
+                    public %2$sId getId() {
+                        return id;
+                    }
+
+                    public List<Money%3$d> getLines() {
+                        return lines;
+                    }
+
+                    public %2$sStatus getStatus() {
+                        return status;
+                    }
+
+                    public Instant getUpdatedAt() {
+                        return updatedAt;
+                    }
+
+                    public void pay(Instant at) {
+                        this.status = %2$sStatus.PAID;
+                        this.updatedAt = at;
+                    }
+                }
+                """.formatted(domain, order, i));
+
+        builder.addSourceFile(ports + "." + order + "Repository", """
+                package %1$s;
+
+                import %2$s.%3$s;
+                import %2$s.%3$sId;
+                import %2$s.%3$sStatus;
+                import java.util.List;
+                import java.util.Optional;
+
+                public interface %3$sRepository {
+                    Optional<%3$s> findById(%3$sId id);
+
+                    List<%3$s> findByStatus(%3$sStatus status);
+
+                    void save(%3$s order);
+                }
+                """.formatted(ports, domain, order));
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.benchmarks.analysis;
+
+import io.hexaglue.benchmarks.SyntheticCodebase;
+import io.hexaglue.core.internal.ir.domain.DomainModel;
+import io.hexaglue.core.internal.ir.domain.analysis.DomainAnalyzer;
+import io.hexaglue.core.internal.ir.domain.semantics.DomainSemanticEnricher;
+import io.hexaglue.core.internal.ir.ports.PortModel;
+import io.hexaglue.core.internal.ir.ports.analysis.PortAnalyzer;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.testing.CompiledSources;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.lang.model.element.TypeElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Domain analysis, port analysis and semantic enrichment on synthetic code bases.
+ *
+ * <p>
+ * The code base (see {@link SyntheticCodebase}) is compiled once per fork; each invocation runs a
+ * fresh analyzer over all of its type elements, as the pipeline does in a clean build.
+ * Diagnostics are discarded.
+ * </p>
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl engine-benchmarks -am package
+ * java -jar engine-benchmarks/target/benchmarks.jar AnalysisBenchmark -p types=1000
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalysisBenchmark {
+
+    private static final DiagnosticReporter DISCARD = diagnostic -> {};
+
+    @Param({"100", "1000", "10000"})
+    public int types;
+
+    private CompiledSources sources;
+    private Set<TypeElement> elements;
+    private DomainModel domainModel;
+    private PortModel portModel;
+
+    @Setup
+    public void setUp() {
+        sources = SyntheticCodebase.compile(types);
+        elements = SyntheticCodebase.elements(sources);
+        domainModel = domainAnalyze();
+        portModel = portAnalyze();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sources.close();
+    }
+
+    @Benchmark
+    public DomainModel domainAnalyze() {
+        return DomainAnalyzer.createDefault(sources.elements(), sources.types(), DISCARD)
+                .analyze(elements);
+    }
+
+    @Benchmark
+    public PortModel portAnalyze() {
+        return PortAnalyzer.createDefault(sources.elements(), sources.types(), DISCARD)
+                .analyze(elements);
+    }
+
+    @Benchmark
+    public DomainModel enrich() {
+        return DomainSemanticEnricher.withDiagnostics(DISCARD).enrich(domainModel, portModel);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.benchmarks.analysis;
+
+import io.hexaglue.benchmarks.SyntheticCodebase;
+import io.hexaglue.core.types.TypeResolver;
+import io.hexaglue.testing.CompiledSources;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link TypeResolver#resolve(TypeMirror)} over every field, parameter and return type of a
+ * synthetic code base.
+ *
+ * <p>
+ * {@code coldResolver} creates a resolver per invocation, as each analysis run does;
+ * {@code sharedResolver} reuses one across invocations.
+ * </p>
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl engine-benchmarks -am package
+ * java -jar engine-benchmarks/target/benchmarks.jar TypeResolverBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeResolverBenchmark {
+
+    @Param({"1000"})
+    public int types;
+
+    private CompiledSources sources;
+    private List<TypeMirror> mirrors;
+    private TypeResolver shared;
+
+    @Setup
+    public void setUp() {
+        sources = SyntheticCodebase.compile(types);
+        mirrors = new ArrayList<>();
+        for (TypeElement type : sources.typeElements()) {
+            mirrors.add(type.asType());
+            for (Element member : type.getEnclosedElements()) {
+                if (member instanceof VariableElement field) {
+                    mirrors.add(field.asType());
+                } else if (member instanceof ExecutableElement method) {
+                    mirrors.add(method.getReturnType());
+                    for (VariableElement parameter : method.getParameters()) {
+                        mirrors.add(parameter.asType());
+                    }
+                }
+            }
+        }
+        shared = TypeResolver.create(sources.elements());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sources.close();
+    }
+
+    @Benchmark
+    public void coldResolver(Blackhole blackhole) {
+        resolveAll(TypeResolver.create(sources.elements()), blackhole);
+    }
+
+    @Benchmark
+    public void sharedResolver(Blackhole blackhole) {
+        resolveAll(shared, blackhole);
+    }
+
+    private void resolveAll(TypeResolver resolver, Blackhole blackhole) {
+        for (TypeMirror mirror : mirrors) {
+            blackhole.consume(resolver.resolve(mirror));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.benchmarks.codegen;
+
+import io.hexaglue.core.codegen.ArtifactPlan;
+import io.hexaglue.spi.codegen.DocFile;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.ResourceFile;
+import io.hexaglue.spi.codegen.SourceFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ArtifactPlan} construction, including its indexes, from the artifacts of a large build.
+ *
+ * <p>
+ * For each of {@code artifacts} sources, the plan also holds one resource and, for every tenth
+ * source, one documentation file. The artifacts are created once; only the plan is built per
+ * invocation.
+ * </p>
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl engine-benchmarks -am package
+ * java -jar engine-benchmarks/target/benchmarks.jar ArtifactPlanBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArtifactPlanBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int artifacts;
+
+    private List<SourceFile> sources;
+    private List<ResourceFile> resources;
+    private List<DocFile> docs;
+
+    @Setup
+    public void setUp() {
+        sources = new ArrayList<>(artifacts);
+        resources = new ArrayList<>(artifacts);
+        docs = new ArrayList<>(artifacts / 10 + 1);
+        for (int i = 0; i < artifacts; i++) {
+            String type = "com.example.bench.infra.p" + (i / 100) + ".Order" + i + "JpaEntity";
+            sources.add(SourceFile.builder()
+                    .qualifiedTypeName(type)
+                    .content("package com.example;\n\npublic class Order" + i + "JpaEntity {}\n")
+                    .mergeMode(MergeMode.OVERWRITE)
+                    .build());
+            resources.add(ResourceFile.builder()
+                    .path("META-INF/hexaglue/order" + i + ".properties")
+                    .text("type=" + type + "\n")
+                    .mergeMode(MergeMode.OVERWRITE)
+                    .build());
+            if (i % 10 == 0) {
+                docs.add(DocFile.builder()
+                        .path("docs/ports/order" + i + ".md")
+                        .content("# Order" + i + "\n")
+                        .mergeMode(MergeMode.OVERWRITE)
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public ArtifactPlan build() {
+        return ArtifactPlan.builder()
+                .addAllSources(sources)
+                .addAllResources(resources)
+                .addAllDocs(docs)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.benchmarks.codegen;
+
+import io.hexaglue.core.codegen.merge.CustomBlockMerger;
+import io.hexaglue.core.codegen.merge.CustomBlockParser;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Custom block parsing and merging on large generated files.
+ *
+ * <p>
+ * Each file has {@code lines} lines of generated code with {@code blocks} custom blocks spread
+ * evenly across it. The existing file differs from the template only inside its blocks, as after
+ * a user edited them.
+ * </p>
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl engine-benchmarks -am package
+ * java -jar engine-benchmarks/target/benchmarks.jar CustomBlockParserBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomBlockParserBenchmark {
+
+    @Param({"10000"})
+    public int lines;
+
+    @Param({"100", "500"})
+    public int blocks;
+
+    private String template;
+    private String existing;
+
+    @Setup
+    public void setUp() {
+        template = generate(false);
+        existing = generate(true);
+    }
+
+    @Benchmark
+    public List<CustomBlockParser.ParsedBlock> parse() throws CustomBlockParser.ParseException {
+        return CustomBlockParser.parse(existing);
+    }
+
+    @Benchmark
+    public void parseAndReadContent(Blackhole blackhole) throws CustomBlockParser.ParseException {
+        for (CustomBlockParser.ParsedBlock block : CustomBlockParser.parse(existing)) {
+            blackhole.consume(block.content());
+        }
+    }
+
+    @Benchmark
+    public boolean hasCustomBlocks() {
+        return CustomBlockParser.hasCustomBlocks(existing);
+    }
+
+    @Benchmark
+    public CustomBlockMerger.Result merge() throws CustomBlockParser.ParseException {
+        return CustomBlockMerger.merge(template, existing);
+    }
+
+    private String generate(boolean edited) {
+        StringBuilder sb = new StringBuilder(lines * 40);
+        int every = Math.max(1, lines / blocks);
+        int block = 0;
+        for (int line = 0; line < lines; line++) {
+            if (line % every == 0 && block < blocks) {
+                sb.append("    // @hexaglue-custom-start: block-").append(block).append('\n');
+                sb.append(edited ? "    int userField" + block + " = " + line + ";\n" : "    // add code here\n");
+                sb.append("    // @hexaglue-custom-end: block-").append(block).append('\n');
+                block++;
+            }
+            sb.append("    private final String field").append(line).append(" = \"value\";\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.benchmarks.codegen;
+
+import io.hexaglue.core.codegen.files.MergePlanner;
+import io.hexaglue.spi.codegen.GeneratedHeader;
+import io.hexaglue.spi.codegen.MergeMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MergePlanner#plan} for a generated file with a header and custom blocks, against an
+ * existing file whose blocks were edited.
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl engine-benchmarks -am package
+ * java -jar engine-benchmarks/target/benchmarks.jar MergePlannerBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergePlannerBenchmark {
+
+    @Param({"OVERWRITE", "MERGE_CUSTOM_BLOCKS"})
+    public MergeMode mode;
+
+    @Param({"2000"})
+    public int lines;
+
+    @Param({"20"})
+    public int blocks;
+
+    private String generated;
+    private Optional<String> existing;
+    private Optional<GeneratedHeader> header;
+    private List<String> blockIds;
+
+    @Setup
+    public void setUp() {
+        generated = generate(false);
+        existing = Optional.of(generate(true));
+        header = Optional.of(GeneratedHeader.of("HexaGlue", "MPL-2.0", "Example", Instant.EPOCH));
+        blockIds = new ArrayList<>(blocks);
+        for (int i = 0; i < blocks; i++) {
+            blockIds.add("block-" + i);
+        }
+    }
+
+    @Benchmark
+    public MergePlanner.MergePlan plan() {
+        return MergePlanner.plan(generated, existing, mode, header, blockIds);
+    }
+
+    private String generate(boolean edited) {
+        StringBuilder sb = new StringBuilder(lines * 40);
+        int every = Math.max(1, lines / blocks);
+        int block = 0;
+        for (int line = 0; line < lines; line++) {
+            if (line % every == 0 && block < blocks) {
+                sb.append("    // @hexaglue-custom-start: block-").append(block).append('\n');
+                sb.append(edited ? "    int userField" + block + " = " + line + ";\n" : "    // add code here\n");
+                sb.append("    // @hexaglue-custom-end: block-").append(block).append('\n');
+                block++;
+            }
+            sb.append("    private final String field").append(line).append(" = \"value\";\n");
+        }
+        return sb.toString();
+    }
+}
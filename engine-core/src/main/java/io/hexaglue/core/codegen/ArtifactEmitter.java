@@ -12,19 +12,30 @@
  */
 package io.hexaglue.core.codegen;
 
+import io.hexaglue.core.codegen.merge.MergeEngine;
+import io.hexaglue.core.internal.events.ArtifactEmitEvent;
+import io.hexaglue.spi.codegen.BinaryContent;
 import io.hexaglue.spi.codegen.DocFile;
 import io.hexaglue.spi.codegen.MergeMode;
 import io.hexaglue.spi.codegen.ResourceFile;
 import io.hexaglue.spi.codegen.SourceFile;
+import io.hexaglue.spi.codegen.TextContent;
 import io.hexaglue.spi.diagnostics.Diagnostic;
 import io.hexaglue.spi.diagnostics.DiagnosticCode;
 import io.hexaglue.spi.diagnostics.DiagnosticLocation;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import java.io.FileNotFoundException;
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.file.NoSuchFileException;
 import java.util.Objects;
 import javax.annotation.processing.Filer;
 import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 
@@ -60,13 +71,41 @@ import javax.tools.StandardLocation;
  * </p>
  * <ul>
  *   <li><strong>OVERWRITE:</strong> Replace file unconditionally</li>
- *   <li><strong>MERGE_CUSTOM_BLOCKS:</strong> Preserve custom blocks (requires merge engine)</li>
- *   <li><strong>KEEP_EXISTING:</strong> Only write if file doesn't exist</li>
+ *   <li><strong>MERGE_CUSTOM_BLOCKS:</strong> Preserve custom blocks of the existing file</li>
+ *   <li><strong>WRITE_ONCE:</strong> Only write if file doesn't exist</li>
  *   <li><strong>FAIL_IF_EXISTS:</strong> Error if file exists</li>
  * </ul>
  * <p>
- * Currently, only {@code OVERWRITE} is fully implemented. Other modes will be
- * implemented in {@code io.hexaglue.core.codegen.merge}.
+ * For every mode but {@code OVERWRITE}, the existing output is read through
+ * {@link Filer#getResource} and handed to the {@link MergeEngine}, which also reports orphaned
+ * custom blocks and merge errors. The existing file is not read at all for {@code OVERWRITE}, or
+ * when the artifact is skipped as unchanged.
+ * </p>
+ *
+ * <h2>Streaming</h2>
+ * <p>
+ * Artifacts can also be emitted one by one, as they are produced, with
+ * {@link #emitSource(SourceFile)} and its siblings. The {@code TextContent}/{@code BinaryContent}
+ * overloads hand the {@link Filer}'s writer or stream to the plugin's content producer, so the
+ * content is never materialized in memory.
+ * </p>
+ *
+ * <h2>Skipping Unchanged Artifacts</h2>
+ * <p>
+ * When created with an {@link ArtifactManifest}, the emitter hashes the content of each
+ * materialized resource and documentation file and does not write it again if the manifest shows
+ * that the file on disk already holds that content. This keeps output timestamps stable, so build
+ * tools do not repackage untouched artifacts. Source files are always written: javac only
+ * compiles the sources created through the {@link Filer} in the current compilation, so a skipped
+ * source would never be compiled on a clean-classes or incremental build. Streamed artifacts are
+ * always written too, since their content is only known while it is written. {@link #writtenCount()}, {@link #skippedCount()} and
+ * {@link #bytesWritten()} report the outcome.
+ * </p>
+ *
+ * <h2>Profiling</h2>
+ * <p>
+ * Each artifact is recorded as an {@link ArtifactEmitEvent} Flight Recorder event carrying its
+ * name, outcome (written, skipped or failed) and size.
  * </p>
  *
  * <h2>Error Handling</h2>
@@ -77,8 +116,10 @@ import javax.tools.StandardLocation;
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is stateless and could be thread-safe, but {@link Filer} itself is not
- * thread-safe. Therefore, this emitter must not be used concurrently.
+ * This class only holds emission counters, but {@link Filer} itself is not
+ * thread-safe. Therefore, this emitter must not be used concurrently; callers emitting from
+ * several threads must serialize their calls (as {@link DefaultArtifactSink} does in streaming
+ * mode).
  * </p>
  *
  * <h2>Example</h2>
@@ -90,12 +131,17 @@ import javax.tools.StandardLocation;
  */
 public final class ArtifactEmitter {
 
-    private static final DiagnosticCode CODE_MERGE_NOT_SUPPORTED = DiagnosticCode.of("HG-CORE-CODEGEN-101");
+    private static final DiagnosticCode CODE_MERGE_FAILED = DiagnosticCode.of("HG-MERGE-201");
     private static final DiagnosticCode CODE_IO_ERROR = DiagnosticCode.of("HG-CORE-CODEGEN-203");
     private static final DiagnosticCode CODE_INVALID_RESOURCE = DiagnosticCode.of("HG-CORE-CODEGEN-204");
 
     private final Filer filer;
     private final DiagnosticReporter diagnostics;
+    private final ArtifactManifest manifest;
+    private final MergeEngine mergeEngine;
+    private int written;
+    private int skipped;
+    private long bytes;
 
     /**
      * Creates a new artifact emitter.
@@ -104,8 +150,49 @@ public final class ArtifactEmitter {
      * @param diagnostics diagnostic reporter for errors (not {@code null})
      */
     public ArtifactEmitter(Filer filer, DiagnosticReporter diagnostics) {
+        this(filer, diagnostics, null);
+    }
+
+    /**
+     * Creates a new artifact emitter that skips resources and documentation recorded as unchanged
+     * in a manifest.
+     *
+     * @param filer JSR-269 filer for file creation (not {@code null})
+     * @param diagnostics diagnostic reporter for errors (not {@code null})
+     * @param manifest manifest of previously written artifacts (may be {@code null} to write everything)
+     */
+    public ArtifactEmitter(Filer filer, DiagnosticReporter diagnostics, ArtifactManifest manifest) {
         this.filer = Objects.requireNonNull(filer, "filer");
         this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+        this.manifest = manifest;
+        this.mergeEngine = new MergeEngine(this.diagnostics);
+    }
+
+    /**
+     * Returns the number of artifacts written by this emitter.
+     *
+     * @return written artifact count
+     */
+    public int writtenCount() {
+        return written;
+    }
+
+    /**
+     * Returns the number of artifacts skipped because their content was unchanged.
+     *
+     * @return skipped artifact count
+     */
+    public int skippedCount() {
+        return skipped;
+    }
+
+    /**
+     * Returns the number of bytes written by this emitter, text being counted in UTF-8.
+     *
+     * @return written byte count
+     */
+    public long bytesWritten() {
+        return bytes;
     }
 
     /**
@@ -146,29 +233,45 @@ public final class ArtifactEmitter {
     // Source file emission
     // ─────────────────────────────────────────────────────────────────────────
 
-    private void emitSource(SourceFile file) {
+    /**
+     * Emits a single source file, applying its merge mode against the existing output.
+     *
+     * @param file source file (not {@code null})
+     */
+    public void emitSource(SourceFile file) {
+        Objects.requireNonNull(file, "file");
+        traced("source", file.qualifiedTypeName(), () -> writeSource(file));
+    }
+
+    private void writeSource(SourceFile file) {
+        String name = file.qualifiedTypeName();
         try {
-            // Check merge mode
-            if (file.mergeMode() != MergeMode.OVERWRITE) {
-                diagnostics.report(Diagnostic.builder()
-                        .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.WARNING)
-                        .code(CODE_MERGE_NOT_SUPPORTED)
-                        .message("Merge mode '" + file.mergeMode()
-                                + "' not yet fully supported for source files. Using OVERWRITE.")
-                        .location(locationForSource(file))
-                        .build());
+            int lastDot = name.lastIndexOf('.');
+            String pkg = lastDot < 0 ? "" : name.substring(0, lastDot);
+            String relativeName = name.substring(lastDot + 1) + ".java";
+            String content = merge(
+                    file.content(),
+                    file.mergeMode(),
+                    StandardLocation.SOURCE_OUTPUT,
+                    pkg,
+                    relativeName,
+                    locationForSource(file));
+            if (content == null) {
+                return;
             }
 
-            JavaFileObject jfo = filer.createSourceFile(file.qualifiedTypeName());
+            JavaFileObject jfo = filer.createSourceFile(name);
             try (Writer writer = jfo.openWriter()) {
-                writer.write(file.content());
+                writer.write(content);
+                bytes += utf8Length(content);
             }
+            written++;
 
         } catch (IOException e) {
             diagnostics.report(Diagnostic.builder()
                     .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.ERROR)
                     .code(CODE_IO_ERROR)
-                    .message("Failed to write source file '" + file.qualifiedTypeName() + "': " + e.getMessage())
+                    .message("Failed to write source file '" + name + "': " + e.getMessage())
                     .location(locationForSource(file))
                     .cause(e)
                     .build());
@@ -179,43 +282,86 @@ public final class ArtifactEmitter {
     // Resource file emission
     // ─────────────────────────────────────────────────────────────────────────
 
-    private void emitResource(ResourceFile file) {
+    /**
+     * Emits a single resource file, applying its merge mode against the existing output.
+     *
+     * <p>
+     * Binary resources cannot hold custom blocks: {@code MERGE_CUSTOM_BLOCKS} overwrites them,
+     * and only the existence of the file matters for {@code WRITE_ONCE} and
+     * {@code FAIL_IF_EXISTS}.
+     * </p>
+     *
+     * @param file resource file (not {@code null})
+     */
+    public void emitResource(ResourceFile file) {
+        Objects.requireNonNull(file, "file");
+        traced("resource", file.path(), () -> writeResource(file));
+    }
+
+    private void writeResource(ResourceFile file) {
         try {
-            // Check merge mode
-            if (file.mergeMode() != MergeMode.OVERWRITE) {
+            // Determine package and relative name from path
+            // For simplicity, treat the entire path as relative name with empty package
+            String pkg = "";
+            String relativeName = file.path();
+
+            if (file.text().isEmpty() && file.bytes().isEmpty()) {
                 diagnostics.report(Diagnostic.builder()
-                        .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.WARNING)
-                        .code(CODE_MERGE_NOT_SUPPORTED)
-                        .message("Merge mode '" + file.mergeMode()
-                                + "' not yet fully supported for resource files. Using OVERWRITE.")
+                        .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.ERROR)
+                        .code(CODE_INVALID_RESOURCE)
+                        .message("Resource file '" + file.path() + "' has neither text nor binary content.")
                         .location(locationForResource(file))
                         .build());
+                return;
             }
 
-            // Determine package and relative name from path
-            // For simplicity, treat the entire path as relative name with empty package
-            String pkg = "";
-            String relativeName = file.path();
+            String hash = null;
+            if (manifest != null) {
+                hash = file.text().isPresent()
+                        ? ArtifactManifest.hash(file.text().get())
+                        : ArtifactManifest.hash(file.bytes().get());
+                if (manifest.isUnchangedResource(file.path(), hash)) {
+                    skipped++;
+                    return;
+                }
+            }
+
+            String text = file.text().orElse(null);
+            if (text != null && !text.isEmpty()) {
+                text = merge(
+                        text,
+                        file.mergeMode(),
+                        StandardLocation.CLASS_OUTPUT,
+                        pkg,
+                        relativeName,
+                        locationForResource(file));
+                if (text == null) {
+                    return;
+                }
+            } else if (keepExisting(
+                    file.mergeMode(), StandardLocation.CLASS_OUTPUT, pkg, relativeName, locationForResource(file))) {
+                return;
+            }
 
             FileObject fo = filer.createResource(StandardLocation.CLASS_OUTPUT, pkg, relativeName);
 
-            if (file.text().isPresent()) {
+            if (text != null) {
                 // Text resource
                 try (Writer writer = fo.openWriter()) {
-                    writer.write(file.text().get());
+                    writer.write(text);
+                    bytes += utf8Length(text);
                 }
-            } else if (file.bytes().isPresent()) {
+            } else {
                 // Binary resource
                 try (var outputStream = fo.openOutputStream()) {
-                    outputStream.write(file.bytes().get());
+                    byte[] data = file.bytes().get();
+                    outputStream.write(data);
+                    bytes += data.length;
                 }
-            } else {
-                diagnostics.report(Diagnostic.builder()
-                        .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.ERROR)
-                        .code(CODE_INVALID_RESOURCE)
-                        .message("Resource file '" + file.path() + "' has neither text nor binary content.")
-                        .location(locationForResource(file))
-                        .build());
+            }
+            written++;
+            if (hash != null) {
+                manifest.recordResource(file.path(), hash);
             }
 
         } catch (IOException e) {
@@ -233,17 +379,22 @@ public final class ArtifactEmitter {
     // Documentation file emission
     // ─────────────────────────────────────────────────────────────────────────
 
-    private void emitDoc(DocFile file) {
+    /**
+     * Emits a single documentation file, applying its merge mode against the existing output.
+     *
+     * @param file documentation file (not {@code null})
+     */
+    public void emitDoc(DocFile file) {
+        Objects.requireNonNull(file, "file");
+        traced("doc", file.path(), () -> writeDoc(file));
+    }
+
+    private void writeDoc(DocFile file) {
         try {
-            // Check merge mode
-            if (file.mergeMode() != MergeMode.OVERWRITE) {
-                diagnostics.report(Diagnostic.builder()
-                        .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.WARNING)
-                        .code(CODE_MERGE_NOT_SUPPORTED)
-                        .message("Merge mode '" + file.mergeMode()
-                                + "' not yet fully supported for documentation files. Using OVERWRITE.")
-                        .location(locationForDoc(file))
-                        .build());
+            String hash = manifest != null ? ArtifactManifest.hash(file.content()) : null;
+            if (hash != null && manifest.isUnchangedDoc(file.path(), hash)) {
+                skipped++;
+                return;
             }
 
             // Documentation goes to SOURCE_OUTPUT or CLASS_OUTPUT depending on use case
@@ -251,10 +402,26 @@ public final class ArtifactEmitter {
             String pkg = "";
             String relativeName = file.path();
 
+            String content = merge(
+                    file.content(),
+                    file.mergeMode(),
+                    StandardLocation.CLASS_OUTPUT,
+                    pkg,
+                    relativeName,
+                    locationForDoc(file));
+            if (content == null) {
+                return;
+            }
+
             FileObject fo = filer.createResource(StandardLocation.CLASS_OUTPUT, pkg, relativeName);
 
             try (Writer writer = fo.openWriter()) {
-                writer.write(file.content());
+                writer.write(content);
+                bytes += utf8Length(content);
+            }
+            written++;
+            if (hash != null) {
+                manifest.recordDoc(file.path(), hash);
             }
 
         } catch (IOException e) {
@@ -268,6 +435,227 @@ public final class ArtifactEmitter {
         }
     }
 
+    // ─────────────────────────────────────────────────────────────────────────
+    // Merge modes
+    // ─────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Applies a merge mode to generated text, reading the existing output only when needed.
+     *
+     * @return content to write, or {@code null} if the file must be left as is (skipped, or a
+     *         merge error was reported)
+     */
+    private String merge(
+            String content,
+            MergeMode mode,
+            JavaFileManager.Location location,
+            String pkg,
+            String relativeName,
+            DiagnosticLocation diagnosticLocation)
+            throws IOException {
+        if (mode == MergeMode.OVERWRITE) {
+            return content;
+        }
+
+        MergeEngine.MergeResponse response = mergeEngine.merge(MergeEngine.MergeRequest.builder()
+                .newContent(content)
+                .existingContent(readExisting(location, pkg, relativeName))
+                .mergeMode(mode)
+                .location(diagnosticLocation)
+                .build());
+        if (response.shouldWrite()) {
+            return response.finalContent();
+        }
+        if (response.action() == MergeEngine.MergeAction.SKIP) {
+            skipped++;
+        }
+        return null;
+    }
+
+    /**
+     * Applies an existence-based merge mode to content that cannot be merged.
+     *
+     * @return {@code true} if the existing file must be left as is
+     */
+    private boolean keepExisting(
+            MergeMode mode,
+            JavaFileManager.Location location,
+            String pkg,
+            String relativeName,
+            DiagnosticLocation diagnosticLocation)
+            throws IOException {
+        if (mode != MergeMode.WRITE_ONCE && mode != MergeMode.FAIL_IF_EXISTS) {
+            return false;
+        }
+        try (InputStream in = filer.getResource(location, pkg, relativeName).openInputStream()) {
+            // The file exists
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return false;
+        }
+
+        if (mode == MergeMode.WRITE_ONCE) {
+            skipped++;
+        } else {
+            diagnostics.report(Diagnostic.builder()
+                    .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.ERROR)
+                    .code(CODE_MERGE_FAILED)
+                    .message("Merge operation failed: File already exists and FAIL_IF_EXISTS mode is active")
+                    .location(diagnosticLocation)
+                    .build());
+        }
+        return true;
+    }
+
+    /**
+     * Reads a previously generated file.
+     *
+     * <p>
+     * Reading through {@link Filer#getResource} does not count as opening the file for writing,
+     * so the file can still be created afterwards in the same compilation.
+     * </p>
+     *
+     * @return existing content, or {@code null} if the file does not exist
+     */
+    private String readExisting(JavaFileManager.Location location, String pkg, String relativeName) throws IOException {
+        try {
+            return filer.getResource(location, pkg, relativeName)
+                    .getCharContent(true)
+                    .toString();
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Streamed emission
+    // ─────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Emits a source file, letting the producer write its content directly to the output.
+     *
+     * <p>
+     * The file is always overwritten; merge modes require the materialized content.
+     * </p>
+     *
+     * @param qualifiedTypeName qualified type name (not {@code null})
+     * @param content content producer (not {@code null})
+     */
+    public void emitSource(String qualifiedTypeName, TextContent content) {
+        Objects.requireNonNull(qualifiedTypeName, "qualifiedTypeName");
+        Objects.requireNonNull(content, "content");
+        traced("source", qualifiedTypeName, () -> writeSource(qualifiedTypeName, content));
+    }
+
+    private void writeSource(String qualifiedTypeName, TextContent content) {
+        try {
+            JavaFileObject jfo = filer.createSourceFile(qualifiedTypeName);
+            try (Writer writer = jfo.openWriter()) {
+                CountingWriter counting = new CountingWriter(writer);
+                content.writeTo(counting);
+                bytes += counting.bytes;
+            }
+            written++;
+        } catch (IOException e) {
+            diagnostics.report(Diagnostic.builder()
+                    .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.ERROR)
+                    .code(CODE_IO_ERROR)
+                    .message("Failed to write source file '" + qualifiedTypeName + "': " + e.getMessage())
+                    .location(DiagnosticLocation.ofQualifiedName(qualifiedTypeName))
+                    .cause(e)
+                    .build());
+        }
+    }
+
+    /**
+     * Emits a binary resource file, letting the producer write its content directly to the output.
+     *
+     * <p>
+     * The file is always overwritten; merge modes require the materialized content.
+     * </p>
+     *
+     * @param path resource path (not {@code null})
+     * @param content content producer (not {@code null})
+     */
+    public void emitResource(String path, BinaryContent content) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(content, "content");
+        traced("resource", path, () -> writeResource(path, content));
+    }
+
+    private void writeResource(String path, BinaryContent content) {
+        try {
+            FileObject fo = filer.createResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (OutputStream outputStream = fo.openOutputStream()) {
+                CountingOutputStream counting = new CountingOutputStream(outputStream);
+                content.writeTo(counting);
+                bytes += counting.bytes;
+            }
+            written++;
+        } catch (IOException e) {
+            diagnostics.report(Diagnostic.builder()
+                    .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.ERROR)
+                    .code(CODE_IO_ERROR)
+                    .message("Failed to write resource file '" + path + "': " + e.getMessage())
+                    .location(DiagnosticLocation.ofPath(path, null, null))
+                    .cause(e)
+                    .build());
+        }
+    }
+
+    /**
+     * Emits a documentation file, letting the producer write its content directly to the output.
+     *
+     * <p>
+     * The file is always overwritten; merge modes require the materialized content.
+     * </p>
+     *
+     * @param path documentation path (not {@code null})
+     * @param content content producer (not {@code null})
+     */
+    public void emitDoc(String path, TextContent content) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(content, "content");
+        traced("doc", path, () -> writeDoc(path, content));
+    }
+
+    private void writeDoc(String path, TextContent content) {
+        try {
+            FileObject fo = filer.createResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (Writer writer = fo.openWriter()) {
+                CountingWriter counting = new CountingWriter(writer);
+                content.writeTo(counting);
+                bytes += counting.bytes;
+            }
+            written++;
+        } catch (IOException e) {
+            diagnostics.report(Diagnostic.builder()
+                    .severity(io.hexaglue.spi.diagnostics.DiagnosticSeverity.ERROR)
+                    .code(CODE_IO_ERROR)
+                    .message("Failed to write documentation file '" + path + "': " + e.getMessage())
+                    .location(DiagnosticLocation.ofPath(path, null, null))
+                    .cause(e)
+                    .build());
+        }
+    }
+
+    /**
+     * Runs one emission, recording it as an {@link ArtifactEmitEvent} whose outcome is derived from
+     * the emission counters.
+     */
+    private void traced(String kind, String artifact, Runnable emission) {
+        int writtenBefore = written;
+        int skippedBefore = skipped;
+        long bytesBefore = bytes;
+        ArtifactEmitEvent event = new ArtifactEmitEvent();
+        event.begin();
+        try {
+            emission.run();
+        } finally {
+            String outcome = written > writtenBefore ? "written" : skipped > skippedBefore ? "skipped" : "failed";
+            event.finish(kind, artifact, outcome, bytes - bytesBefore);
+        }
+    }
+
     // ─────────────────────────────────────────────────────────────────────────
     // Diagnostic location creation
     // ─────────────────────────────────────────────────────────────────────────
@@ -283,4 +671,99 @@ public final class ArtifactEmitter {
     private DiagnosticLocation locationForDoc(DocFile file) {
         return DiagnosticLocation.ofPath(file.path(), null, null);
     }
+
+    /**
+     * Returns the UTF-8 encoded length of a character sequence.
+     *
+     * <p>
+     * Each half of a surrogate pair counts for two bytes, so a pair counts for four.
+     * </p>
+     */
+    private static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            length += utf8Length(text.charAt(i));
+        }
+        return length;
+    }
+
+    private static int utf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800 || Character.isSurrogate(c)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    /**
+     * Writer counting the UTF-8 length of what a content producer writes.
+     */
+    private static final class CountingWriter extends FilterWriter {
+
+        private long bytes;
+
+        CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            bytes += utf8Length((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            for (int i = off; i < off + len; i++) {
+                bytes += utf8Length(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            for (int i = off; i < off + len; i++) {
+                bytes += utf8Length(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The emitter closes the underlying writer.
+            flush();
+        }
+    }
+
+    /**
+     * Output stream counting what a content producer writes.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long bytes;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The emitter closes the underlying stream.
+            flush();
+        }
+    }
 }
@@ -0,0 +1,324 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen;
+
+import io.hexaglue.core.internal.ir.cache.IrCache;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.processing.Filer;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+
+/**
+ * Content-hash manifest of the artifacts written by previous compilations.
+ *
+ * <p>
+ * Rewriting an output file with identical content still bumps its timestamp, which makes
+ * incremental builds (Gradle, IDEs) recompile or repackage everything downstream. The manifest
+ * records, for each artifact, the hash of its content and the size and modification time of the
+ * file written for it. An artifact whose new content has the same hash, and whose file is still
+ * on disk untouched, does not need to be written again.
+ * </p>
+ *
+ * <h2>Keys</h2>
+ * <p>
+ * Entries are keyed by path, and located in the class output directory. Only resources and
+ * documentation are tracked: a generated source must go through the {@link Filer} in every
+ * compilation, or javac would not compile it (see {@link ArtifactEmitter}).
+ * </p>
+ *
+ * <h2>Lifecycle</h2>
+ * <ol>
+ *   <li>{@link #open(Path, Path)} loads the previous manifest (a missing or unreadable file
+ *       yields an empty manifest)</li>
+ *   <li>{@code isUnchanged*} is consulted before writing an artifact; unchanged entries are
+ *       carried over</li>
+ *   <li>{@code record*} stores the entry of an artifact that was written</li>
+ *   <li>{@link #save()} writes the entries of the current compilation</li>
+ * </ol>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is not thread-safe. It is used through {@link ArtifactEmitter}, whose calls are
+ * serialized.
+ * </p>
+ */
+public final class ArtifactManifest {
+
+    /**
+     * File name of the manifest inside its directory.
+     */
+    public static final String FILE_NAME = "artifact-manifest.txt";
+
+    private static final String HEADER = "# hexaglue artifact manifest v1";
+    private static final String PROBE = "hexaglue-output-probe";
+
+    private final Path file;
+    private final Path classOutput;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new LinkedHashMap<>();
+
+    private ArtifactManifest(Path file, Path classOutput, Map<String, Entry> previous) {
+        this.file = file;
+        this.classOutput = classOutput;
+        this.previous = previous;
+    }
+
+    /**
+     * Opens the manifest stored in the given directory.
+     *
+     * <p>
+     * This method never fails: if the file is missing or unreadable, the manifest is empty and
+     * every artifact is written.
+     * </p>
+     *
+     * @param directory   manifest directory (not {@code null})
+     * @param classOutput directory receiving resources and documentation (not {@code null})
+     * @return manifest (never {@code null})
+     * @throws NullPointerException if any parameter is null
+     */
+    public static ArtifactManifest open(Path directory, Path classOutput) {
+        Objects.requireNonNull(directory, "directory");
+        Objects.requireNonNull(classOutput, "classOutput");
+
+        Path file = directory.resolve(FILE_NAME);
+        Map<String, Entry> previous = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (HEADER.equals(reader.readLine())) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\t");
+                    if (fields.length == 4) {
+                        previous.put(
+                                fields[0], new Entry(fields[1], Long.parseLong(fields[2]), Long.parseLong(fields[3])));
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // First compilation
+        } catch (IOException | RuntimeException e) {
+            previous.clear();
+        }
+        return new ArtifactManifest(file, classOutput, previous);
+    }
+
+    /**
+     * Opens the manifest of the filer's class output, in its default directory.
+     *
+     * <p>
+     * The manifest is kept in {@link IrCache#defaultDirectory(Filer)}, which is specific to each
+     * class output (e.g. {@code target/hexaglue/classes} and {@code target/hexaglue/test-classes}),
+     * so the main and test compilations of a module do not overwrite each other's manifest.
+     * </p>
+     *
+     * @param filer JSR-269 filer (not {@code null})
+     * @return manifest, or empty if the output locations are not local directories
+     * @throws NullPointerException if filer is null
+     */
+    public static Optional<ArtifactManifest> openDefault(Filer filer) {
+        Objects.requireNonNull(filer, "filer");
+        Optional<Path> directory = IrCache.defaultDirectory(filer);
+        Optional<Path> classOutput = outputDirectory(filer, StandardLocation.CLASS_OUTPUT);
+        if (directory.isEmpty() || classOutput.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(open(directory.get(), classOutput.get()));
+    }
+
+    /**
+     * Returns the local directory of a filer output location.
+     *
+     * <p>
+     * The directory is resolved without creating or opening any file, so it does not interfere
+     * with the files later created through the filer.
+     * </p>
+     *
+     * @param filer    JSR-269 filer (not {@code null})
+     * @param location output location (not {@code null})
+     * @return directory, or empty if the location is not a local directory
+     * @throws NullPointerException if any parameter is null
+     */
+    public static Optional<Path> outputDirectory(Filer filer, JavaFileManager.Location location) {
+        Objects.requireNonNull(filer, "filer");
+        Objects.requireNonNull(location, "location");
+        try {
+            URI uri = filer.getResource(location, "", PROBE).toUri();
+            if (!"file".equals(uri.getScheme())) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(Path.of(uri).getParent());
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the hash of textual content.
+     *
+     * @param content content (not {@code null})
+     * @return hex-encoded hash (never {@code null})
+     */
+    public static String hash(String content) {
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the hash of binary content.
+     *
+     * @param content content (not {@code null})
+     * @return hex-encoded hash (never {@code null})
+     */
+    public static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Returns whether a resource file with the given content hash is already on disk.
+     *
+     * @param path resource path (not {@code null})
+     * @param hash content hash (not {@code null})
+     * @return {@code true} if the write can be skipped
+     */
+    public boolean isUnchangedResource(String path, String hash) {
+        return isUnchanged("resource:" + path, classOutput.resolve(path), hash);
+    }
+
+    /**
+     * Returns whether a documentation file with the given content hash is already on disk.
+     *
+     * @param path documentation path (not {@code null})
+     * @param hash content hash (not {@code null})
+     * @return {@code true} if the write can be skipped
+     */
+    public boolean isUnchangedDoc(String path, String hash) {
+        return isUnchanged("doc:" + path, classOutput.resolve(path), hash);
+    }
+
+    /**
+     * Records a resource file that was just written.
+     *
+     * @param path resource path (not {@code null})
+     * @param hash content hash (not {@code null})
+     */
+    public void recordResource(String path, String hash) {
+        record("resource:" + path, classOutput.resolve(path), hash);
+    }
+
+    /**
+     * Records a documentation file that was just written.
+     *
+     * @param path documentation path (not {@code null})
+     * @param hash content hash (not {@code null})
+     */
+    public void recordDoc(String path, String hash) {
+        record("doc:" + path, classOutput.resolve(path), hash);
+    }
+
+    /**
+     * Writes the entries of the current compilation, replacing the previous manifest atomically.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    public void save() throws IOException {
+        Path directory = file.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<String, Entry> e : current.entrySet()) {
+                Entry entry = e.getValue();
+                writer.write(e.getKey() + "\t" + entry.hash() + "\t" + entry.size() + "\t" + entry.lastModified());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the manifest file.
+     *
+     * @return manifest file (never {@code null})
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Returns the number of entries loaded from the previous manifest.
+     *
+     * @return loaded entry count
+     */
+    public int loadedCount() {
+        return previous.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ArtifactManifest{file=" + file + ", loaded=" + previous.size() + ", current=" + current.size() + "}";
+    }
+
+    private boolean isUnchanged(String key, Path output, String hash) {
+        Entry entry = previous.get(key);
+        if (entry == null || !entry.hash().equals(hash)) {
+            return false;
+        }
+        try {
+            if (Files.size(output) != entry.size()
+                    || Files.getLastModifiedTime(output).toMillis() != entry.lastModified()) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        current.put(key, entry);
+        return true;
+    }
+
+    private void record(String key, Path output, String hash) {
+        try {
+            current.put(
+                    key,
+                    new Entry(
+                            hash,
+                            Files.size(output),
+                            Files.getLastModifiedTime(output).toMillis()));
+        } catch (IOException e) {
+            // Not recorded: the artifact will simply be written again next time.
+            current.remove(key);
+        }
+    }
+
+    private record Entry(String hash, long size, long lastModified) {}
+}
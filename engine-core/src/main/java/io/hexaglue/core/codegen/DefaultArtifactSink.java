@@ -13,13 +13,26 @@
 package io.hexaglue.core.codegen;
 
 import io.hexaglue.spi.codegen.ArtifactSink;
+import io.hexaglue.spi.codegen.BinaryContent;
 import io.hexaglue.spi.codegen.DocFile;
+import io.hexaglue.spi.codegen.MergeMode;
 import io.hexaglue.spi.codegen.ResourceFile;
 import io.hexaglue.spi.codegen.SourceFile;
+import io.hexaglue.spi.codegen.TextContent;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Default implementation of {@link ArtifactSink} that collects artifacts in memory.
@@ -35,10 +48,10 @@ import java.util.Objects;
  * Separating collection (this class) from emission ({@link ArtifactEmitter}) enables:
  * </p>
  * <ul>
- *   <li>Deferred validation until all plugins have contributed</li>
- *   <li>Centralized conflict detection before any I/O</li>
+ *   <li>Early conflict detection, before any I/O</li>
  *   <li>Testable artifact analysis without file system dependencies</li>
- *   <li>Transaction-like semantics (all-or-nothing emission)</li>
+ *   <li>Transaction-like semantics (all-or-nothing emission) in the default buffered mode; a
+ *       streaming sink emits as it goes and gives this up (see Streaming Mode)</li>
  * </ul>
  *
  * <h2>Lifecycle</h2>
@@ -51,22 +64,41 @@ import java.util.Objects;
  *
  * <h2>Validation</h2>
  * <p>
- * Basic validation is performed when artifacts are added:
+ * Artifacts are validated when they are written:
  * </p>
  * <ul>
  *   <li>Non-null artifact instances</li>
- *   <li>Non-blank qualified names and paths</li>
- *   <li>Required fields (content, merge mode, etc.)</li>
+ *   <li>Unique qualified names (sources) and paths (resources, documentation): a duplicate is
+ *       reported as an error ({@code HG-CORE-CODEGEN-201}) and discarded, the first write wins</li>
  * </ul>
  * <p>
- * More sophisticated validation (conflict detection, merge strategy compatibility)
- * is deferred to {@link ArtifactPlan}.
+ * Required fields are already validated by the SPI artifact builders.
+ * </p>
+ *
+ * <h2>Streaming Mode</h2>
+ * <p>
+ * A sink created with {@link #streaming(DiagnosticReporter, ArtifactEmitter, EmittedArtifacts)}
+ * does not keep artifacts: each one is forwarded to the {@link ArtifactEmitter} as soon as it
+ * passed the duplicate check, and {@link #buildPlan()} returns an empty plan. Content producers
+ * ({@link TextContent}, {@link BinaryContent}) for overwritten artifacts write straight to the
+ * output, so peak memory no longer grows with the generated volume. Merged artifacts are
+ * materialized first, since merging needs the whole content.
+ * Artifacts already emitted stay in the output if a later plugin fails, so emission is not
+ * all-or-nothing in this mode.
+ * </p>
+ *
+ * <h2>Ordering</h2>
+ * <p>
+ * The plan lists sources by qualified name and resources and documentation files by path. This
+ * order does not depend on which thread wrote an artifact, or when.
  * </p>
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is <strong>not thread-safe</strong>. It must be used from the annotation
- * processor thread only. Concurrent plugin execution is not supported.
+ * This class is thread-safe: plugins may write from several threads. Each thread appends to its
+ * own buffer, and the buffers are merged by {@link #buildPlan()}, which must be called once all
+ * writers have completed. In streaming mode, calls to the emitter are serialized. The diagnostic
+ * reporter must be thread-safe if writes happen on several threads.
  * </p>
  *
  * <h2>Example</h2>
@@ -91,11 +123,19 @@ import java.util.Objects;
  */
 public final class DefaultArtifactSink implements ArtifactSink {
 
-    // private final DiagnosticReporter diagnostics;
-    private final List<SourceFile> sourceFiles = new ArrayList<>();
-    private final List<ResourceFile> resourceFiles = new ArrayList<>();
-    private final List<DocFile> docFiles = new ArrayList<>();
-    private boolean planBuilt = false;
+    private static final DiagnosticCode CODE_CONFLICT = DiagnosticCode.of("HG-CORE-CODEGEN-201");
+
+    private final DiagnosticReporter diagnostics;
+    private final ArtifactEmitter emitter;
+    private final EmittedArtifacts emitted;
+    private final Set<String> sourceNames = ConcurrentHashMap.newKeySet();
+    private final Set<String> resourcePaths = ConcurrentHashMap.newKeySet();
+    private final Set<String> docPaths = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger streamed = new AtomicInteger();
+    // Owned by the sink rather than thread-locals, so pooled and long-lived threads do not keep
+    // materialized artifacts reachable once the plan is built
+    private final ConcurrentMap<Thread, Buffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicBoolean planBuilt = new AtomicBoolean();
 
     /**
      * Creates a new artifact sink.
@@ -103,31 +143,155 @@ public final class DefaultArtifactSink implements ArtifactSink {
      * @param diagnostics diagnostic reporter for validation errors (not {@code null})
      */
     public DefaultArtifactSink(DiagnosticReporter diagnostics) {
-        // this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+        this(diagnostics, null, null);
+    }
+
+    private DefaultArtifactSink(DiagnosticReporter diagnostics, ArtifactEmitter emitter, EmittedArtifacts emitted) {
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+        this.emitter = emitter;
+        this.emitted = emitted;
+    }
+
+    /**
+     * Creates a sink that emits each artifact as soon as it is written.
+     *
+     * <p>
+     * Artifacts already recorded in {@code emitted} (by an earlier round) are skipped. A
+     * materialized artifact whose content changed since then is reported as a warning
+     * ({@code HG-CORE-CODEGEN-100}).
+     * </p>
+     *
+     * @param diagnostics diagnostic reporter for validation errors (not {@code null})
+     * @param emitter emitter receiving the artifacts (not {@code null})
+     * @param emitted artifacts already emitted in this compilation, updated by the sink (not {@code null})
+     * @return streaming sink (never {@code null})
+     */
+    public static DefaultArtifactSink streaming(
+            DiagnosticReporter diagnostics, ArtifactEmitter emitter, EmittedArtifacts emitted) {
+        Objects.requireNonNull(emitter, "emitter");
+        Objects.requireNonNull(emitted, "emitted");
+        return new DefaultArtifactSink(diagnostics, emitter, emitted);
     }
 
     @Override
     public void write(SourceFile file) {
         Objects.requireNonNull(file, "file");
         checkNotBuilt();
-        validateSourceFile(file);
-        sourceFiles.add(file);
+        if (!claim(sourceNames, file.qualifiedTypeName(), "source file")) {
+            return;
+        }
+        if (emitter == null) {
+            localBuffer().add(file);
+        } else {
+            EmittedArtifacts.Mark mark =
+                    emitted.markSource(file.qualifiedTypeName(), ArtifactManifest.hash(file.content()));
+            if (mark == EmittedArtifacts.Mark.FIRST) {
+                stream(() -> emitter.emitSource(file));
+            } else if (mark == EmittedArtifacts.Mark.CHANGED) {
+                diagnostics.report(EmittedArtifacts.changedInLaterRound("source file", file.qualifiedTypeName()));
+            }
+        }
     }
 
     @Override
     public void write(ResourceFile file) {
         Objects.requireNonNull(file, "file");
         checkNotBuilt();
-        validateResourceFile(file);
-        resourceFiles.add(file);
+        if (!claim(resourcePaths, file.path(), "resource file")) {
+            return;
+        }
+        if (emitter == null) {
+            localBuffer().add(file);
+        } else {
+            String hash = file.text().isPresent()
+                    ? ArtifactManifest.hash(file.text().get())
+                    : ArtifactManifest.hash(file.bytes().get());
+            EmittedArtifacts.Mark mark = emitted.markResource(file.path(), hash);
+            if (mark == EmittedArtifacts.Mark.FIRST) {
+                stream(() -> emitter.emitResource(file));
+            } else if (mark == EmittedArtifacts.Mark.CHANGED) {
+                diagnostics.report(EmittedArtifacts.changedInLaterRound("resource file", file.path()));
+            }
+        }
     }
 
     @Override
     public void write(DocFile file) {
         Objects.requireNonNull(file, "file");
         checkNotBuilt();
-        validateDocFile(file);
-        docFiles.add(file);
+        if (!claim(docPaths, file.path(), "documentation file")) {
+            return;
+        }
+        if (emitter == null) {
+            localBuffer().add(file);
+        } else {
+            EmittedArtifacts.Mark mark = emitted.markDoc(file.path(), ArtifactManifest.hash(file.content()));
+            if (mark == EmittedArtifacts.Mark.FIRST) {
+                stream(() -> emitter.emitDoc(file));
+            } else if (mark == EmittedArtifacts.Mark.CHANGED) {
+                diagnostics.report(EmittedArtifacts.changedInLaterRound("documentation file", file.path()));
+            }
+        }
+    }
+
+    @Override
+    public void writeSource(String qualifiedTypeName, MergeMode mergeMode, TextContent content) {
+        if (emitter == null || mergeMode != MergeMode.OVERWRITE) {
+            ArtifactSink.super.writeSource(qualifiedTypeName, mergeMode, content);
+            return;
+        }
+        String name = requireNonBlank(qualifiedTypeName, "qualifiedTypeName");
+        Objects.requireNonNull(content, "content");
+        checkNotBuilt();
+        if (claim(sourceNames, name, "source file") && emitted.markSource(name)) {
+            stream(() -> emitter.emitSource(name, content));
+        }
+    }
+
+    @Override
+    public void writeResource(String path, MergeMode mergeMode, BinaryContent content) {
+        if (emitter == null || mergeMode != MergeMode.OVERWRITE) {
+            ArtifactSink.super.writeResource(path, mergeMode, content);
+            return;
+        }
+        String p = requireNonBlank(path, "path");
+        Objects.requireNonNull(content, "content");
+        checkNotBuilt();
+        if (claim(resourcePaths, p, "resource file") && emitted.markResource(p)) {
+            stream(() -> emitter.emitResource(p, content));
+        }
+    }
+
+    @Override
+    public void writeDoc(String path, MergeMode mergeMode, TextContent content) {
+        if (emitter == null || mergeMode != MergeMode.OVERWRITE) {
+            ArtifactSink.super.writeDoc(path, mergeMode, content);
+            return;
+        }
+        String p = requireNonBlank(path, "path");
+        Objects.requireNonNull(content, "content");
+        checkNotBuilt();
+        if (claim(docPaths, p, "documentation file") && emitted.markDoc(p)) {
+            stream(() -> emitter.emitDoc(p, content));
+        }
+    }
+
+    /**
+     * Returns whether this sink emits artifacts as they are written.
+     *
+     * @return {@code true} in streaming mode
+     */
+    public boolean isStreaming() {
+        return emitter != null;
+    }
+
+    /**
+     * Returns the number of artifacts emitted by this sink in streaming mode.
+     *
+     * @return streamed artifact count ({@code 0} when not streaming)
+     */
+    public int streamedArtifactCount() {
+        return streamed.get();
     }
 
     /**
@@ -135,15 +299,27 @@ public final class DefaultArtifactSink implements ArtifactSink {
      *
      * <p>
      * This method can only be called once. After calling it, no further artifacts
-     * can be added to this sink.
+     * can be added to this sink. In streaming mode, the plan is empty.
      * </p>
      *
      * @return artifact plan (never {@code null})
      * @throws IllegalStateException if called more than once
      */
     public ArtifactPlan buildPlan() {
-        checkNotBuilt();
-        planBuilt = true;
+        if (!planBuilt.compareAndSet(false, true)) {
+            throw alreadyBuilt();
+        }
+
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        List<ResourceFile> resourceFiles = new ArrayList<>();
+        List<DocFile> docFiles = new ArrayList<>();
+        for (Buffer buffer : buffers.values()) {
+            buffer.drainTo(sourceFiles, resourceFiles, docFiles);
+        }
+        buffers.clear();
+        sourceFiles.sort(Comparator.comparing(SourceFile::qualifiedTypeName));
+        resourceFiles.sort(Comparator.comparing(ResourceFile::path));
+        docFiles.sort(Comparator.comparing(DocFile::path));
 
         return ArtifactPlan.builder()
                 .addAllSources(sourceFiles)
@@ -158,7 +334,7 @@ public final class DefaultArtifactSink implements ArtifactSink {
      * @return source file count
      */
     public int sourceFileCount() {
-        return sourceFiles.size();
+        return sourceNames.size();
     }
 
     /**
@@ -167,7 +343,7 @@ public final class DefaultArtifactSink implements ArtifactSink {
      * @return resource file count
      */
     public int resourceFileCount() {
-        return resourceFiles.size();
+        return resourcePaths.size();
     }
 
     /**
@@ -176,7 +352,7 @@ public final class DefaultArtifactSink implements ArtifactSink {
      * @return documentation file count
      */
     public int docFileCount() {
-        return docFiles.size();
+        return docPaths.size();
     }
 
     /**
@@ -185,34 +361,91 @@ public final class DefaultArtifactSink implements ArtifactSink {
      * @return total artifact count
      */
     public int totalArtifactCount() {
-        return sourceFiles.size() + resourceFiles.size() + docFiles.size();
+        return sourceFileCount() + resourceFileCount() + docFileCount();
     }
 
     // ─────────────────────────────────────────────────────────────────────────
     // Validation
     // ─────────────────────────────────────────────────────────────────────────
 
-    private void validateSourceFile(SourceFile file) {
-        // Basic structural validation
-        // The SourceFile constructor already validates required fields
-        // Additional semantic validation can be added here if needed
+    private boolean claim(Set<String> claims, String key, String kind) {
+        if (claims.add(key)) {
+            return true;
+        }
+        diagnostics.report(Diagnostic.builder()
+                .severity(DiagnosticSeverity.ERROR)
+                .code(CODE_CONFLICT)
+                .message("Duplicate " + kind + " '" + key + "': already written by another generator, "
+                        + "ignoring this one")
+                .location(DiagnosticLocation.unknown())
+                .build());
+        return false;
     }
 
-    private void validateResourceFile(ResourceFile file) {
-        // Basic structural validation
-        // The ResourceFile constructor already validates required fields
-        // Additional semantic validation can be added here if needed
+    private static String requireNonBlank(String value, String label) {
+        Objects.requireNonNull(value, label);
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException(label + " must not be blank");
+        }
+        return trimmed;
     }
 
-    private void validateDocFile(DocFile file) {
-        // Basic structural validation
-        // The DocFile constructor already validates required fields
-        // Additional semantic validation can be added here if needed
+    private void stream(Runnable emission) {
+        // The Filer behind the emitter is not thread-safe.
+        synchronized (emitter) {
+            emission.run();
+        }
+        streamed.incrementAndGet();
     }
 
     private void checkNotBuilt() {
-        if (planBuilt) {
-            throw new IllegalStateException("Artifact plan has already been built. No further artifacts can be added.");
+        if (planBuilt.get()) {
+            throw alreadyBuilt();
+        }
+    }
+
+    private static IllegalStateException alreadyBuilt() {
+        return new IllegalStateException("Artifact plan has already been built. No further artifacts can be added.");
+    }
+
+    private Buffer localBuffer() {
+        return buffers.computeIfAbsent(Thread.currentThread(), t -> new Buffer());
+    }
+
+    /**
+     * Artifacts written by one thread.
+     *
+     * <p>
+     * Only the owning thread appends; the lock is uncontended and only publishes the contents to
+     * the thread calling {@link #buildPlan()}.
+     * </p>
+     */
+    private static final class Buffer {
+
+        private final List<SourceFile> sourceFiles = new ArrayList<>();
+        private final List<ResourceFile> resourceFiles = new ArrayList<>();
+        private final List<DocFile> docFiles = new ArrayList<>();
+
+        synchronized void add(SourceFile file) {
+            sourceFiles.add(file);
+        }
+
+        synchronized void add(ResourceFile file) {
+            resourceFiles.add(file);
+        }
+
+        synchronized void add(DocFile file) {
+            docFiles.add(file);
+        }
+
+        synchronized void drainTo(List<SourceFile> sources, List<ResourceFile> resources, List<DocFile> docs) {
+            sources.addAll(sourceFiles);
+            resources.addAll(resourceFiles);
+            docs.addAll(docFiles);
+            sourceFiles.clear();
+            resourceFiles.clear();
+            docFiles.clear();
         }
     }
 }
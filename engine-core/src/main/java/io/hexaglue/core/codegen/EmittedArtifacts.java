@@ -0,0 +1,174 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen;
+
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the artifacts emitted during a compilation.
+ *
+ * <p>
+ * The JSR-269 {@link javax.annotation.processing.Filer} refuses to create the same file twice in
+ * one compilation. When plugins run again in a later round, their artifacts from earlier rounds
+ * must therefore be skipped rather than emitted again; this registry tracks what was already
+ * emitted, across rounds.
+ * </p>
+ *
+ * <h2>Changed Content</h2>
+ * <p>
+ * The IR is cumulative, so a later round can legitimately change an earlier artifact (e.g. a new
+ * port now references an earlier type). That content cannot be written any more. The registry
+ * keeps the content hash of each emitted artifact so that such a change is reported as
+ * {@link Mark#CHANGED} instead of being dropped silently; callers report it with
+ * {@link #changedInLaterRound(String, String)}. Each change is reported once. Artifacts streamed
+ * without materialized content have no hash and are never reported as changed.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public final class EmittedArtifacts {
+
+    /**
+     * Outcome of marking an artifact as emitted.
+     */
+    public enum Mark {
+        /** The artifact was not emitted before and must be emitted now. */
+        FIRST,
+        /** The artifact was already emitted with the same (or unknown) content. */
+        UNCHANGED,
+        /** The artifact was already emitted with different content, which cannot be written. */
+        CHANGED
+    }
+
+    private static final DiagnosticCode CODE_CHANGED_IN_LATER_ROUND = DiagnosticCode.of("HG-CORE-CODEGEN-100");
+
+    /**
+     * Hash recorded for artifacts whose content is not known.
+     */
+    private static final String UNKNOWN = "";
+
+    private final ConcurrentMap<String, String> hashes = new ConcurrentHashMap<>();
+
+    /**
+     * Marks a source file as emitted.
+     *
+     * @param qualifiedTypeName qualified type name (not {@code null})
+     * @return {@code true} if it was not emitted before
+     */
+    public boolean markSource(String qualifiedTypeName) {
+        return markSource(qualifiedTypeName, null) == Mark.FIRST;
+    }
+
+    /**
+     * Marks a source file with the given content hash as emitted.
+     *
+     * @param qualifiedTypeName qualified type name (not {@code null})
+     * @param contentHash       content hash, or {@code null} if the content is not known
+     * @return outcome (never {@code null})
+     */
+    public Mark markSource(String qualifiedTypeName, String contentHash) {
+        return mark("source:" + Objects.requireNonNull(qualifiedTypeName, "qualifiedTypeName"), contentHash);
+    }
+
+    /**
+     * Marks a resource file as emitted.
+     *
+     * @param path resource path (not {@code null})
+     * @return {@code true} if it was not emitted before
+     */
+    public boolean markResource(String path) {
+        return markResource(path, null) == Mark.FIRST;
+    }
+
+    /**
+     * Marks a resource file with the given content hash as emitted.
+     *
+     * @param path        resource path (not {@code null})
+     * @param contentHash content hash, or {@code null} if the content is not known
+     * @return outcome (never {@code null})
+     */
+    public Mark markResource(String path, String contentHash) {
+        return mark("resource:" + Objects.requireNonNull(path, "path"), contentHash);
+    }
+
+    /**
+     * Marks a documentation file as emitted.
+     *
+     * @param path documentation path (not {@code null})
+     * @return {@code true} if it was not emitted before
+     */
+    public boolean markDoc(String path) {
+        return markDoc(path, null) == Mark.FIRST;
+    }
+
+    /**
+     * Marks a documentation file with the given content hash as emitted.
+     *
+     * @param path        documentation path (not {@code null})
+     * @param contentHash content hash, or {@code null} if the content is not known
+     * @return outcome (never {@code null})
+     */
+    public Mark markDoc(String path, String contentHash) {
+        return mark("doc:" + Objects.requireNonNull(path, "path"), contentHash);
+    }
+
+    /**
+     * Returns the number of artifacts emitted so far.
+     *
+     * @return count
+     */
+    public int size() {
+        return hashes.size();
+    }
+
+    /**
+     * Builds the diagnostic reported when a later round produces different content for an
+     * artifact already emitted.
+     *
+     * @param kind artifact kind, e.g. {@code "source file"} (not {@code null})
+     * @param name qualified type name or path of the artifact (not {@code null})
+     * @return warning diagnostic (never {@code null})
+     */
+    public static Diagnostic changedInLaterRound(String kind, String name) {
+        return Diagnostic.builder()
+                .severity(DiagnosticSeverity.WARNING)
+                .code(CODE_CHANGED_IN_LATER_ROUND)
+                .message("Generated " + kind + " '" + name + "' changed in a later processing round, but it was "
+                        + "already written in this compilation; the earlier content is kept. Recompile to "
+                        + "regenerate it.")
+                .location(DiagnosticLocation.ofQualifiedName(name))
+                .build();
+    }
+
+    private Mark mark(String key, String contentHash) {
+        String hash = contentHash != null ? contentHash : UNKNOWN;
+        String previous = hashes.putIfAbsent(key, hash);
+        if (previous == null) {
+            return Mark.FIRST;
+        }
+        if (hash.equals(UNKNOWN) || previous.equals(UNKNOWN) || previous.equals(hash)) {
+            return Mark.UNCHANGED;
+        }
+        // Remember the new content, so the same change is reported once rather than every round
+        return hashes.replace(key, previous, hash) ? Mark.CHANGED : Mark.UNCHANGED;
+    }
+}
@@ -12,23 +12,22 @@
  */
 package io.hexaglue.core.codegen.files;
 
+import io.hexaglue.core.codegen.merge.CustomBlockMerger;
+import io.hexaglue.core.codegen.merge.CustomBlockParser;
 import io.hexaglue.spi.codegen.CustomBlock;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
- * Extracts, parses, and merges custom block regions in generated text files.
+ * Extracts and validates custom block regions in generated text files.
  *
  * <p>
  * Custom blocks are user-maintained sections within generated files that are preserved
- * across regeneration cycles. This engine handles the detection, extraction, and reinsertion
- * of these blocks during merge operations.
+ * across regeneration cycles. This engine handles the detection, extraction and validation
+ * of these blocks; merging them into regenerated content is done by {@link CustomBlockMerger}.
  * </p>
  *
  * <h2>Design Rationale</h2>
@@ -39,7 +38,6 @@ import java.util.regex.Pattern;
  * <ul>
  *   <li>Robust parsing of custom block markers</li>
  *   <li>Extraction of block content from existing files</li>
- *   <li>Injection of preserved content into newly generated files</li>
  *   <li>Conflict detection when block IDs change</li>
  * </ul>
  *
@@ -57,17 +55,12 @@ import java.util.regex.Pattern;
  * supports line comments ({@code //}, {@code #}) and block comments ({@code /* ... *&#47;}).
  * </p>
  *
- * <h2>Merge Algorithm</h2>
+ * <h2>Parsing and Merging</h2>
  * <p>
- * When merging a newly generated file with an existing file:
+ * Markers are parsed by {@link CustomBlockParser}, and merging follows the rules of
+ * {@link CustomBlockMerger}, so all custom block handling shares one parser and one set of
+ * semantics.
  * </p>
- * <ol>
- *   <li>Parse existing file to extract all custom block contents</li>
- *   <li>Parse new file to find all custom block placeholders</li>
- *   <li>Match blocks by ID</li>
- *   <li>Replace placeholder content with preserved content</li>
- *   <li>Preserve formatting and indentation</li>
- * </ol>
  *
  * <h2>Error Handling</h2>
  * <p>
@@ -93,14 +86,8 @@ import java.util.regex.Pattern;
  *     // @hexaglue-custom-end: imports
  *     """;
  *
- * String newTemplate = """
- *     // @hexaglue-custom-start: imports
- *     // @hexaglue-custom-end: imports
- *     """;
- *
  * Map<String, String> blocks = CustomBlockEngine.extractBlocks(existingContent);
- * String merged = CustomBlockEngine.mergeBlocks(newTemplate, blocks);
- * // Result preserves the custom import
+ * // blocks: {imports=import com.example.MyCustomClass;\n}
  * }</pre>
  */
 public final class CustomBlockEngine {
@@ -109,16 +96,6 @@ public final class CustomBlockEngine {
     private static final String START_MARKER = MARKER_PREFIX + "start";
     private static final String END_MARKER = MARKER_PREFIX + "end";
 
-    // Matches: // @hexaglue-custom-start: block-id or # @hexaglue-custom-start: block-id, etc.
-    private static final Pattern START_PATTERN = Pattern.compile(
-            "^\\s*(?://|#|/\\*|<!--)\\s*" + Pattern.quote(START_MARKER) + ":\\s*([a-zA-Z0-9_-]+)\\s*(?:\\*/|-->)?\\s*$",
-            Pattern.MULTILINE);
-
-    // Matches: // @hexaglue-custom-end: block-id
-    private static final Pattern END_PATTERN = Pattern.compile(
-            "^\\s*(?://|#|/\\*|<!--)\\s*" + Pattern.quote(END_MARKER) + ":\\s*([a-zA-Z0-9_-]+)\\s*(?:\\*/|-->)?\\s*$",
-            Pattern.MULTILINE);
-
     private CustomBlockEngine() {
         // Utility class, no instantiation
     }
@@ -138,135 +115,15 @@ public final class CustomBlockEngine {
     public static Map<String, String> extractBlocks(String fileContent) {
         Objects.requireNonNull(fileContent, "fileContent");
 
-        Map<String, String> blocks = new HashMap<>();
-        String[] lines = fileContent.split("\n", -1);
-
-        String currentBlockId = null;
-        int startLine = -1;
-        List<String> blockLines = new ArrayList<>();
-
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i];
-
-            Matcher startMatcher = START_PATTERN.matcher(line);
-            Matcher endMatcher = END_PATTERN.matcher(line);
-
-            if (startMatcher.find()) {
-                if (currentBlockId != null) {
-                    throw new IllegalArgumentException(
-                            "Nested custom blocks not allowed. Found start of block '" + startMatcher.group(1)
-                                    + "' at line " + (i + 1) + " while block '"
-                                    + currentBlockId + "' is still open.");
-                }
-                currentBlockId = startMatcher.group(1);
-                startLine = i;
-                blockLines.clear();
-
-            } else if (endMatcher.find()) {
-                String endBlockId = endMatcher.group(1);
-                if (currentBlockId == null) {
-                    throw new IllegalArgumentException("Found end marker for block '" + endBlockId + "' at line "
-                            + (i + 1) + " without matching start marker.");
-                }
-                if (!currentBlockId.equals(endBlockId)) {
-                    throw new IllegalArgumentException(
-                            "Block ID mismatch: started with '" + currentBlockId + "' at line "
-                                    + (startLine + 1) + " but ended with '" + endBlockId
-                                    + "' at line " + (i + 1) + ".");
-                }
-
-                // Store block content (everything between start and end markers)
-                String blockContent = String.join("\n", blockLines);
-                if (blocks.containsKey(currentBlockId)) {
-                    throw new IllegalArgumentException(
-                            "Duplicate custom block ID '" + currentBlockId + "' found in file.");
-                }
-                blocks.put(currentBlockId, blockContent);
-
-                currentBlockId = null;
-                startLine = -1;
-                blockLines.clear();
-
-            } else if (currentBlockId != null) {
-                // Inside a block, accumulate content
-                blockLines.add(line);
+        try {
+            Map<String, String> blocks = new HashMap<>();
+            for (CustomBlockParser.ParsedBlock block : CustomBlockParser.parse(fileContent)) {
+                blocks.put(block.id(), block.content());
             }
+            return Collections.unmodifiableMap(blocks);
+        } catch (CustomBlockParser.ParseException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-
-        if (currentBlockId != null) {
-            throw new IllegalArgumentException(
-                    "Unclosed custom block '" + currentBlockId + "' started at line " + (startLine + 1) + ".");
-        }
-
-        return Collections.unmodifiableMap(blocks);
-    }
-
-    /**
-     * Merges preserved block content into a new file template.
-     *
-     * <p>
-     * This method replaces the content between custom block markers in {@code newTemplate}
-     * with the corresponding content from {@code preservedBlocks}. If a block exists in
-     * the template but not in the preserved map, it remains empty.
-     * </p>
-     *
-     * @param newTemplate new file template with custom block markers (not {@code null})
-     * @param preservedBlocks map of block ID to preserved content (not {@code null})
-     * @return merged content (never {@code null})
-     */
-    public static String mergeBlocks(String newTemplate, Map<String, String> preservedBlocks) {
-        Objects.requireNonNull(newTemplate, "newTemplate");
-        Objects.requireNonNull(preservedBlocks, "preservedBlocks");
-
-        String[] lines = newTemplate.split("\n", -1);
-        StringBuilder result = new StringBuilder();
-
-        String currentBlockId = null;
-        boolean skippingTemplateContent = false;
-
-        for (String line : lines) {
-            Matcher startMatcher = START_PATTERN.matcher(line);
-            Matcher endMatcher = END_PATTERN.matcher(line);
-
-            if (startMatcher.find()) {
-                currentBlockId = startMatcher.group(1);
-                skippingTemplateContent = true;
-
-                // Write start marker
-                result.append(line).append('\n');
-
-                // Inject preserved content if available
-                if (preservedBlocks.containsKey(currentBlockId)) {
-                    String preserved = preservedBlocks.get(currentBlockId);
-                    if (!preserved.isEmpty()) {
-                        result.append(preserved);
-                        if (!preserved.endsWith("\n")) {
-                            result.append('\n');
-                        }
-                    }
-                }
-
-            } else if (endMatcher.find()) {
-                skippingTemplateContent = false;
-                currentBlockId = null;
-
-                // Write end marker
-                result.append(line).append('\n');
-
-            } else if (!skippingTemplateContent) {
-                // Outside custom block, preserve template line
-                result.append(line).append('\n');
-            }
-            // If skippingTemplateContent, we discard template placeholder lines
-        }
-
-        // Remove final newline if original didn't have one
-        String merged = result.toString();
-        if (!newTemplate.endsWith("\n") && merged.endsWith("\n")) {
-            merged = merged.substring(0, merged.length() - 1);
-        }
-
-        return merged;
     }
 
     /**
@@ -332,22 +189,18 @@ public final class CustomBlockEngine {
      *
      * @param oldFileContent old file content (not {@code null})
      * @param newTemplate new template content (not {@code null})
-     * @return list of orphaned block IDs (never {@code null}, possibly empty)
+     * @return list of orphaned block IDs, in file order (never {@code null}, possibly empty)
+     * @throws IllegalArgumentException if markers are malformed or unmatched in either input
+     * @see CustomBlockMerger.Result#orphanedBlockIds()
      */
     public static List<String> detectOrphanedBlocks(String oldFileContent, String newTemplate) {
         Objects.requireNonNull(oldFileContent, "oldFileContent");
         Objects.requireNonNull(newTemplate, "newTemplate");
 
-        Map<String, String> oldBlocks = extractBlocks(oldFileContent);
-        Map<String, String> newBlocks = extractBlocks(newTemplate);
-
-        List<String> orphaned = new ArrayList<>();
-        for (String blockId : oldBlocks.keySet()) {
-            if (!newBlocks.containsKey(blockId)) {
-                orphaned.add(blockId);
-            }
+        try {
+            return CustomBlockMerger.merge(newTemplate, oldFileContent).orphanedBlockIds();
+        } catch (CustomBlockParser.ParseException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-
-        return orphaned;
     }
 }
@@ -12,10 +12,11 @@
  */
 package io.hexaglue.core.codegen.files;
 
+import io.hexaglue.core.codegen.merge.CustomBlockMerger;
+import io.hexaglue.core.codegen.merge.CustomBlockParser;
 import io.hexaglue.spi.codegen.GeneratedHeader;
 import io.hexaglue.spi.codegen.MergeMode;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -156,22 +157,17 @@ public final class MergePlanner {
     private static MergePlan planCustomBlockMerge(
             String newContent, String existingContent, List<String> customBlockIds) {
         try {
-            // Extract custom blocks from existing file
-            Map<String, String> preservedBlocks = CustomBlockEngine.extractBlocks(existingContent);
-
-            // Detect orphaned blocks
-            List<String> orphanedBlocks = CustomBlockEngine.detectOrphanedBlocks(existingContent, newContent);
-
-            // Merge preserved blocks into new content
-            String mergedContent = CustomBlockEngine.mergeBlocks(newContent, preservedBlocks);
+            // Single pass: extract preserved blocks, merge them and detect orphaned blocks
+            CustomBlockMerger.Result merged = CustomBlockMerger.merge(newContent, existingContent);
+            List<String> orphanedBlocks = merged.orphanedBlockIds();
 
             String message = orphanedBlocks.isEmpty()
                     ? "Merged custom blocks successfully"
                     : "Merged custom blocks (orphaned: " + String.join(", ", orphanedBlocks) + ")";
 
-            return MergePlan.write(mergedContent, message);
+            return MergePlan.write(merged.content(), message);
 
-        } catch (IllegalArgumentException e) {
+        } catch (CustomBlockParser.ParseException e) {
             return MergePlan.error("Custom block merge failed: " + e.getMessage());
         }
     }
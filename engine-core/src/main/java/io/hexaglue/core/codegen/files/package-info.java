@@ -52,12 +52,11 @@
  *
  * <h3>{@link io.hexaglue.core.codegen.files.CustomBlockEngine}</h3>
  * <p>
- * Extracts and merges user-maintained custom block regions:
+ * Extracts and validates user-maintained custom block regions:
  * </p>
  * <ul>
  *   <li>Parses custom block markers in existing files</li>
  *   <li>Extracts preserved content between markers</li>
- *   <li>Injects preserved content into new templates</li>
  *   <li>Validates marker syntax and pairing</li>
  *   <li>Detects conflicts and orphaned blocks</li>
  * </ul>
@@ -113,8 +112,7 @@
  *                            │
  *                            ├─► MERGE_CUSTOM_BLOCKS mode
  *                            │     │
- *                            │     ├─► CustomBlockEngine.extractBlocks(existing)
- *                            │     ├─► CustomBlockEngine.mergeBlocks(new, preserved)
+ *                            │     ├─► CustomBlockMerger.merge(new, existing)
  *                            │     └─► WRITE (merged)
  *                            │
  *                            ├─► WRITE_ONCE mode ──► SKIP
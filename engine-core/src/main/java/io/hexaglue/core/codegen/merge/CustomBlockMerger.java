@@ -0,0 +1,145 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen.merge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Merges preserved custom blocks of an existing file into newly generated content in a single
+ * pass over each input.
+ *
+ * <p>
+ * The existing content is scanned once to locate its custom blocks, and the new content is
+ * scanned once while the merged output is assembled. Lines are never split into separate strings
+ * and markers are recognized without regular expressions (both inputs are scanned like
+ * {@link CustomBlockParser} does), so merging stays linear in the size of both inputs; preserved
+ * blocks and unchanged template regions are copied as whole ranges.
+ * </p>
+ *
+ * <h2>Merge Rules</h2>
+ * <ul>
+ *   <li>Content outside custom blocks comes from the new content</li>
+ *   <li>A block present in both inputs keeps the existing file's content, verbatim</li>
+ *   <li>A block only present in the new content keeps its generated default content</li>
+ *   <li>A block only present in the existing file is dropped and reported as orphaned</li>
+ * </ul>
+ * <p>
+ * Both inputs are validated with the rules of {@link CustomBlockParser} (paired markers,
+ * matching ids, no nesting, no duplicates) and accept the same marker syntax.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is stateless and thread-safe.
+ * </p>
+ */
+public final class CustomBlockMerger {
+
+    private CustomBlockMerger() {
+        // Utility class, no instantiation
+    }
+
+    /**
+     * Merges the custom blocks of the existing content into the new content.
+     *
+     * @param newContent      newly generated content (not {@code null})
+     * @param existingContent content of the existing file (not {@code null})
+     * @return merge result (never {@code null})
+     * @throws CustomBlockParser.ParseException if either input has malformed markers
+     */
+    public static Result merge(String newContent, String existingContent) throws CustomBlockParser.ParseException {
+        Objects.requireNonNull(newContent, "newContent");
+        Objects.requireNonNull(existingContent, "existingContent");
+
+        Map<String, CustomBlockParser.ParsedBlock> preserved = new LinkedHashMap<>();
+        for (CustomBlockParser.ParsedBlock block : CustomBlockParser.parse(existingContent)) {
+            preserved.put(block.id(), block);
+        }
+
+        StringBuilder out = new StringBuilder(newContent.length() + existingContent.length() / 4);
+        Set<String> templateIds = new HashSet<>();
+        int preservedCount = 0;
+
+        int copyFrom = 0;
+        String open = null;
+        int openLine = -1;
+        boolean replacing = false;
+        MarkerScanner scanner = new MarkerScanner(newContent);
+        while (scanner.next()) {
+            int line = scanner.lineNumber();
+            if (scanner.isStart()) {
+                CustomBlockParser.checkStart(open, openLine, scanner.id(), line);
+                if (!templateIds.add(scanner.id())) {
+                    throw CustomBlockParser.duplicate(scanner.id(), line);
+                }
+                open = scanner.id();
+                openLine = line;
+                CustomBlockParser.ParsedBlock block = preserved.get(open);
+                replacing = block != null;
+                if (replacing) {
+                    // Template up to and including the start marker, then the preserved lines
+                    out.append(newContent, copyFrom, scanner.nextLineStart());
+                    out.append(existingContent, block.contentStart(), block.contentEnd());
+                    preservedCount++;
+                }
+            } else {
+                CustomBlockParser.checkEnd(open, openLine, scanner.id(), line);
+                if (replacing) {
+                    // Skip the template's placeholder lines
+                    copyFrom = scanner.lineStart();
+                }
+                open = null;
+                replacing = false;
+            }
+        }
+        if (open != null) {
+            throw CustomBlockParser.unclosed(open, openLine);
+        }
+        out.append(newContent, copyFrom, newContent.length());
+
+        List<String> orphaned = new ArrayList<>();
+        for (String id : preserved.keySet()) {
+            if (!templateIds.contains(id)) {
+                orphaned.add(id);
+            }
+        }
+        return new Result(out.toString(), preservedCount, Collections.unmodifiableList(orphaned));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Result
+    // ─────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Result of a custom block merge.
+     *
+     * @param content          merged content (never {@code null})
+     * @param preservedCount   number of blocks whose existing content was kept
+     * @param orphanedBlockIds ids of existing blocks absent from the new content, in file order
+     *                         (never {@code null})
+     */
+    public record Result(String content, int preservedCount, List<String> orphanedBlockIds) {
+
+        public Result {
+            Objects.requireNonNull(content, "content");
+            orphanedBlockIds = List.copyOf(orphanedBlockIds);
+        }
+    }
+}
@@ -14,10 +14,10 @@ package io.hexaglue.core.codegen.merge;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 /**
  * Parses custom block markers from generated file content.
@@ -58,13 +58,18 @@ import java.util.regex.Pattern;
  *
  * <h2>Parsing Algorithm</h2>
  * <pre>
- * 1. Scan file line by line
- * 2. Detect start marker ──► Begin block accumulation
- * 3. Accumulate lines     ──► Add to current block
- * 4. Detect end marker    ──► Complete block
- * 5. Validate pairing     ──► Check ID consistency
+ * 1. Prefilter            ──► No "@hexaglue-custom-" in the text: no blocks
+ * 2. Jump to next marker  ──► Inspect only lines containing the marker prefix
+ * 3. Detect start marker  ──► Remember where the block content begins
+ * 4. Detect end marker    ──► Record the block as an offset range
+ * 5. Validate pairing     ──► Check ID consistency and uniqueness (hash-based)
  * 6. Return blocks        ──► Structured block list
  * </pre>
+ * <p>
+ * The text is never split into lines and no regular expression is involved: parsing is linear
+ * in the text size, and allocates only per marker. Block content is kept as an offset range into
+ * the parsed text and only turned into a string when {@link ParsedBlock#content()} is called.
+ * </p>
  *
  * <h2>Validation</h2>
  * <p>
@@ -103,20 +108,6 @@ import java.util.regex.Pattern;
  */
 public final class CustomBlockParser {
 
-    private static final String MARKER_PREFIX = "@hexaglue-custom-";
-    private static final String START_MARKER = MARKER_PREFIX + "start";
-    private static final String END_MARKER = MARKER_PREFIX + "end";
-
-    // Matches start marker with optional comment syntax
-    private static final Pattern START_PATTERN = Pattern.compile(
-            "^\\s*(?://|#|/\\*|<!--)\\s*" + Pattern.quote(START_MARKER) + ":\\s*([a-zA-Z0-9_-]+)\\s*(?:\\*/|-->)?\\s*$",
-            Pattern.MULTILINE);
-
-    // Matches end marker with optional comment syntax
-    private static final Pattern END_PATTERN = Pattern.compile(
-            "^\\s*(?://|#|/\\*|<!--)\\s*" + Pattern.quote(END_MARKER) + ":\\s*([a-zA-Z0-9_-]+)\\s*(?:\\*/|-->)?\\s*$",
-            Pattern.MULTILINE);
-
     private CustomBlockParser() {
         // Utility class, no instantiation
     }
@@ -124,76 +115,51 @@ public final class CustomBlockParser {
     /**
      * Parses all custom blocks from the given file content.
      *
+     * <p>
+     * The returned blocks read their content from {@code fileContent} on demand, so a mutable
+     * sequence must not be modified while they are in use.
+     * </p>
+     *
      * @param fileContent file content to parse (not {@code null})
      * @return list of parsed blocks (never {@code null}, possibly empty)
      * @throws ParseException if markers are malformed or validation fails
      */
-    public static List<ParsedBlock> parse(String fileContent) throws ParseException {
+    public static List<ParsedBlock> parse(CharSequence fileContent) throws ParseException {
         Objects.requireNonNull(fileContent, "fileContent");
+        if (!MarkerScanner.mayContainMarkers(fileContent)) {
+            return List.of();
+        }
 
         List<ParsedBlock> blocks = new ArrayList<>();
-        String[] lines = fileContent.split("\n", -1);
+        Set<String> ids = new HashSet<>();
+        MarkerScanner scanner = new MarkerScanner(fileContent);
 
         String currentBlockId = null;
         int startLine = -1;
-        List<String> blockLines = new ArrayList<>();
-
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i];
-
-            Matcher startMatcher = START_PATTERN.matcher(line);
-            Matcher endMatcher = END_PATTERN.matcher(line);
-
-            if (startMatcher.find()) {
-                if (currentBlockId != null) {
-                    throw new ParseException(
-                            "Nested custom blocks not allowed. Found start of block '" + startMatcher.group(1)
-                                    + "' at line " + (i + 1) + " while block '"
-                                    + currentBlockId + "' is still open.",
-                            i + 1);
+        int contentStart = -1;
+
+        while (scanner.next()) {
+            int line = scanner.lineNumber();
+            if (scanner.isStart()) {
+                checkStart(currentBlockId, startLine, scanner.id(), line);
+                currentBlockId = scanner.id();
+                startLine = line;
+                contentStart = scanner.nextLineStart();
+            } else {
+                checkEnd(currentBlockId, startLine, scanner.id(), line);
+                if (!ids.add(currentBlockId)) {
+                    throw duplicate(currentBlockId, startLine);
                 }
-                currentBlockId = startMatcher.group(1);
-                startLine = i + 1; // 1-indexed for user-facing messages
-                blockLines.clear();
-
-            } else if (endMatcher.find()) {
-                String endBlockId = endMatcher.group(1);
-                if (currentBlockId == null) {
-                    throw new ParseException(
-                            "Found end marker for block '" + endBlockId + "' at line " + (i + 1)
-                                    + " without matching start marker.",
-                            i + 1);
-                }
-                if (!currentBlockId.equals(endBlockId)) {
-                    throw new ParseException(
-                            "Block ID mismatch: started with '" + currentBlockId + "' at line "
-                                    + startLine + " but ended with '" + endBlockId
-                                    + "' at line " + (i + 1) + ".",
-                            i + 1);
-                }
-
-                // Create parsed block
-                String content = String.join("\n", blockLines);
-                blocks.add(new ParsedBlock(currentBlockId, content, startLine, i + 1));
-
+                blocks.add(new ParsedBlock(
+                        fileContent, currentBlockId, contentStart, scanner.lineStart(), startLine, line));
                 currentBlockId = null;
-                startLine = -1;
-                blockLines.clear();
-
-            } else if (currentBlockId != null) {
-                // Inside a block, accumulate content
-                blockLines.add(line);
             }
         }
 
         if (currentBlockId != null) {
-            throw new ParseException(
-                    "Unclosed custom block '" + currentBlockId + "' started at line " + startLine + ".", startLine);
+            throw unclosed(currentBlockId, startLine);
         }
 
-        // Check for duplicate IDs
-        validateNoDuplicates(blocks);
-
         return Collections.unmodifiableList(blocks);
     }
 
@@ -203,9 +169,18 @@ public final class CustomBlockParser {
      * @param fileContent file content to check (not {@code null})
      * @return {@code true} if custom blocks are present
      */
-    public static boolean hasCustomBlocks(String fileContent) {
+    public static boolean hasCustomBlocks(CharSequence fileContent) {
         Objects.requireNonNull(fileContent, "fileContent");
-        return START_PATTERN.matcher(fileContent).find();
+        if (!MarkerScanner.mayContainMarkers(fileContent)) {
+            return false;
+        }
+        MarkerScanner scanner = new MarkerScanner(fileContent);
+        while (scanner.next()) {
+            if (scanner.isStart()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -215,7 +190,7 @@ public final class CustomBlockParser {
      * @return number of custom blocks
      * @throws ParseException if parsing fails
      */
-    public static int countBlocks(String fileContent) throws ParseException {
+    public static int countBlocks(CharSequence fileContent) throws ParseException {
         Objects.requireNonNull(fileContent, "fileContent");
         return parse(fileContent).size();
     }
@@ -224,17 +199,37 @@ public final class CustomBlockParser {
     // Validation
     // ─────────────────────────────────────────────────────────────────────────
 
-    private static void validateNoDuplicates(List<ParsedBlock> blocks) throws ParseException {
-        List<String> ids = new ArrayList<>();
-        for (ParsedBlock block : blocks) {
-            if (ids.contains(block.id())) {
-                throw new ParseException(
-                        "Duplicate custom block ID '" + block.id() + "' found in file.", block.startLine());
-            }
-            ids.add(block.id());
+    static void checkStart(String openId, int openLine, String id, int line) throws ParseException {
+        if (openId != null) {
+            throw new ParseException(
+                    "Nested custom blocks not allowed. Found start of block '" + id + "' at line " + line
+                            + " while block '" + openId + "' (line " + openLine + ") is still open.",
+                    line);
         }
     }
 
+    static void checkEnd(String openId, int openLine, String id, int line) throws ParseException {
+        if (openId == null) {
+            throw new ParseException(
+                    "Found end marker for block '" + id + "' at line " + line + " without matching start marker.",
+                    line);
+        }
+        if (!openId.equals(id)) {
+            throw new ParseException(
+                    "Block ID mismatch: started with '" + openId + "' at line " + openLine + " but ended with '" + id
+                            + "' at line " + line + ".",
+                    line);
+        }
+    }
+
+    static ParseException duplicate(String id, int line) {
+        return new ParseException("Duplicate custom block ID '" + id + "' found in file.", line);
+    }
+
+    static ParseException unclosed(String id, int line) {
+        return new ParseException("Unclosed custom block '" + id + "' started at line " + line + ".", line);
+    }
+
     // ─────────────────────────────────────────────────────────────────────────
     // Parsed Block
     // ─────────────────────────────────────────────────────────────────────────
@@ -243,14 +238,19 @@ public final class CustomBlockParser {
      * Represents a parsed custom block with metadata.
      */
     public static final class ParsedBlock {
+        private final CharSequence source;
         private final String id;
-        private final String content;
+        private final int contentStart;
+        private final int contentEnd;
         private final int startLine;
         private final int endLine;
 
-        private ParsedBlock(String id, String content, int startLine, int endLine) {
+        private ParsedBlock(
+                CharSequence source, String id, int contentStart, int contentEnd, int startLine, int endLine) {
+            this.source = Objects.requireNonNull(source, "source");
             this.id = Objects.requireNonNull(id, "id");
-            this.content = Objects.requireNonNull(content, "content");
+            this.contentStart = contentStart;
+            this.contentEnd = contentEnd;
             this.startLine = startLine;
             this.endLine = endLine;
         }
@@ -267,10 +267,38 @@ public final class CustomBlockParser {
         /**
          * Returns the block content (lines between start and end markers).
          *
+         * <p>
+         * The content is extracted from the parsed text on each call, without the line break that
+         * precedes the end marker.
+         * </p>
+         *
          * @return content (never {@code null}, possibly empty)
          */
         public String content() {
-            return content;
+            return source.subSequence(contentStart, trimmedEnd()).toString();
+        }
+
+        /**
+         * Returns the offset in the parsed text of the first character of the block content.
+         *
+         * @return content start offset
+         */
+        public int contentStart() {
+            return contentStart;
+        }
+
+        /**
+         * Returns the offset in the parsed text of the end marker line.
+         *
+         * <p>
+         * The range {@code [contentStart(), contentEnd())} holds the block's lines including their
+         * final line break, and can be copied verbatim between files.
+         * </p>
+         *
+         * @return content end offset (exclusive)
+         */
+        public int contentEnd() {
+            return contentEnd;
         }
 
         /**
@@ -297,7 +325,12 @@ public final class CustomBlockParser {
          * @return {@code true} if content is empty or whitespace-only
          */
         public boolean isEmpty() {
-            return content.trim().isEmpty();
+            for (int i = contentStart; i < contentEnd; i++) {
+                if (source.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
         }
 
         /**
@@ -306,7 +339,21 @@ public final class CustomBlockParser {
          * @return line count
          */
         public int lineCount() {
-            return content.isEmpty() ? 0 : content.split("\n", -1).length;
+            int end = trimmedEnd();
+            if (end == contentStart) {
+                return 0;
+            }
+            int count = 1;
+            for (int i = contentStart; i < end; i++) {
+                if (source.charAt(i) == '\n') {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private int trimmedEnd() {
+            return contentEnd > contentStart && source.charAt(contentEnd - 1) == '\n' ? contentEnd - 1 : contentEnd;
         }
 
         @Override
@@ -314,7 +361,7 @@ public final class CustomBlockParser {
             return "ParsedBlock{" + "id='"
                     + id + '\'' + ", lines="
                     + startLine + "-" + endLine + ", contentLength="
-                    + content.length() + '}';
+                    + (trimmedEnd() - contentStart) + '}';
         }
     }
 
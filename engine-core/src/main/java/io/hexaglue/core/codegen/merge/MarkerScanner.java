@@ -0,0 +1,263 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen.merge;
+
+import java.util.Objects;
+
+/**
+ * Forward-only cursor over the custom block marker lines of a text.
+ *
+ * <p>
+ * The scanner never splits the text into lines. It jumps from one occurrence of the
+ * {@code @hexaglue-custom-} prefix to the next (using {@link String#indexOf(String, int)} when the
+ * text is a {@code String}), and only then inspects the surrounding line. Text without markers is
+ * therefore skipped at memory-scan speed, and lines are counted incrementally for error messages.
+ * The only allocations are the ids of recognized markers.
+ * </p>
+ *
+ * <h2>Marker Syntax</h2>
+ * <p>
+ * A marker line consists of optional whitespace, a comment opener ({@code //}, {@code #},
+ * {@code /*} or {@code <!--}), optional whitespace, {@code @hexaglue-custom-start:} or
+ * {@code @hexaglue-custom-end:}, an id made of {@code [a-zA-Z0-9_-]}, an optional comment closer
+ * ({@code *&#47;} or {@code -->}) and trailing whitespace.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is not thread-safe; each scan uses its own instance.
+ * </p>
+ */
+final class MarkerScanner {
+
+    static final String MARKER_PREFIX = "@hexaglue-custom-";
+
+    private static final String START = "start:";
+    private static final String END = "end:";
+
+    private final CharSequence text;
+    private final String string;
+    private final int length;
+
+    private int position;
+    private int countedUpTo;
+    private int lineNumber = 1;
+
+    private boolean start;
+    private String id;
+    private int lineStart;
+    private int lineEnd;
+
+    MarkerScanner(CharSequence text) {
+        this.text = Objects.requireNonNull(text, "text");
+        this.string = text instanceof String s ? s : null;
+        this.length = text.length();
+    }
+
+    /**
+     * Returns whether the text contains the marker prefix at all.
+     *
+     * @param text text to check (not {@code null})
+     * @return {@code false} if the text certainly has no marker
+     */
+    static boolean mayContainMarkers(CharSequence text) {
+        return indexOf(text, text instanceof String s ? s : null, MARKER_PREFIX, 0) >= 0;
+    }
+
+    /**
+     * Advances to the next marker line.
+     *
+     * @return {@code true} if a marker was found, {@code false} at the end of the text
+     */
+    boolean next() {
+        while (position < length) {
+            int hit = indexOf(text, string, MARKER_PREFIX, position);
+            if (hit < 0) {
+                position = length;
+                return false;
+            }
+            int ls = hit;
+            while (ls > position && text.charAt(ls - 1) != '\n') {
+                ls--;
+            }
+            int le = hit;
+            while (le < length && text.charAt(le) != '\n') {
+                le++;
+            }
+            position = le < length ? le + 1 : length;
+            if (recognize(ls, le)) {
+                lineStart = ls;
+                lineEnd = le;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the current marker opens a block.
+     */
+    boolean isStart() {
+        return start;
+    }
+
+    /**
+     * Returns the block id of the current marker.
+     */
+    String id() {
+        return id;
+    }
+
+    /**
+     * Returns the offset of the first character of the current marker line.
+     */
+    int lineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Returns the offset of the line break ending the current marker line (or the text length).
+     */
+    int lineEnd() {
+        return lineEnd;
+    }
+
+    /**
+     * Returns the offset of the line following the current marker line (or the text length).
+     */
+    int nextLineStart() {
+        return lineEnd < length ? lineEnd + 1 : length;
+    }
+
+    /**
+     * Returns the 1-based line number of the current marker.
+     */
+    int lineNumber() {
+        for (int i = countedUpTo; i < lineStart; i++) {
+            if (text.charAt(i) == '\n') {
+                lineNumber++;
+            }
+        }
+        countedUpTo = lineStart;
+        return lineNumber;
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Recognition
+    // ─────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Recognizes the marker syntax on {@code [from, to)}. None of the tokens contains a line
+     * break, so matching can never run past the line end.
+     */
+    private boolean recognize(int from, int to) {
+        int i = skipWhitespace(from, to);
+        if (regionMatches(i, "//") || regionMatches(i, "/*")) {
+            i += 2;
+        } else if (regionMatches(i, "<!--")) {
+            i += 4;
+        } else if (i < to && text.charAt(i) == '#') {
+            i += 1;
+        } else {
+            return false;
+        }
+        i = skipWhitespace(i, to);
+        if (!regionMatches(i, MARKER_PREFIX)) {
+            return false;
+        }
+        i += MARKER_PREFIX.length();
+        boolean isStart;
+        if (regionMatches(i, START)) {
+            isStart = true;
+            i += START.length();
+        } else if (regionMatches(i, END)) {
+            isStart = false;
+            i += END.length();
+        } else {
+            return false;
+        }
+        i = skipWhitespace(i, to);
+        int idStart = i;
+        while (i < to && isIdChar(text.charAt(i))) {
+            i++;
+        }
+        int idEnd = i;
+        if (idEnd == idStart) {
+            return false;
+        }
+        i = skipWhitespace(i, to);
+        if (regionMatches(i, "*/")) {
+            i += 2;
+        } else if (regionMatches(i, "-->")) {
+            i += 3;
+        }
+        if (skipWhitespace(i, to) != to) {
+            return false;
+        }
+        this.start = isStart;
+        this.id = text.subSequence(idStart, idEnd).toString();
+        return true;
+    }
+
+    private boolean regionMatches(int offset, String token) {
+        if (string != null) {
+            return string.startsWith(token, offset);
+        }
+        if (offset + token.length() > length) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (text.charAt(offset + i) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skipWhitespace(int from, int to) {
+        int i = from;
+        while (i < to && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\f' || c == '\u000B';
+    }
+
+    private static boolean isIdChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+
+    private static int indexOf(CharSequence text, String string, String token, int from) {
+        if (string != null) {
+            return string.indexOf(token, from);
+        }
+        char first = token.charAt(0);
+        int last = text.length() - token.length();
+        outer:
+        for (int i = from; i <= last; i++) {
+            if (text.charAt(i) != first) {
+                continue;
+            }
+            for (int j = 1; j < token.length(); j++) {
+                if (text.charAt(i + j) != token.charAt(j)) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -19,7 +19,6 @@ import io.hexaglue.spi.diagnostics.DiagnosticCode;
 import io.hexaglue.spi.diagnostics.DiagnosticLocation;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
 import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -85,6 +84,10 @@ import java.util.Objects;
  *   <li>Identifies new blocks (in template but not in old file)</li>
  *   <li>Reports block statistics for diagnostics</li>
  * </ul>
+ * <p>
+ * All of this comes out of a single pass of {@link CustomBlockMerger} over each input; the
+ * content is not parsed again to analyze the result.
+ * </p>
  *
  * <h2>Thread Safety</h2>
  * <p>
@@ -112,7 +115,6 @@ import java.util.Objects;
  */
 public final class MergeEngine {
 
-    private static final DiagnosticCode CODE_PARSE_ERROR = DiagnosticCode.of("HG-MERGE-200");
     private static final DiagnosticCode CODE_ORPHANED_BLOCKS = DiagnosticCode.of("HG-MERGE-100");
     private static final DiagnosticCode CODE_MERGE_FAILED = DiagnosticCode.of("HG-MERGE-201");
     private static final DiagnosticCode CODE_INTERNAL_ERROR = DiagnosticCode.of("HG-CORE-CODEGEN-200");
@@ -149,9 +151,9 @@ public final class MergeEngine {
         // Handle result
         switch (result.action()) {
             case WRITE:
-                // Analyze custom blocks if applicable
-                if (request.mergeMode() == MergeMode.MERGE_CUSTOM_BLOCKS) {
-                    analyzeCustomBlocks(request, result);
+                // Orphaned custom blocks are detected by the merge itself, no second parse needed
+                if (!result.orphanedBlockIds().isEmpty()) {
+                    reportOrphanedBlocks(request.location(), result.orphanedBlockIds());
                 }
                 return MergeResponse.write(result.finalContent(), result.message());
 
@@ -206,64 +208,10 @@ public final class MergeEngine {
         }
     }
 
-    // ─────────────────────────────────────────────────────────────────────────
-    // Custom Block Analysis
-    // ─────────────────────────────────────────────────────────────────────────
-
-    private void analyzeCustomBlocks(MergeRequest request, MergeStrategies.MergeResult result) {
-        if (request.existingContent() == null || request.existingContent().isEmpty()) {
-            return; // No existing file, nothing to analyze
-        }
-
-        try {
-            // Parse existing and new content
-            List<CustomBlockParser.ParsedBlock> existingBlocks = CustomBlockParser.parse(request.existingContent());
-            List<CustomBlockParser.ParsedBlock> newBlocks = CustomBlockParser.parse(request.newContent());
-
-            // Detect orphaned blocks
-            List<String> orphanedIds = findOrphanedBlocks(existingBlocks, newBlocks);
-
-            if (!orphanedIds.isEmpty()) {
-                reportOrphanedBlocks(request.location(), orphanedIds);
-            }
-
-        } catch (CustomBlockParser.ParseException e) {
-            reportParseError(request.location(), e);
-        }
-    }
-
-    private List<String> findOrphanedBlocks(
-            List<CustomBlockParser.ParsedBlock> existingBlocks, List<CustomBlockParser.ParsedBlock> newBlocks) {
-        List<String> orphaned = new ArrayList<>();
-        List<String> newIds = new ArrayList<>();
-
-        for (CustomBlockParser.ParsedBlock block : newBlocks) {
-            newIds.add(block.id());
-        }
-
-        for (CustomBlockParser.ParsedBlock block : existingBlocks) {
-            if (!newIds.contains(block.id())) {
-                orphaned.add(block.id());
-            }
-        }
-
-        return orphaned;
-    }
-
     // ─────────────────────────────────────────────────────────────────────────
     // Diagnostic Reporting
     // ─────────────────────────────────────────────────────────────────────────
 
-    private void reportParseError(DiagnosticLocation location, CustomBlockParser.ParseException e) {
-        diagnostics.report(Diagnostic.builder()
-                .severity(DiagnosticSeverity.ERROR)
-                .code(CODE_PARSE_ERROR)
-                .message("Failed to parse custom blocks: " + e.getMessage())
-                .location(location)
-                .cause(e)
-                .build());
-    }
-
     private void reportOrphanedBlocks(DiagnosticLocation location, List<String> orphanedIds) {
         diagnostics.report(Diagnostic.builder()
                 .severity(DiagnosticSeverity.WARNING)
@@ -13,8 +13,7 @@
 package io.hexaglue.core.codegen.merge;
 
 import io.hexaglue.spi.codegen.MergeMode;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -150,99 +149,17 @@ public final class MergeStrategies {
             }
 
             try {
-                // Parse existing content to extract custom blocks
-                Map<String, String> preservedBlocks = extractCustomBlocks(existingContent);
-
-                // Merge preserved content into new template
-                String mergedContent = mergeCustomBlocks(newContent, preservedBlocks);
-
-                return MergeResult.write(mergedContent, "Merged " + preservedBlocks.size() + " custom block(s)");
+                // Single pass over each input: locate existing blocks, then rebuild the template
+                CustomBlockMerger.Result merged = CustomBlockMerger.merge(newContent, existingContent);
+                return MergeResult.write(
+                        merged.content(),
+                        "Merged " + merged.preservedCount() + " custom block(s)",
+                        merged.orphanedBlockIds());
 
             } catch (CustomBlockParser.ParseException e) {
                 return MergeResult.error("Custom block merge failed: " + e.getMessage());
             }
         }
-
-        private Map<String, String> extractCustomBlocks(String content) throws CustomBlockParser.ParseException {
-            Map<String, String> blocks = new HashMap<>();
-            for (CustomBlockParser.ParsedBlock block : CustomBlockParser.parse(content)) {
-                blocks.put(block.id(), block.content());
-            }
-            return blocks;
-        }
-
-        private String mergeCustomBlocks(String newContent, Map<String, String> preservedBlocks)
-                throws CustomBlockParser.ParseException {
-            // Parse new content to find block placeholders
-            String[] lines = newContent.split("\n", -1);
-            StringBuilder result = new StringBuilder();
-
-            String currentBlockId = null;
-            boolean skippingTemplateContent = false;
-
-            for (String line : lines) {
-                // Check for start marker
-                if (isStartMarker(line)) {
-                    currentBlockId = extractBlockId(line);
-                    skippingTemplateContent = true;
-
-                    // Write start marker
-                    result.append(line).append('\n');
-
-                    // Inject preserved content if available
-                    if (preservedBlocks.containsKey(currentBlockId)) {
-                        String preserved = preservedBlocks.get(currentBlockId);
-                        if (!preserved.isEmpty()) {
-                            result.append(preserved);
-                            if (!preserved.endsWith("\n")) {
-                                result.append('\n');
-                            }
-                        }
-                    }
-
-                } else if (isEndMarker(line)) {
-                    skippingTemplateContent = false;
-                    currentBlockId = null;
-
-                    // Write end marker
-                    result.append(line).append('\n');
-
-                } else if (!skippingTemplateContent) {
-                    // Outside custom block, preserve template line
-                    result.append(line).append('\n');
-                }
-                // If skippingTemplateContent, discard template placeholder lines
-            }
-
-            // Remove final newline if original didn't have one
-            String merged = result.toString();
-            if (!newContent.endsWith("\n") && merged.endsWith("\n")) {
-                merged = merged.substring(0, merged.length() - 1);
-            }
-
-            return merged;
-        }
-
-        private boolean isStartMarker(String line) {
-            return line.contains("@hexaglue-custom-start:");
-        }
-
-        private boolean isEndMarker(String line) {
-            return line.contains("@hexaglue-custom-end:");
-        }
-
-        private String extractBlockId(String line) {
-            int colonIndex = line.indexOf("@hexaglue-custom-start:");
-            if (colonIndex < 0) {
-                colonIndex = line.indexOf("@hexaglue-custom-end:");
-            }
-            if (colonIndex < 0) {
-                return "";
-            }
-
-            String afterMarker = line.substring(colonIndex).split(":", 2)[1];
-            return afterMarker.trim().split("\\s+")[0].replaceAll("[^a-zA-Z0-9_-]", "");
-        }
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -297,11 +214,13 @@ public final class MergeStrategies {
         private final MergeAction action;
         private final String finalContent;
         private final String message;
+        private final List<String> orphanedBlockIds;
 
-        private MergeResult(MergeAction action, String finalContent, String message) {
+        private MergeResult(MergeAction action, String finalContent, String message, List<String> orphanedBlockIds) {
             this.action = Objects.requireNonNull(action, "action");
             this.finalContent = finalContent; // nullable for SKIP and ERROR
             this.message = Objects.requireNonNull(message, "message");
+            this.orphanedBlockIds = List.copyOf(orphanedBlockIds);
         }
 
         /**
@@ -312,8 +231,20 @@ public final class MergeStrategies {
          * @return merge result (never {@code null})
          */
         public static MergeResult write(String content, String message) {
+            return write(content, message, List.of());
+        }
+
+        /**
+         * Creates a result indicating write should proceed, after dropping orphaned custom blocks.
+         *
+         * @param content final content to write (not {@code null})
+         * @param message descriptive message (not {@code null})
+         * @param orphanedBlockIds ids of existing custom blocks absent from the new content (not {@code null})
+         * @return merge result (never {@code null})
+         */
+        public static MergeResult write(String content, String message, List<String> orphanedBlockIds) {
             Objects.requireNonNull(content, "content");
-            return new MergeResult(MergeAction.WRITE, content, message);
+            return new MergeResult(MergeAction.WRITE, content, message, orphanedBlockIds);
         }
 
         /**
@@ -323,7 +254,7 @@ public final class MergeStrategies {
          * @return merge result (never {@code null})
          */
         public static MergeResult skip(String message) {
-            return new MergeResult(MergeAction.SKIP, null, message);
+            return new MergeResult(MergeAction.SKIP, null, message, List.of());
         }
 
         /**
@@ -333,7 +264,7 @@ public final class MergeStrategies {
          * @return merge result (never {@code null})
          */
         public static MergeResult error(String message) {
-            return new MergeResult(MergeAction.ERROR, null, message);
+            return new MergeResult(MergeAction.ERROR, null, message, List.of());
         }
 
         /**
@@ -372,6 +303,15 @@ public final class MergeStrategies {
             return message;
         }
 
+        /**
+         * Returns the ids of existing custom blocks that the new content no longer declares.
+         *
+         * @return orphaned block ids (never {@code null}, possibly empty)
+         */
+        public List<String> orphanedBlockIds() {
+            return orphanedBlockIds;
+        }
+
         @Override
         public String toString() {
             return "MergeResult{action=" + action + ", message='" + message + "'}";
@@ -79,6 +79,17 @@
  *   <li>Reports parse errors with line numbers</li>
  * </ul>
  *
+ * <h3>{@link io.hexaglue.core.codegen.merge.CustomBlockMerger}</h3>
+ * <p>
+ * Single-pass custom block merge used by the {@code MERGE_CUSTOM_BLOCKS} strategy:
+ * </p>
+ * <ul>
+ *   <li>Scans each input once, without splitting lines or using regular expressions</li>
+ *   <li>Copies preserved blocks and template regions as whole ranges</li>
+ *   <li>Validates markers in both inputs</li>
+ *   <li>Reports orphaned block ids as part of its result</li>
+ * </ul>
+ *
  * <h3>{@link io.hexaglue.core.codegen.merge.CustomBlockRenderer}</h3>
  * <p>
  * Renders custom block markers in new content:
@@ -110,12 +121,10 @@
  *       ├─── OverwriteStrategy
  *       │      └─► Return new content (ignore existing)
  *       │
- *       ├─── CustomBlockMergeStrategy
- *       │      ├─► Parse existing content (CustomBlockParser)
- *       │      ├─► Extract custom blocks
- *       │      ├─► Parse new content
- *       │      ├─► Merge preserved blocks into new template
- *       │      └─► Return merged content
+ *       ├─── CustomBlockMergeStrategy (CustomBlockMerger)
+ *       │      ├─► Scan existing content once, locating custom blocks
+ *       │      ├─► Scan new content once, copying preserved blocks into it
+ *       │      └─► Return merged content and orphaned block ids
  *       │
  *       ├─── WriteOnceStrategy
  *       │      └─► Skip if exists, else write
@@ -125,9 +134,7 @@
  *
  *  4. Analyze result (if MERGE_CUSTOM_BLOCKS)
  *       │
- *       ├─► Detect orphaned blocks
- *       ├─► Report warnings for orphaned blocks
- *       └─► Validate merge success
+ *       └─► Report warnings for orphaned blocks
  *
  *  5. Return merge response
  *       │
@@ -176,21 +183,19 @@
  *
  * <h2>Custom Block Merge Algorithm</h2>
  * <pre>
- * 1. Parse existing file
- *    └─► Extract all custom blocks {id → content}
- *
- * 2. Parse new template
- *    └─► Find all custom block placeholders
+ * 1. Scan existing file once
+ *    └─► Locate all custom blocks {id → content range}
  *
- * 3. Merge content
+ * 2. Scan new template once, building the output
  *    ├─► For each line in new template:
- *    │     ├─► If start marker: begin custom block region
- *    │     │     └─► Inject preserved content from existing file
+ *    │     ├─► If start marker of a preserved block: inject existing content
+ *    │     │     and skip the template's placeholder lines
+ *    │     ├─► If start marker of a new block: keep the template's default content
  *    │     ├─► If end marker: end custom block region
  *    │     └─► Otherwise: copy template line
  *    └─► Result: merged content with preserved user edits
  *
- * 4. Detect orphaned blocks
+ * 3. Detect orphaned blocks
  *    └─► Blocks in existing file but not in new template
  * </pre>
  *
@@ -206,13 +211,18 @@
  *   <li><strong>Valid Syntax:</strong> Markers must follow expected format</li>
  * </ul>
  * <p>
- * Errors are reported through {@link io.hexaglue.spi.diagnostics.DiagnosticReporter}:
+ * {@link io.hexaglue.core.codegen.merge.MergeEngine} reports through
+ * {@link io.hexaglue.spi.diagnostics.DiagnosticReporter}:
  * </p>
  * <ul>
- *   <li><code>HG-MERGE-200:</code> Parse error in custom blocks</li>
  *   <li><code>HG-MERGE-100:</code> Orphaned blocks detected (warning)</li>
- *   <li><code>HG-MERGE-201:</code> Merge operation failed</li>
+ *   <li><code>HG-MERGE-201:</code> Merge operation failed, including malformed custom block
+ *       markers</li>
  * </ul>
+ * <p>
+ * <code>HG-MERGE-200</code> is not reported here: the file writers of
+ * {@code io.hexaglue.core.codegen.write} use it when their merge plan fails.
+ * </p>
  *
  * <h2>Orphaned Block Detection</h2>
  * <p>
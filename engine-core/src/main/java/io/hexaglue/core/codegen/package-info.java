@@ -63,7 +63,7 @@
  * </p>
  * <ul>
  *   <li>Accumulates artifacts during plugin execution</li>
- *   <li>Validates artifact requirements</li>
+ *   <li>Rejects duplicate qualified names and paths as soon as they are written</li>
  *   <li>Builds an {@link io.hexaglue.core.codegen.ArtifactPlan} when collection is complete</li>
  * </ul>
  *
@@ -128,8 +128,8 @@
  *
  * <h2>Thread Safety</h2>
  * <p>
- * {@link io.hexaglue.core.codegen.DefaultArtifactSink} is not thread-safe and must be used
- * from the annotation processor thread only. {@link io.hexaglue.core.codegen.ArtifactPlan}
+ * {@link io.hexaglue.core.codegen.DefaultArtifactSink} is thread-safe: concurrent writers append to
+ * per-thread buffers that are merged, in a deterministic order, when the plan is built. {@link io.hexaglue.core.codegen.ArtifactPlan}
  * is immutable and thread-safe. {@link io.hexaglue.core.codegen.ArtifactEmitter} is stateless
  * but must not be used concurrently due to Filer constraints.
  * </p>
@@ -12,7 +12,6 @@
  */
 package io.hexaglue.core.codegen.write;
 
-import io.hexaglue.core.codegen.files.CustomBlockEngine;
 import io.hexaglue.core.codegen.files.GeneratedHeaderEngine;
 import io.hexaglue.core.codegen.files.MergePlanner;
 import io.hexaglue.spi.codegen.CustomBlock;
@@ -60,7 +59,7 @@ import java.util.stream.Collectors;
  * </ul>
  * <p>
  * The writer uses {@link MergePlanner} to determine how to handle existing files
- * and {@link CustomBlockEngine} to preserve user content.
+ * and, through it, {@link io.hexaglue.core.codegen.merge.CustomBlockMerger} to preserve user content.
  * </p>
  *
  * <h2>Header Generation</h2>
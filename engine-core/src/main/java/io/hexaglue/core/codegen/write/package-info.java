@@ -126,7 +126,7 @@
  *       │                  │
  *       │                  ├─► Prepare content + header
  *       │                  ├─► Plan merge (MergePlanner)
- *       │                  ├─► Preserve custom blocks (CustomBlockEngine)
+ *       │                  ├─► Preserve custom blocks (CustomBlockMerger)
  *       │                  └─► Write via FilerWriter
  *       │
  *       ├─── Resource ──► ResourceWriter
@@ -154,7 +154,8 @@
  * <ol>
  *   <li>Read existing file content if present</li>
  *   <li>Delegate to {@link io.hexaglue.core.codegen.files.MergePlanner} to determine action</li>
- *   <li>Use {@link io.hexaglue.core.codegen.files.CustomBlockEngine} to preserve user content</li>
+ *   <li>Let the planner preserve user content with
+ *       {@link io.hexaglue.core.codegen.merge.CustomBlockMerger}</li>
  *   <li>Use {@link io.hexaglue.core.codegen.files.GeneratedHeaderEngine} for header rendering</li>
  *   <li>Execute write based on merge plan</li>
  * </ol>
@@ -13,8 +13,16 @@
 package io.hexaglue.core.diagnostics;
 
 import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of {@link DiagnosticReporter} that routes diagnostics to a {@link DiagnosticSink}.
@@ -25,6 +33,13 @@ import java.util.Objects;
  * processing by the {@link DiagnosticEngine}.
  * </p>
  *
+ * <h2>Policy</h2>
+ * <p>
+ * Diagnostics rejected by the reporter's {@link DiagnosticPolicy} are dropped at report time.
+ * Diagnostics over the cap of their code are counted per code (see {@link #suppressed()}); with
+ * {@link #report(DiagnosticSeverity, DiagnosticCode, Supplier)} they are not even built.
+ * </p>
+ *
  * <h2>Thread Safety</h2>
  * <p>
  * This reporter is thread-safe when backed by a thread-safe sink (which {@link DiagnosticSink} is).
@@ -42,9 +57,12 @@ import java.util.Objects;
 public final class DefaultDiagnosticReporter implements DiagnosticReporter {
 
     private final DiagnosticSink sink;
+    private final DiagnosticPolicy policy;
+    private final Map<DiagnosticCode, Occurrences> occurrences = new ConcurrentHashMap<>();
 
-    private DefaultDiagnosticReporter(DiagnosticSink sink) {
+    private DefaultDiagnosticReporter(DiagnosticSink sink, DiagnosticPolicy policy) {
         this.sink = Objects.requireNonNull(sink, "sink");
+        this.policy = Objects.requireNonNull(policy, "policy");
     }
 
     /**
@@ -54,13 +72,63 @@ public final class DefaultDiagnosticReporter implements DiagnosticReporter {
      * @return diagnostic reporter (never {@code null})
      */
     public static DefaultDiagnosticReporter of(DiagnosticSink sink) {
-        return new DefaultDiagnosticReporter(sink);
+        return new DefaultDiagnosticReporter(sink, DiagnosticPolicy.unrestricted());
+    }
+
+    /**
+     * Creates a reporter that routes the diagnostics accepted by a policy to the given sink.
+     *
+     * @param sink   the target sink (not {@code null})
+     * @param policy the diagnostic policy (not {@code null})
+     * @return diagnostic reporter (never {@code null})
+     */
+    public static DefaultDiagnosticReporter of(DiagnosticSink sink, DiagnosticPolicy policy) {
+        return new DefaultDiagnosticReporter(sink, policy);
     }
 
     @Override
     public void report(Diagnostic diagnostic) {
         Objects.requireNonNull(diagnostic, "diagnostic");
-        sink.add(diagnostic);
+        // Duplicates are dropped before the policy so they do not count towards caps
+        if (sink.claim(diagnostic) && admit(diagnostic.severity(), diagnostic.code())) {
+            sink.appendClaimed(diagnostic);
+        }
+    }
+
+    @Override
+    public void report(DiagnosticSeverity severity, DiagnosticCode code, Supplier<Diagnostic> diagnostic) {
+        Objects.requireNonNull(severity, "severity");
+        Objects.requireNonNull(code, "code");
+        Objects.requireNonNull(diagnostic, "diagnostic");
+        if (sink.deduplicates(code)) {
+            // Deduplication compares content, so the diagnostic must be built first
+            report(Objects.requireNonNull(diagnostic.get(), "diagnostic.get()"));
+        } else if (admit(severity, code)) {
+            sink.add(Objects.requireNonNull(diagnostic.get(), "diagnostic.get()"));
+        }
+    }
+
+    /**
+     * Returns the policy applied by this reporter.
+     *
+     * @return policy (never {@code null})
+     */
+    public DiagnosticPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Returns the codes for which diagnostics were dropped because of their cap.
+     *
+     * @return suppressed codes ordered by code (never {@code null})
+     */
+    public List<Suppressed> suppressed() {
+        return occurrences.entrySet().stream()
+                .map(e -> new Suppressed(
+                        e.getKey(), e.getValue().severity, e.getValue().count.get(), policy.capFor(e.getKey())))
+                .filter(s -> s.suppressedCount() > 0)
+                .sorted(Comparator.comparing(s -> s.code().value()))
+                .toList();
     }
 
     /**
@@ -81,4 +149,52 @@ public final class DefaultDiagnosticReporter implements DiagnosticReporter {
     public String toString() {
         return "DefaultDiagnosticReporter[sink=" + sink + "]";
     }
+
+    private boolean admit(DiagnosticSeverity severity, DiagnosticCode code) {
+        if (severity == DiagnosticSeverity.ERROR) {
+            return true;
+        }
+        if (!policy.accepts(severity)) {
+            return false;
+        }
+        int cap = policy.capFor(code);
+        if (cap == DiagnosticPolicy.UNLIMITED) {
+            return true;
+        }
+        return occurrences
+                        .computeIfAbsent(code, c -> new Occurrences(severity))
+                        .count
+                        .incrementAndGet()
+                <= cap;
+    }
+
+    /**
+     * Diagnostics of a code dropped because the code reached its cap.
+     *
+     * @param code        diagnostic code
+     * @param severity    severity of the first diagnostic of the code
+     * @param occurrences number of diagnostics reported for the code, kept or not
+     * @param cap         number of diagnostics kept
+     */
+    public record Suppressed(DiagnosticCode code, DiagnosticSeverity severity, int occurrences, int cap) {
+
+        /**
+         * Returns the number of dropped diagnostics.
+         *
+         * @return suppressed count
+         */
+        public int suppressedCount() {
+            return Math.max(0, occurrences - cap);
+        }
+    }
+
+    private static final class Occurrences {
+
+        final DiagnosticSeverity severity;
+        final AtomicInteger count = new AtomicInteger();
+
+        Occurrences(DiagnosticSeverity severity) {
+            this.severity = severity;
+        }
+    }
 }
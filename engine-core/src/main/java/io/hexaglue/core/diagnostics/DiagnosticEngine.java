@@ -14,11 +14,18 @@ package io.hexaglue.core.diagnostics;
 
 import io.hexaglue.spi.diagnostics.Diagnostic;
 import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
 import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
 import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic.Kind;
 
 /**
@@ -45,6 +52,16 @@ import javax.tools.Diagnostic.Kind;
  * </ul>
  * </p>
  *
+ * <h2>Flushing</h2>
+ * <p>
+ * The engine remembers how many diagnostics were already printed, so {@link #flushToMessager()}
+ * can be called after every round: each diagnostic reaches the messager exactly once. Consecutive
+ * INFO diagnostics without a source element are printed as a single NOTE. Diagnostics whose
+ * location names a type or member of the compilation are attached to its {@link Element}, found
+ * in the {@link #elementIndex() element index}; other types are looked up once through
+ * {@link Elements} when the engine was created with {@link #create(Messager, Elements)}.
+ * </p>
+ *
  * <h2>Thread Safety</h2>
  * <p>
  * Instances are thread-safe. Multiple threads may report diagnostics concurrently.
@@ -72,14 +89,37 @@ import javax.tools.Diagnostic.Kind;
  */
 public final class DiagnosticEngine {
 
+    /**
+     * Maximum number of INFO diagnostics printed as a single NOTE.
+     */
+    private static final int MAX_NOTE_BATCH = 64;
+
     private final DiagnosticSink sink;
     private final DefaultDiagnosticReporter reporter;
     private final Messager messager;
+    private final Elements elements;
+    private final ElementIndex elementIndex = ElementIndex.create();
+    private final Map<String, Optional<Element>> elementCache = new HashMap<>();
+
+    /** Suppressed count of each code at the previous flush; guarded by {@code this}. */
+    private final Map<DiagnosticCode, Integer> summarized = new HashMap<>();
+
+    /** Number of diagnostics of the sink already printed; guarded by {@code this}. */
+    private int flushed;
 
-    private DiagnosticEngine(Messager messager) {
+    /** Sink generation {@link #flushed} counts in; guarded by {@code this}. */
+    private int flushedGeneration;
+
+    private DiagnosticEngine(
+            Messager messager,
+            Elements elements,
+            DiagnosticPolicy policy,
+            Predicate<DiagnosticCode> deduplicatedCodes) {
         this.messager = Objects.requireNonNull(messager, "messager");
-        this.sink = DiagnosticSink.create();
-        this.reporter = DefaultDiagnosticReporter.of(sink);
+        this.elements = elements;
+        this.sink =
+                deduplicatedCodes == null ? DiagnosticSink.create() : DiagnosticSink.deduplicating(deduplicatedCodes);
+        this.reporter = DefaultDiagnosticReporter.of(sink, policy);
     }
 
     /**
@@ -89,7 +129,59 @@ public final class DiagnosticEngine {
      * @return diagnostic engine (never {@code null})
      */
     public static DiagnosticEngine create(Messager messager) {
-        return new DiagnosticEngine(messager);
+        return new DiagnosticEngine(messager, null, DiagnosticPolicy.unrestricted(), null);
+    }
+
+    /**
+     * Creates a diagnostic engine that attaches printed diagnostics to source elements.
+     *
+     * @param messager the annotation processing messager (not {@code null})
+     * @param elements element utilities used to resolve diagnostic locations (not {@code null})
+     * @return diagnostic engine (never {@code null})
+     */
+    public static DiagnosticEngine create(Messager messager, Elements elements) {
+        return create(messager, elements, DiagnosticPolicy.unrestricted());
+    }
+
+    /**
+     * Creates a diagnostic engine that attaches printed diagnostics to source elements and filters
+     * reported diagnostics with a policy.
+     *
+     * @param messager the annotation processing messager (not {@code null})
+     * @param elements element utilities used to resolve diagnostic locations (not {@code null})
+     * @param policy   the diagnostic policy (not {@code null})
+     * @return diagnostic engine (never {@code null})
+     */
+    public static DiagnosticEngine create(Messager messager, Elements elements, DiagnosticPolicy policy) {
+        Objects.requireNonNull(elements, "elements");
+        Objects.requireNonNull(policy, "policy");
+        return new DiagnosticEngine(messager, elements, policy, null);
+    }
+
+    /**
+     * Creates a diagnostic engine that additionally drops repeated diagnostics of selected codes.
+     *
+     * <p>
+     * Analyses that run again over the cumulative model in later rounds report the same
+     * diagnostics again; deduplicating their codes keeps each one reported once per compilation.
+     * Duplicates are dropped before the policy's caps are applied.
+     * </p>
+     *
+     * @param messager          the annotation processing messager (not {@code null})
+     * @param elements          element utilities used to resolve diagnostic locations (not {@code null})
+     * @param policy            the diagnostic policy (not {@code null})
+     * @param deduplicatedCodes selects the codes to deduplicate (not {@code null})
+     * @return diagnostic engine (never {@code null})
+     */
+    public static DiagnosticEngine create(
+            Messager messager,
+            Elements elements,
+            DiagnosticPolicy policy,
+            Predicate<DiagnosticCode> deduplicatedCodes) {
+        Objects.requireNonNull(elements, "elements");
+        Objects.requireNonNull(policy, "policy");
+        Objects.requireNonNull(deduplicatedCodes, "deduplicatedCodes");
+        return new DiagnosticEngine(messager, elements, policy, deduplicatedCodes);
     }
 
     /**
@@ -116,11 +208,30 @@ public final class DiagnosticEngine {
     }
 
     /**
-     * Flushes all collected diagnostics to the JSR-269 messager.
+     * Returns the index used to attach printed diagnostics to source elements.
+     *
+     * <p>
+     * The pipeline fills it while collecting the types of each round.
+     * </p>
+     *
+     * @return element index (never {@code null})
+     */
+    public ElementIndex elementIndex() {
+        return elementIndex;
+    }
+
+    /**
+     * Flushes diagnostics collected since the previous flush to the JSR-269 messager.
      *
      * <p>
      * This method should be called after each compilation round to ensure diagnostics
-     * are visible to the build tool and IDE.
+     * are visible to the build tool and IDE. Diagnostics already printed by a previous call are
+     * not printed again.
+     * </p>
+     *
+     * <p>
+     * Codes whose diagnostics were capped by the {@link DiagnosticPolicy} are summarized with one
+     * line each, such as {@code HG-CORE-IR-200 × 412 (392 not shown)}.
      * </p>
      *
      * <p>
@@ -129,11 +240,29 @@ public final class DiagnosticEngine {
      * source location.
      * </p>
      */
-    public void flushToMessager() {
-        List<Diagnostic> diagnostics = sink.all();
-        for (Diagnostic d : diagnostics) {
-            printToMessager(d);
+    public synchronized void flushToMessager() {
+        int generation = sink.generation();
+        if (generation != flushedGeneration) {
+            // The sink was cleared directly: everything it holds is new.
+            flushedGeneration = generation;
+            flushed = 0;
         }
+        NoteBatch notes = new NoteBatch();
+        flushed = sink.forEachFrom(flushed, d -> print(d, notes));
+        for (DefaultDiagnosticReporter.Suppressed suppressed : reporter.suppressed()) {
+            Integer previous = summarized.put(suppressed.code(), suppressed.suppressedCount());
+            if (previous == null || previous != suppressed.suppressedCount()) {
+                String line = suppressed.code().value() + " × " + suppressed.occurrences() + " ("
+                        + suppressed.suppressedCount() + " not shown)";
+                if (suppressed.severity() == DiagnosticSeverity.INFO) {
+                    notes.add(line);
+                } else {
+                    notes.flush();
+                    printToMessager(toMessagerKind(suppressed.severity()), line, null);
+                }
+            }
+        }
+        notes.flush();
     }
 
     /**
@@ -144,9 +273,11 @@ public final class DiagnosticEngine {
      * should not carry over to the next.
      * </p>
      */
-    public void flushAndClear() {
+    public synchronized void flushAndClear() {
         flushToMessager();
         sink.clear();
+        flushedGeneration = sink.generation();
+        flushed = 0;
     }
 
     /**
@@ -268,13 +399,74 @@ public final class DiagnosticEngine {
     // Internal helpers
     // ─────────────────────────────────────────────────────────────────────────
 
-    private void printToMessager(Diagnostic diagnostic) {
-        Kind kind = toMessagerKind(diagnostic.severity());
+    private void print(Diagnostic diagnostic, NoteBatch notes) {
+        Element element = elementFor(diagnostic.location());
         String message = DiagnosticRenderer.compact(diagnostic);
+        if (element == null && diagnostic.severity() == DiagnosticSeverity.INFO) {
+            notes.add(message);
+            return;
+        }
+        notes.flush();
+        printToMessager(toMessagerKind(diagnostic.severity()), message, element);
+    }
 
-        // Best-effort: try to associate with an element if we have a qualified name
-        // In practice, the core should track elements separately if precise location is needed
-        messager.printMessage(kind, message);
+    private void printToMessager(Kind kind, String message, Element element) {
+        if (element != null) {
+            messager.printMessage(kind, message, element);
+        } else {
+            messager.printMessage(kind, message);
+        }
+    }
+
+    private Element elementFor(DiagnosticLocation location) {
+        if (location == null) {
+            return null;
+        }
+        String qualifiedName = location.qualifiedName().orElse(null);
+        if (qualifiedName == null) {
+            return null;
+        }
+        Optional<Element> indexed = elementIndex.find(qualifiedName);
+        if (indexed.isPresent() || elements == null) {
+            return indexed.orElse(null);
+        }
+        // Not part of the compilation's sources (e.g. a library type): look it up once
+        return elementCache
+                .computeIfAbsent(qualifiedName, qn -> {
+                    try {
+                        return Optional.ofNullable(elements.getTypeElement(qn));
+                    } catch (RuntimeException e) {
+                        return Optional.empty();
+                    }
+                })
+                .orElse(null);
+    }
+
+    /**
+     * Groups consecutive INFO messages without element into a single NOTE.
+     */
+    private final class NoteBatch {
+
+        private final StringBuilder text = new StringBuilder();
+        private int count;
+
+        void add(String message) {
+            if (count > 0) {
+                text.append('\n');
+            }
+            text.append(message);
+            if (++count == MAX_NOTE_BATCH) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (count > 0) {
+                printToMessager(Kind.NOTE, text.toString(), null);
+                text.setLength(0);
+                count = 0;
+            }
+        }
     }
 
     private static Kind toMessagerKind(DiagnosticSeverity severity) {
@@ -0,0 +1,200 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.diagnostics;
+
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Rules deciding which diagnostics are kept by a {@link DefaultDiagnosticReporter}.
+ *
+ * <p>
+ * Analyzers report one INFO diagnostic per annotated type, which on large code bases means
+ * thousands of diagnostics and {@code Messager} calls per build. A policy limits that noise:
+ * </p>
+ * <ul>
+ *   <li>diagnostics below the {@linkplain #minimumSeverity() minimum severity} are dropped;</li>
+ *   <li>a {@linkplain #capFor(DiagnosticCode) cap} limits how many diagnostics of a code are kept;
+ *       the others are only counted, and {@link DiagnosticEngine} prints one summary line per
+ *       code, such as {@code HG-CORE-IR-200 × 412}.</li>
+ * </ul>
+ *
+ * <p>
+ * Errors are never dropped, whatever the policy.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * DiagnosticPolicy policy = DiagnosticPolicy.builder()
+ *         .minimumSeverity(DiagnosticSeverity.INFO)
+ *         .defaultCap(20)
+ *         .cap(DiagnosticCode.of("HG-CORE-IR-200"), 0)
+ *         .build();
+ * }</pre>
+ */
+public final class DiagnosticPolicy {
+
+    /**
+     * Cap value meaning "no limit".
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final DiagnosticPolicy UNRESTRICTED = builder().build();
+
+    private final DiagnosticSeverity minimumSeverity;
+    private final int defaultCap;
+    private final Map<DiagnosticCode, Integer> caps;
+
+    private DiagnosticPolicy(Builder builder) {
+        this.minimumSeverity = builder.minimumSeverity;
+        this.defaultCap = builder.defaultCap;
+        this.caps = Map.copyOf(builder.caps);
+    }
+
+    /**
+     * Returns the policy keeping every diagnostic.
+     *
+     * @return unrestricted policy (never {@code null})
+     */
+    public static DiagnosticPolicy unrestricted() {
+        return UNRESTRICTED;
+    }
+
+    /**
+     * Creates a builder, initialized with the unrestricted policy.
+     *
+     * @return builder (never {@code null})
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the lowest severity kept.
+     *
+     * @return minimum severity (never {@code null})
+     */
+    public DiagnosticSeverity minimumSeverity() {
+        return minimumSeverity;
+    }
+
+    /**
+     * Returns the maximum number of diagnostics kept for the given code.
+     *
+     * @param code diagnostic code (not {@code null})
+     * @return cap, {@link #UNLIMITED} if none
+     */
+    public int capFor(DiagnosticCode code) {
+        Objects.requireNonNull(code, "code");
+        return caps.getOrDefault(code, defaultCap);
+    }
+
+    /**
+     * Returns {@code true} if diagnostics of the given severity are kept, caps aside.
+     *
+     * @param severity severity (not {@code null})
+     * @return {@code true} if accepted
+     */
+    public boolean accepts(DiagnosticSeverity severity) {
+        Objects.requireNonNull(severity, "severity");
+        return severity == DiagnosticSeverity.ERROR || severity.compareTo(minimumSeverity) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if this policy keeps every diagnostic.
+     *
+     * @return {@code true} if unrestricted
+     */
+    public boolean isUnrestricted() {
+        return minimumSeverity == DiagnosticSeverity.INFO && defaultCap == UNLIMITED && caps.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "DiagnosticPolicy[minimumSeverity=" + minimumSeverity + ", defaultCap="
+                + (defaultCap == UNLIMITED ? "unlimited" : defaultCap) + ", caps=" + caps + "]";
+    }
+
+    /**
+     * Builder for {@link DiagnosticPolicy}.
+     */
+    public static final class Builder {
+
+        private DiagnosticSeverity minimumSeverity = DiagnosticSeverity.INFO;
+        private int defaultCap = UNLIMITED;
+        private final Map<DiagnosticCode, Integer> caps = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        /**
+         * Sets the lowest severity kept. Errors are kept regardless.
+         *
+         * @param minimumSeverity severity (not {@code null})
+         * @return this builder
+         */
+        public Builder minimumSeverity(DiagnosticSeverity minimumSeverity) {
+            this.minimumSeverity = Objects.requireNonNull(minimumSeverity, "minimumSeverity");
+            return this;
+        }
+
+        /**
+         * Sets the cap applied to codes without a specific cap.
+         *
+         * @param cap maximum number of diagnostics kept per code (at least {@code 0})
+         * @return this builder
+         * @throws IllegalArgumentException if cap is negative
+         */
+        public Builder defaultCap(int cap) {
+            this.defaultCap = checkCap(cap);
+            return this;
+        }
+
+        /**
+         * Sets the cap of a code.
+         *
+         * @param code diagnostic code (not {@code null})
+         * @param cap  maximum number of diagnostics kept for the code (at least {@code 0})
+         * @return this builder
+         * @throws IllegalArgumentException if cap is negative
+         */
+        public Builder cap(DiagnosticCode code, int cap) {
+            Objects.requireNonNull(code, "code");
+            caps.put(code, checkCap(cap));
+            return this;
+        }
+
+        /**
+         * Builds the policy.
+         *
+         * @return policy (never {@code null})
+         */
+        public DiagnosticPolicy build() {
+            return new DiagnosticPolicy(this);
+        }
+
+        private static int checkCap(int cap) {
+            if (cap < 0) {
+                throw new IllegalArgumentException("cap must be >= 0: " + cap);
+            }
+            return cap;
+        }
+    }
+}
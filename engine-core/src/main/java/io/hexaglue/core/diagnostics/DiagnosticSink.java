@@ -13,12 +13,19 @@
 package io.hexaglue.core.diagnostics;
 
 import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
 import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -29,6 +36,21 @@ import java.util.function.Predicate;
  * collected diagnostics by severity or predicate.
  * </p>
  *
+ * <h2>Storage</h2>
+ * <p>
+ * Diagnostics are appended to a log made of fixed-size chunks: adding a diagnostic never copies
+ * previously added ones, and readers iterate the log without locking. Per-severity counters are
+ * maintained on insertion, so {@link #hasErrors()}, {@link #count(DiagnosticSeverity)} and
+ * {@link #toString()} run in constant time. Insertion order is preserved.
+ * </p>
+ *
+ * <h2>Deduplication</h2>
+ * <p>
+ * A sink created with {@link #deduplicating(Predicate)} drops a diagnostic when an identical one
+ * (same severity, code, message, location and plugin) was already added, for the selected codes.
+ * Dropped diagnostics are counted by {@link #duplicateCount()}.
+ * </p>
+ *
  * <h2>Thread Safety</h2>
  * <p>
  * This class is thread-safe. Multiple threads may add diagnostics concurrently.
@@ -48,10 +70,18 @@ import java.util.function.Predicate;
  */
 public final class DiagnosticSink {
 
-    private final List<Diagnostic> diagnostics;
+    private static final int CHUNK_SHIFT = 8;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
 
-    private DiagnosticSink() {
-        this.diagnostics = new CopyOnWriteArrayList<>();
+    private static final DiagnosticSeverity[] SEVERITIES = DiagnosticSeverity.values();
+
+    private final Predicate<DiagnosticCode> deduplicatedCodes;
+    private volatile Log log;
+
+    private DiagnosticSink(Predicate<DiagnosticCode> deduplicatedCodes) {
+        this.deduplicatedCodes = deduplicatedCodes;
+        this.log = new Log(0);
     }
 
     /**
@@ -60,7 +90,23 @@ public final class DiagnosticSink {
      * @return new sink (never {@code null})
      */
     public static DiagnosticSink create() {
-        return new DiagnosticSink();
+        return new DiagnosticSink(null);
+    }
+
+    /**
+     * Creates a new empty diagnostic sink that drops repeated diagnostics.
+     *
+     * <p>
+     * A diagnostic whose code matches {@code codes} is dropped if an identical diagnostic was
+     * already added. Use {@code code -> true} to deduplicate all diagnostics.
+     * </p>
+     *
+     * @param codes selects the codes to deduplicate (not {@code null})
+     * @return new sink (never {@code null})
+     */
+    public static DiagnosticSink deduplicating(Predicate<DiagnosticCode> codes) {
+        Objects.requireNonNull(codes, "codes");
+        return new DiagnosticSink(codes);
     }
 
     /**
@@ -70,7 +116,46 @@ public final class DiagnosticSink {
      */
     public void add(Diagnostic diagnostic) {
         Objects.requireNonNull(diagnostic, "diagnostic");
-        diagnostics.add(diagnostic);
+        if (claim(diagnostic)) {
+            appendClaimed(diagnostic);
+        }
+    }
+
+    /**
+     * Returns whether repeated diagnostics of a code are dropped by this sink.
+     *
+     * @param code diagnostic code (not {@code null})
+     * @return {@code true} if the code is deduplicated
+     */
+    boolean deduplicates(DiagnosticCode code) {
+        return deduplicatedCodes != null && deduplicatedCodes.test(code);
+    }
+
+    /**
+     * Marks a diagnostic as seen without adding it.
+     *
+     * <p>
+     * Lets the reporter drop duplicates before applying per-code caps, so repeated diagnostics do
+     * not count towards a cap. A claimed diagnostic is added with {@link #appendClaimed}.
+     * </p>
+     *
+     * @param diagnostic the diagnostic (not {@code null})
+     * @return {@code false} if the diagnostic is a duplicate, which is then counted as dropped
+     */
+    boolean claim(Diagnostic diagnostic) {
+        if (!deduplicates(diagnostic.code())) {
+            return true;
+        }
+        Log current = log;
+        if (!current.seen.add(Key.of(diagnostic))) {
+            current.duplicates.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void appendClaimed(Diagnostic diagnostic) {
+        log.append(diagnostic);
     }
 
     /**
@@ -97,7 +182,7 @@ public final class DiagnosticSink {
      * @return immutable list of diagnostics (never {@code null})
      */
     public List<Diagnostic> all() {
-        return Collections.unmodifiableList(new ArrayList<>(diagnostics));
+        return filter0(null);
     }
 
     /**
@@ -112,13 +197,49 @@ public final class DiagnosticSink {
      */
     public List<Diagnostic> filter(Predicate<Diagnostic> predicate) {
         Objects.requireNonNull(predicate, "predicate");
-        List<Diagnostic> result = new ArrayList<>();
-        for (Diagnostic d : diagnostics) {
-            if (predicate.test(d)) {
-                result.add(d);
-            }
+        return filter0(predicate);
+    }
+
+    /**
+     * Performs the given action for each collected diagnostic, in insertion order.
+     *
+     * <p>
+     * Diagnostics added while iterating are not visited.
+     * </p>
+     *
+     * @param action action to perform (not {@code null})
+     */
+    public void forEach(Consumer<Diagnostic> action) {
+        forEachFrom(0, action);
+    }
+
+    /**
+     * Performs the given action for each diagnostic at or after the given position, in insertion
+     * order.
+     *
+     * <p>
+     * Positions are insertion indexes: the returned position can be passed to a later call to
+     * visit only the diagnostics added in between. Diagnostics added while iterating are not
+     * visited.
+     * </p>
+     *
+     * @param fromIndex first position to visit (at least {@code 0})
+     * @param action    action to perform (not {@code null})
+     * @return position following the last visited diagnostic
+     * @throws IllegalArgumentException if fromIndex is negative
+     */
+    public int forEachFrom(int fromIndex, Consumer<Diagnostic> action) {
+        Objects.requireNonNull(action, "action");
+        if (fromIndex < 0) {
+            throw new IllegalArgumentException("fromIndex must be >= 0: " + fromIndex);
         }
-        return Collections.unmodifiableList(result);
+        Log current = log;
+        int size = current.size;
+        Diagnostic[][] chunks = current.chunks;
+        for (int i = fromIndex; i < size; i++) {
+            action.accept(chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK]);
+        }
+        return Math.max(size, fromIndex);
     }
 
     /**
@@ -129,6 +250,9 @@ public final class DiagnosticSink {
      */
     public List<Diagnostic> withSeverity(DiagnosticSeverity severity) {
         Objects.requireNonNull(severity, "severity");
+        if (count(severity) == 0) {
+            return List.of();
+        }
         return filter(d -> d.severity() == severity);
     }
 
@@ -165,7 +289,7 @@ public final class DiagnosticSink {
      * @return {@code true} if errors are present
      */
     public boolean hasErrors() {
-        return diagnostics.stream().anyMatch(d -> d.severity() == DiagnosticSeverity.ERROR);
+        return count(DiagnosticSeverity.ERROR) > 0;
     }
 
     /**
@@ -174,7 +298,7 @@ public final class DiagnosticSink {
      * @return {@code true} if warnings are present
      */
     public boolean hasWarnings() {
-        return diagnostics.stream().anyMatch(d -> d.severity() == DiagnosticSeverity.WARNING);
+        return count(DiagnosticSeverity.WARNING) > 0;
     }
 
     /**
@@ -183,7 +307,7 @@ public final class DiagnosticSink {
      * @return {@code true} if no diagnostics have been added
      */
     public boolean isEmpty() {
-        return diagnostics.isEmpty();
+        return size() == 0;
     }
 
     /**
@@ -192,7 +316,7 @@ public final class DiagnosticSink {
      * @return diagnostic count
      */
     public int size() {
-        return diagnostics.size();
+        return log.size;
     }
 
     /**
@@ -203,7 +327,31 @@ public final class DiagnosticSink {
      */
     public int count(DiagnosticSeverity severity) {
         Objects.requireNonNull(severity, "severity");
-        return (int) diagnostics.stream().filter(d -> d.severity() == severity).count();
+        return log.counts.get(severity.ordinal());
+    }
+
+    /**
+     * Returns the number of diagnostics dropped as duplicates since the last {@link #clear()}.
+     *
+     * @return duplicate count, always {@code 0} for a sink that does not deduplicate
+     */
+    public int duplicateCount() {
+        return log.duplicates.get();
+    }
+
+    /**
+     * Returns the number of times this sink has been {@linkplain #clear() cleared}.
+     *
+     * <p>
+     * Positions returned by {@link #forEachFrom(int, Consumer)} only make sense within one
+     * generation: a reader that remembers a position should also remember the generation it was
+     * taken in, and restart from {@code 0} when it changes.
+     * </p>
+     *
+     * @return generation, starting at {@code 0}
+     */
+    public int generation() {
+        return log.generation;
     }
 
     /**
@@ -211,11 +359,11 @@ public final class DiagnosticSink {
      *
      * <p>
      * This method is rarely needed during normal compilation, but can be useful in tests or
-     * multi-round scenarios.
+     * multi-round scenarios. Diagnostics added concurrently with this call may be lost.
      * </p>
      */
-    public void clear() {
-        diagnostics.clear();
+    public synchronized void clear() {
+        log = new Log(log.generation + 1);
     }
 
     @Override
@@ -223,4 +371,75 @@ public final class DiagnosticSink {
         return "DiagnosticSink[total=" + size() + ", errors=" + count(DiagnosticSeverity.ERROR) + ", warnings="
                 + count(DiagnosticSeverity.WARNING) + "]";
     }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Internal helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private List<Diagnostic> filter0(Predicate<Diagnostic> predicate) {
+        Log current = log;
+        int size = current.size;
+        Diagnostic[][] chunks = current.chunks;
+        List<Diagnostic> result = new ArrayList<>(predicate == null ? size : Math.min(size, 16));
+        for (int i = 0; i < size; i++) {
+            Diagnostic d = chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK];
+            if (predicate == null || predicate.test(d)) {
+                result.add(d);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Append-only chunked storage.
+     *
+     * <p>
+     * Writers serialize on the log monitor for the duration of a single store. The {@code size}
+     * field is written last, so a reader that reads {@code size} first sees every diagnostic below
+     * that index. The chunk table is volatile too: a reader may pick up a table grown by a later
+     * append, and the volatile read is what makes the chunk references copied into it visible.
+     * </p>
+     */
+    private static final class Log {
+
+        private final int generation;
+        private volatile Diagnostic[][] chunks = new Diagnostic[4][];
+        private volatile int size;
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(SEVERITIES.length);
+        private final AtomicInteger duplicates = new AtomicInteger();
+        private final Set<Key> seen = ConcurrentHashMap.newKeySet();
+
+        Log(int generation) {
+            this.generation = generation;
+        }
+
+        synchronized void append(Diagnostic diagnostic) {
+            int index = size;
+            int chunk = index >>> CHUNK_SHIFT;
+            Diagnostic[][] table = chunks;
+            if (chunk == table.length) {
+                // Publish the grown table before the size store that exposes the new index
+                table = Arrays.copyOf(table, table.length * 2);
+                chunks = table;
+            }
+            if (table[chunk] == null) {
+                table[chunk] = new Diagnostic[CHUNK_SIZE];
+            }
+            table[chunk][index & CHUNK_MASK] = diagnostic;
+            counts.incrementAndGet(diagnostic.severity().ordinal());
+            size = index + 1;
+        }
+    }
+
+    private record Key(
+            DiagnosticSeverity severity,
+            DiagnosticCode code,
+            String message,
+            DiagnosticLocation location,
+            String pluginId) {
+
+        static Key of(Diagnostic d) {
+            return new Key(d.severity(), d.code(), d.message(), d.location(), d.pluginId());
+        }
+    }
 }
@@ -0,0 +1,152 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.diagnostics;
+
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Compilation-scoped index from stable ids to the javac {@link Element}s they designate.
+ *
+ * <p>
+ * The index lets {@link DiagnosticEngine} attach diagnostics to source elements, so the compiler
+ * reports them at the right file and line, without looking elements up again through
+ * {@link javax.lang.model.util.Elements} for every diagnostic.
+ * </p>
+ *
+ * <h2>Ids</h2>
+ * <p>
+ * Ids follow the {@code SourceRef} conventions used by the IR:
+ * </p>
+ * <ul>
+ *   <li>a type is indexed by its qualified name, e.g. {@code com.example.Order};</li>
+ *   <li>a field, method or record component by {@code <type>#<simple name>}, e.g.
+ *       {@code com.example.Order#id}. For overloaded methods, the first declared wins.</li>
+ * </ul>
+ * <p>
+ * {@link #find(String)} also accepts the dotted member paths of {@code Jsr269Locations}
+ * ({@code com.example.Order.id}) and falls back to the enclosing type of unknown members.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public final class ElementIndex {
+
+    private final Map<String, Element> elements = new ConcurrentHashMap<>();
+
+    private ElementIndex() {}
+
+    /**
+     * Creates an empty index.
+     *
+     * @return new index (never {@code null})
+     */
+    public static ElementIndex create() {
+        return new ElementIndex();
+    }
+
+    /**
+     * Indexes a type under its qualified name.
+     *
+     * @param type type element (not {@code null})
+     */
+    public void registerType(TypeElement type) {
+        Objects.requireNonNull(type, "type");
+        elements.put(type.getQualifiedName().toString(), type);
+    }
+
+    /**
+     * Indexes a member of a type under {@code <type>#<simple name>}.
+     *
+     * <p>
+     * Only fields, methods, constructors and record components are indexed; other elements are
+     * ignored.
+     * </p>
+     *
+     * @param owner  declaring type (not {@code null})
+     * @param member member element (not {@code null})
+     */
+    public void registerMember(TypeElement owner, Element member) {
+        Objects.requireNonNull(owner, "owner");
+        Objects.requireNonNull(member, "member");
+        ElementKind kind = member.getKind();
+        if (kind.isField()
+                || kind == ElementKind.METHOD
+                || kind == ElementKind.CONSTRUCTOR
+                || kind == ElementKind.RECORD_COMPONENT) {
+            elements.putIfAbsent(owner.getQualifiedName() + "#" + member.getSimpleName(), member);
+        }
+    }
+
+    /**
+     * Returns the element designated by an id.
+     *
+     * @param id type or member id (not {@code null})
+     * @return element, or empty if neither the id nor its enclosing type is indexed
+     */
+    public Optional<Element> find(String id) {
+        Objects.requireNonNull(id, "id");
+        Element element = elements.get(id);
+        if (element != null) {
+            return Optional.of(element);
+        }
+        int hash = id.indexOf('#');
+        if (hash > 0) {
+            Element type = elements.get(id.substring(0, hash));
+            return Optional.ofNullable(type);
+        }
+        int dot = id.lastIndexOf('.');
+        if (dot > 0) {
+            String owner = id.substring(0, dot);
+            element = elements.get(owner + "#" + id.substring(dot + 1));
+            return Optional.ofNullable(element != null ? element : elements.get(owner));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the element designated by a diagnostic location.
+     *
+     * @param location location (nullable)
+     * @return element, or empty if the location has no qualified name or it is not indexed
+     */
+    public Optional<Element> find(DiagnosticLocation location) {
+        if (location == null) {
+            return Optional.empty();
+        }
+        return location.qualifiedName().flatMap(this::find);
+    }
+
+    /**
+     * Returns the number of indexed ids.
+     *
+     * @return size
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ElementIndex[size=" + size() + "]";
+    }
+}
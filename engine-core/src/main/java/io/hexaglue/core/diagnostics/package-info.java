@@ -37,7 +37,9 @@
  * <p>
  * Thread-safe collector for diagnostics. Provides:
  * <ul>
- *   <li>Concurrent diagnostic collection</li>
+ *   <li>Concurrent, append-only diagnostic collection</li>
+ *   <li>Constant-time severity counters</li>
+ *   <li>Optional deduplication of repeated diagnostics</li>
  *   <li>Filtering by severity</li>
  *   <li>Query methods</li>
  * </ul>
@@ -49,6 +51,18 @@
  * Acts as a bridge between plugins and the internal diagnostic collection mechanism.
  * </p>
  *
+ * <h3>{@link io.hexaglue.core.diagnostics.DiagnosticPolicy}</h3>
+ * <p>
+ * Minimum severity and per-code caps applied by the reporter. Capped codes are summarized with a
+ * single line when diagnostics are flushed.
+ * </p>
+ *
+ * <h3>{@link io.hexaglue.core.diagnostics.ElementIndex}</h3>
+ * <p>
+ * Compilation-scoped index from type and member ids to javac elements, used to attach printed
+ * diagnostics to their source location.
+ * </p>
+ *
  * <h3>{@link io.hexaglue.core.diagnostics.DiagnosticFactory}</h3>
  * <p>
  * Factory for creating common diagnostic patterns. Reduces boilerplate and ensures consistency.
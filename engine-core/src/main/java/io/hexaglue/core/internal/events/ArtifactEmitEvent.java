@@ -0,0 +1,68 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.events;
+
+import io.hexaglue.core.internal.InternalMarker;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the emission of one generated artifact.
+ */
+@Name("io.hexaglue.ArtifactEmit")
+@Label("Artifact Emit")
+@Category({"HexaGlue", "Code Generation"})
+@Description("Merge and write of a generated artifact through the Filer")
+@StackTrace(false)
+@InternalMarker(reason = "Internal Flight Recorder event; not exposed to plugins")
+public final class ArtifactEmitEvent extends jdk.jfr.Event {
+
+    @Label("Kind")
+    @Description("source, resource or doc")
+    String kind;
+
+    @Label("Artifact")
+    @Description("Qualified type name or path of the artifact")
+    String artifact;
+
+    @Label("Outcome")
+    @Description("written, skipped (unchanged or kept) or failed")
+    String outcome;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Ends the event and commits it if enabled.
+     *
+     * @param kind     artifact kind
+     * @param artifact qualified type name or path
+     * @param outcome  outcome of the emission
+     * @param bytes    number of bytes written
+     */
+    public void finish(String kind, String artifact, String outcome, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.kind = kind;
+            this.artifact = artifact;
+            this.outcome = outcome;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.events;
+
+import io.hexaglue.core.internal.InternalMarker;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the semantic enrichment of the cumulative domain model.
+ */
+@Name("io.hexaglue.Enrichment")
+@Label("Domain Enrichment")
+@Category({"HexaGlue", "Analysis"})
+@Description("Cross-model semantic enrichment of the domain model")
+@StackTrace(false)
+@InternalMarker(reason = "Internal Flight Recorder event; not exposed to plugins")
+public final class EnrichmentEvent extends jdk.jfr.Event {
+
+    @Label("Domain Types")
+    int domainTypes;
+
+    @Label("Ports")
+    int ports;
+
+    @Label("Outcome")
+    @Description("completed or failed")
+    String outcome;
+
+    /**
+     * Ends the event and commits it if enabled.
+     *
+     * @param domainTypes number of domain types enriched
+     * @param ports       number of ports taken into account
+     * @param outcome     outcome of the enrichment
+     */
+    public void finish(int domainTypes, int ports, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.domainTypes = domainTypes;
+            this.ports = ports;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
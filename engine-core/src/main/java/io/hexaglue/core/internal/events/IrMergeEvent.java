@@ -0,0 +1,61 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.events;
+
+import io.hexaglue.core.internal.InternalMarker;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the merge of a round's IR into the cumulative store.
+ */
+@Name("io.hexaglue.IrMerge")
+@Label("IR Merge")
+@Category({"HexaGlue", "Analysis"})
+@Description("Merge of analyzed and cached IR into the cumulative IR store")
+@StackTrace(false)
+@InternalMarker(reason = "Internal Flight Recorder event; not exposed to plugins")
+public final class IrMergeEvent extends jdk.jfr.Event {
+
+    @Label("Analyzed Types")
+    @Description("Number of types analyzed from source in this round")
+    int analyzedTypes;
+
+    @Label("Reused Types")
+    @Description("Number of types whose IR was reused from the persistent cache")
+    int reusedTypes;
+
+    @Label("Outcome")
+    @Description("completed or failed")
+    String outcome;
+
+    /**
+     * Ends the event and commits it if enabled.
+     *
+     * @param analyzedTypes number of types analyzed from source
+     * @param reusedTypes   number of types reused from the IR cache
+     * @param outcome       outcome of the merge
+     */
+    public void finish(int analyzedTypes, int reusedTypes, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.analyzedTypes = analyzedTypes;
+            this.reusedTypes = reusedTypes;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.events;
+
+import io.hexaglue.core.internal.InternalMarker;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one execution of a plugin's {@code apply} method.
+ *
+ * <p>
+ * With parallel plugin execution, the event is recorded on the worker thread that ran the plugin.
+ * </p>
+ */
+@Name("io.hexaglue.PluginApply")
+@Label("Plugin Apply")
+@Category({"HexaGlue", "Plugins"})
+@Description("Execution of a HexaGlue plugin")
+@StackTrace(false)
+@InternalMarker(reason = "Internal Flight Recorder event; not exposed to plugins")
+public final class PluginApplyEvent extends jdk.jfr.Event {
+
+    @Label("Plugin")
+    @Description("Plugin id")
+    String pluginId;
+
+    @Label("Outcome")
+    @Description("completed or failed")
+    String outcome;
+
+    @Label("Error")
+    @Description("Class of the error thrown by the plugin, if any")
+    String error;
+
+    /**
+     * Ends the event and commits it if enabled.
+     *
+     * @param pluginId plugin id
+     * @param error    error thrown by the plugin, or {@code null} if it completed
+     */
+    public void finish(String pluginId, Throwable error) {
+        end();
+        if (shouldCommit()) {
+            this.pluginId = pluginId;
+            this.outcome = error == null ? "completed" : "failed";
+            this.error = error == null ? null : error.getClass().getName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.events;
+
+import io.hexaglue.core.internal.InternalMarker;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the extraction of one type by an analyzer.
+ *
+ * <p>
+ * One event is recorded per candidate element and analysis (domain type, domain service or port),
+ * on the thread that ran the extraction.
+ * </p>
+ */
+@Name("io.hexaglue.TypeAnalysis")
+@Label("Type Analysis")
+@Category({"HexaGlue", "Analysis"})
+@Description("Extraction of a source type into the HexaGlue IR")
+@StackTrace(false)
+@InternalMarker(reason = "Internal Flight Recorder event; not exposed to plugins")
+public final class TypeAnalysisEvent extends jdk.jfr.Event {
+
+    /** Analysis extracting domain types. */
+    public static final String DOMAIN_TYPE = "domain-type";
+
+    /** Analysis extracting domain services. */
+    public static final String DOMAIN_SERVICE = "domain-service";
+
+    /** Analysis extracting ports. */
+    public static final String PORT = "port";
+
+    @Label("Type")
+    @Description("Qualified name of the analyzed type")
+    String typeName;
+
+    @Label("Analysis")
+    String analysis;
+
+    @Label("Outcome")
+    @Description("extracted, ignored (not a match), rejected (invalid) or failed")
+    String outcome;
+
+    /**
+     * Ends the event and commits it if enabled.
+     *
+     * @param typeName qualified type name (converted to a string only if the event is committed)
+     * @param analysis analysis kind ({@link #DOMAIN_TYPE}, {@link #DOMAIN_SERVICE} or {@link #PORT})
+     * @param outcome  outcome of the extraction
+     */
+    public void finish(CharSequence typeName, String analysis, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.typeName = typeName.toString();
+            this.analysis = analysis;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
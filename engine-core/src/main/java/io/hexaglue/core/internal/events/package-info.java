@@ -0,0 +1,30 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+
+/**
+ * JDK Flight Recorder events emitted by the HexaGlue compiler.
+ *
+ * <p>
+ * When javac runs with {@code -XX:StartFlightRecording} (or a recording is started with
+ * {@code jcmd}), these events attribute annotation processing time to individual types, plugins
+ * and artifacts instead of a single {@code JavacProcessingEnvironment} slice. All events belong to
+ * the {@code HexaGlue} category and are named {@code io.hexaglue.*}.
+ * </p>
+ *
+ * <p>
+ * Events are cheap when no recording is active: {@code begin()}, {@code end()} and the field
+ * assignments in each {@code finish} method are skipped unless the event is enabled.
+ * </p>
+ */
+@io.hexaglue.core.internal.InternalMarker(reason = "Internal Flight Recorder events; not exposed to plugins")
+package io.hexaglue.core.internal.events;
@@ -16,6 +16,7 @@ import io.hexaglue.core.internal.InternalMarker;
 import io.hexaglue.core.internal.ir.app.ApplicationModel;
 import io.hexaglue.core.internal.ir.domain.DomainModel;
 import io.hexaglue.core.internal.ir.ports.PortModel;
+import io.hexaglue.spi.ir.TypeReferenceGraph;
 
 /**
  * Immutable snapshot of the Intermediate Representation (IR) at a given compilation phase.
@@ -58,7 +59,9 @@ import io.hexaglue.core.internal.ir.ports.PortModel;
  *
  * <h2>Thread Safety</h2>
  * <p>
- * Instances are immutable after construction and safe for concurrent read access.
+ * Instances are immutable after construction and safe for concurrent read access. The lazily
+ * built type-reference graph is immutable too; concurrent first accesses may build it more than
+ * once, but all callers observe an equivalent graph.
  * </p>
  *
  * <h2>Usage Example</h2>
@@ -79,6 +82,7 @@ public final class IrSnapshot {
     private final PortModel portModel;
     private final ApplicationModel applicationModel;
     private final long timestamp;
+    private volatile TypeReferenceGraph typeReferences;
 
     /**
      * Creates an IR snapshot with the given models.
@@ -188,6 +192,22 @@ public final class IrSnapshot {
         return timestamp;
     }
 
+    /**
+     * Returns the graph of type references between the domain types, ports and the types they
+     * use, building it on first use.
+     *
+     * @return type-reference graph (never {@code null})
+     * @see TypeReferenceCollector
+     */
+    public TypeReferenceGraph typeReferences() {
+        TypeReferenceGraph result = typeReferences;
+        if (result == null) {
+            result = TypeReferenceCollector.collect(this);
+            typeReferences = result;
+        }
+        return result;
+    }
+
     /**
      * Returns whether this snapshot contains any analyzed elements.
      *
@@ -0,0 +1,236 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir;
+
+import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.ir.domain.DomainModel;
+import io.hexaglue.core.internal.ir.domain.DomainService;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.core.internal.ir.ports.PortModel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Round-aware, cumulative store of analyzed IR entries.
+ *
+ * <p>
+ * JSR-269 only exposes the root elements of the <em>current</em> round. Without a store, types
+ * analyzed in earlier rounds would drop out of the snapshot as soon as another processor (e.g.
+ * MapStruct) triggers a new round, and every round would pay the full analysis cost again.
+ * </p>
+ *
+ * <p>
+ * The store keeps {@link DomainType}, {@link DomainService} and {@link Port} entries keyed by
+ * qualified name, and remembers which type elements have already been analyzed. Each round:
+ * </p>
+ * <ol>
+ *   <li>{@link #claimNewElements(Set)} filters the round's elements down to those never seen before</li>
+ *   <li>Only these new elements are handed to the analyzers</li>
+ *   <li>{@link #merge(DomainModel, PortModel)} folds the round's results into the cumulative state</li>
+ *   <li>{@link #domainModel()} and {@link #portModel()} expose the cumulative (non-enriched) models</li>
+ * </ol>
+ *
+ * <p>
+ * The store holds <strong>raw</strong> analysis results. Semantic enrichment is cross-model
+ * (e.g. a repository port discovered in round 2 may promote an entity from round 1 to aggregate
+ * root), so it is recomputed over the cumulative models whenever the store changes, and the
+ * resulting snapshot is cached via {@link #publish(IrSnapshot)}.
+ * </p>
+ *
+ * <h2>Ordering</h2>
+ * <p>
+ * Entries keep their first insertion order, so snapshots are stable across rounds: types
+ * discovered in a later round are appended after those of earlier rounds.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is not thread-safe. It is owned by the pipeline orchestrator and used from the
+ * annotation processing thread only.
+ * </p>
+ */
+@InternalMarker(reason = "Internal round-aware IR storage; not exposed to plugins")
+public final class IrStore {
+
+    private final Set<String> analyzedElements = new HashSet<>();
+    private final Map<String, DomainType> domainTypes = new LinkedHashMap<>();
+    private final Map<String, DomainService> domainServices = new LinkedHashMap<>();
+    private final Map<String, Port> ports = new LinkedHashMap<>();
+
+    private IrSnapshot snapshot;
+    private boolean dirty;
+    private int rounds;
+
+    /**
+     * Creates an empty store.
+     */
+    public IrStore() {
+        // empty
+    }
+
+    /**
+     * Filters the given elements down to those that were never analyzed by this store, and marks
+     * them as analyzed.
+     *
+     * <p>
+     * Elements are keyed by qualified name. An element is claimed at most once per compilation,
+     * regardless of whether the analyzers eventually produce IR for it.
+     * </p>
+     *
+     * @param elements type elements of the current round (not {@code null})
+     * @return new elements, in iteration order of the input (never {@code null})
+     * @throws NullPointerException if elements is null
+     */
+    public Set<TypeElement> claimNewElements(Set<TypeElement> elements) {
+        Objects.requireNonNull(elements, "elements");
+
+        rounds++;
+        Set<TypeElement> fresh = new LinkedHashSet<>();
+        for (TypeElement element : elements) {
+            if (analyzedElements.add(element.getQualifiedName().toString())) {
+                fresh.add(element);
+            }
+        }
+        return fresh;
+    }
+
+    /**
+     * Merges the analysis results of a round into the cumulative state.
+     *
+     * <p>
+     * Entries are keyed by qualified name; an entry for an already known name replaces the
+     * previous one in place (keeping its original position).
+     * </p>
+     *
+     * @param domainDelta domain model extracted from the round's new elements (not {@code null})
+     * @param portDelta   port model extracted from the round's new elements (not {@code null})
+     * @return {@code true} if the cumulative state changed
+     * @throws NullPointerException if any parameter is null
+     */
+    public boolean merge(DomainModel domainDelta, PortModel portDelta) {
+        Objects.requireNonNull(domainDelta, "domainDelta");
+        Objects.requireNonNull(portDelta, "portDelta");
+
+        boolean changed = false;
+        for (DomainType type : domainDelta.types()) {
+            changed |= putIfChanged(domainTypes, type.qualifiedName(), type);
+        }
+        for (DomainService service : domainDelta.services()) {
+            changed |= putIfChanged(domainServices, service.qualifiedName(), service);
+        }
+        for (Port port : portDelta.ports()) {
+            changed |= putIfChanged(ports, port.qualifiedName(), port);
+        }
+
+        if (changed) {
+            dirty = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the cumulative, non-enriched domain model.
+     *
+     * @return domain model (never {@code null})
+     */
+    public DomainModel domainModel() {
+        return DomainModel.builder()
+                .addTypes(new ArrayList<>(domainTypes.values()))
+                .addServices(new ArrayList<>(domainServices.values()))
+                .build();
+    }
+
+    /**
+     * Returns the cumulative port model.
+     *
+     * @return port model (never {@code null})
+     */
+    public PortModel portModel() {
+        return PortModel.builder().addPorts(new ArrayList<>(ports.values())).build();
+    }
+
+    /**
+     * Returns whether the cumulative state changed since the last published snapshot.
+     *
+     * <p>
+     * A store that never published a snapshot is considered stale.
+     * </p>
+     *
+     * @return {@code true} if {@link #snapshot()} is missing or out of date
+     */
+    public boolean isStale() {
+        return dirty || snapshot == null;
+    }
+
+    /**
+     * Publishes the snapshot built from the current cumulative state.
+     *
+     * @param snapshot enriched snapshot (not {@code null})
+     * @throws NullPointerException if snapshot is null
+     */
+    public void publish(IrSnapshot snapshot) {
+        this.snapshot = Objects.requireNonNull(snapshot, "snapshot");
+        this.dirty = false;
+    }
+
+    /**
+     * Returns the last published snapshot.
+     *
+     * @return snapshot if one was published
+     */
+    public Optional<IrSnapshot> snapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Returns the number of type elements analyzed so far.
+     *
+     * @return analyzed element count
+     */
+    public int analyzedElementCount() {
+        return analyzedElements.size();
+    }
+
+    /**
+     * Returns the number of rounds that claimed elements from this store.
+     *
+     * @return round count
+     */
+    public int rounds() {
+        return rounds;
+    }
+
+    @Override
+    public String toString() {
+        return "IrStore{rounds=" + rounds
+                + ", analyzed=" + analyzedElements.size()
+                + ", domainTypes=" + domainTypes.size()
+                + ", domainServices=" + domainServices.size()
+                + ", ports=" + ports.size()
+                + ", stale=" + isStale()
+                + "}";
+    }
+
+    private static <T> boolean putIfChanged(Map<String, T> map, String key, T value) {
+        T previous = map.put(key, value);
+        return previous == null || !previous.equals(value);
+    }
+}
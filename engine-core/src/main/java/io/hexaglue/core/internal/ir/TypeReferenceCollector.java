@@ -0,0 +1,113 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir;
+
+import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.ir.domain.DomainModel;
+import io.hexaglue.core.internal.ir.domain.DomainProperty;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.core.internal.ir.ports.PortMethod;
+import io.hexaglue.core.internal.ir.ports.PortModel;
+import io.hexaglue.core.internal.ir.ports.PortParameter;
+import io.hexaglue.spi.ir.TypeReference;
+import io.hexaglue.spi.ir.TypeReferenceGraph;
+import io.hexaglue.spi.ir.TypeReferenceKind;
+import io.hexaglue.spi.types.TypeRef;
+import io.hexaglue.spi.util.TypeReferences;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds the {@link TypeReferenceGraph} of an {@link IrSnapshot} from the internal IR.
+ *
+ * <p>
+ * Every {@link TypeRef} reachable from domain properties, identities, super types, interfaces and
+ * port method signatures is walked structurally (see {@link TypeReferences}) and recorded as an
+ * edge from the declaring domain type or port to each referenced class type. Walking the internal
+ * models directly avoids materializing SPI views for the whole model.
+ * </p>
+ *
+ * <p>
+ * Edges are produced in declaration order: domain types first, then ports. The result matches
+ * {@link TypeReferenceGraph#of(io.hexaglue.spi.ir.IrView)} over the views of the same snapshot.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is stateless and thread-safe.
+ * </p>
+ */
+@InternalMarker(reason = "Internal IR graph builder; plugins use io.hexaglue.spi.ir.IrView")
+public final class TypeReferenceCollector {
+
+    private TypeReferenceCollector() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Collects the type-reference graph of a snapshot.
+     *
+     * @param snapshot IR snapshot (not {@code null})
+     * @return type-reference graph (never {@code null})
+     * @throws NullPointerException if snapshot is null
+     */
+    public static TypeReferenceGraph collect(IrSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot");
+        List<TypeReference> references = new ArrayList<>();
+        collectDomain(snapshot.domainModel(), references);
+        collectPorts(snapshot.portModel(), references);
+        return TypeReferenceGraph.of(references);
+    }
+
+    private static void collectDomain(DomainModel domainModel, List<TypeReference> references) {
+        if (domainModel == null) {
+            return;
+        }
+        for (DomainType type : domainModel.types()) {
+            String source = type.qualifiedName();
+            for (DomainProperty property : type.properties()) {
+                add(references, source, TypeReferenceKind.PROPERTY, property.name(), property.type());
+            }
+            type.id().ifPresent(id -> add(references, source, TypeReferenceKind.IDENTITY, id.name(), id.type()));
+            type.superType()
+                    .ifPresent(superType -> add(references, source, TypeReferenceKind.SUPERTYPE, null, superType));
+            for (TypeRef iface : type.interfaces()) {
+                add(references, source, TypeReferenceKind.INTERFACE, null, iface);
+            }
+        }
+    }
+
+    private static void collectPorts(PortModel portModel, List<TypeReference> references) {
+        if (portModel == null) {
+            return;
+        }
+        for (Port port : portModel.ports()) {
+            String source = port.qualifiedName();
+            for (PortMethod method : port.internalMethods()) {
+                add(references, source, TypeReferenceKind.METHOD_RETURN, method.name(), method.returnType());
+                for (PortParameter parameter : method.internalParameters()) {
+                    add(references, source, TypeReferenceKind.METHOD_PARAMETER, method.name(), parameter.type());
+                }
+            }
+        }
+    }
+
+    private static void add(
+            List<TypeReference> references, String source, TypeReferenceKind kind, String member, TypeRef type) {
+        for (String target : TypeReferences.of(type)) {
+            references.add(TypeReference.of(source, kind, member, target));
+        }
+    }
+}
@@ -166,7 +166,7 @@ public final class ApplicationAnalyzer {
         Objects.requireNonNull(types, "types");
         Objects.requireNonNull(diagnostics, "diagnostics");
 
-        TypeResolver typeResolver = TypeResolver.create(elements, types);
+        TypeResolver typeResolver = TypeResolver.create(elements);
         ApplicationServiceExtractor serviceExtractor = new ApplicationServiceExtractor(typeResolver, elements);
         ApplicationRules applicationRules = new ApplicationRules();
 
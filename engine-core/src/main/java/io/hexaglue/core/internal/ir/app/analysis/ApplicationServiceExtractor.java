@@ -97,7 +97,7 @@ import javax.lang.model.util.Elements;
  *
  * <h2>Usage Example</h2>
  * <pre>{@code
- * TypeResolver typeResolver = TypeResolver.create(elements, types);
+ * TypeResolver typeResolver = TypeResolver.create(elements);
  * ApplicationServiceExtractor extractor = new ApplicationServiceExtractor(typeResolver, elements);
  *
  * TypeElement serviceElement = ...;
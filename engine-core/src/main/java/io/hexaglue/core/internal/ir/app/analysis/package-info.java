@@ -170,7 +170,7 @@
  *
  * <h3>Service Extraction</h3>
  * <pre>{@code
- * TypeResolver typeResolver = TypeResolver.create(elements, types);
+ * TypeResolver typeResolver = TypeResolver.create(elements);
  * ApplicationServiceExtractor extractor = new ApplicationServiceExtractor(typeResolver, elements);
  *
  * TypeElement serviceClass = ...;
@@ -0,0 +1,291 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.cache;
+
+import io.hexaglue.core.HexaGlueCoreVersion;
+import io.hexaglue.core.internal.InternalMarker;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.TypeElement;
+import javax.tools.StandardLocation;
+
+/**
+ * Persistent, per-type cache of extracted IR.
+ *
+ * <p>
+ * Extraction is the dominant cost of the ANALYZE phase on large code bases, while most types are
+ * unchanged between two builds. The cache maps each analyzed element to the
+ * {@link TypeFingerprint fingerprint} of its declaration and the raw IR extracted from it. On the
+ * next compilation, elements whose fingerprint still matches reuse the cached IR instead of going
+ * through the analyzers; all others are re-extracted.
+ * </p>
+ *
+ * <h2>Lifecycle</h2>
+ * <ol>
+ *   <li>{@link #open(Path)} loads the previous cache file (a missing, corrupt or outdated file
+ *       yields an empty cache)</li>
+ *   <li>{@link #lookup(TypeElement, String)} is consulted for each new element of a round</li>
+ *   <li>{@link #record(IrCacheEntry)} stores the entries of the current compilation</li>
+ *   <li>{@link #save()} writes the recorded entries at the end of the compilation</li>
+ * </ol>
+ *
+ * <p>
+ * Only entries recorded during the current compilation are saved, so types removed from the
+ * sources drop out of the cache.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is not thread-safe. It is owned by the pipeline orchestrator and used from the
+ * annotation processing thread only.
+ * </p>
+ */
+@InternalMarker(reason = "Internal persistent IR cache; not exposed to plugins")
+public final class IrCache {
+
+    /**
+     * File name of the cache inside its directory.
+     */
+    public static final String FILE_NAME = "ir-cache.bin";
+
+    private final Path file;
+    private final Map<String, IrCacheEntry> previous;
+    private final Map<String, IrCacheEntry> current = new LinkedHashMap<>();
+    private final String loadFailure;
+    private int hits;
+    private int misses;
+
+    private IrCache(Path file, Map<String, IrCacheEntry> previous, String loadFailure) {
+        this.file = file;
+        this.previous = previous;
+        this.loadFailure = loadFailure;
+    }
+
+    /**
+     * Opens the cache stored in the given directory.
+     *
+     * <p>
+     * This method never fails: if the file is missing, unreadable, or written by another format or
+     * core version, the returned cache is empty and the reason is exposed by {@link #loadFailure()}.
+     * </p>
+     *
+     * @param directory cache directory (not {@code null})
+     * @return cache (never {@code null})
+     * @throws NullPointerException if directory is null
+     */
+    public static IrCache open(Path directory) {
+        Objects.requireNonNull(directory, "directory");
+
+        Path file = directory.resolve(FILE_NAME);
+        try (InputStream in = Files.newInputStream(file)) {
+            return new IrCache(file, read(in), null);
+        } catch (NoSuchFileException e) {
+            return new IrCache(file, Map.of(), null);
+        } catch (IOException | RuntimeException e) {
+            return new IrCache(file, Map.of(), e.toString());
+        }
+    }
+
+    /**
+     * Returns the default cache directory for the given filer.
+     *
+     * <p>
+     * The default directory is {@code hexaglue/<class output name>} in the build directory, e.g.
+     * {@code target/hexaglue/classes} and {@code target/hexaglue/test-classes} for Maven, or
+     * {@code build/hexaglue/main} and {@code build/hexaglue/test} for Gradle. Each class output thus
+     * gets its own directory, so the main and test compilations do not overwrite each other's
+     * files. The build directory is the parent of the class output, or the directory above
+     * {@code classes/<language>} for Gradle-style layouts.
+     * </p>
+     *
+     * <p>
+     * It is only available when the class output is on the default file system; in-memory file
+     * managers yield an empty result.
+     * </p>
+     *
+     * @param filer JSR-269 filer (not {@code null})
+     * @return default directory, or empty if the class output is not a local directory
+     * @throws NullPointerException if filer is null
+     */
+    public static Optional<Path> defaultDirectory(Filer filer) {
+        Objects.requireNonNull(filer, "filer");
+        try {
+            URI uri = filer.getResource(StandardLocation.CLASS_OUTPUT, "", FILE_NAME)
+                    .toUri();
+            if (!"file".equals(uri.getScheme())) {
+                return Optional.empty();
+            }
+            Path classOutput = Path.of(uri).getParent();
+            if (classOutput == null || classOutput.getFileName() == null) {
+                return Optional.empty();
+            }
+            return buildDirectory(classOutput).map(build -> build.resolve("hexaglue")
+                    .resolve(classOutput.getFileName().toString()));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Path> buildDirectory(Path classOutput) {
+        Path parent = classOutput.getParent();
+        if (parent == null) {
+            return Optional.empty();
+        }
+        // Gradle: build/classes/<language>/<source set>
+        Path classes = parent.getParent();
+        if (classes != null
+                && classes.getFileName() != null
+                && "classes".equals(classes.getFileName().toString())
+                && classes.getParent() != null) {
+            return Optional.of(classes.getParent());
+        }
+        return parent.getParent() == null ? Optional.empty() : Optional.of(parent);
+    }
+
+    /**
+     * Looks up a reusable entry for an element.
+     *
+     * <p>
+     * An entry is reusable if one was loaded for the element's qualified name, its fingerprint
+     * matches, and its annotations can be restored from the live element.
+     * </p>
+     *
+     * @param element     live element (not {@code null})
+     * @param fingerprint fingerprint of the element's current declaration (not {@code null})
+     * @return reusable entry with live annotations, or empty on cache miss
+     * @throws NullPointerException if any parameter is null
+     */
+    public Optional<IrCacheEntry> lookup(TypeElement element, String fingerprint) {
+        Objects.requireNonNull(element, "element");
+        Objects.requireNonNull(fingerprint, "fingerprint");
+
+        IrCacheEntry cached = previous.get(element.getQualifiedName().toString());
+        Optional<IrCacheEntry> reusable = cached != null && cached.fingerprint().equals(fingerprint)
+                ? cached.rehydrate(element)
+                : Optional.empty();
+        if (reusable.isPresent()) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return reusable;
+    }
+
+    /**
+     * Records an entry of the current compilation, to be written by {@link #save()}.
+     *
+     * @param entry entry (not {@code null})
+     * @throws NullPointerException if entry is null
+     */
+    public void record(IrCacheEntry entry) {
+        Objects.requireNonNull(entry, "entry");
+        current.put(entry.qualifiedName(), entry);
+    }
+
+    /**
+     * Writes the recorded entries, replacing the previous cache file atomically.
+     *
+     * @throws IOException if the cache file cannot be written
+     */
+    public void save() throws IOException {
+        Path directory = file.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            write(out, current);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw new IOException("Cannot encode IR cache: " + e.getMessage(), e);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the cache file.
+     *
+     * @return cache file (never {@code null})
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Returns why the previous cache file could not be loaded.
+     *
+     * @return failure description, or empty if the file was loaded or did not exist
+     */
+    public Optional<String> loadFailure() {
+        return Optional.ofNullable(loadFailure);
+    }
+
+    /**
+     * Returns the number of loaded entries.
+     *
+     * @return loaded entry count
+     */
+    public int loadedCount() {
+        return previous.size();
+    }
+
+    /**
+     * Returns the number of successful lookups.
+     *
+     * @return hit count
+     */
+    public int hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of failed lookups.
+     *
+     * @return miss count
+     */
+    public int misses() {
+        return misses;
+    }
+
+    @Override
+    public String toString() {
+        return "IrCache{file=" + file + ", loaded=" + previous.size() + ", recorded=" + current.size() + ", hits="
+                + hits + ", misses=" + misses + "}";
+    }
+
+    static Map<String, IrCacheEntry> read(InputStream in) throws IOException {
+        return IrCacheCodec.read(new DataInputStream(new BufferedInputStream(in)), HexaGlueCoreVersion.coreVersion());
+    }
+
+    static void write(OutputStream out, Map<String, IrCacheEntry> entries) throws IOException {
+        IrCacheCodec.write(
+                new DataOutputStream(new BufferedOutputStream(out)),
+                HexaGlueCoreVersion.coreVersion(),
+                entries.values());
+    }
+}
@@ -0,0 +1,586 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.cache;
+
+import io.hexaglue.core.internal.ir.SourceRef;
+import io.hexaglue.core.internal.ir.domain.DomainId;
+import io.hexaglue.core.internal.ir.domain.DomainProperty;
+import io.hexaglue.core.internal.ir.domain.DomainService;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.core.internal.ir.ports.PortMethod;
+import io.hexaglue.core.internal.ir.ports.PortParameter;
+import io.hexaglue.core.types.TypeRefInterner;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.ports.PortDirection;
+import io.hexaglue.spi.types.ArrayRef;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.Nullability;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.PrimitiveRef;
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.types.TypeRef;
+import io.hexaglue.spi.types.TypeVariableRef;
+import io.hexaglue.spi.types.WildcardRef;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of {@link IrCacheEntry} collections.
+ *
+ * <h2>Format</h2>
+ * <pre>
+ * int     magic ("HGIR")
+ * short   format version
+ * string  core version
+ * int     entry count
+ * entry*  qualified name, fingerprint, optional domain type / service / port, diagnostics
+ * </pre>
+ *
+ * <p>
+ * Strings are interned per stream: the first occurrence is written in modified UTF-8 and later
+ * occurrences are written as a back-reference, which keeps the heavily repeated qualified names
+ * of type references cheap. Enums are written by name so that reordering constants does not
+ * corrupt existing caches. Caches written by another format or core version are ignored.
+ * </p>
+ *
+ * <p>
+ * Only the raw extraction output is encoded; relationship metadata is computed by semantic
+ * enrichment and is therefore never part of an entry.
+ * </p>
+ */
+final class IrCacheCodec {
+
+    static final int MAGIC = 0x48474952;
+    static final short FORMAT_VERSION = 2;
+
+    private static final byte STRING_NULL = 0;
+    private static final byte STRING_REF = 1;
+    private static final byte STRING_NEW = 2;
+
+    private static final byte TYPE_CLASS = 1;
+    private static final byte TYPE_PRIMITIVE = 2;
+    private static final byte TYPE_ARRAY = 3;
+    private static final byte TYPE_PARAMETERIZED = 4;
+    private static final byte TYPE_WILDCARD = 5;
+    private static final byte TYPE_VARIABLE = 6;
+
+    private IrCacheCodec() {
+        // utility class
+    }
+
+    /**
+     * Writes entries to the given stream.
+     *
+     * @param out         target stream (not {@code null})
+     * @param coreVersion core version recorded in the header (not {@code null})
+     * @param entries     entries to write (not {@code null})
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if an entry contains an unsupported type reference
+     */
+    static void write(DataOutputStream out, String coreVersion, Collection<IrCacheEntry> entries) throws IOException {
+        Writer writer = new Writer(out);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        writer.string(coreVersion);
+        out.writeInt(entries.size());
+        for (IrCacheEntry entry : entries) {
+            writer.entry(entry);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads entries from the given stream.
+     *
+     * @param in          source stream (not {@code null})
+     * @param coreVersion expected core version (not {@code null})
+     * @return entries keyed by qualified name, or an empty map if the stream was written by another
+     *     format or core version
+     * @throws IOException if the stream is truncated or malformed
+     */
+    static Map<String, IrCacheEntry> read(DataInputStream in, String coreVersion) throws IOException {
+        Reader reader = new Reader(in);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an IR cache file");
+        }
+        if (in.readShort() != FORMAT_VERSION || !coreVersion.equals(reader.string())) {
+            return Map.of();
+        }
+        int count = in.readInt();
+        Map<String, IrCacheEntry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            IrCacheEntry entry = reader.entry();
+            entries.put(entry.qualifiedName(), entry);
+        }
+        return entries;
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Writer
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void entry(IrCacheEntry entry) throws IOException {
+            string(entry.qualifiedName());
+            string(entry.fingerprint());
+
+            DomainType type = entry.domainType().orElse(null);
+            out.writeBoolean(type != null);
+            if (type != null) {
+                domainType(type, entry);
+            }
+
+            DomainService service = entry.domainService().orElse(null);
+            out.writeBoolean(service != null);
+            if (service != null) {
+                string(service.qualifiedName());
+                string(service.simpleName());
+                string(service.description().orElse(null));
+                sourceRef(service.sourceRef().orElse(null));
+            }
+
+            Port port = entry.port().orElse(null);
+            out.writeBoolean(port != null);
+            if (port != null) {
+                port(port);
+            }
+
+            out.writeInt(entry.diagnostics().size());
+            for (Diagnostic diagnostic : entry.diagnostics()) {
+                diagnostic(diagnostic);
+            }
+        }
+
+        private void diagnostic(Diagnostic diagnostic) throws IOException {
+            string(diagnostic.severity().name());
+            string(diagnostic.code().value());
+            string(diagnostic.message());
+            DiagnosticLocation location = diagnostic.location();
+            string(location.qualifiedName().orElse(null));
+            string(location.path().orElse(null));
+            out.writeInt(location.line().orElse(-1));
+            out.writeInt(location.column().orElse(-1));
+            string(diagnostic.pluginId());
+            out.writeInt(diagnostic.attributes().size());
+            for (Map.Entry<String, String> attribute : diagnostic.attributes().entrySet()) {
+                string(attribute.getKey());
+                string(attribute.getValue());
+            }
+        }
+
+        private void domainType(DomainType type, IrCacheEntry entry) throws IOException {
+            string(type.qualifiedName());
+            string(type.simpleName());
+            string(type.kind().name());
+            typeRef(type.type());
+            out.writeBoolean(type.isImmutable());
+            string(type.description().orElse(null));
+            sourceRef(type.sourceRef().orElse(null));
+            strings(entry.typeAnnotations());
+            nullableTypeRef(type.superType().orElse(null));
+            typeRefs(type.interfaces());
+            out.writeBoolean(type.permittedSubtypes().isPresent());
+            if (type.permittedSubtypes().isPresent()) {
+                typeRefs(type.permittedSubtypes().get());
+            }
+            out.writeBoolean(type.enumConstants().isPresent());
+            if (type.enumConstants().isPresent()) {
+                strings(type.enumConstants().get());
+            }
+
+            DomainId id = type.id().orElse(null);
+            out.writeBoolean(id != null);
+            if (id != null) {
+                string(id.declaringEntity().orElse(null));
+                string(id.name());
+                typeRef(id.type());
+                out.writeBoolean(id.isComposite());
+                sourceRef(id.sourceRef().orElse(null));
+            }
+
+            out.writeInt(type.properties().size());
+            for (DomainProperty property : type.properties()) {
+                string(property.name());
+                typeRef(property.type());
+                out.writeBoolean(property.isIdentity());
+                out.writeBoolean(property.isImmutable());
+                string(property.declaringType().orElse(null));
+                string(property.description().orElse(null));
+                sourceRef(property.sourceRef().orElse(null));
+                strings(entry.propertyAnnotations(property.name()));
+            }
+        }
+
+        private void port(Port port) throws IOException {
+            string(port.qualifiedName());
+            string(port.simpleName());
+            string(port.direction().name());
+            typeRef(port.type());
+            string(port.portId().orElse(null));
+            string(port.description().orElse(null));
+            out.writeInt(port.internalMethods().size());
+            for (PortMethod method : port.internalMethods()) {
+                string(method.name());
+                typeRef(method.returnType());
+                out.writeBoolean(method.isDefault());
+                out.writeBoolean(method.isStatic());
+                string(method.signatureId().orElse(null));
+                string(method.description().orElse(null));
+                out.writeInt(method.internalParameters().size());
+                for (PortParameter parameter : method.internalParameters()) {
+                    string(parameter.name());
+                    typeRef(parameter.type());
+                    out.writeBoolean(parameter.isVarArgs());
+                    string(parameter.description().orElse(null));
+                }
+            }
+        }
+
+        private void sourceRef(SourceRef ref) throws IOException {
+            out.writeBoolean(ref != null);
+            if (ref == null) {
+                return;
+            }
+            string(ref.kind().name());
+            string(ref.qualifiedName());
+            string(ref.path().orElse(null));
+            nullableInt(ref.line().orElse(null));
+            nullableInt(ref.column().orElse(null));
+            string(ref.origin());
+            string(ref.hint().orElse(null));
+        }
+
+        private void typeRef(TypeRef ref) throws IOException {
+            if (ref instanceof ClassRef classRef) {
+                out.writeByte(TYPE_CLASS);
+                string(classRef.name().value());
+            } else if (ref instanceof PrimitiveRef primitive) {
+                out.writeByte(TYPE_PRIMITIVE);
+                string(primitive.name().value());
+            } else if (ref instanceof ArrayRef array) {
+                out.writeByte(TYPE_ARRAY);
+                typeRef(array.componentType());
+            } else if (ref instanceof ParameterizedRef parameterized) {
+                out.writeByte(TYPE_PARAMETERIZED);
+                typeRef(parameterized.rawType());
+                typeRefs(parameterized.typeArguments());
+            } else if (ref instanceof WildcardRef wildcard) {
+                out.writeByte(TYPE_WILDCARD);
+                nullableTypeRef(wildcard.upperBound());
+                nullableTypeRef(wildcard.lowerBound());
+            } else if (ref instanceof TypeVariableRef variable) {
+                out.writeByte(TYPE_VARIABLE);
+                string(variable.name().value());
+                typeRefs(variable.bounds());
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported type reference: " + ref.getClass().getName());
+            }
+            string(ref.nullability().name());
+        }
+
+        private void nullableTypeRef(TypeRef ref) throws IOException {
+            out.writeBoolean(ref != null);
+            if (ref != null) {
+                typeRef(ref);
+            }
+        }
+
+        private void typeRefs(List<? extends TypeRef> refs) throws IOException {
+            out.writeInt(refs.size());
+            for (TypeRef ref : refs) {
+                typeRef(ref);
+            }
+        }
+
+        private void strings(List<String> values) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                string(value);
+            }
+        }
+
+        private void nullableInt(Integer value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeInt(value);
+            }
+        }
+
+        void string(String value) throws IOException {
+            if (value == null) {
+                out.writeByte(STRING_NULL);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                out.writeByte(STRING_REF);
+                out.writeInt(index);
+                return;
+            }
+            strings.put(value, strings.size());
+            out.writeByte(STRING_NEW);
+            out.writeUTF(value);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Reader
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static final class Reader {
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        IrCacheEntry entry() throws IOException {
+            String qualifiedName = string();
+            String fingerprint = string();
+
+            DomainType type = null;
+            List<String> typeAnnotations = List.of();
+            Map<String, List<String>> propertyAnnotations = new LinkedHashMap<>();
+            if (in.readBoolean()) {
+                DomainType.Builder builder = DomainType.builder()
+                        .qualifiedName(string())
+                        .simpleName(string())
+                        .kind(DomainTypeKind.valueOf(string()))
+                        .type(typeRef())
+                        .immutable(in.readBoolean())
+                        .description(string())
+                        .sourceRef(sourceRef());
+                typeAnnotations = strings();
+                builder.superType(nullableTypeRef()).interfaces(typeRefs());
+                if (in.readBoolean()) {
+                    builder.permittedSubtypes(typeRefs());
+                }
+                if (in.readBoolean()) {
+                    builder.enumConstants(strings());
+                }
+                if (in.readBoolean()) {
+                    builder.id(DomainId.builder()
+                            .declaringEntity(string())
+                            .name(string())
+                            .type(typeRef())
+                            .composite(in.readBoolean())
+                            .sourceRef(sourceRef())
+                            .build());
+                }
+                int propertyCount = in.readInt();
+                for (int i = 0; i < propertyCount; i++) {
+                    DomainProperty property = DomainProperty.builder()
+                            .name(string())
+                            .type(typeRef())
+                            .identity(in.readBoolean())
+                            .immutable(in.readBoolean())
+                            .declaringType(string())
+                            .description(string())
+                            .sourceRef(sourceRef())
+                            .build();
+                    propertyAnnotations.put(property.name(), strings());
+                    builder.addProperty(property);
+                }
+                type = builder.build();
+            }
+
+            DomainService service = null;
+            if (in.readBoolean()) {
+                service = DomainService.builder()
+                        .qualifiedName(string())
+                        .simpleName(string())
+                        .description(string())
+                        .sourceRef(sourceRef())
+                        .build();
+            }
+
+            Port port = in.readBoolean() ? port() : null;
+
+            int diagnosticCount = in.readInt();
+            List<Diagnostic> diagnostics = new ArrayList<>();
+            for (int i = 0; i < diagnosticCount; i++) {
+                diagnostics.add(diagnostic());
+            }
+
+            return new IrCacheEntry(
+                    qualifiedName, fingerprint, type, service, port, typeAnnotations, propertyAnnotations, diagnostics);
+        }
+
+        private Diagnostic diagnostic() throws IOException {
+            Diagnostic.Builder builder = Diagnostic.builder()
+                    .severity(DiagnosticSeverity.valueOf(string()))
+                    .code(DiagnosticCode.of(string()))
+                    .message(string());
+            String qualifiedName = string();
+            String path = string();
+            int line = in.readInt();
+            int column = in.readInt();
+            if (qualifiedName != null || path != null) {
+                builder.location(
+                        DiagnosticLocation.of(qualifiedName, path, line < 0 ? null : line, column < 0 ? null : column));
+            }
+            builder.pluginId(string());
+            int attributeCount = in.readInt();
+            Map<String, String> attributes = new LinkedHashMap<>();
+            for (int i = 0; i < attributeCount; i++) {
+                attributes.put(string(), string());
+            }
+            return builder.attributes(attributes).build();
+        }
+
+        private Port port() throws IOException {
+            Port.Builder builder = Port.builder()
+                    .qualifiedName(string())
+                    .simpleName(string())
+                    .direction(PortDirection.valueOf(string()))
+                    .type(typeRef())
+                    .portId(string())
+                    .description(string());
+            int methodCount = in.readInt();
+            for (int i = 0; i < methodCount; i++) {
+                PortMethod.Builder method = PortMethod.builder()
+                        .name(string())
+                        .returnType(typeRef())
+                        .isDefault(in.readBoolean())
+                        .isStatic(in.readBoolean())
+                        .signatureId(string())
+                        .description(string());
+                int parameterCount = in.readInt();
+                for (int j = 0; j < parameterCount; j++) {
+                    method.addParameter(PortParameter.builder()
+                            .name(string())
+                            .type(typeRef())
+                            .varArgs(in.readBoolean())
+                            .description(string())
+                            .build());
+                }
+                builder.addMethod(method.build());
+            }
+            return builder.build();
+        }
+
+        private SourceRef sourceRef() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            return SourceRef.builder(SourceRef.Kind.valueOf(string()), string())
+                    .path(string())
+                    .line(nullableInt())
+                    .column(nullableInt())
+                    .origin(string())
+                    .hint(string())
+                    .build();
+        }
+
+        private TypeRef typeRef() throws IOException {
+            byte tag = in.readByte();
+            TypeRef decoded =
+                    switch (tag) {
+                        case TYPE_CLASS -> new ClassRef(TypeName.of(string()), nullability());
+                        case TYPE_PRIMITIVE -> new PrimitiveRef(TypeName.of(string()), nullability());
+                        case TYPE_ARRAY -> {
+                            TypeRef component = typeRef();
+                            yield new ArrayRef(component, nullability());
+                        }
+                        case TYPE_PARAMETERIZED -> {
+                            ClassRef raw = (ClassRef) typeRef();
+                            List<TypeRef> arguments = typeRefs();
+                            yield new ParameterizedRef(raw, arguments, nullability());
+                        }
+                        case TYPE_WILDCARD -> {
+                            TypeRef upper = nullableTypeRef();
+                            TypeRef lower = nullableTypeRef();
+                            yield new WildcardRef(upper, lower, nullability());
+                        }
+                        case TYPE_VARIABLE -> {
+                            TypeName name = TypeName.of(string());
+                            List<TypeRef> bounds = typeRefs();
+                            yield new TypeVariableRef(name, bounds, nullability());
+                        }
+                        default -> throw new IOException("Unknown type reference tag: " + tag);
+                    };
+            return TypeRefInterner.shared().intern(decoded);
+        }
+
+        private Nullability nullability() throws IOException {
+            return Nullability.valueOf(string());
+        }
+
+        private TypeRef nullableTypeRef() throws IOException {
+            return in.readBoolean() ? typeRef() : null;
+        }
+
+        private List<TypeRef> typeRefs() throws IOException {
+            int count = in.readInt();
+            List<TypeRef> refs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                refs.add(typeRef());
+            }
+            return refs;
+        }
+
+        private List<String> strings() throws IOException {
+            int count = in.readInt();
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(string());
+            }
+            return values;
+        }
+
+        private Integer nullableInt() throws IOException {
+            return in.readBoolean() ? in.readInt() : null;
+        }
+
+        String string() throws IOException {
+            byte tag = in.readByte();
+            switch (tag) {
+                case STRING_NULL:
+                    return null;
+                case STRING_REF:
+                    int index = in.readInt();
+                    if (index < 0 || index >= strings.size()) {
+                        throw new IOException("Invalid string reference: " + index);
+                    }
+                    return strings.get(index);
+                case STRING_NEW:
+                    String value = in.readUTF();
+                    strings.add(value);
+                    return value;
+                default:
+                    throw new IOException("Unknown string tag: " + tag);
+            }
+        }
+    }
+}
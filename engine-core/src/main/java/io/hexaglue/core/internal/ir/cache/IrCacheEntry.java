@@ -0,0 +1,315 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.cache;
+
+import io.hexaglue.core.frontend.AnnotationIntrospector;
+import io.hexaglue.core.frontend.AnnotationModel;
+import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.ir.domain.DomainProperty;
+import io.hexaglue.core.internal.ir.domain.DomainService;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * IR extracted from a single type element, as stored in the {@link IrCache}.
+ *
+ * <p>
+ * An entry records the fingerprint of the element declaration together with the raw (non-enriched)
+ * IR the analyzers produced for it. An element may produce a domain type, a domain service, a port,
+ * or nothing at all; the latter is cached too so that unrelated types are not re-analyzed.
+ * </p>
+ *
+ * <h2>Diagnostics</h2>
+ * <p>
+ * An entry also keeps the diagnostics its extraction reported, so that they are reported again
+ * when the entry is reused: a warning does not disappear on an incremental build while the source
+ * still has the problem. Causes are not kept; they only carry stack traces for debugging.
+ * </p>
+ *
+ * <h2>Annotations</h2>
+ * <p>
+ * {@link AnnotationModel} wraps compiler mirrors that cannot outlive a compilation. Only the
+ * annotation qualified names are persisted; the models are re-read from the live element by
+ * {@link #rehydrate(TypeElement)} when the entry is reused.
+ * </p>
+ */
+@InternalMarker(reason = "Internal persistent IR cache; not exposed to plugins")
+public final class IrCacheEntry {
+
+    private final String qualifiedName;
+    private final String fingerprint;
+    private final DomainType domainType;
+    private final DomainService domainService;
+    private final Port port;
+    private final List<String> typeAnnotations;
+    private final Map<String, List<String>> propertyAnnotations;
+    private final List<Diagnostic> diagnostics;
+
+    IrCacheEntry(
+            String qualifiedName,
+            String fingerprint,
+            DomainType domainType,
+            DomainService domainService,
+            Port port,
+            List<String> typeAnnotations,
+            Map<String, List<String>> propertyAnnotations,
+            List<Diagnostic> diagnostics) {
+        this.qualifiedName = Objects.requireNonNull(qualifiedName, "qualifiedName");
+        this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint");
+        this.domainType = domainType;
+        this.domainService = domainService;
+        this.port = port;
+        this.typeAnnotations = List.copyOf(typeAnnotations);
+        this.propertyAnnotations = Map.copyOf(propertyAnnotations);
+        this.diagnostics = List.copyOf(diagnostics);
+    }
+
+    /**
+     * Creates an entry from freshly extracted IR.
+     *
+     * @param qualifiedName qualified name of the analyzed element (not {@code null})
+     * @param fingerprint   fingerprint of the element declaration (not {@code null})
+     * @param domainType    extracted domain type (nullable)
+     * @param domainService extracted domain service (nullable)
+     * @param port          extracted port (nullable)
+     * @return entry (never {@code null})
+     * @throws NullPointerException if qualifiedName or fingerprint is null
+     */
+    public static IrCacheEntry of(
+            String qualifiedName, String fingerprint, DomainType domainType, DomainService domainService, Port port) {
+        return of(qualifiedName, fingerprint, domainType, domainService, port, List.of());
+    }
+
+    /**
+     * Creates an entry from freshly extracted IR and the diagnostics its extraction reported.
+     *
+     * @param qualifiedName qualified name of the analyzed element (not {@code null})
+     * @param fingerprint   fingerprint of the element declaration (not {@code null})
+     * @param domainType    extracted domain type (nullable)
+     * @param domainService extracted domain service (nullable)
+     * @param port          extracted port (nullable)
+     * @param diagnostics   diagnostics reported while extracting the element (not {@code null})
+     * @return entry (never {@code null})
+     * @throws NullPointerException if qualifiedName, fingerprint or diagnostics is null
+     */
+    public static IrCacheEntry of(
+            String qualifiedName,
+            String fingerprint,
+            DomainType domainType,
+            DomainService domainService,
+            Port port,
+            List<Diagnostic> diagnostics) {
+        Objects.requireNonNull(diagnostics, "diagnostics");
+        List<String> typeAnnotations = List.of();
+        Map<String, List<String>> propertyAnnotations = new LinkedHashMap<>();
+        if (domainType != null) {
+            typeAnnotations = annotationNames(domainType.annotations());
+            for (DomainProperty property : domainType.properties()) {
+                propertyAnnotations.put(property.name(), annotationNames(property.annotations()));
+            }
+        }
+        return new IrCacheEntry(
+                qualifiedName,
+                fingerprint,
+                domainType,
+                domainService,
+                port,
+                typeAnnotations,
+                propertyAnnotations,
+                diagnostics.stream().map(IrCacheEntry::withoutCause).toList());
+    }
+
+    /**
+     * Returns the qualified name of the analyzed element.
+     *
+     * @return qualified name (never {@code null})
+     */
+    public String qualifiedName() {
+        return qualifiedName;
+    }
+
+    /**
+     * Returns the fingerprint of the element declaration this entry was extracted from.
+     *
+     * @return fingerprint (never {@code null})
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the domain type extracted from the element.
+     *
+     * @return domain type if the element is one
+     */
+    public Optional<DomainType> domainType() {
+        return Optional.ofNullable(domainType);
+    }
+
+    /**
+     * Returns the domain service extracted from the element.
+     *
+     * @return domain service if the element is one
+     */
+    public Optional<DomainService> domainService() {
+        return Optional.ofNullable(domainService);
+    }
+
+    /**
+     * Returns the port extracted from the element.
+     *
+     * @return port if the element is one
+     */
+    public Optional<Port> port() {
+        return Optional.ofNullable(port);
+    }
+
+    /**
+     * Returns the diagnostics reported while extracting the element.
+     *
+     * @return diagnostics in report order, without causes (never {@code null})
+     */
+    public List<Diagnostic> diagnostics() {
+        return diagnostics;
+    }
+
+    List<String> typeAnnotations() {
+        return typeAnnotations;
+    }
+
+    List<String> propertyAnnotations(String propertyName) {
+        return propertyAnnotations.getOrDefault(propertyName, List.of());
+    }
+
+    /**
+     * Restores annotation models from the live element of the current compilation.
+     *
+     * <p>
+     * Property annotations are looked up the same way the extractor collects them: record
+     * component, then field, then getter. If the annotations found on the element do not match the
+     * persisted names, the entry cannot be trusted and an empty result is returned.
+     * </p>
+     *
+     * @param element live element with the same qualified name (not {@code null})
+     * @return entry with annotations restored, or empty if they cannot be matched
+     * @throws NullPointerException if element is null
+     */
+    public Optional<IrCacheEntry> rehydrate(TypeElement element) {
+        Objects.requireNonNull(element, "element");
+
+        if (domainType == null) {
+            return Optional.of(this);
+        }
+
+        List<AnnotationModel> annotations = AnnotationIntrospector.getAnnotations(element);
+        if (!annotationNames(annotations).equals(typeAnnotations)) {
+            return Optional.empty();
+        }
+
+        List<DomainProperty> properties =
+                new ArrayList<>(domainType.properties().size());
+        for (DomainProperty property : domainType.properties()) {
+            List<String> expected = propertyAnnotations(property.name());
+            List<AnnotationModel> found =
+                    expected.isEmpty() ? List.of() : propertyAnnotations(element, property.name());
+            if (!annotationNames(found).equals(expected)) {
+                return Optional.empty();
+            }
+            properties.add(DomainProperty.builder()
+                    .name(property.name())
+                    .type(property.type())
+                    .identity(property.isIdentity())
+                    .immutable(property.isImmutable())
+                    .declaringType(property.declaringType().orElse(null))
+                    .description(property.description().orElse(null))
+                    .sourceRef(property.sourceRef().orElse(null))
+                    .annotations(found)
+                    .relationshipMetadata(property.relationship().orElse(null))
+                    .build());
+        }
+
+        DomainType rehydrated = DomainType.builder()
+                .from(domainType)
+                .properties(properties)
+                .annotations(annotations)
+                .build();
+        return Optional.of(new IrCacheEntry(
+                qualifiedName,
+                fingerprint,
+                rehydrated,
+                domainService,
+                port,
+                typeAnnotations,
+                propertyAnnotations,
+                diagnostics));
+    }
+
+    @Override
+    public String toString() {
+        return "IrCacheEntry{" + qualifiedName + ", domainType=" + (domainType != null) + ", domainService="
+                + (domainService != null) + ", port=" + (port != null) + "}";
+    }
+
+    private static List<AnnotationModel> propertyAnnotations(TypeElement owner, String propertyName) {
+        String capitalized = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        Element field = null;
+        Element getter = null;
+        for (Element enclosed : owner.getEnclosedElements()) {
+            String name = enclosed.getSimpleName().toString();
+            if (enclosed.getKind() == ElementKind.RECORD_COMPONENT && name.equals(propertyName)) {
+                return AnnotationIntrospector.getAnnotations(enclosed);
+            }
+            if (enclosed.getKind() == ElementKind.FIELD && name.equals(propertyName)) {
+                field = enclosed;
+            }
+            if (enclosed instanceof ExecutableElement method
+                    && method.getParameters().isEmpty()
+                    && (name.equals("get" + capitalized) || name.equals("is" + capitalized))) {
+                getter = method;
+            }
+        }
+        if (field != null) {
+            return AnnotationIntrospector.getAnnotations(field);
+        }
+        return getter != null ? AnnotationIntrospector.getAnnotations(getter) : List.of();
+    }
+
+    private static Diagnostic withoutCause(Diagnostic diagnostic) {
+        if (diagnostic.cause() == null) {
+            return diagnostic;
+        }
+        return Diagnostic.builder()
+                .severity(diagnostic.severity())
+                .code(diagnostic.code())
+                .message(diagnostic.message())
+                .location(diagnostic.location())
+                .pluginId(diagnostic.pluginId())
+                .attributes(diagnostic.attributes())
+                .build();
+    }
+
+    private static List<String> annotationNames(List<AnnotationModel> annotations) {
+        return annotations.stream().map(AnnotationModel::qualifiedName).toList();
+    }
+}
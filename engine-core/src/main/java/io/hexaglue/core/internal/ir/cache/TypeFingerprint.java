@@ -0,0 +1,172 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.cache;
+
+import io.hexaglue.core.internal.InternalMarker;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+
+/**
+ * Computes a stable fingerprint of a type declaration.
+ *
+ * <p>
+ * The fingerprint covers everything the domain and port analyzers read from a type element:
+ * kind, modifiers, annotations (with their values), type parameters, supertypes, permitted
+ * subclasses, and the signature, modifiers and annotations of every member. Nested types are
+ * fingerprinted separately and only contribute their name.
+ * </p>
+ *
+ * <p>
+ * Javadoc comments of the type and its members are included too: the extractors store them as
+ * descriptions, so a documentation-only edit must invalidate the cached IR.
+ * </p>
+ *
+ * <p>
+ * Inherited members are part of the extracted IR, so the declarations of all supertypes from the
+ * compilation (everything outside {@code java.*}) are folded into the fingerprint as well.
+ * Method bodies and field initializers are not visible through the element API and do not affect
+ * the IR, so they are ignored.
+ * </p>
+ */
+@InternalMarker(reason = "Internal persistent IR cache; not exposed to plugins")
+public final class TypeFingerprint {
+
+    private TypeFingerprint() {
+        // utility class
+    }
+
+    /**
+     * Computes the fingerprint of a type element.
+     *
+     * @param elements element utilities used to read doc comments (not {@code null})
+     * @param element type element (not {@code null})
+     * @return hex-encoded SHA-256 fingerprint (never {@code null})
+     * @throws NullPointerException if any argument is null
+     */
+    public static String of(Elements elements, TypeElement element) {
+        Objects.requireNonNull(elements, "elements");
+        Objects.requireNonNull(element, "element");
+
+        StringBuilder sb = new StringBuilder(512);
+        Set<String> visited = new HashSet<>();
+        Deque<TypeElement> pending = new ArrayDeque<>();
+        pending.add(element);
+        while (!pending.isEmpty()) {
+            TypeElement current = pending.poll();
+            if (!visited.add(current.getQualifiedName().toString())) {
+                continue;
+            }
+            appendDeclaration(sb, elements, current);
+            enqueueSupertype(pending, current.getSuperclass());
+            for (TypeMirror itf : current.getInterfaces()) {
+                enqueueSupertype(pending, itf);
+            }
+        }
+        return sha256(sb);
+    }
+
+    private static void appendDeclaration(StringBuilder sb, Elements elements, TypeElement type) {
+        sb.append("type ")
+                .append(type.getKind())
+                .append(' ')
+                .append(type.getQualifiedName())
+                .append(type.getModifiers());
+        appendAnnotations(sb, type.getAnnotationMirrors());
+        for (TypeParameterElement parameter : type.getTypeParameters()) {
+            sb.append(" <")
+                    .append(parameter.getSimpleName())
+                    .append(parameter.getBounds())
+                    .append('>');
+        }
+        sb.append(" extends ").append(type.getSuperclass());
+        sb.append(" implements ").append(type.getInterfaces());
+        sb.append(" permits ").append(type.getPermittedSubclasses());
+        appendDocComment(sb, elements, type);
+        sb.append('\n');
+
+        for (Element member : type.getEnclosedElements()) {
+            sb.append("  ").append(member.getKind()).append(' ').append(member.getSimpleName());
+            if (member instanceof TypeElement) {
+                sb.append('\n');
+                continue;
+            }
+            sb.append(member.getModifiers()).append(' ').append(member.asType());
+            appendAnnotations(sb, member.getAnnotationMirrors());
+            if (member instanceof ExecutableElement method) {
+                sb.append(method.isVarArgs() ? " varargs" : "");
+                for (VariableElement parameter : method.getParameters()) {
+                    sb.append(" (").append(parameter.getSimpleName());
+                    appendAnnotations(sb, parameter.getAnnotationMirrors());
+                    sb.append(')');
+                }
+            } else if (member instanceof VariableElement variable && variable.getConstantValue() != null) {
+                sb.append(" = ").append(variable.getConstantValue());
+            }
+            appendDocComment(sb, elements, member);
+            sb.append('\n');
+        }
+    }
+
+    private static void appendDocComment(StringBuilder sb, Elements elements, Element element) {
+        String doc = elements.getDocComment(element);
+        if (doc != null) {
+            // Length prefix keeps the multi-line comment from colliding with later declarations
+            sb.append(" doc[").append(doc.length()).append("]:").append(doc);
+        }
+    }
+
+    private static void appendAnnotations(StringBuilder sb, List<? extends AnnotationMirror> annotations) {
+        for (AnnotationMirror annotation : annotations) {
+            sb.append(' ').append(annotation);
+        }
+    }
+
+    private static void enqueueSupertype(Deque<TypeElement> pending, TypeMirror supertype) {
+        if (supertype.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        Element element = ((DeclaredType) supertype).asElement();
+        if (element instanceof TypeElement te
+                && !te.getQualifiedName().toString().startsWith("java.")) {
+            pending.add(te);
+        }
+    }
+
+    private static String sha256(CharSequence content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
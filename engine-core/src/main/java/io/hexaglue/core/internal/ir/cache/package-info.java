@@ -0,0 +1,45 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+/**
+ * Persistent IR cache for HexaGlue compilations.
+ *
+ * <p>
+ * This package lets a compilation reuse the IR extracted by the previous one for types whose
+ * declaration did not change. The cache is opt-in ({@code -Ahexaglue.irCache=true} or
+ * {@code -Ahexaglue.irCache.dir=<path>}) and is written once, at the end of the compilation.
+ * </p>
+ *
+ * <h2>Components</h2>
+ * <ul>
+ *   <li>{@link io.hexaglue.core.internal.ir.cache.IrCache} - Loads, queries and saves the cache file</li>
+ *   <li>{@link io.hexaglue.core.internal.ir.cache.IrCacheEntry} - Raw IR extracted from one type element</li>
+ *   <li>{@link io.hexaglue.core.internal.ir.cache.TypeFingerprint} - Fingerprint of a type declaration</li>
+ *   <li>{@code IrCacheCodec} - Binary encoding of cache entries</li>
+ * </ul>
+ *
+ * <h2>What Is Cached</h2>
+ * <p>
+ * Entries hold the <strong>raw</strong> extraction output (domain types, domain services, ports).
+ * Semantic enrichment is cross-model and cheap compared to extraction, so it always runs over the
+ * complete model, cached and fresh entries alike.
+ * </p>
+ *
+ * <h2>Limitations</h2>
+ * <ul>
+ *   <li>Diagnostics reported while extracting a type are not replayed when its entry is reused</li>
+ *   <li>The cache is not written for compilations that reported errors</li>
+ *   <li>Caches written by another core version are discarded</li>
+ * </ul>
+ */
+@io.hexaglue.core.internal.InternalMarker(reason = "Internal persistent IR cache; not exposed to plugins")
+package io.hexaglue.core.internal.ir.cache;
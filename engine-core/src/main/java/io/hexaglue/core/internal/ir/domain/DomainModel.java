@@ -13,6 +13,7 @@
 package io.hexaglue.core.internal.ir.domain;
 
 import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.ir.domain.index.DomainIndex;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -41,6 +42,13 @@ import java.util.Optional;
  *   <li><strong>Queryable:</strong> Provides efficient lookup by qualified name</li>
  * </ul>
  *
+ * <h2>Lookups</h2>
+ * <p>
+ * Lookups go through a {@link DomainIndex} built lazily on first use and kept for the lifetime
+ * of the model, so repeated {@link #findType(String)} calls (e.g. during relationship
+ * classification) are hash lookups rather than list scans.
+ * </p>
+ *
  * <h2>Lifecycle</h2>
  * <ol>
  *   <li>Domain analyzers discover and extract domain types from source code</li>
@@ -52,7 +60,9 @@ import java.util.Optional;
  *
  * <h2>Thread Safety</h2>
  * <p>
- * Instances are immutable after construction and safe for concurrent read access.
+ * Instances are immutable after construction and safe for concurrent read access. The lazily
+ * built index is immutable too; concurrent first accesses may build it more than once, but all
+ * callers observe an equivalent index.
  * </p>
  *
  * <h2>Usage Example</h2>
@@ -71,6 +81,7 @@ public final class DomainModel {
 
     private final List<DomainType> types;
     private final List<DomainService> services;
+    private volatile DomainIndex index;
 
     /**
      * Creates a domain model with the given types and services.
@@ -109,9 +120,7 @@ public final class DomainModel {
      */
     public Optional<DomainType> findType(String qualifiedName) {
         Objects.requireNonNull(qualifiedName, "qualifiedName");
-        return types.stream()
-                .filter(t -> qualifiedName.equals(t.qualifiedName()))
-                .findFirst();
+        return index().findType(qualifiedName);
     }
 
     /**
@@ -122,9 +131,21 @@ public final class DomainModel {
      */
     public Optional<DomainService> findService(String qualifiedName) {
         Objects.requireNonNull(qualifiedName, "qualifiedName");
-        return services.stream()
-                .filter(s -> qualifiedName.equals(s.qualifiedName()))
-                .findFirst();
+        return index().findService(qualifiedName);
+    }
+
+    /**
+     * Returns the index of this model, building it on first use.
+     *
+     * @return domain index (never {@code null})
+     */
+    public DomainIndex index() {
+        DomainIndex result = index;
+        if (result == null) {
+            result = DomainIndex.from(this);
+            index = result;
+        }
+        return result;
     }
 
     /**
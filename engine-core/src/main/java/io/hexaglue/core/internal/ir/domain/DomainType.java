@@ -368,6 +368,18 @@ public final class DomainType {
             return this;
         }
 
+        /**
+         * Sets the properties list, replacing any previously added properties.
+         *
+         * @param properties properties list (not {@code null})
+         * @return this builder
+         */
+        public Builder properties(List<DomainProperty> properties) {
+            Objects.requireNonNull(properties, "properties");
+            this.properties.clear();
+            return addProperties(properties);
+        }
+
         public Builder id(DomainId id) {
             this.id = id;
             return this;
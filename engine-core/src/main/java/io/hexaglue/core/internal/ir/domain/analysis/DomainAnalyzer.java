@@ -14,6 +14,7 @@ package io.hexaglue.core.internal.ir.domain.analysis;
 
 import io.hexaglue.core.diagnostics.DiagnosticFactory;
 import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.events.TypeAnalysisEvent;
 import io.hexaglue.core.internal.ir.domain.DomainModel;
 import io.hexaglue.core.internal.ir.domain.DomainService;
 import io.hexaglue.core.internal.ir.domain.DomainType;
@@ -192,6 +193,9 @@ public final class DomainAnalyzer {
             if (element instanceof TypeElement te) {
                 // Check if it's a valid domain type candidate
                 if (typeExtractor.isDomainType(te)) {
+                    TypeAnalysisEvent event = new TypeAnalysisEvent();
+                    event.begin();
+                    String outcome = "failed";
                     try {
                         // Create TypeRef for this element
                         TypeRef typeRef = typeResolver.resolveFromElement(te);
@@ -201,6 +205,7 @@ public final class DomainAnalyzer {
 
                         // Add if successfully extracted
                         domainType.ifPresent(types::add);
+                        outcome = domainType.isPresent() ? "extracted" : "ignored";
                     } catch (Exception e) {
                         // Report extraction failure as diagnostic
                         diagnostics.report(DiagnosticFactory.errorWithCause(
@@ -210,6 +215,8 @@ public final class DomainAnalyzer {
                                 "io.hexaglue.core",
                                 e));
                         // Continue processing other elements
+                    } finally {
+                        event.finish(te.getQualifiedName(), TypeAnalysisEvent.DOMAIN_TYPE, outcome);
                     }
                 }
             }
@@ -236,12 +243,16 @@ public final class DomainAnalyzer {
 
         for (Object element : elements) {
             if (element instanceof TypeElement te) {
+                TypeAnalysisEvent event = new TypeAnalysisEvent();
+                event.begin();
+                String outcome = "failed";
                 try {
                     // Extract domain service
                     Optional<DomainService> domainService = serviceExtractor.extract(te);
 
                     // Add if successfully extracted
                     domainService.ifPresent(services::add);
+                    outcome = domainService.isPresent() ? "extracted" : "ignored";
                 } catch (Exception e) {
                     // Report extraction failure as diagnostic
                     diagnostics.report(DiagnosticFactory.errorWithCause(
@@ -251,6 +262,8 @@ public final class DomainAnalyzer {
                             "io.hexaglue.core",
                             e));
                     // Continue processing other elements
+                } finally {
+                    event.finish(te.getQualifiedName(), TypeAnalysisEvent.DOMAIN_SERVICE, outcome);
                 }
             }
         }
@@ -305,9 +318,29 @@ public final class DomainAnalyzer {
     public static DomainAnalyzer createDefault(Elements elements, Types types, DiagnosticReporter diagnostics) {
         Objects.requireNonNull(elements, "elements");
         Objects.requireNonNull(types, "types");
+        return createDefault(elements, TypeResolver.create(elements), diagnostics);
+    }
+
+    /**
+     * Creates a default domain analyzer resolving types through the given resolver.
+     *
+     * <p>
+     * Sharing one resolver between the analyzers of a round lets them reuse its memoized type
+     * references. The resolver is not thread-safe; the analyzer must be used on its thread.
+     * </p>
+     *
+     * @param elements     element utilities from processing environment (not {@code null})
+     * @param typeResolver type resolver of the current round (not {@code null})
+     * @param diagnostics  diagnostic reporter for error reporting (not {@code null})
+     * @return domain analyzer with default configuration (never {@code null})
+     * @throws NullPointerException if any parameter is null
+     */
+    public static DomainAnalyzer createDefault(
+            Elements elements, TypeResolver typeResolver, DiagnosticReporter diagnostics) {
+        Objects.requireNonNull(elements, "elements");
+        Objects.requireNonNull(typeResolver, "typeResolver");
         Objects.requireNonNull(diagnostics, "diagnostics");
 
-        TypeResolver typeResolver = TypeResolver.create(elements, types);
         DomainTypeKindResolver kindResolver = new DomainTypeKindResolver();
         DomainPropertyExtractor propertyExtractor = new DomainPropertyExtractor(typeResolver);
         DomainRules rules = new DomainRules();
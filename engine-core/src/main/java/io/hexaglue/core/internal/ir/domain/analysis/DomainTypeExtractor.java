@@ -23,6 +23,7 @@ import io.hexaglue.core.internal.ir.domain.DomainProperty;
 import io.hexaglue.core.internal.ir.domain.DomainType;
 import io.hexaglue.core.types.TypeResolver;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
 import io.hexaglue.spi.ir.domain.DomainTypeKind;
 import io.hexaglue.spi.types.TypeRef;
 import java.util.ArrayList;
@@ -136,37 +137,49 @@ public final class DomainTypeExtractor {
 
         // Emit diagnostics for detected jMolecules annotations
         if (hasDomainEventAnnotation) {
-            diagnostics.report(DiagnosticFactory.info(
+            diagnostics.report(
+                    DiagnosticSeverity.INFO,
                     DomainAnalyzer.CODE_JMOLECULES_DOMAIN_EVENT,
-                    "jMolecules @DomainEvent detected on type '" + simpleName + "'",
-                    te,
-                    "io.hexaglue.core"));
+                    () -> DiagnosticFactory.info(
+                            DomainAnalyzer.CODE_JMOLECULES_DOMAIN_EVENT,
+                            "jMolecules @DomainEvent detected on type '" + simpleName + "'",
+                            te,
+                            "io.hexaglue.core"));
         }
 
         if (hasValueObjectAnnotation) {
-            diagnostics.report(DiagnosticFactory.info(
+            diagnostics.report(
+                    DiagnosticSeverity.INFO,
                     DomainAnalyzer.CODE_JMOLECULES_VALUE_OBJECT,
-                    "jMolecules @ValueObject detected on type '" + simpleName + "'",
-                    te,
-                    "io.hexaglue.core"));
+                    () -> DiagnosticFactory.info(
+                            DomainAnalyzer.CODE_JMOLECULES_VALUE_OBJECT,
+                            "jMolecules @ValueObject detected on type '" + simpleName + "'",
+                            te,
+                            "io.hexaglue.core"));
         }
 
         boolean hasEntityAnnotation = entityAnnotationDetector.hasEntityAnnotation(te);
         if (hasEntityAnnotation) {
-            diagnostics.report(DiagnosticFactory.info(
+            diagnostics.report(
+                    DiagnosticSeverity.INFO,
                     DomainAnalyzer.CODE_JMOLECULES_ENTITY,
-                    "jMolecules @Entity detected on type '" + simpleName + "'",
-                    te,
-                    "io.hexaglue.core"));
+                    () -> DiagnosticFactory.info(
+                            DomainAnalyzer.CODE_JMOLECULES_ENTITY,
+                            "jMolecules @Entity detected on type '" + simpleName + "'",
+                            te,
+                            "io.hexaglue.core"));
         }
 
         boolean hasAggregateRootAnnotation = aggregateRootAnnotationDetector.hasAggregateRootAnnotation(te);
         if (hasAggregateRootAnnotation) {
-            diagnostics.report(DiagnosticFactory.info(
+            diagnostics.report(
+                    DiagnosticSeverity.INFO,
                     DomainAnalyzer.CODE_JMOLECULES_AGGREGATE_ROOT,
-                    "jMolecules @AggregateRoot detected on type '" + simpleName + "'",
-                    te,
-                    "io.hexaglue.core"));
+                    () -> DiagnosticFactory.info(
+                            DomainAnalyzer.CODE_JMOLECULES_AGGREGATE_ROOT,
+                            "jMolecules @AggregateRoot detected on type '" + simpleName + "'",
+                            te,
+                            "io.hexaglue.core"));
         }
 
         DomainTypeKind kind = kindResolver.resolve(
@@ -111,8 +111,8 @@ public final class DomainServiceIndex {
         Map<String, List<DomainService>> byPackage = new HashMap<>();
 
         for (DomainService service : services) {
-            // Index by qualified name
-            byQualifiedName.put(service.qualifiedName(), service);
+            // Index by qualified name (first occurrence wins, like a list scan)
+            byQualifiedName.putIfAbsent(service.qualifiedName(), service);
 
             // Index by simple name
             bySimpleName
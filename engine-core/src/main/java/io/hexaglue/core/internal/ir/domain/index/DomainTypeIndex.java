@@ -118,8 +118,8 @@ public final class DomainTypeIndex {
         Map<String, List<DomainType>> byPackage = new HashMap<>();
 
         for (DomainType type : types) {
-            // Index by qualified name
-            byQualifiedName.put(type.qualifiedName(), type);
+            // Index by qualified name (first occurrence wins, like a list scan)
+            byQualifiedName.putIfAbsent(type.qualifiedName(), type);
 
             // Index by simple name
             bySimpleName
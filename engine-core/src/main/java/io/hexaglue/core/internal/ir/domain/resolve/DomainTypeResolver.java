@@ -111,7 +111,7 @@ public final class DomainTypeResolver {
     public static DomainTypeResolver from(DomainModel domainModel) {
         Objects.requireNonNull(domainModel, "domainModel");
 
-        DomainIndex index = DomainIndex.from(domainModel);
+        DomainIndex index = domainModel.index();
         DomainTypeSupportPolicy policy = new DomainTypeSupportPolicy();
         DomainDiagnostics diagnostics = new DomainDiagnostics();
 
@@ -16,8 +16,10 @@ import io.hexaglue.core.internal.InternalMarker;
 import io.hexaglue.core.internal.ir.domain.DomainType;
 import io.hexaglue.core.internal.ir.domain.normalize.AnnotationIndex;
 import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.spi.diagnostics.Diagnostic;
 import io.hexaglue.spi.diagnostics.DiagnosticCode;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
 import io.hexaglue.spi.ir.domain.DomainTypeKind;
 import java.util.List;
 import java.util.Objects;
@@ -73,8 +75,8 @@ import java.util.Objects;
 @InternalMarker(reason = "Internal semantic classifier; not exposed to plugins")
 public final class AggregateRootClassifier {
 
-    private static final DiagnosticCode CODE_WEAK_SIGNAL_IGNORED = DiagnosticCode.of("HG-CORE-SEMANTICS-001");
-    private static final DiagnosticCode CODE_CONVENTION_TRIGGERED = DiagnosticCode.of("HG-CORE-SEMANTICS-002");
+    static final DiagnosticCode CODE_WEAK_SIGNAL_IGNORED = DiagnosticCode.of("HG-CORE-SEMANTICS-001");
+    static final DiagnosticCode CODE_CONVENTION_TRIGGERED = DiagnosticCode.of("HG-CORE-SEMANTICS-002");
 
     private final AggregateRootSignals signals;
     private final RepositoryPortMatcher repositoryPorts;
@@ -130,9 +132,39 @@ public final class AggregateRootClassifier {
      * @throws NullPointerException if type, annotations, or allPorts is null
      */
     public AggregateRootEvidence classify(DomainType type, AnnotationIndex annotations, List<Port> allPorts) {
+        Objects.requireNonNull(allPorts, "allPorts");
+        return classify(type, annotations, indexRepositoryPorts(allPorts));
+    }
+
+    /**
+     * Builds the repository port index used by
+     * {@link #classify(DomainType, AnnotationIndex, RepositoryPortIndex)}.
+     *
+     * @param allPorts all project ports (not {@code null})
+     * @return repository port index (never {@code null})
+     * @throws NullPointerException if allPorts is null
+     */
+    public RepositoryPortIndex indexRepositoryPorts(List<Port> allPorts) {
+        return repositoryPorts.index(allPorts);
+    }
+
+    /**
+     * Classifies a domain type as aggregate root or not, using a prebuilt repository port index.
+     *
+     * <p>This is the preferred variant when classifying all types of a model: the index is built
+     * once with {@link #indexRepositoryPorts(List)} and each classification does a hash lookup.</p>
+     *
+     * @param type            domain type (not {@code null})
+     * @param annotations     annotations index for this type (not {@code null})
+     * @param repositoryIndex repository ports indexed by referenced type (not {@code null})
+     * @return evidence (never {@code null})
+     * @throws NullPointerException if any parameter is null
+     */
+    public AggregateRootEvidence classify(
+            DomainType type, AnnotationIndex annotations, RepositoryPortIndex repositoryIndex) {
         Objects.requireNonNull(type, "type");
         Objects.requireNonNull(annotations, "annotations");
-        Objects.requireNonNull(allPorts, "allPorts");
+        Objects.requireNonNull(repositoryIndex, "repositoryIndex");
 
         // 1. If already classified as AGGREGATE_ROOT, return true immediately
         if (type.kind() == DomainTypeKind.AGGREGATE_ROOT) {
@@ -152,7 +184,7 @@ public final class AggregateRootClassifier {
 
         // 4. Weak marker + repository port confirmation (JPA @Entity + repository)
         boolean hasJpaEntity = signals.hasJpaEntityMarker(annotations);
-        boolean hasRepoPort = repositoryPorts.hasRepositoryPort(type, allPorts);
+        boolean hasRepoPort = repositoryIndex.hasRepositoryPort(type.qualifiedName());
 
         if (hasJpaEntity && hasRepoPort) {
             return AggregateRootEvidence.yes(
@@ -161,11 +193,14 @@ public final class AggregateRootClassifier {
 
         // Emit diagnostic if JPA @Entity present but no repository port (weak signal ignored)
         if (hasJpaEntity && !hasRepoPort && diagnostics != null) {
-            diagnostics.info(
+            diagnostics.report(
+                    DiagnosticSeverity.INFO,
                     CODE_WEAK_SIGNAL_IGNORED,
-                    "Type '" + type.simpleName()
-                            + "' has JPA @Entity annotation but no repository port detected. "
-                            + "Treating as internal entity. Add a repository port or use @AggregateRoot to mark as aggregate root.");
+                    () -> Diagnostic.info(
+                            CODE_WEAK_SIGNAL_IGNORED,
+                            "Type '" + type.simpleName()
+                                    + "' has JPA @Entity annotation but no repository port detected. "
+                                    + "Treating as internal entity. Add a repository port or use @AggregateRoot to mark as aggregate root."));
         }
 
         // 5. Convention-based fallbacks (conservative)
@@ -173,10 +208,13 @@ public final class AggregateRootClassifier {
         // Package convention: types in "aggregate" or "aggregates" packages
         if (signals.isInAggregatePackage(type.qualifiedName())) {
             if (diagnostics != null) {
-                diagnostics.info(
+                diagnostics.report(
+                        DiagnosticSeverity.INFO,
                         CODE_CONVENTION_TRIGGERED,
-                        "Type '" + type.simpleName()
-                                + "' classified as aggregate root based on package convention (*.aggregate(s).*)");
+                        () -> Diagnostic.info(
+                                CODE_CONVENTION_TRIGGERED,
+                                "Type '" + type.simpleName()
+                                        + "' classified as aggregate root based on package convention (*.aggregate(s).*)"));
             }
             return AggregateRootEvidence.yes(
                     AggregateRootEvidence.Kind.PACKAGE_CONVENTION, "Package matches *.aggregate(s).*");
@@ -185,10 +223,13 @@ public final class AggregateRootClassifier {
         // Naming convention: types ending with "Aggregate" or "AggregateRoot"
         if (signals.hasAggregateRootName(type.simpleName())) {
             if (diagnostics != null) {
-                diagnostics.info(
+                diagnostics.report(
+                        DiagnosticSeverity.INFO,
                         CODE_CONVENTION_TRIGGERED,
-                        "Type '" + type.simpleName()
-                                + "' classified as aggregate root based on naming convention (ends with Aggregate/AggregateRoot)");
+                        () -> Diagnostic.info(
+                                CODE_CONVENTION_TRIGGERED,
+                                "Type '" + type.simpleName()
+                                        + "' classified as aggregate root based on naming convention (ends with Aggregate/AggregateRoot)"));
             }
             return AggregateRootEvidence.yes(
                     AggregateRootEvidence.Kind.NAMING_CONVENTION, "Name ends with Aggregate/AggregateRoot");
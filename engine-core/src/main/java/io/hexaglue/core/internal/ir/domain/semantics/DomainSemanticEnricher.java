@@ -17,14 +17,15 @@ import io.hexaglue.core.internal.ir.domain.DomainModel;
 import io.hexaglue.core.internal.ir.domain.DomainProperty;
 import io.hexaglue.core.internal.ir.domain.DomainType;
 import io.hexaglue.core.internal.ir.domain.normalize.AnnotationIndex;
-import io.hexaglue.core.internal.ir.ports.Port;
 import io.hexaglue.core.internal.ir.ports.PortModel;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
 import io.hexaglue.spi.ir.domain.DomainTypeKind;
 import io.hexaglue.spi.ir.domain.RelationshipMetadata;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Enriches domain models with semantic information from cross-model analysis.
@@ -71,6 +72,17 @@ import java.util.Objects;
 @InternalMarker(reason = "Internal semantic enrichment; not exposed to plugins")
 public final class DomainSemanticEnricher {
 
+    /**
+     * Codes of the diagnostics reported during enrichment.
+     *
+     * <p>Enrichment runs over the cumulative model every round that adds types, so these
+     * diagnostics repeat for types from earlier rounds; the diagnostic engine deduplicates them.</p>
+     */
+    public static final Set<DiagnosticCode> DIAGNOSTIC_CODES = Set.of(
+            AggregateRootClassifier.CODE_WEAK_SIGNAL_IGNORED,
+            AggregateRootClassifier.CODE_CONVENTION_TRIGGERED,
+            RelationshipClassifier.CODE_DDD_VIOLATION_AGGREGATE_REF);
+
     private final AggregateRootClassifier aggregateRootClassifier;
     private final RelationshipClassifier relationshipClassifier;
 
@@ -116,6 +128,9 @@ public final class DomainSemanticEnricher {
      * <p>This method reclassifies domain types that were initially marked as {@code ENTITY}
      * but should be {@code AGGREGATE_ROOT} based on heuristics that require port information.</p>
      *
+     * <p>Type lookups during relationship classification go through the input model's
+     * {@link DomainModel#index() index}; the returned model builds its own index on first use.</p>
+     *
      * @param domainModel initial domain model (not {@code null})
      * @param portModel   port model for cross-model analysis (not {@code null})
      * @return enriched domain model (never {@code null})
@@ -125,12 +140,13 @@ public final class DomainSemanticEnricher {
         Objects.requireNonNull(domainModel, "domainModel");
         Objects.requireNonNull(portModel, "portModel");
 
-        List<Port> allPorts = portModel.ports();
+        // Index repository ports once: each classification is then a hash lookup
+        RepositoryPortIndex repositoryIndex = aggregateRootClassifier.indexRepositoryPorts(portModel.ports());
         List<DomainType> enrichedTypes = new ArrayList<>();
         boolean anyChanged = false;
 
         for (DomainType type : domainModel.types()) {
-            DomainType enrichedType = enrichType(type, allPorts, domainModel);
+            DomainType enrichedType = enrichType(type, repositoryIndex, domainModel);
             enrichedTypes.add(enrichedType);
             if (enrichedType != type) {
                 anyChanged = true;
@@ -159,11 +175,11 @@ public final class DomainSemanticEnricher {
      * </ul>
      *
      * @param type domain type to enrich (not {@code null})
-     * @param allPorts all ports for cross-model analysis (not {@code null})
+     * @param repositoryIndex repository ports indexed by referenced type (not {@code null})
      * @param domainModel complete domain model for relationship classification (not {@code null})
      * @return enriched domain type (may be the same instance if no changes) (never {@code null})
      */
-    private DomainType enrichType(DomainType type, List<Port> allPorts, DomainModel domainModel) {
+    private DomainType enrichType(DomainType type, RepositoryPortIndex repositoryIndex, DomainModel domainModel) {
         // Build annotation index for type classification
         AnnotationIndex annotations = AnnotationIndex.of(type.annotations());
 
@@ -174,7 +190,7 @@ public final class DomainSemanticEnricher {
         // Only consider ENTITY types for reclassification
         // Types already marked as AGGREGATE_ROOT (via annotations) are left unchanged
         if (type.kind() == DomainTypeKind.ENTITY) {
-            AggregateRootEvidence evidence = aggregateRootClassifier.classify(type, annotations, allPorts);
+            AggregateRootEvidence evidence = aggregateRootClassifier.classify(type, annotations, repositoryIndex);
             if (evidence.isAggregateRoot()) {
                 finalKind = DomainTypeKind.AGGREGATE_ROOT;
                 typeKindChanged = true;
@@ -198,18 +214,11 @@ public final class DomainSemanticEnricher {
             return type;
         }
 
-        // Rebuild type with enriched kind and/or properties
+        // Rebuild type with enriched kind and/or properties, keeping all other fields
         return DomainType.builder()
-                .qualifiedName(type.qualifiedName())
-                .simpleName(type.simpleName())
+                .from(type)
                 .kind(finalKind)
-                .type(type.type())
-                .addProperties(enrichedProperties)
-                .id(type.id().orElse(null))
-                .immutable(type.isImmutable())
-                .description(type.description().orElse(null))
-                .sourceRef(type.sourceRef().orElse(null))
-                .annotations(type.annotations())
+                .properties(enrichedProperties)
                 .build();
     }
 
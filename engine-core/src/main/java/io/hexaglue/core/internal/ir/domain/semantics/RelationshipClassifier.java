@@ -85,7 +85,7 @@ import java.util.Optional;
 @InternalMarker(reason = "Internal semantic classifier; not exposed to plugins")
 public final class RelationshipClassifier {
 
-    private static final DiagnosticCode CODE_DDD_VIOLATION_AGGREGATE_REF = DiagnosticCode.of("HG-SEMANTICS-001");
+    static final DiagnosticCode CODE_DDD_VIOLATION_AGGREGATE_REF = DiagnosticCode.of("HG-SEMANTICS-001");
 
     private final RelationshipSignals signals;
     private final DiagnosticReporter diagnostics;
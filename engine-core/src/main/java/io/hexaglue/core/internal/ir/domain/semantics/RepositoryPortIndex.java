@@ -0,0 +1,105 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.domain.semantics;
+
+import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.ir.ports.Port;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reverse index from referenced type qualified names to the repository ports mentioning them.
+ *
+ * <p>The index is built once per port model by {@link RepositoryPortMatcher#index(List)}, walking
+ * every repository port signature a single time. Classifying a domain type then costs a hash
+ * lookup instead of a scan over all ports, methods and parameters.</p>
+ *
+ * <h2>Ordering</h2>
+ * <p>Ports referencing a given type are listed once each, in the order of the port list the index
+ * was built from.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @since 0.4.0
+ */
+@InternalMarker(reason = "Internal repository port index; not exposed to plugins")
+public final class RepositoryPortIndex {
+
+    private static final RepositoryPortIndex EMPTY = new RepositoryPortIndex(Map.of());
+
+    private final Map<String, List<Port>> portsByReferencedType;
+
+    private RepositoryPortIndex(Map<String, List<Port>> portsByReferencedType) {
+        this.portsByReferencedType = portsByReferencedType;
+    }
+
+    /**
+     * Returns an index without any repository port.
+     *
+     * @return empty index (never {@code null})
+     */
+    public static RepositoryPortIndex empty() {
+        return EMPTY;
+    }
+
+    static RepositoryPortIndex of(Map<String, List<Port>> portsByReferencedType) {
+        Map<String, List<Port>> copy = new HashMap<>(portsByReferencedType.size() * 2);
+        portsByReferencedType.forEach((type, ports) -> copy.put(type, List.copyOf(ports)));
+        return new RepositoryPortIndex(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Returns true if at least one repository port references the given type.
+     *
+     * @param qualifiedName qualified name of the referenced type (not {@code null})
+     * @return {@code true} if a repository port exists
+     * @throws NullPointerException if qualifiedName is null
+     */
+    public boolean hasRepositoryPort(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        return portsByReferencedType.containsKey(qualifiedName);
+    }
+
+    /**
+     * Returns the repository ports referencing the given type.
+     *
+     * @param qualifiedName qualified name of the referenced type (not {@code null})
+     * @return immutable list of ports (never {@code null}, may be empty)
+     * @throws NullPointerException if qualifiedName is null
+     */
+    public List<Port> repositoriesOf(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        return portsByReferencedType.getOrDefault(qualifiedName, List.of());
+    }
+
+    /**
+     * Returns the number of distinct types referenced by repository ports.
+     *
+     * @return referenced type count
+     */
+    public int referencedTypeCount() {
+        return portsByReferencedType.size();
+    }
+
+    @Override
+    public String toString() {
+        List<String> keys = new ArrayList<>(portsByReferencedType.keySet());
+        Collections.sort(keys);
+        return "RepositoryPortIndex{referencedTypes=" + keys + "}";
+    }
+}
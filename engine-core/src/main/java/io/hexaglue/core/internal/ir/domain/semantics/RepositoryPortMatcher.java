@@ -16,8 +16,20 @@ import io.hexaglue.core.internal.InternalMarker;
 import io.hexaglue.core.internal.ir.domain.DomainType;
 import io.hexaglue.core.internal.ir.ports.Port;
 import io.hexaglue.spi.ir.ports.PortDirection;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.types.ArrayRef;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeRef;
+import io.hexaglue.spi.types.WildcardRef;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Matches repository ports for a domain type.
@@ -44,6 +56,11 @@ import java.util.Objects;
  *   <li>Avoids false positives from substring matching (e.g., "Customer" vs "CustomerOrder")</li>
  * </ul>
  *
+ * <h2>Indexing</h2>
+ * <p>To classify many domain types against the same ports, build a
+ * {@link RepositoryPortIndex} once with {@link #index(List)}: each port signature is then walked a
+ * single time instead of once per domain type.</p>
+ *
  * <h2>Thread Safety</h2>
  * <p>This class is stateless and thread-safe.</p>
  *
@@ -62,6 +79,9 @@ public final class RepositoryPortMatcher {
     /**
      * Returns true if any DRIVEN port looks like a repository and references the domain type.
      *
+     * <p>This method builds a throw-away {@link RepositoryPortIndex}. Callers classifying many
+     * types against the same ports should build the index once with {@link #index(List)}.</p>
+     *
      * @param domainType domain type (not {@code null})
      * @param ports      all ports (not {@code null})
      * @return {@code true} if repository port exists
@@ -71,12 +91,44 @@ public final class RepositoryPortMatcher {
         Objects.requireNonNull(domainType, "domainType");
         Objects.requireNonNull(ports, "ports");
 
-        return ports.stream()
-                .filter(p -> p.direction() == PortDirection.DRIVEN)
-                .filter(this::looksLikeRepository)
-                .flatMap(p -> p.methods().stream())
-                .anyMatch(m -> typeUsesDomainType(m.returnType(), domainType)
-                        || m.parameters().stream().anyMatch(arg -> typeUsesDomainType(arg.type(), domainType)));
+        return index(ports).hasRepositoryPort(domainType.qualifiedName());
+    }
+
+    /**
+     * Builds a reverse index from referenced type qualified names to repository ports.
+     *
+     * <p>Each repository port signature (return types and parameter types of all methods) is
+     * walked exactly once.</p>
+     *
+     * @param ports all ports (not {@code null})
+     * @return repository port index (never {@code null})
+     * @throws NullPointerException if ports is null
+     */
+    public RepositoryPortIndex index(List<Port> ports) {
+        Objects.requireNonNull(ports, "ports");
+
+        Map<String, List<Port>> portsByReferencedType = new HashMap<>();
+        Set<String> referenced = new LinkedHashSet<>();
+        for (Port port : ports) {
+            if (port.direction() != PortDirection.DRIVEN || !looksLikeRepository(port)) {
+                continue;
+            }
+            referenced.clear();
+            for (PortMethodView method : port.methods()) {
+                collectReferencedTypes(method.returnType(), referenced);
+                for (PortParameterView parameter : method.parameters()) {
+                    collectReferencedTypes(parameter.type(), referenced);
+                }
+            }
+            for (String qualifiedName : referenced) {
+                portsByReferencedType
+                        .computeIfAbsent(qualifiedName, k -> new ArrayList<>())
+                        .add(port);
+            }
+        }
+        return portsByReferencedType.isEmpty()
+                ? RepositoryPortIndex.empty()
+                : RepositoryPortIndex.of(portsByReferencedType);
     }
 
     /**
@@ -94,110 +146,49 @@ public final class RepositoryPortMatcher {
     }
 
     /**
-     * Checks if a type reference uses the domain type structurally.
+     * Collects the qualified names of all class types a type reference uses structurally.
      *
-     * <p>This method performs structural type comparison by traversing the type hierarchy:</p>
+     * <p>This method performs structural traversal of the type reference:</p>
      * <ul>
-     *   <li><strong>ClassRef:</strong> Compare qualified names</li>
-     *   <li><strong>ParameterizedRef:</strong> Check raw type and recursively check type arguments
+     *   <li><strong>ClassRef:</strong> Collect the qualified name</li>
+     *   <li><strong>ParameterizedRef:</strong> Collect the raw type and recurse into type arguments
      *       (e.g., {@code Optional<Order>}, {@code List<Order>})</li>
-     *   <li><strong>ArrayRef:</strong> Recursively check component type (e.g., {@code Order[]})</li>
-     *   <li><strong>WildcardRef:</strong> Check bounds (e.g., {@code ? extends Order})</li>
-     *   <li><strong>TypeVariableRef:</strong> No match (type variables don't directly reference types)</li>
-     *   <li><strong>PrimitiveRef:</strong> No match (primitives can't reference domain types)</li>
+     *   <li><strong>ArrayRef:</strong> Recurse into the component type (e.g., {@code Order[]})</li>
+     *   <li><strong>WildcardRef:</strong> Recurse into the bound (e.g., {@code ? extends Order})</li>
+     *   <li><strong>TypeVariableRef:</strong> Nothing (type variables don't directly reference types)</li>
+     *   <li><strong>PrimitiveRef:</strong> Nothing (primitives can't reference domain types)</li>
      * </ul>
      *
-     * <p>This approach avoids false positives from string-based matching
+     * <p>Matching on collected qualified names avoids false positives from string-based matching
      * (e.g., "Customer" matching "CustomerOrder").</p>
      *
-     * @param typeRef    type reference to check (not {@code null})
-     * @param domainType target domain type (not {@code null})
-     * @return {@code true} if typeRef structurally uses domainType
-     * @throws NullPointerException if typeRef or domainType is null
+     * @param typeRef type reference to walk (not {@code null})
+     * @param sink    collected qualified names (not {@code null})
      */
-    private boolean typeUsesDomainType(io.hexaglue.spi.types.TypeRef typeRef, DomainType domainType) {
+    private void collectReferencedTypes(TypeRef typeRef, Set<String> sink) {
         Objects.requireNonNull(typeRef, "typeRef");
-        Objects.requireNonNull(domainType, "domainType");
-
-        String targetQualifiedName = domainType.qualifiedName();
 
         switch (typeRef.kind()) {
-            case CLASS:
-                io.hexaglue.spi.types.ClassRef classRef = (io.hexaglue.spi.types.ClassRef) typeRef;
-                // Compare by qualified name if available
-                return classRef.qualifiedName()
-                        .map(qn -> qn.equals(targetQualifiedName))
-                        .orElse(false);
-
-            case PARAMETERIZED:
-                io.hexaglue.spi.types.ParameterizedRef paramRef = (io.hexaglue.spi.types.ParameterizedRef) typeRef;
-                // Check raw type (e.g., Optional, List)
-                if (typeUsesDomainType(paramRef.rawType(), domainType)) {
-                    return true;
+            case CLASS -> ((ClassRef) typeRef).qualifiedName().ifPresent(sink::add);
+            case PARAMETERIZED -> {
+                ParameterizedRef paramRef = (ParameterizedRef) typeRef;
+                collectReferencedTypes(paramRef.rawType(), sink);
+                for (TypeRef argument : paramRef.typeArguments()) {
+                    collectReferencedTypes(argument, sink);
                 }
-                // Check type arguments recursively (e.g., Optional<Order>, List<Order>)
-                return paramRef.typeArguments().stream().anyMatch(arg -> typeUsesDomainType(arg, domainType));
-
-            case ARRAY:
-                io.hexaglue.spi.types.ArrayRef arrayRef = (io.hexaglue.spi.types.ArrayRef) typeRef;
-                // Check component type (e.g., Order[])
-                return typeUsesDomainType(arrayRef.componentType(), domainType);
-
-            case WILDCARD:
-                io.hexaglue.spi.types.WildcardRef wildcardRef = (io.hexaglue.spi.types.WildcardRef) typeRef;
-                // Check bounds (e.g., ? extends Order, ? super Order)
+            }
+            case ARRAY -> collectReferencedTypes(((ArrayRef) typeRef).componentType(), sink);
+            case WILDCARD -> {
+                WildcardRef wildcardRef = (WildcardRef) typeRef;
                 if (wildcardRef.upperBound() != null) {
-                    return typeUsesDomainType(wildcardRef.upperBound(), domainType);
+                    collectReferencedTypes(wildcardRef.upperBound(), sink);
+                } else if (wildcardRef.lowerBound() != null) {
+                    collectReferencedTypes(wildcardRef.lowerBound(), sink);
                 }
-                if (wildcardRef.lowerBound() != null) {
-                    return typeUsesDomainType(wildcardRef.lowerBound(), domainType);
-                }
-                return false;
-
-            case TYPE_VARIABLE:
-                // Type variables (e.g., T) don't directly reference domain types
-                // Could check bounds but that's rarely useful for repository detection
-                return false;
-
-            case PRIMITIVE:
-                // Primitives never reference domain types
-                return false;
-
-            default:
-                // Unknown type kind - fall back to conservative string-based check
-                String qn = targetQualifiedName;
-                String sn = extractSimpleName(qn);
-                return usesTypeStringFallback(typeRef.render(), qn, sn);
-        }
-    }
-
-    /**
-     * String-based fallback for unknown type kinds.
-     *
-     * <p><strong>Deprecated:</strong> This method is kept only as a fallback for
-     * future type kinds. The primary type detection is now structural via
-     * {@link #typeUsesDomainType(io.hexaglue.spi.types.TypeRef, DomainType)}.</p>
-     *
-     * @param signature type signature from method (not {@code null})
-     * @param qualified qualified name of target type (not {@code null})
-     * @param simple    simple name of target type (not {@code null})
-     * @return {@code true} if signature uses the type
-     */
-    private boolean usesTypeStringFallback(String signature, String qualified, String simple) {
-        if (signature == null) {
-            return false;
+            }
+            case TYPE_VARIABLE, PRIMITIVE -> {
+                // Type variables and primitives never reference domain types
+            }
         }
-        return signature.contains(qualified) || signature.contains(simple);
-    }
-
-    /**
-     * Extracts simple name from qualified name.
-     *
-     * @param qualifiedName qualified name (not {@code null})
-     * @return simple name (never {@code null})
-     */
-    private String extractSimpleName(String qualifiedName) {
-        int lastDot = qualifiedName.lastIndexOf('.');
-        return lastDot >= 0 ? qualifiedName.substring(lastDot + 1) : qualifiedName;
     }
 }
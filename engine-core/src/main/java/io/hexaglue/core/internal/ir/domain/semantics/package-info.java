@@ -28,6 +28,8 @@
  *       Centralized signal detection (annotations, conventions)</li>
  *   <li>{@link io.hexaglue.core.internal.ir.domain.semantics.RepositoryPortMatcher RepositoryPortMatcher} -
  *       Repository port detection</li>
+ *   <li>{@link io.hexaglue.core.internal.ir.domain.semantics.RepositoryPortIndex RepositoryPortIndex} -
+ *       Reverse index from referenced types to repository ports, built once per enrichment</li>
  * </ul>
  *
  * <h2>Design Principles</h2>
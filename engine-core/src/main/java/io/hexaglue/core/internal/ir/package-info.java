@@ -15,7 +15,9 @@
  * <ul>
  *   <li>{@link io.hexaglue.core.internal.ir.IrSnapshot} - Immutable IR state at a compilation phase</li>
  *   <li>{@link io.hexaglue.core.internal.ir.IrIndexes} - Optimized lookup structures for IR queries</li>
+ *   <li>{@link io.hexaglue.core.internal.ir.IrStore} - Cumulative IR entries across annotation-processing rounds</li>
  *   <li>{@link io.hexaglue.core.internal.ir.IrInternals} - Internal utilities for IR manipulation</li>
+ *   <li>{@link io.hexaglue.core.internal.ir.TypeReferenceCollector} - Type-reference graph built once per snapshot</li>
  * </ul>
  *
  * <h2>Architecture</h2>
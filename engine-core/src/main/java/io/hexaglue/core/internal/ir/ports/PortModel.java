@@ -13,6 +13,7 @@
 package io.hexaglue.core.internal.ir.ports;
 
 import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.ir.ports.index.PortIndex;
 import io.hexaglue.spi.ir.ports.PortDirection;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -51,6 +52,13 @@ import java.util.Optional;
  *   <li><strong>Queryable:</strong> Provides efficient lookup by qualified name and direction</li>
  * </ul>
  *
+ * <h2>Lookups</h2>
+ * <p>
+ * Lookups go through a {@link PortIndex} built lazily on first use and kept for the lifetime of
+ * the model, so repeated {@link #findPort(String)} and {@link #portsByDirection(PortDirection)}
+ * calls are hash lookups rather than list scans.
+ * </p>
+ *
  * <h2>Lifecycle</h2>
  * <ol>
  *   <li>Port analyzers discover and extract port interfaces from source code</li>
@@ -62,7 +70,9 @@ import java.util.Optional;
  *
  * <h2>Thread Safety</h2>
  * <p>
- * Instances are immutable after construction and safe for concurrent read access.
+ * Instances are immutable after construction and safe for concurrent read access. The lazily
+ * built index is immutable too; concurrent first accesses may build it more than once, but all
+ * callers observe an equivalent index.
  * </p>
  *
  * <h2>Usage Example</h2>
@@ -81,6 +91,7 @@ import java.util.Optional;
 public final class PortModel {
 
     private final List<Port> ports;
+    private volatile PortIndex index;
 
     /**
      * Creates a port model with the given ports.
@@ -109,7 +120,7 @@ public final class PortModel {
      */
     public List<Port> portsByDirection(PortDirection direction) {
         Objects.requireNonNull(direction, "direction");
-        return ports.stream().filter(p -> p.direction() == direction).toList();
+        return index().findByDirection(direction);
     }
 
     /**
@@ -139,9 +150,7 @@ public final class PortModel {
      */
     public Optional<Port> findPort(String qualifiedName) {
         Objects.requireNonNull(qualifiedName, "qualifiedName");
-        return ports.stream()
-                .filter(p -> qualifiedName.equals(p.qualifiedName()))
-                .findFirst();
+        return index().findPort(qualifiedName);
     }
 
     /**
@@ -153,7 +162,21 @@ public final class PortModel {
      */
     public List<Port> findPortsByPackage(String packageName) {
         Objects.requireNonNull(packageName, "packageName");
-        return ports.stream().filter(p -> packageName.equals(p.packageName())).toList();
+        return index().findByPackage(packageName);
+    }
+
+    /**
+     * Returns the index of this model, building it on first use.
+     *
+     * @return port index (never {@code null})
+     */
+    public PortIndex index() {
+        PortIndex result = index;
+        if (result == null) {
+            result = PortIndex.from(this);
+            index = result;
+        }
+        return result;
     }
 
     /**
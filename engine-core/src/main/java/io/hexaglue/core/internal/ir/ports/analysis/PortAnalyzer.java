@@ -14,11 +14,13 @@ package io.hexaglue.core.internal.ir.ports.analysis;
 
 import io.hexaglue.core.diagnostics.DiagnosticFactory;
 import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.events.TypeAnalysisEvent;
 import io.hexaglue.core.internal.ir.ports.Port;
 import io.hexaglue.core.internal.ir.ports.PortModel;
 import io.hexaglue.core.types.TypeResolver;
 import io.hexaglue.spi.diagnostics.DiagnosticCode;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -152,9 +154,28 @@ public final class PortAnalyzer {
     public static PortAnalyzer createDefault(Elements elements, Types types, DiagnosticReporter diagnostics) {
         Objects.requireNonNull(elements, "elements");
         Objects.requireNonNull(types, "types");
+        return createDefault(elements, TypeResolver.create(elements), diagnostics);
+    }
+
+    /**
+     * Creates a default port analyzer resolving types through the given resolver.
+     *
+     * <p>
+     * The resolver is not thread-safe; the analyzer must be used on its thread.
+     * </p>
+     *
+     * @param elements     element utilities from annotation processing environment (not {@code null})
+     * @param typeResolver type resolver of the current round (not {@code null})
+     * @param diagnostics  diagnostic reporter for error reporting (not {@code null})
+     * @return port analyzer instance (never {@code null})
+     * @throws NullPointerException if any parameter is null
+     */
+    public static PortAnalyzer createDefault(
+            Elements elements, TypeResolver typeResolver, DiagnosticReporter diagnostics) {
+        Objects.requireNonNull(elements, "elements");
+        Objects.requireNonNull(typeResolver, "typeResolver");
         Objects.requireNonNull(diagnostics, "diagnostics");
 
-        TypeResolver typeResolver = TypeResolver.create(elements, types);
         PortDirectionResolver directionResolver = new PortDirectionResolver();
         PortExtractor extractor = new PortExtractor(directionResolver, typeResolver, elements);
         PortRules portRules = new PortRules();
@@ -204,9 +225,13 @@ public final class PortAnalyzer {
             if (element instanceof TypeElement te) {
                 // Check if it's a valid port candidate
                 if (isPortCandidate(te)) {
+                    TypeAnalysisEvent event = new TypeAnalysisEvent();
+                    event.begin();
+                    String outcome = "failed";
                     try {
                         // Extract port
                         Optional<Port> port = portExtractor.extract(te);
+                        outcome = "ignored";
 
                         // Add if successfully extracted and valid
                         if (port.isPresent()) {
@@ -222,6 +247,7 @@ public final class PortAnalyzer {
                                 // Add port even if there are warnings
                                 ports.add(p);
                             }
+                            outcome = hasErrors ? "rejected" : "extracted";
 
                             // Report all validation issues with appropriate severity
                             for (ValidationIssue issue : issues) {
@@ -250,6 +276,8 @@ public final class PortAnalyzer {
                                 "io.hexaglue.core",
                                 e));
                         // Continue processing other elements
+                    } finally {
+                        event.finish(te.getQualifiedName(), TypeAnalysisEvent.PORT, outcome);
                     }
                 }
             }
@@ -288,11 +316,14 @@ public final class PortAnalyzer {
         // Detect jMolecules @Repository annotation
         boolean hasRepositoryAnnotation = repositoryAnnotationDetector.hasRepositoryAnnotation(typeElement);
         if (hasRepositoryAnnotation) {
-            diagnostics.report(DiagnosticFactory.info(
+            diagnostics.report(
+                    DiagnosticSeverity.INFO,
                     CODE_JMOLECULES_REPOSITORY,
-                    "jMolecules or Spring @Repository detected on port '" + simpleName + "'",
-                    typeElement,
-                    "io.hexaglue.core"));
+                    () -> DiagnosticFactory.info(
+                            CODE_JMOLECULES_REPOSITORY,
+                            "jMolecules or Spring @Repository detected on port '" + simpleName + "'",
+                            typeElement,
+                            "io.hexaglue.core"));
         }
 
         // Use rules to determine if it's a port
@@ -92,7 +92,7 @@ import javax.lang.model.util.Elements;
  * <h2>Usage Example</h2>
  * <pre>{@code
  * PortDirectionResolver directionResolver = new PortDirectionResolver();
- * TypeResolver typeResolver = TypeResolver.create(elements, types);
+ * TypeResolver typeResolver = TypeResolver.create(elements);
  * PortExtractor extractor = new PortExtractor(directionResolver, typeResolver, elements);
  *
  * TypeElement repositoryElement = ...;
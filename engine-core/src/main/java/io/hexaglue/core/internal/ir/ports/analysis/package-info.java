@@ -188,7 +188,7 @@
  *
  * <h3>Port Extraction</h3>
  * <pre>{@code
- * TypeResolver typeResolver = TypeResolver.create(elements, types);
+ * TypeResolver typeResolver = TypeResolver.create(elements);
  * PortDirectionResolver directionResolver = new PortDirectionResolver();
  * PortExtractor extractor = new PortExtractor(directionResolver, typeResolver, elements);
  *
@@ -148,8 +148,8 @@ public final class PortIndex {
         Map<String, List<Port>> byPackage = new HashMap<>();
 
         for (Port port : ports) {
-            // Index by qualified name
-            byQualifiedName.put(port.qualifiedName(), port);
+            // Index by qualified name (first occurrence wins, like a list scan)
+            byQualifiedName.putIfAbsent(port.qualifiedName(), port);
 
             // Index by simple name
             bySimpleName
@@ -250,7 +250,8 @@ public final class PortIndex {
         Objects.requireNonNull(packagePrefix, "packagePrefix");
 
         return byPackage.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(packagePrefix))
+                .filter(entry ->
+                        entry.getKey().equals(packagePrefix) || entry.getKey().startsWith(packagePrefix + "."))
                 .flatMap(entry -> entry.getValue().stream())
                 .collect(Collectors.toList());
     }
@@ -12,34 +12,62 @@
  */
 package io.hexaglue.core.internal.pipeline;
 
+import io.hexaglue.core.codegen.ArtifactManifest;
+import io.hexaglue.core.codegen.EmittedArtifacts;
 import io.hexaglue.core.context.DebugLog;
 import io.hexaglue.core.diagnostics.DiagnosticEngine;
+import io.hexaglue.core.diagnostics.DiagnosticSink;
+import io.hexaglue.core.diagnostics.ElementIndex;
 import io.hexaglue.core.discovery.DiscoveredPlugin;
 import io.hexaglue.core.internal.InternalMarker;
+import io.hexaglue.core.internal.events.EnrichmentEvent;
+import io.hexaglue.core.internal.events.IrMergeEvent;
 import io.hexaglue.core.internal.ir.IrInternals;
 import io.hexaglue.core.internal.ir.IrSnapshot;
+import io.hexaglue.core.internal.ir.IrStore;
 import io.hexaglue.core.internal.ir.app.ApplicationModel;
+import io.hexaglue.core.internal.ir.cache.IrCache;
+import io.hexaglue.core.internal.ir.cache.IrCacheEntry;
+import io.hexaglue.core.internal.ir.cache.TypeFingerprint;
 import io.hexaglue.core.internal.ir.domain.DomainModel;
+import io.hexaglue.core.internal.ir.domain.DomainService;
+import io.hexaglue.core.internal.ir.domain.DomainType;
 import io.hexaglue.core.internal.ir.domain.analysis.DomainAnalyzer;
 import io.hexaglue.core.internal.ir.domain.semantics.DomainSemanticEnricher;
+import io.hexaglue.core.internal.ir.ports.Port;
 import io.hexaglue.core.internal.ir.ports.PortModel;
 import io.hexaglue.core.internal.ir.ports.analysis.PortAnalyzer;
 import io.hexaglue.core.internal.spi.GenerationContextBuilder;
+import io.hexaglue.core.internal.spi.IrViewAdapter;
+import io.hexaglue.core.lifecycle.CompilationMetrics;
 import io.hexaglue.core.lifecycle.PluginExecutionPlan;
+import io.hexaglue.core.plugins.PluginScheduler;
 import io.hexaglue.core.processor.ProcessorOptions;
+import io.hexaglue.core.types.TypeResolver;
 import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.diagnostics.Diagnostic;
 import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import io.hexaglue.spi.ir.IrView;
 import io.hexaglue.spi.options.OptionsView;
-import java.util.HashSet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Supplier;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
-import javax.lang.model.util.Types;
 
 /**
  * Orchestrates the compilation pipeline phases: ANALYZE, GENERATE, WRITE.
@@ -56,9 +84,17 @@ import javax.lang.model.util.Types;
  *   <li><strong>WRITE:</strong> Flush diagnostics to JSR-269 Messager</li>
  * </ul>
  *
+ * <h2>Profiling</h2>
+ * <p>
+ * The IR merge and the semantic enrichment are recorded as Flight Recorder events (see
+ * {@code io.hexaglue.core.internal.events}), next to the per-type analysis, plugin and artifact
+ * events recorded by the analyzers, the plugin scheduler and the artifact emitter.
+ * </p>
+ *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is not thread-safe. Each compilation round should have its own orchestrator instance.
+ * This class is not thread-safe. A single instance is kept for the whole compilation so that the
+ * IR can be accumulated across annotation-processing rounds (see {@link IrStore}).
  * </p>
  */
 @InternalMarker(reason = "Internal compilation orchestration; not exposed to plugins")
@@ -69,8 +105,19 @@ public final class PipelineOrchestrator {
     private final PluginExecutionPlan pluginPlan;
     private final OptionsView resolvedOptions;
     private final DebugLog debugLog;
+    private final ProcessorOptions options;
+    private final CompilationMetrics metrics;
+    private final IrStore irStore = new IrStore();
+    private IrCache irCache;
+    private boolean irCacheOpened;
+    private final EmittedArtifacts emittedArtifacts = new EmittedArtifacts();
     private IrSnapshot currentSnapshot;
+    private IrView irView;
+    private boolean snapshotChanged;
     private io.hexaglue.core.codegen.DefaultArtifactSink artifactSink;
+    private io.hexaglue.core.codegen.ArtifactEmitter artifactEmitter;
+    private ArtifactManifest artifactManifest;
+    private boolean artifactManifestOpened;
 
     /**
      * Creates a pipeline orchestrator with the given dependencies.
@@ -85,13 +132,33 @@ public final class PipelineOrchestrator {
             DiagnosticEngine diagnosticEngine,
             PluginExecutionPlan pluginPlan,
             OptionsView resolvedOptions) {
+        this(processingEnv, diagnosticEngine, pluginPlan, resolvedOptions, CompilationMetrics.create());
+    }
+
+    /**
+     * Creates a pipeline orchestrator recording analysis, plugin and emission metrics.
+     *
+     * @param processingEnv processing environment (not {@code null})
+     * @param diagnosticEngine diagnostic engine for error reporting (not {@code null})
+     * @param pluginPlan plugin execution plan (not {@code null})
+     * @param resolvedOptions resolved options view (not {@code null})
+     * @param metrics compilation metrics (not {@code null})
+     * @throws NullPointerException if any parameter is null
+     */
+    public PipelineOrchestrator(
+            ProcessingEnvironment processingEnv,
+            DiagnosticEngine diagnosticEngine,
+            PluginExecutionPlan pluginPlan,
+            OptionsView resolvedOptions,
+            CompilationMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
         this.processingEnv = Objects.requireNonNull(processingEnv, "processingEnv");
         this.diagnosticEngine = Objects.requireNonNull(diagnosticEngine, "diagnosticEngine");
         this.pluginPlan = Objects.requireNonNull(pluginPlan, "pluginPlan");
         this.resolvedOptions = Objects.requireNonNull(resolvedOptions, "resolvedOptions");
 
         // Initialize debug log
-        ProcessorOptions options = ProcessorOptions.parse(processingEnv);
+        this.options = ProcessorOptions.parse(processingEnv);
         this.debugLog = new DebugLog(processingEnv.getMessager(), options.isDebugEnabled(), "[HexaGlue]");
     }
 
@@ -103,12 +170,22 @@ public final class PipelineOrchestrator {
      * </p>
      * <ol>
      *   <li>Collects all TypeElements from root elements (including nested types)</li>
-     *   <li>Creates and invokes DomainAnalyzer to extract domain model</li>
-     *   <li>Creates and invokes PortAnalyzer to extract port model</li>
-     *   <li>Enriches domain model with cross-model semantics (e.g., aggregate root classification)</li>
+     *   <li>Keeps only elements not analyzed in a previous round (see {@link IrStore})</li>
+     *   <li>If the persistent IR cache is enabled, reuses cached IR for unchanged elements (see
+     *       {@link IrCache})</li>
+     *   <li>Creates and invokes DomainAnalyzer and PortAnalyzer, sharing one type resolver, to
+     *       extract the domain and port models from the remaining elements</li>
+     *   <li>Merges the round's results into the cumulative IR store</li>
+     *   <li>Enriches the cumulative domain model with cross-model semantics (e.g., aggregate root
+     *       classification)</li>
      *   <li>Builds IrSnapshot with enriched domain model and port model (app model empty for now)</li>
      * </ol>
      *
+     * <p>
+     * If the round contributes no new IR entries, the previously published snapshot is reused and
+     * enrichment is skipped.
+     * </p>
+     *
      * @param rootElements the root elements for this round (not {@code null})
      * @throws NullPointerException if rootElements is null
      */
@@ -117,40 +194,119 @@ public final class PipelineOrchestrator {
 
         debugLog.note("Starting IR analysis (rootElements=" + rootElements.size() + ")");
 
-        // 1. Collect all TypeElements
+        // 1. Collect all TypeElements, keeping only those not analyzed in earlier rounds
         Set<TypeElement> allTypes = collectAllTypes(rootElements);
-        debugLog.note("Collected " + allTypes.size() + " type elements");
+        Set<TypeElement> newTypes = irStore.claimNewElements(allTypes);
+        debugLog.note("Collected " + allTypes.size() + " type elements (" + newTypes.size() + " new)");
+
+        if (!newTypes.isEmpty()) {
+            // 2. Reuse cached IR for elements unchanged since the previous compilation
+            IrCache cache = irCache();
+            Map<String, IrCacheEntry> reused = new HashMap<>();
+            Map<String, String> fingerprints = new HashMap<>();
+            Set<TypeElement> toAnalyze = newTypes;
+            if (cache != null) {
+                toAnalyze = new LinkedHashSet<>();
+                for (TypeElement te : newTypes) {
+                    String qualifiedName = te.getQualifiedName().toString();
+                    String fingerprint = TypeFingerprint.of(processingEnv.getElementUtils(), te);
+                    fingerprints.put(qualifiedName, fingerprint);
+                    Optional<IrCacheEntry> entry = cache.lookup(te, fingerprint);
+                    if (entry.isPresent()) {
+                        reused.put(qualifiedName, entry.get());
+                        // The source still has the problems its extraction reported
+                        diagnosticEngine.reporter().reportAll(entry.get().diagnostics());
+                    } else {
+                        toAnalyze.add(te);
+                    }
+                }
+                debugLog.note("IR cache: " + reused.size() + " element(s) reused, " + toAnalyze.size()
+                        + " element(s) to analyze");
+            }
 
-        // 2. Get JSR-269 utilities
-        Elements elements = processingEnv.getElementUtils();
-        Types types = processingEnv.getTypeUtils();
+            DomainModel domainDelta = DomainModel.empty();
+            PortModel portDelta = PortModel.empty();
+            List<Diagnostic> analysisDiagnostics = new ArrayList<>();
+            if (!toAnalyze.isEmpty()) {
+                // 3. Get JSR-269 utilities
+                Elements elements = processingEnv.getElementUtils();
+
+                // javac is not thread-safe: analysis stays on the processing thread, and one resolver
+                // serves the whole round so that domain and port analysis share its type references
+                TypeResolver typeResolver = TypeResolver.create(elements);
+
+                // Diagnostics are kept with cache entries, so that a reused entry reports them again
+                DiagnosticReporter reporter = cache == null
+                        ? diagnosticEngine.reporter()
+                        : new RecordingReporter(diagnosticEngine.reporter(), analysisDiagnostics);
+
+                // 4. Analyze domain
+                debugLog.note("Analyzing domain...");
+                domainDelta = DomainAnalyzer.createDefault(elements, typeResolver, reporter)
+                        .analyze(toAnalyze);
+                debugLog.note(
+                        "Domain analysis completed: " + domainDelta.types().size() + " type(s) discovered");
+
+                // 5. Analyze ports
+                debugLog.note("Analyzing ports...");
+                portDelta = PortAnalyzer.createDefault(elements, typeResolver, reporter)
+                        .analyze(toAnalyze);
+                debugLog.note("Port analysis completed: " + portDelta.ports().size() + " port(s) discovered");
+            }
 
-        // 3. Analyze domain
-        debugLog.note("Analyzing domain...");
-        DomainAnalyzer domainAnalyzer = DomainAnalyzer.createDefault(elements, types, diagnosticEngine.reporter());
-        DomainModel domainModel = domainAnalyzer.analyze(allTypes);
-        debugLog.note("Domain analysis completed: " + domainModel.types().size() + " type(s) discovered");
+            metrics.recordAnalysis(toAnalyze.size(), reused.size());
 
-        // 4. Analyze ports
-        debugLog.note("Analyzing ports...");
-        PortAnalyzer portAnalyzer = PortAnalyzer.createDefault(elements, types, diagnosticEngine.reporter());
-        PortModel portModel = portAnalyzer.analyze(allTypes);
-        debugLog.note("Port analysis completed: " + portModel.ports().size() + " port(s) discovered");
+            // 6. Merge into the cumulative store, in element order regardless of where IR came from
+            IrMergeEvent mergeEvent = new IrMergeEvent();
+            mergeEvent.begin();
+            String mergeOutcome = "failed";
+            try {
+                if (cache == null) {
+                    irStore.merge(domainDelta, portDelta);
+                } else {
+                    mergeWithCache(cache, newTypes, fingerprints, reused, domainDelta, portDelta, analysisDiagnostics);
+                }
+                mergeOutcome = "completed";
+            } finally {
+                mergeEvent.finish(toAnalyze.size(), reused.size(), mergeOutcome);
+            }
+        }
 
-        // 5. Enrich domain with cross-model semantics (e.g., aggregate root classification)
+        if (!irStore.isStale()) {
+            debugLog.note("No new IR entries in this round, reusing previous snapshot");
+            this.snapshotChanged = false;
+            return;
+        }
+
+        // 7. Enrich cumulative domain with cross-model semantics (e.g., aggregate root classification)
+        DomainModel domainModel = irStore.domainModel();
+        PortModel portModel = irStore.portModel();
         debugLog.note("Enriching domain with semantic analysis...");
         DomainSemanticEnricher semanticEnricher = DomainSemanticEnricher.withDiagnostics(diagnosticEngine.reporter());
-        DomainModel enrichedDomainModel = semanticEnricher.enrich(domainModel, portModel);
+        EnrichmentEvent enrichmentEvent = new EnrichmentEvent();
+        enrichmentEvent.begin();
+        String enrichmentOutcome = "failed";
+        DomainModel enrichedDomainModel;
+        try {
+            enrichedDomainModel = semanticEnricher.enrich(domainModel, portModel);
+            enrichmentOutcome = "completed";
+        } finally {
+            enrichmentEvent.finish(domainModel.types().size(), portModel.ports().size(), enrichmentOutcome);
+        }
         debugLog.note("Semantic enrichment completed");
 
-        // 6. Create snapshot with enriched domain model (ApplicationModel empty for now)
+        // 8. Create snapshot with enriched domain model (ApplicationModel empty for now)
         this.currentSnapshot = IrSnapshot.builder()
                 .domainModel(enrichedDomainModel)
                 .portModel(portModel)
                 .applicationModel(ApplicationModel.empty())
                 .build();
+        irStore.publish(currentSnapshot);
+        this.snapshotChanged = true;
+        metrics.recordModel(
+                enrichedDomainModel.types().size(), portModel.ports().size());
 
-        debugLog.note("IR snapshot created successfully");
+        debugLog.note("IR snapshot created successfully (" + irStore + ")");
     }
 
     /**
@@ -161,12 +317,14 @@ public final class PipelineOrchestrator {
      * </p>
      * <ol>
      *   <li>Builds GenerationContextSpec from IR snapshot</li>
-     *   <li>Executes each plugin in order</li>
+     *   <li>Executes plugins in dependency order, in parallel when
+     *       {@link ProcessorOptions#KEY_PLUGIN_PARALLELISM} is set (see {@link PluginScheduler})</li>
      *   <li>Catches and reports plugin execution errors via diagnostics</li>
      * </ol>
      *
      * <p>
-     * If no snapshot exists (analyze phase wasn't run), this method does nothing.
+     * If no snapshot exists (analyze phase wasn't run), or if the snapshot did not change since
+     * the previous round, this method does nothing: plugins already generated artifacts for it.
      * </p>
      */
     public void executeGeneratePhase() {
@@ -174,21 +332,56 @@ public final class PipelineOrchestrator {
             debugLog.note("Skipping GENERATE phase: no IR snapshot available");
             return;
         }
+        if (!snapshotChanged) {
+            debugLog.note("Skipping GENERATE phase: IR snapshot unchanged since previous round");
+            return;
+        }
 
         debugLog.note("Starting GENERATE phase with " + pluginPlan.plugins().size() + " plugin(s)");
 
         // 1. Build GenerationContextSpec
         GenerationContextSpec context = buildGenerationContext();
 
-        // 2. Execute each plugin
-        for (DiscoveredPlugin plugin : pluginPlan.plugins()) {
-            debugLog.note("Executing plugin: " + plugin.id() + " (priority=" + plugin.priority() + ")");
-            try {
-                plugin.plugin().apply(context);
+        // 2. Execute plugins in dependency order
+        PluginScheduler scheduler = PluginScheduler.create(pluginPlan);
+        for (String warning : scheduler.warnings()) {
+            diagnosticEngine.reporter().warning(DiagnosticCode.of("HG-CORE-PLUGIN-100"), warning);
+        }
+        scheduler.execute(context, options.pluginParallelism(), new PluginScheduler.Listener() {
+            private long elapsedNanos;
+            private int artifactsBefore;
+            private final int[] diagnosticsBefore = new int[DiagnosticSeverity.values().length];
+
+            @Override
+            public void started(DiscoveredPlugin plugin) {
+                debugLog.note("Executing plugin: " + plugin.id() + " (priority=" + plugin.priority() + ")");
+                elapsedNanos = 0L;
+                artifactsBefore = artifactCount();
+                for (DiagnosticSeverity severity : DiagnosticSeverity.values()) {
+                    diagnosticsBefore[severity.ordinal()] =
+                            diagnosticEngine.sink().count(severity);
+                }
+            }
+
+            @Override
+            public void measured(DiscoveredPlugin plugin, long nanos) {
+                elapsedNanos = nanos;
+            }
+
+            @Override
+            public void completed(DiscoveredPlugin plugin) {
                 debugLog.note("Plugin " + plugin.id() + " completed successfully");
-            } catch (Exception e) {
+                record(plugin, false);
+            }
+
+            @Override
+            public void failed(DiscoveredPlugin plugin, Throwable error) {
+                if (error instanceof Error fatal) {
+                    record(plugin, true);
+                    throw fatal;
+                }
                 // Internal debug trace with full exception
-                debugLog.note("Plugin " + plugin.id() + " threw exception during GENERATE phase", e);
+                debugLog.note("Plugin " + plugin.id() + " threw exception during GENERATE phase", error);
 
                 // User-facing diagnostic
                 diagnosticEngine
@@ -197,8 +390,40 @@ public final class PipelineOrchestrator {
                                 DiagnosticCode.of("HG-CORE-PLUGIN-200"),
                                 "Plugin '" + plugin.id() + "' encountered an unexpected error during GENERATE. "
                                         + "Check plugin compatibility and report issue to plugin maintainer.");
+
+                // Recorded last so that the plugin's error count includes the diagnostic above
+                record(plugin, true);
             }
-        }
+
+            @Override
+            public void skipped(DiscoveredPlugin plugin, String reason) {
+                diagnosticEngine
+                        .reporter()
+                        .warning(
+                                DiagnosticCode.of("HG-CORE-PLUGIN-101"),
+                                "Plugin '" + plugin.id() + "' was skipped: " + reason + ".");
+            }
+
+            private void record(DiscoveredPlugin plugin, boolean failed) {
+                DiagnosticSink sink = diagnosticEngine.sink();
+                metrics.recordPlugin(new CompilationMetrics.PluginMetrics(
+                        plugin.id(),
+                        failed,
+                        elapsedNanos,
+                        artifactCount() - artifactsBefore,
+                        new CompilationMetrics.DiagnosticCounts(
+                                sink.count(DiagnosticSeverity.INFO)
+                                        - diagnosticsBefore[DiagnosticSeverity.INFO.ordinal()],
+                                sink.count(DiagnosticSeverity.WARNING)
+                                        - diagnosticsBefore[DiagnosticSeverity.WARNING.ordinal()],
+                                sink.count(DiagnosticSeverity.ERROR)
+                                        - diagnosticsBefore[DiagnosticSeverity.ERROR.ordinal()])));
+            }
+
+            private int artifactCount() {
+                return artifactSink != null ? artifactSink.totalArtifactCount() : 0;
+            }
+        });
 
         debugLog.note("GENERATE phase completed");
     }
@@ -212,7 +437,8 @@ public final class PipelineOrchestrator {
      * <ol>
      *   <li>Builds artifact plan from collected artifacts</li>
      *   <li>Emits all artifacts (sources, resources, docs) using JSR-269 Filer</li>
-     *   <li>Flushes diagnostic messages (INFO, WARNING, ERROR) to JSR-269 Messager</li>
+     *   <li>Flushes diagnostic messages (INFO, WARNING, ERROR) reported since the previous round to
+     *       JSR-269 Messager</li>
      * </ol>
      */
     public void executeWritePhase() {
@@ -220,14 +446,19 @@ public final class PipelineOrchestrator {
 
         // 1. Emit artifacts if any were collected
         if (artifactSink != null) {
-            io.hexaglue.core.codegen.ArtifactPlan plan = artifactSink.buildPlan();
+            if (artifactSink.isStreaming()) {
+                debugLog.note("Streamed " + artifactSink.streamedArtifactCount() + " artifact(s) during GENERATE");
+            }
+            io.hexaglue.core.codegen.ArtifactPlan plan = withoutPreviouslyEmitted(artifactSink.buildPlan());
+            io.hexaglue.core.codegen.ArtifactEmitter emitter = artifactEmitter;
+            this.artifactSink = null;
+            this.artifactEmitter = null;
             debugLog.note("Emitting " + plan.sourceFiles().size() + " source file(s)");
 
-            io.hexaglue.core.codegen.ArtifactEmitter emitter =
-                    new io.hexaglue.core.codegen.ArtifactEmitter(processingEnv.getFiler(), diagnosticEngine.reporter());
-
             emitter.emit(plan);
-            debugLog.note("Artifact emission completed");
+            metrics.recordEmission(emitter.writtenCount(), emitter.skippedCount(), emitter.bytesWritten());
+            debugLog.note("Artifact emission completed: " + emitter.writtenCount() + " written, "
+                    + emitter.skippedCount() + " unchanged (skipped)");
         } else {
             debugLog.note("No artifacts to emit");
         }
@@ -297,12 +528,13 @@ public final class PipelineOrchestrator {
      * </p>
      * <ol>
      *   <li>Logs final compilation statistics</li>
-     *   <li>Performs cleanup (if needed)</li>
+     *   <li>Writes the persistent IR cache, if enabled and the compilation reported no errors</li>
      *   <li>Logs completion message</li>
      * </ol>
      *
      * <p>
-     * This phase does not generate any artifacts or diagnostics.
+     * This phase does not generate any artifacts or diagnostics. The IR cache is best-effort: a
+     * failure to write it is only traced in debug logs.
      * </p>
      */
     public void executeFinishPhase() {
@@ -319,9 +551,153 @@ public final class PipelineOrchestrator {
         // Log plugin execution summary
         debugLog.note("Executed " + pluginPlan.plugins().size() + " plugin(s)");
 
+        // Persist IR cache for the next compilation
+        if (irCache != null) {
+            if (diagnosticEngine.hasErrors()) {
+                debugLog.note("Skipping IR cache update: compilation reported errors");
+            } else {
+                try {
+                    irCache.save();
+                    debugLog.note("IR cache written: " + irCache);
+                } catch (IOException e) {
+                    debugLog.note("Failed to write IR cache " + irCache.file(), e);
+                }
+            }
+        }
+
+        // Persist artifact manifest for the next compilation
+        if (artifactManifest != null) {
+            if (diagnosticEngine.hasErrors()) {
+                debugLog.note("Skipping artifact manifest update: compilation reported errors");
+            } else {
+                try {
+                    artifactManifest.save();
+                    debugLog.note("Artifact manifest written: " + artifactManifest);
+                } catch (IOException e) {
+                    debugLog.note("Failed to write artifact manifest " + artifactManifest.file(), e);
+                }
+            }
+        }
+
         debugLog.note("FINISH phase completed - compilation finished");
     }
 
+    /**
+     * Returns the persistent IR cache, opening it on first use.
+     *
+     * @return cache, or {@code null} if disabled or no cache directory is available
+     */
+    private IrCache irCache() {
+        if (irCacheOpened) {
+            return irCache;
+        }
+        irCacheOpened = true;
+        if (!options.isIrCacheEnabled()) {
+            return null;
+        }
+
+        Optional<Path> directory =
+                options.irCacheDirectory().map(Path::of).or(() -> IrCache.defaultDirectory(processingEnv.getFiler()));
+        if (directory.isEmpty()) {
+            debugLog.note("IR cache disabled: class output is not a local directory");
+            return null;
+        }
+
+        this.irCache = IrCache.open(directory.get());
+        irCache.loadFailure().ifPresent(failure -> debugLog.note("Ignoring unreadable IR cache: " + failure));
+        debugLog.note("IR cache opened: " + irCache);
+        return irCache;
+    }
+
+    /**
+     * Returns the manifest of previously written artifacts, opening it on first use.
+     *
+     * <p>
+     * The manifest is stored next to the IR cache, in a directory of its own for each class
+     * output (see {@link ArtifactManifest#openDefault(javax.annotation.processing.Filer)}).
+     * </p>
+     *
+     * @return manifest, or {@code null} if disabled or the output directories are not local
+     */
+    private ArtifactManifest artifactManifest() {
+        if (artifactManifestOpened) {
+            return artifactManifest;
+        }
+        artifactManifestOpened = true;
+        if (!options.isSkipUnchangedEnabled()) {
+            return null;
+        }
+
+        Optional<ArtifactManifest> manifest = ArtifactManifest.openDefault(processingEnv.getFiler());
+        if (manifest.isEmpty()) {
+            debugLog.note("Skipping unchanged artifacts disabled: output locations are not local directories");
+            return null;
+        }
+
+        this.artifactManifest = manifest.get();
+        debugLog.note("Artifact manifest opened: " + artifactManifest);
+        return artifactManifest;
+    }
+
+    /**
+     * Merges reused and freshly extracted IR into the store, and records both in the cache.
+     *
+     * <p>
+     * Entries are merged in the iteration order of the round's elements so that the snapshot does
+     * not depend on which elements were served from the cache. Fresh entries keep the analysis
+     * diagnostics located on their element.
+     * </p>
+     */
+    private void mergeWithCache(
+            IrCache cache,
+            Set<TypeElement> newTypes,
+            Map<String, String> fingerprints,
+            Map<String, IrCacheEntry> reused,
+            DomainModel domainDelta,
+            PortModel portDelta,
+            List<Diagnostic> analysisDiagnostics) {
+        Map<String, List<Diagnostic>> extractedDiagnostics = new HashMap<>();
+        for (Diagnostic diagnostic : analysisDiagnostics) {
+            diagnostic.location().qualifiedName().ifPresent(name -> extractedDiagnostics
+                    .computeIfAbsent(name, k -> new ArrayList<>())
+                    .add(diagnostic));
+        }
+        Map<String, DomainType> extractedTypes = new HashMap<>();
+        domainDelta.types().forEach(t -> extractedTypes.put(t.qualifiedName(), t));
+        Map<String, DomainService> extractedServices = new HashMap<>();
+        domainDelta.services().forEach(s -> extractedServices.put(s.qualifiedName(), s));
+        Map<String, Port> extractedPorts = new HashMap<>();
+        portDelta.ports().forEach(p -> extractedPorts.put(p.qualifiedName(), p));
+
+        List<DomainType> domainTypes = new ArrayList<>();
+        List<DomainService> domainServices = new ArrayList<>();
+        List<Port> ports = new ArrayList<>();
+        for (TypeElement te : newTypes) {
+            String qualifiedName = te.getQualifiedName().toString();
+            IrCacheEntry entry = reused.get(qualifiedName);
+            if (entry == null) {
+                entry = IrCacheEntry.of(
+                        qualifiedName,
+                        fingerprints.get(qualifiedName),
+                        extractedTypes.get(qualifiedName),
+                        extractedServices.get(qualifiedName),
+                        extractedPorts.get(qualifiedName),
+                        extractedDiagnostics.getOrDefault(qualifiedName, List.of()));
+            }
+            cache.record(entry);
+            entry.domainType().ifPresent(domainTypes::add);
+            entry.domainService().ifPresent(domainServices::add);
+            entry.port().ifPresent(ports::add);
+        }
+
+        irStore.merge(
+                DomainModel.builder()
+                        .addTypes(domainTypes)
+                        .addServices(domainServices)
+                        .build(),
+                PortModel.builder().addPorts(ports).build());
+    }
+
     /**
      * Collects all TypeElements from root elements by recursively traversing nested types.
      *
@@ -338,12 +714,18 @@ public final class PipelineOrchestrator {
      * compilation unit.
      * </p>
      *
+     * <p>
+     * Collected types and their members are also registered in the diagnostic engine's
+     * {@link ElementIndex}, so diagnostics can be attached to their source elements.
+     * </p>
+     *
      * @param roots root elements from the round (not {@code null})
      * @return set of all TypeElements (never {@code null})
      */
     private Set<TypeElement> collectAllTypes(Set<? extends Element> roots) {
-        Set<TypeElement> collected = new HashSet<>();
+        Set<TypeElement> collected = new LinkedHashSet<>();
         Queue<Element> toProcess = new LinkedList<>(roots);
+        ElementIndex elementIndex = diagnosticEngine.elementIndex();
 
         while (!toProcess.isEmpty()) {
             Element current = toProcess.poll();
@@ -353,6 +735,10 @@ public final class PipelineOrchestrator {
                 if (!collected.add(te)) {
                     continue; // Already processed
                 }
+                elementIndex.registerType(te);
+            } else if (current.getEnclosingElement() instanceof TypeElement owner) {
+                // Index members so diagnostics can point at them
+                elementIndex.registerMember(owner, current);
             }
 
             // Add all enclosed elements for further processing
@@ -362,22 +748,125 @@ public final class PipelineOrchestrator {
         return collected;
     }
 
+    /**
+     * Removes artifacts that were already emitted in an earlier round.
+     *
+     * <p>
+     * The IR snapshot is cumulative across rounds, so plugins re-generate artifacts for types
+     * discovered in earlier rounds. The {@link javax.annotation.processing.Filer} refuses to
+     * recreate a file within the same compilation, so only artifacts not emitted yet are kept. An
+     * artifact whose content changed since it was emitted is reported as a warning.
+     * </p>
+     *
+     * @param plan plan built from this round's artifact sink (not {@code null})
+     * @return plan restricted to artifacts emitted for the first time (never {@code null})
+     */
+    private io.hexaglue.core.codegen.ArtifactPlan withoutPreviouslyEmitted(io.hexaglue.core.codegen.ArtifactPlan plan) {
+        io.hexaglue.core.codegen.ArtifactPlan.Builder fresh = io.hexaglue.core.codegen.ArtifactPlan.builder();
+        int skipped = 0;
+        for (var file : plan.sourceFiles()) {
+            var mark = emittedArtifacts.markSource(file.qualifiedTypeName(), ArtifactManifest.hash(file.content()));
+            if (mark == EmittedArtifacts.Mark.FIRST) {
+                fresh.addSource(file);
+            } else {
+                reportIfChanged(mark, "source file", file.qualifiedTypeName());
+                skipped++;
+            }
+        }
+        for (var file : plan.resourceFiles()) {
+            String hash = file.text().isPresent()
+                    ? ArtifactManifest.hash(file.text().get())
+                    : ArtifactManifest.hash(file.bytes().get());
+            var mark = emittedArtifacts.markResource(file.path(), hash);
+            if (mark == EmittedArtifacts.Mark.FIRST) {
+                fresh.addResource(file);
+            } else {
+                reportIfChanged(mark, "resource file", file.path());
+                skipped++;
+            }
+        }
+        for (var file : plan.docFiles()) {
+            var mark = emittedArtifacts.markDoc(file.path(), ArtifactManifest.hash(file.content()));
+            if (mark == EmittedArtifacts.Mark.FIRST) {
+                fresh.addDoc(file);
+            } else {
+                reportIfChanged(mark, "documentation file", file.path());
+                skipped++;
+            }
+        }
+        if (skipped > 0) {
+            debugLog.note("Skipping " + skipped + " artifact(s) already emitted in a previous round");
+        }
+        return fresh.build();
+    }
+
+    private void reportIfChanged(EmittedArtifacts.Mark mark, String kind, String name) {
+        if (mark == EmittedArtifacts.Mark.CHANGED) {
+            diagnosticEngine.reporter().report(EmittedArtifacts.changedInLaterRound(kind, name));
+        }
+    }
+
     /**
      * Builds a GenerationContextSpec for plugin execution.
      *
      * <p>
      * This method uses the {@link GenerationContextBuilder} to assemble all required
      * SPI components from the current IR snapshot and processor environment.
-     * Creates the artifact sink that will collect all generated artifacts.
+     * Creates the artifact sink that will collect all generated artifacts, or emit them as they
+     * are written when {@link ProcessorOptions#KEY_STREAMING_EMISSION} is enabled.
      * </p>
      *
      * @return generation context for plugins (never {@code null})
      */
     private GenerationContextSpec buildGenerationContext() {
-        // Create artifact sink for collecting generated artifacts
-        this.artifactSink = new io.hexaglue.core.codegen.DefaultArtifactSink(diagnosticEngine.reporter());
+        // One emitter per round, shared by streaming emission and the WRITE phase
+        this.artifactEmitter = new io.hexaglue.core.codegen.ArtifactEmitter(
+                processingEnv.getFiler(), diagnosticEngine.reporter(), artifactManifest());
+
+        // Create artifact sink for collecting (or, in streaming mode, emitting) generated artifacts
+        if (options.isStreamingEmissionEnabled()) {
+            this.artifactSink = io.hexaglue.core.codegen.DefaultArtifactSink.streaming(
+                    diagnosticEngine.reporter(), artifactEmitter, emittedArtifacts);
+        } else {
+            this.artifactSink = new io.hexaglue.core.codegen.DefaultArtifactSink(diagnosticEngine.reporter());
+        }
 
+        // Views are adapted lazily; keep them while the snapshot stays the same
+        this.irView = IrViewAdapter.reuse(irView, currentSnapshot);
         return GenerationContextBuilder.build(
-                currentSnapshot, diagnosticEngine, processingEnv, pluginPlan, artifactSink, resolvedOptions);
+                irView, diagnosticEngine, processingEnv, pluginPlan, artifactSink, resolvedOptions);
+    }
+
+    /**
+     * Reporter forwarding to the diagnostic engine and recording what it forwards.
+     *
+     * <p>
+     * Diagnostics are recorded before the engine's {@code DiagnosticPolicy} filters them: lazily
+     * built diagnostics are always built. Cache entries therefore do not depend on the policy of the
+     * compilation that wrote them, and a reused entry is filtered and capped by the current one.
+     * </p>
+     */
+    private static final class RecordingReporter implements DiagnosticReporter {
+
+        private final DiagnosticReporter delegate;
+        private final List<Diagnostic> recorded;
+
+        RecordingReporter(DiagnosticReporter delegate, List<Diagnostic> recorded) {
+            this.delegate = delegate;
+            this.recorded = recorded;
+        }
+
+        @Override
+        public void report(Diagnostic diagnostic) {
+            recorded.add(diagnostic);
+            delegate.report(diagnostic);
+        }
+
+        @Override
+        public void report(DiagnosticSeverity severity, DiagnosticCode code, Supplier<Diagnostic> diagnostic) {
+            Diagnostic built = Objects.requireNonNull(diagnostic.get(), "diagnostic.get()");
+            recorded.add(built);
+            delegate.report(severity, code, () -> built);
+        }
     }
 }
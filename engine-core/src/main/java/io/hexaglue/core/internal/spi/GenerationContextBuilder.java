@@ -96,14 +96,47 @@ public final class GenerationContextBuilder {
             OptionsView resolvedOptions) {
 
         Objects.requireNonNull(snapshot, "snapshot");
+
+        // 1. Create IR view from snapshot
+        return build(
+                IrViewAdapter.from(snapshot),
+                diagnosticEngine,
+                processingEnv,
+                pluginPlan,
+                artifactSink,
+                resolvedOptions);
+    }
+
+    /**
+     * Builds a {@link GenerationContextSpec} for plugin execution over an existing IR view.
+     *
+     * <p>
+     * Callers that keep the view returned by {@link IrViewAdapter#reuse(IrView, IrSnapshot)} use
+     * this overload so that views already materialized by plugins are not adapted again.
+     * </p>
+     *
+     * @param irView IR view exposed to plugins (not {@code null})
+     * @param diagnosticEngine diagnostic engine for error reporting (not {@code null})
+     * @param processingEnv annotation processing environment (not {@code null})
+     * @param pluginPlan plugin execution plan (not {@code null})
+     * @param artifactSink artifact sink for collecting generated artifacts (not {@code null})
+     * @return generation context for plugins (never {@code null})
+     * @throws NullPointerException if any parameter is null
+     */
+    public static GenerationContextSpec build(
+            IrView irView,
+            DiagnosticEngine diagnosticEngine,
+            ProcessingEnvironment processingEnv,
+            PluginExecutionPlan pluginPlan,
+            ArtifactSink artifactSink,
+            OptionsView resolvedOptions) {
+
+        Objects.requireNonNull(irView, "irView");
         Objects.requireNonNull(diagnosticEngine, "diagnosticEngine");
         Objects.requireNonNull(processingEnv, "processingEnv");
         Objects.requireNonNull(pluginPlan, "pluginPlan");
         Objects.requireNonNull(artifactSink, "artifactSink");
 
-        // 1. Create IR view from snapshot
-        IrView irView = IrViewAdapter.from(snapshot);
-
         // 2. Get diagnostic reporter from engine
         DiagnosticReporter diagnosticReporter = diagnosticEngine.reporter();
 
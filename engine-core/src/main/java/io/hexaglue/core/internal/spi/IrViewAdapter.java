@@ -22,6 +22,9 @@ import io.hexaglue.core.internal.ir.domain.DomainType;
 import io.hexaglue.core.internal.ir.ports.Port;
 import io.hexaglue.core.internal.ir.ports.PortModel;
 import io.hexaglue.spi.ir.IrView;
+import io.hexaglue.spi.ir.TypeReference;
+import io.hexaglue.spi.ir.TypeReferenceGraph;
+import io.hexaglue.spi.ir.TypeReferenceKind;
 import io.hexaglue.spi.ir.app.ApplicationModelView;
 import io.hexaglue.spi.ir.domain.AnnotationView;
 import io.hexaglue.spi.ir.domain.DomainIdView;
@@ -30,13 +33,26 @@ import io.hexaglue.spi.ir.domain.DomainPropertyView;
 import io.hexaglue.spi.ir.domain.DomainServiceView;
 import io.hexaglue.spi.ir.domain.DomainTypeKind;
 import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortDirection;
 import io.hexaglue.spi.ir.ports.PortModelView;
 import io.hexaglue.spi.ir.ports.PortView;
 import io.hexaglue.spi.types.TypeRef;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Adapter that converts internal IR models to SPI-compatible views for plugin consumption.
@@ -48,24 +64,45 @@ import java.util.stream.Collectors;
  *
  * <h2>Design Strategy</h2>
  * <p>
- * The adapter leverages the fact that internal model classes already implement their
- * corresponding SPI interfaces:
+ * Views are thin adapters backed directly by the internal IR. Nothing is copied up front:
  * </p>
  * <ul>
- *   <li>{@link Port} implements {@link PortView}</li>
- *   <li>This allows direct casting without object creation overhead</li>
+ *   <li>{@link Port} implements {@link PortView}, so the port list is exposed as-is through an
+ *       unmodifiable wrapper</li>
+ *   <li>Domain type and property views are created the first time a plugin reaches them and
+ *       memoized, so repeated accesses return the same instance</li>
+ *   <li>Annotation and identity views are converted on first access only</li>
  * </ul>
+ * <p>
+ * A plugin that only reads ports therefore never pays for adapting the domain model.
+ * </p>
  *
  * <h2>Conversion Strategy</h2>
  * <ul>
- *   <li><strong>PortModelView:</strong> Uses {@link PortModelView#of(List)} factory with {@link Port} list</li>
- *   <li><strong>DomainModelView:</strong> Uses {@link DomainModelView#of(List, List)} factory</li>
+ *   <li><strong>PortModelView:</strong> Wraps {@link PortModel#ports()} without copying</li>
+ *   <li><strong>DomainModelView:</strong> Random-access list over {@link DomainModel#types()} that
+ *       materializes one {@link DomainTypeView} per slot on demand</li>
  *   <li><strong>ApplicationModelView:</strong> Uses {@link ApplicationModelView#unsupported()} for now</li>
  * </ul>
+ * <p>
+ * Queries by name, kind, direction and package are answered from the models' own indexes
+ * ({@link DomainModel#index()}, {@link PortModel#index()}) and return results in declaration order.
+ * Queries by referenced type are answered from the type-reference graph that
+ * {@link IrSnapshot#typeReferences()} builds once per snapshot, the same graph behind
+ * {@link IrView#referencesTo(String)}; no view is materialized to build it.
+ * </p>
+ *
+ * <h2>Reuse</h2>
+ * <p>
+ * {@link #reuse(IrView, IrSnapshot)} hands back a previously created view when it is backed by the
+ * same snapshot, keeping every view materialized so far instead of adapting the model again.
+ * </p>
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This adapter is stateless and thread-safe. The underlying {@link IrSnapshot} is immutable.
+ * This adapter is stateless and thread-safe. The underlying {@link IrSnapshot} is immutable, and the
+ * returned views are safe for concurrent use by plugins running in parallel: lazily created views
+ * are published atomically, so all callers observe the same instance.
  * </p>
  */
 @InternalMarker(reason = "Internal SPI adapter; not exposed to plugins")
@@ -81,6 +118,7 @@ public final class IrViewAdapter {
      * <p>
      * This method adapts the internal IR representation to the plugin-facing SPI interface.
      * The resulting view is read-only and provides access to domain, port, and application models.
+     * Model views are created lazily on first access.
      * </p>
      *
      * @param snapshot IR snapshot from analysis phase (not {@code null})
@@ -89,289 +127,499 @@ public final class IrViewAdapter {
      */
     public static IrView from(IrSnapshot snapshot) {
         Objects.requireNonNull(snapshot, "snapshot");
+        return new IrViewImpl(snapshot);
+    }
 
-        // Convert each model to its corresponding view
-        DomainModelView domainView = adaptDomainModel(snapshot.domainModel(), snapshot);
-        PortModelView portView = adaptPortModel(snapshot.portModel());
-        ApplicationModelView appView = adaptApplicationModel(snapshot.applicationModel());
-
-        // Create immutable IrView implementation
-        return new IrViewImpl(domainView, portView, appView);
+    /**
+     * Returns {@code previous} if it was created by this adapter for the same snapshot, or a new
+     * view over {@code snapshot} otherwise.
+     *
+     * @param previous previously returned view (nullable)
+     * @param snapshot current IR snapshot (not {@code null})
+     * @return IR view backed by {@code snapshot} (never {@code null})
+     * @throws NullPointerException if snapshot is null
+     */
+    public static IrView reuse(IrView previous, IrSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot");
+        if (previous instanceof IrViewImpl view && view.snapshot == snapshot) {
+            return view;
+        }
+        return from(snapshot);
     }
 
     /**
      * Adapts a {@link DomainModel} to {@link DomainModelView}.
      *
      * <p>
-     * This method converts internal domain types and services to their SPI view equivalents
-     * using the factory methods provided by the SPI interfaces.
-     * </p>
-     *
-     * <p>
      * <strong>Note:</strong> Aggregate root classification is performed during the ANALYZE phase
      * and stored in the IR. This adapter simply reflects the IR state without recomputing semantics.
      * </p>
      *
-     * @param domainModel internal domain model (nullable)
-     * @param snapshot    full IR snapshot (not {@code null}) - parameter kept for future use
+     * @param snapshot IR snapshot holding the domain model (not {@code null})
      * @return domain model view (never {@code null})
      */
-    private static DomainModelView adaptDomainModel(DomainModel domainModel, IrSnapshot snapshot) {
+    private static DomainModelView adaptDomainModel(IrSnapshot snapshot) {
+        DomainModel domainModel = snapshot.domainModel();
         if (domainModel == null) {
             return DomainModelView.of(List.of(), List.of());
         }
+        return new LazyDomainModelView(domainModel, snapshot::typeReferences);
+    }
 
-        // Convert domain types - no semantic recomputation, just mapping
-        List<DomainTypeView> typeViews =
-                domainModel.types().stream().map(IrViewAdapter::adaptDomainType).collect(Collectors.toList());
-
-        // Convert domain services
-        // Note: DomainService to DomainServiceView conversion not yet implemented, so we pass empty list for now
-        List<DomainServiceView> serviceViews = List.of();
-
-        return DomainModelView.of(typeViews, serviceViews);
+    /**
+     * Adapts a {@link PortModel} to {@link PortModelView}.
+     *
+     * @param snapshot IR snapshot holding the port model (not {@code null})
+     * @return port model view (never {@code null})
+     */
+    private static PortModelView adaptPortModel(IrSnapshot snapshot) {
+        PortModel portModel = snapshot.portModel();
+        if (portModel == null) {
+            return PortModelView.of(List.of());
+        }
+        return new PortModelViewImpl(portModel, snapshot::typeReferences);
     }
 
     /**
-     * Adapts a {@link DomainType} to {@link DomainTypeView}.
+     * Adapts an {@link ApplicationModel} to {@link ApplicationModelView}.
      *
      * <p>
-     * This is a thin mapping layer that exposes the IR state without semantic recomputation.
-     * The domain type kind (including {@code AGGREGATE_ROOT} classification) has already been
-     * determined during the ANALYZE phase.
+     * For now, this returns an unsupported view since application service analysis
+     * is not yet implemented.
      * </p>
      *
-     * @param domainType internal domain type (not {@code null})
-     * @return domain type view (never {@code null})
-     * @throws NullPointerException if domainType is null
+     * @param applicationModel internal application model (nullable)
+     * @return application model view (never {@code null})
      */
-    private static DomainTypeView adaptDomainType(DomainType domainType) {
-        Objects.requireNonNull(domainType, "domainType");
-
-        // Convert properties
-        List<DomainPropertyView> propertyViews = domainType.properties().stream()
-                .map(IrViewAdapter::adaptDomainProperty)
-                .collect(Collectors.toList());
-
-        // Convert id
-        DomainIdView idView = domainType.id().map(IrViewAdapter::adaptDomainId).orElse(null);
-
-        // Extract description
-        String description = domainType.description().orElse(null);
-
-        // Create view using factory - wrap to add annotation support
-        DomainTypeView baseView = DomainTypeView.of(
-                domainType.qualifiedName(),
-                domainType.simpleName(),
-                domainType.kind(),
-                domainType.type(),
-                propertyViews,
-                idView,
-                domainType.isImmutable(),
-                description);
-
-        // Wrap to add annotations() support
-        return new DomainTypeViewWithAnnotations(baseView, domainType);
+    private static ApplicationModelView adaptApplicationModel(ApplicationModel applicationModel) {
+        // Application model analysis not yet implemented
+        return ApplicationModelView.unsupported();
+    }
+
+    private static String requireQualifiedName(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        String qn = qualifiedName.trim();
+        if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
+        return qn;
+    }
+
+    private static String trimToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value.trim();
+    }
+
+    private static <S> Map<S, Integer> identityPositions(List<S> source) {
+        Map<S, Integer> positions = new IdentityHashMap<>(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            positions.put(source.get(i), i);
+        }
+        return positions;
     }
 
     /**
-     * Adapts a {@link DomainProperty} to {@link DomainPropertyView}.
+     * Maps index matches to the views at the same positions, in declaration order.
      *
-     * @param property internal domain property (not {@code null})
-     * @return domain property view (never {@code null})
+     * <p>
+     * Index results may come grouped by package rather than in declaration order; sorting the
+     * positions restores the order plugins see in the full lists.
+     * </p>
      */
-    private static DomainPropertyView adaptDomainProperty(DomainProperty property) {
-        Objects.requireNonNull(property, "property");
-
-        String declaringType = property.declaringType().orElse(null);
+    private static <S, V> List<V> inDeclarationOrder(
+            List<S> matches, Map<S, Integer> positions, List<? extends V> views) {
+        int[] slots = new int[matches.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = positions.get(matches.get(i));
+        }
+        Arrays.sort(slots);
+        List<V> result = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            result.add(views.get(slot));
+        }
+        return Collections.unmodifiableList(result);
+    }
 
-        DomainPropertyView baseView = DomainPropertyView.of(
-                property.name(), property.type(), property.isIdentity(), property.isImmutable(), declaringType);
+    /**
+     * Returns the IR elements declaring at least one reference to {@code target}, each once.
+     *
+     * @param fromPorts {@code true} to keep port method edges, {@code false} for domain type edges
+     */
+    private static <S> List<S> referencingSources(
+            TypeReferenceGraph graph, String target, boolean fromPorts, Function<String, Optional<S>> lookup) {
+        Set<String> sources = new LinkedHashSet<>();
+        for (TypeReference reference : graph.referencesTo(target)) {
+            if (isPortReference(reference.kind()) == fromPorts) {
+                sources.add(reference.source());
+            }
+        }
+        List<S> matches = new ArrayList<>(sources.size());
+        for (String source : sources) {
+            lookup.apply(source).ifPresent(matches::add);
+        }
+        return matches;
+    }
 
-        // Wrap with annotations support
-        return new DomainPropertyViewWithAnnotations(baseView, property);
+    private static boolean isPortReference(TypeReferenceKind kind) {
+        return kind == TypeReferenceKind.METHOD_RETURN || kind == TypeReferenceKind.METHOD_PARAMETER;
     }
 
     /**
-     * Adapts a {@link DomainId} to {@link DomainIdView}.
-     *
-     * @param id internal domain id (not {@code null})
-     * @return domain id view (never {@code null})
+     * {@link IrView} over an {@link IrSnapshot} whose model views are created on first access.
      */
-    private static DomainIdView adaptDomainId(DomainId id) {
-        Objects.requireNonNull(id, "id");
+    private static final class IrViewImpl implements IrView {
+        private final IrSnapshot snapshot;
+        private volatile DomainModelView domainView;
+        private volatile PortModelView portView;
+        private volatile ApplicationModelView appView;
+
+        IrViewImpl(IrSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public DomainModelView domain() {
+            DomainModelView result = domainView;
+            if (result == null) {
+                synchronized (this) {
+                    result = domainView;
+                    if (result == null) {
+                        domainView = result = adaptDomainModel(snapshot);
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public PortModelView ports() {
+            PortModelView result = portView;
+            if (result == null) {
+                synchronized (this) {
+                    result = portView;
+                    if (result == null) {
+                        portView = result = adaptPortModel(snapshot);
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public ApplicationModelView application() {
+            ApplicationModelView result = appView;
+            if (result == null) {
+                synchronized (this) {
+                    result = appView;
+                    if (result == null) {
+                        appView = result = adaptApplicationModel(snapshot.applicationModel());
+                    }
+                }
+            }
+            return result;
+        }
 
-        String declaringEntity = id.declaringEntity().orElse(null);
+        @Override
+        public TypeReferenceGraph typeReferences() {
+            // Built once per snapshot from the internal IR, without materializing views
+            return snapshot.typeReferences();
+        }
 
-        return DomainIdView.of(declaringEntity, id.name(), id.type(), id.isComposite());
+        @Override
+        public String toString() {
+            ApplicationModelView app = application();
+            return "IrView{ports=" + ports().allPorts().size() + ", domain="
+                    + domain().allTypes().size() + ", app="
+                    + (app.isSupported() ? app.allServices().size() : "unsupported") + "}";
+        }
     }
 
     /**
-     * Adapts a {@link PortModel} to {@link PortModelView}.
+     * Unmodifiable, random-access list that adapts each source element on first access.
      *
      * <p>
-     * Since {@link Port} already implements {@link PortView}, we can directly
-     * use the port list from the model. The {@link PortModelView#of(List)} factory
-     * creates an immutable view wrapper.
+     * Adapted elements are published with a compare-and-set, so concurrent readers of the same
+     * slot always observe a single instance.
      * </p>
      *
-     * @param portModel internal port model (nullable)
-     * @return port model view (never {@code null})
+     * @param <S> source element type
+     * @param <V> view element type
      */
-    private static PortModelView adaptPortModel(PortModel portModel) {
-        if (portModel == null) {
-            return PortModelView.of(List.of());
+    private static final class AdaptedList<S, V> extends AbstractList<V> implements RandomAccess {
+        private final List<S> source;
+        private final Function<S, V> adapter;
+        private final AtomicReferenceArray<V> views;
+
+        AdaptedList(List<S> source, Function<S, V> adapter) {
+            this.source = source;
+            this.adapter = adapter;
+            this.views = new AtomicReferenceArray<>(source.size());
         }
 
-        // Port implements PortView, so we can cast the list
-        List<Port> ports = portModel.ports();
-        List<PortView> portViews = List.copyOf(ports); // Port implements PortView
+        @Override
+        public V get(int index) {
+            V view = views.get(index);
+            if (view == null) {
+                V created = adapter.apply(source.get(index));
+                view = views.compareAndExchange(index, null, created);
+                if (view == null) {
+                    view = created;
+                }
+            }
+            return view;
+        }
 
-        return PortModelView.of(portViews);
+        @Override
+        public int size() {
+            return source.size();
+        }
     }
 
     /**
-     * Adapts an {@link ApplicationModel} to {@link ApplicationModelView}.
+     * {@link DomainModelView} backed by a {@link DomainModel}.
      *
      * <p>
-     * For now, this returns an unsupported view since application service analysis
-     * is not yet implemented.
+     * Lookups by name, kind and package go through the model's {@link DomainModel#index()}; the
+     * matching IR types are mapped back to their memoized views by position, and results keep
+     * declaration order. Results by kind are computed once; types referencing a given type are
+     * looked up in the snapshot's {@link TypeReferenceGraph}.
      * </p>
-     *
-     * @param applicationModel internal application model (nullable)
-     * @return application model view (never {@code null})
      */
-    private static ApplicationModelView adaptApplicationModel(ApplicationModel applicationModel) {
-        // Application model analysis not yet implemented
-        return ApplicationModelView.unsupported();
+    private static final class LazyDomainModelView implements DomainModelView {
+        private final DomainModel domainModel;
+        private final Supplier<TypeReferenceGraph> typeReferences;
+        private final AdaptedList<DomainType, DomainTypeView> types;
+        private final Map<DomainTypeKind, List<DomainTypeView>> typesByKind = new ConcurrentHashMap<>();
+        private final Map<String, List<DomainTypeView>> typesByReference = new ConcurrentHashMap<>();
+        private volatile Map<DomainType, Integer> positions;
+
+        LazyDomainModelView(DomainModel domainModel, Supplier<TypeReferenceGraph> typeReferences) {
+            this.domainModel = domainModel;
+            this.typeReferences = typeReferences;
+            this.types = new AdaptedList<>(domainModel.types(), DomainTypeAdapter::new);
+        }
+
+        @Override
+        public List<DomainTypeView> allTypes() {
+            return types;
+        }
+
+        @Override
+        public Optional<DomainTypeView> findType(String qualifiedName) {
+            return domainModel.findType(requireQualifiedName(qualifiedName)).map(this::view);
+        }
+
+        @Override
+        public List<DomainServiceView> allServices() {
+            // DomainService to DomainServiceView conversion not yet implemented
+            return List.of();
+        }
+
+        @Override
+        public Optional<DomainServiceView> findService(String qualifiedName) {
+            requireQualifiedName(qualifiedName);
+            return Optional.empty();
+        }
+
+        @Override
+        public List<DomainTypeView> typesOfKind(DomainTypeKind kind) {
+            Objects.requireNonNull(kind, "kind");
+            return typesByKind.computeIfAbsent(
+                    kind, k -> views(domainModel.index().findTypesByKind(k)));
+        }
+
+        @Override
+        public List<DomainTypeView> typesInPackage(String packagePrefix) {
+            Objects.requireNonNull(packagePrefix, "packagePrefix");
+            String prefix = packagePrefix.trim();
+            if (prefix.isEmpty()) {
+                return types;
+            }
+            return views(domainModel.index().types().findByPackagePrefix(prefix));
+        }
+
+        @Override
+        public List<DomainTypeView> typesReferencing(String qualifiedName) {
+            return typesByReference.computeIfAbsent(
+                    requireQualifiedName(qualifiedName),
+                    qn -> views(referencingSources(typeReferences.get(), qn, false, domainModel::findType)));
+        }
+
+        private DomainTypeView view(DomainType domainType) {
+            return types.get(positions().get(domainType));
+        }
+
+        private List<DomainTypeView> views(List<DomainType> matches) {
+            return inDeclarationOrder(matches, positions(), types);
+        }
+
+        private Map<DomainType, Integer> positions() {
+            Map<DomainType, Integer> result = positions;
+            if (result == null) {
+                positions = result = identityPositions(domainModel.types());
+            }
+            return result;
+        }
     }
 
     /**
-     * Immutable implementation of {@link IrView}.
+     * {@link PortModelView} exposing the {@link Port} instances of a {@link PortModel} directly.
      *
      * <p>
-     * This is a simple value object that holds references to the three model views.
+     * Lookups by name, direction and package go through the model's {@link PortModel#index()}.
+     * Ports referencing a given type are looked up in the snapshot's {@link TypeReferenceGraph}.
      * </p>
      */
-    private static final class IrViewImpl implements IrView {
-        private final DomainModelView domainView;
-        private final PortModelView portView;
-        private final ApplicationModelView appView;
+    private static final class PortModelViewImpl implements PortModelView {
+        private final PortModel portModel;
+        private final Supplier<TypeReferenceGraph> typeReferences;
+        private final List<PortView> ports;
+        private final Map<PortDirection, List<PortView>> portsByDirection = new ConcurrentHashMap<>();
+        private final Map<String, List<PortView>> portsByReference = new ConcurrentHashMap<>();
+        private volatile Map<Port, Integer> positions;
 
-        IrViewImpl(DomainModelView domainView, PortModelView portView, ApplicationModelView appView) {
-            this.domainView = Objects.requireNonNull(domainView, "domainView");
-            this.portView = Objects.requireNonNull(portView, "portView");
-            this.appView = Objects.requireNonNull(appView, "appView");
+        PortModelViewImpl(PortModel portModel, Supplier<TypeReferenceGraph> typeReferences) {
+            this.portModel = portModel;
+            this.typeReferences = typeReferences;
+            this.ports = Collections.unmodifiableList(portModel.ports());
         }
 
         @Override
-        public DomainModelView domain() {
-            return domainView;
+        public List<PortView> allPorts() {
+            return ports;
         }
 
         @Override
-        public PortModelView ports() {
-            return portView;
+        public List<PortView> allPorts(PortDirection direction) {
+            Objects.requireNonNull(direction, "direction");
+            return portsByDirection.computeIfAbsent(
+                    direction, d -> Collections.unmodifiableList(portModel.portsByDirection(d)));
         }
 
         @Override
-        public ApplicationModelView application() {
-            return appView;
+        public Optional<PortView> findPort(String qualifiedName) {
+            return portModel.findPort(requireQualifiedName(qualifiedName)).map(PortView.class::cast);
         }
 
         @Override
-        public String toString() {
-            return "IrView{ports=" + portView.allPorts().size() + ", domain="
-                    + domainView.allTypes().size() + ", app="
-                    + (appView.isSupported() ? appView.allServices().size() : "unsupported") + "}";
+        public List<PortView> portsInPackage(String packagePrefix) {
+            Objects.requireNonNull(packagePrefix, "packagePrefix");
+            String prefix = packagePrefix.trim();
+            if (prefix.isEmpty()) {
+                return ports;
+            }
+            return inDeclarationOrder(portModel.index().findByPackagePrefix(prefix), positions(), ports);
+        }
+
+        @Override
+        public List<PortView> portsReferencing(String qualifiedName) {
+            return portsByReference.computeIfAbsent(
+                    requireQualifiedName(qualifiedName),
+                    qn -> inDeclarationOrder(
+                            referencingSources(typeReferences.get(), qn, true, portModel::findPort),
+                            positions(),
+                            ports));
+        }
+
+        private Map<Port, Integer> positions() {
+            Map<Port, Integer> result = positions;
+            if (result == null) {
+                positions = result = identityPositions(portModel.ports());
+            }
+            return result;
         }
     }
 
     /**
-     * Wrapper for {@link DomainTypeView} that adds annotation support.
-     *
-     * <p>
-     * This class delegates all methods to the wrapped base view except {@code annotations()},
-     * which is overridden to expose annotations from the internal {@link DomainType} model.
-     * </p>
+     * {@link DomainTypeView} backed by a {@link DomainType}.
      *
      * <p>
-     * <strong>Design note:</strong> Unlike the previous implementation, this wrapper does NOT
-     * recompute aggregate root classification. The {@code kind()} and {@code isAggregateRoot()}
-     * methods simply reflect the IR state as determined during the ANALYZE phase.
+     * <strong>Design note:</strong> This adapter does NOT recompute aggregate root classification.
+     * The {@code kind()} and {@code isAggregateRoot()} methods simply reflect the IR state as
+     * determined during the ANALYZE phase.
      * </p>
      *
      * <p>
-     * <strong>Performance:</strong> Annotation conversion is memoized - the conversion from
-     * {@link io.hexaglue.core.frontend.AnnotationModel} to {@link AnnotationView} happens
-     * only once per domain type, not on every call to {@code annotations()}.
+     * <strong>Performance:</strong> Property views are created per property on first access, and
+     * the identity and annotation views are converted once per domain type, not on every call.
      * </p>
      */
-    private static final class DomainTypeViewWithAnnotations implements DomainTypeView {
-        private final DomainTypeView delegate;
+    private static final class DomainTypeAdapter implements DomainTypeView {
         private final DomainType domainType;
+        private final String qualifiedName;
+        private final String simpleName;
+        private final List<DomainPropertyView> properties;
+        private volatile Optional<DomainIdView> cachedId;
         private volatile List<AnnotationView> cachedAnnotations;
 
-        DomainTypeViewWithAnnotations(DomainTypeView delegate, DomainType domainType) {
-            this.delegate = Objects.requireNonNull(delegate, "delegate");
+        DomainTypeAdapter(DomainType domainType) {
             this.domainType = Objects.requireNonNull(domainType, "domainType");
+            this.qualifiedName = domainType.qualifiedName().trim();
+            this.simpleName = domainType.simpleName().trim();
+            if (qualifiedName.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
+            if (simpleName.isEmpty()) throw new IllegalArgumentException("simpleName must not be blank");
+            this.properties = new AdaptedList<>(domainType.properties(), DomainPropertyAdapter::new);
         }
 
-        @Override
-        public List<AnnotationView> annotations() {
-            // Memoize conversion to avoid reconverting on each call
-            List<AnnotationView> result = cachedAnnotations;
-            if (result == null) {
-                synchronized (this) {
-                    result = cachedAnnotations;
-                    if (result == null) {
-                        cachedAnnotations = result = AnnotationViewConverter.toViews(domainType.annotations());
-                    }
-                }
-            }
-            return result;
-        }
-
-        // Delegate all other methods to base view
-
         @Override
         public String qualifiedName() {
-            return delegate.qualifiedName();
+            return qualifiedName;
         }
 
         @Override
         public String simpleName() {
-            return delegate.simpleName();
+            return simpleName;
         }
 
         @Override
         public DomainTypeKind kind() {
-            return delegate.kind();
+            return domainType.kind();
         }
 
         @Override
         public TypeRef type() {
-            return delegate.type();
+            return domainType.type();
         }
 
         @Override
         public List<DomainPropertyView> properties() {
-            return delegate.properties();
+            return properties;
         }
 
         @Override
         public Optional<DomainIdView> id() {
-            return delegate.id();
+            Optional<DomainIdView> result = cachedId;
+            if (result == null) {
+                synchronized (this) {
+                    result = cachedId;
+                    if (result == null) {
+                        cachedId = result = domainType.id().map(DomainTypeAdapter::adaptDomainId);
+                    }
+                }
+            }
+            return result;
         }
 
         @Override
         public boolean isImmutable() {
-            return delegate.isImmutable();
+            return domainType.isImmutable();
         }
 
         @Override
         public Optional<String> description() {
-            return delegate.description();
+            return Optional.ofNullable(trimToNull(domainType.description().orElse(null)));
+        }
+
+        @Override
+        public List<AnnotationView> annotations() {
+            // Memoize conversion to avoid reconverting on each call
+            List<AnnotationView> result = cachedAnnotations;
+            if (result == null) {
+                synchronized (this) {
+                    result = cachedAnnotations;
+                    if (result == null) {
+                        cachedAnnotations = result = AnnotationViewConverter.toViews(domainType.annotations());
+                    }
+                }
+            }
+            return result;
         }
 
         @Override
@@ -396,17 +644,16 @@ public final class IrViewAdapter {
 
         @Override
         public String toString() {
-            return delegate.toString();
+            return "DomainTypeView{" + qualifiedName + ", kind=" + domainType.kind() + "}";
+        }
+
+        private static DomainIdView adaptDomainId(DomainId id) {
+            return DomainIdView.of(id.declaringEntity().orElse(null), id.name(), id.type(), id.isComposite());
         }
     }
 
     /**
-     * Wrapper for {@link DomainPropertyView} that adds annotation support.
-     *
-     * <p>
-     * This class delegates all methods to the wrapped base view except {@code annotations()},
-     * which is overridden to expose annotations from the internal {@link DomainProperty} model.
-     * </p>
+     * {@link DomainPropertyView} backed by a {@link DomainProperty}.
      *
      * <p>
      * <strong>Performance:</strong> Annotation conversion is memoized - the conversion from
@@ -414,72 +661,66 @@ public final class IrViewAdapter {
      * only once per property, not on every call to {@code annotations()}.
      * </p>
      */
-    private static final class DomainPropertyViewWithAnnotations implements DomainPropertyView {
-        private final DomainPropertyView delegate;
+    private static final class DomainPropertyAdapter implements DomainPropertyView {
         private final DomainProperty property;
+        private final String name;
         private volatile List<AnnotationView> cachedAnnotations;
 
-        DomainPropertyViewWithAnnotations(DomainPropertyView delegate, DomainProperty property) {
-            this.delegate = Objects.requireNonNull(delegate, "delegate");
+        DomainPropertyAdapter(DomainProperty property) {
             this.property = Objects.requireNonNull(property, "property");
+            this.name = property.name().trim();
+            if (name.isEmpty()) throw new IllegalArgumentException("name must not be blank");
         }
 
-        @Override
-        public List<AnnotationView> annotations() {
-            // Memoize conversion to avoid reconverting on each call
-            List<AnnotationView> result = cachedAnnotations;
-            if (result == null) {
-                synchronized (this) {
-                    result = cachedAnnotations;
-                    if (result == null) {
-                        cachedAnnotations = result = AnnotationViewConverter.toViews(property.annotations());
-                    }
-                }
-            }
-            return result;
-        }
-
-        @Override
-        public Optional<io.hexaglue.spi.ir.domain.RelationshipMetadata> relationship() {
-            // Relationship metadata is already in SPI format, no conversion needed
-            return property.relationship();
-        }
-
-        // Delegate all other methods to base view
-
         @Override
         public String name() {
-            return delegate.name();
+            return name;
         }
 
         @Override
         public TypeRef type() {
-            return delegate.type();
+            return property.type();
         }
 
         @Override
         public boolean isIdentity() {
-            return delegate.isIdentity();
+            return property.isIdentity();
         }
 
         @Override
         public boolean isImmutable() {
-            return delegate.isImmutable();
+            return property.isImmutable();
         }
 
         @Override
         public Optional<String> declaringType() {
-            return delegate.declaringType();
+            return Optional.ofNullable(trimToNull(property.declaringType().orElse(null)));
         }
 
         @Override
-        public Optional<String> description() {
-            return delegate.description();
+        public List<AnnotationView> annotations() {
+            // Memoize conversion to avoid reconverting on each call
+            List<AnnotationView> result = cachedAnnotations;
+            if (result == null) {
+                synchronized (this) {
+                    result = cachedAnnotations;
+                    if (result == null) {
+                        cachedAnnotations = result = AnnotationViewConverter.toViews(property.annotations());
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Optional<io.hexaglue.spi.ir.domain.RelationshipMetadata> relationship() {
+            // Relationship metadata is already in SPI format, no conversion needed
+            return property.relationship();
         }
 
         @Override
         public String toString() {
-            return delegate.toString();
+            return "DomainPropertyView{" + name + ": " + property.type() + "}";
         }
     }
 }
@@ -0,0 +1,383 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.lifecycle;
+
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Timings and counters collected during a compilation.
+ *
+ * <p>
+ * The pipeline records the wall time of each {@link CompilationPhase} (summed over rounds), the
+ * time and output of each plugin, and analysis and emission counters. A {@link #snapshot()} can be
+ * inspected programmatically (e.g. by tests or build tool integrations) or written as a JSON
+ * report with {@link Snapshot#writeJson(Path)}, which lets CI track HexaGlue's share of the
+ * compile time and catch plugin regressions.
+ * </p>
+ *
+ * <h2>JSON Report</h2>
+ * <pre>{@code
+ * {
+ *   "phases": [{"phase": "ANALYZE", "invocations": 2, "wallTimeMillis": 41.7}, ...],
+ *   "plugins": [{"id": "io.hexaglue.plugin.portdocs", "status": "completed", "wallTimeMillis": 12.3,
+ *                "artifacts": 4, "diagnostics": {"info": 0, "warning": 1, "error": 0}}, ...],
+ *   "analysis": {"typesAnalyzed": 120, "typesReused": 0, "domainTypes": 35, "portsFound": 8},
+ *   "emission": {"artifactsWritten": 4, "artifactsSkipped": 0, "bytesWritten": 18211},
+ *   "diagnostics": {"info": 33, "warning": 1, "error": 0}
+ * }
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public final class CompilationMetrics {
+
+    private final Map<CompilationPhase, long[]> phases = new EnumMap<>(CompilationPhase.class);
+    private final Map<String, PluginMetrics> plugins = new LinkedHashMap<>();
+    private int typesAnalyzed;
+    private int typesReused;
+    private int domainTypes;
+    private int portsFound;
+    private int artifactsWritten;
+    private int artifactsSkipped;
+    private long bytesWritten;
+    private final int[] diagnostics = new int[DiagnosticSeverity.values().length];
+
+    private CompilationMetrics() {}
+
+    /**
+     * Creates an empty metrics recorder.
+     *
+     * @return new recorder (never {@code null})
+     */
+    public static CompilationMetrics create() {
+        return new CompilationMetrics();
+    }
+
+    /**
+     * Records one execution of a phase.
+     *
+     * @param phase        phase (not {@code null})
+     * @param elapsedNanos wall time in nanoseconds
+     */
+    public synchronized void recordPhase(CompilationPhase phase, long elapsedNanos) {
+        Objects.requireNonNull(phase, "phase");
+        long[] totals = phases.computeIfAbsent(phase, p -> new long[2]);
+        totals[0]++;
+        totals[1] += elapsedNanos;
+    }
+
+    /**
+     * Records one execution of a plugin. Executions of the same plugin in several rounds are summed.
+     *
+     * @param plugin execution metrics (not {@code null})
+     */
+    public synchronized void recordPlugin(PluginMetrics plugin) {
+        Objects.requireNonNull(plugin, "plugin");
+        plugins.merge(plugin.id(), plugin, PluginMetrics::plus);
+    }
+
+    /**
+     * Adds analysis counters.
+     *
+     * @param analyzed number of types analyzed from source
+     * @param reused   number of types whose IR was reused from the persistent cache
+     */
+    public synchronized void recordAnalysis(int analyzed, int reused) {
+        typesAnalyzed += analyzed;
+        typesReused += reused;
+    }
+
+    /**
+     * Sets the size of the current IR model.
+     *
+     * @param types number of domain types
+     * @param ports number of ports
+     */
+    public synchronized void recordModel(int types, int ports) {
+        domainTypes = types;
+        portsFound = ports;
+    }
+
+    /**
+     * Adds emission counters.
+     *
+     * @param written number of artifacts written
+     * @param skipped number of artifacts skipped because unchanged
+     * @param bytes   number of bytes written
+     */
+    public synchronized void recordEmission(int written, int skipped, long bytes) {
+        artifactsWritten += written;
+        artifactsSkipped += skipped;
+        bytesWritten += bytes;
+    }
+
+    /**
+     * Sets the number of diagnostics reported during the compilation.
+     *
+     * @param severity severity (not {@code null})
+     * @param count    number of diagnostics of that severity
+     */
+    public synchronized void recordDiagnostics(DiagnosticSeverity severity, int count) {
+        Objects.requireNonNull(severity, "severity");
+        diagnostics[severity.ordinal()] = count;
+    }
+
+    /**
+     * Returns an immutable copy of the metrics recorded so far.
+     *
+     * @return snapshot (never {@code null})
+     */
+    public synchronized Snapshot snapshot() {
+        List<PhaseMetrics> phaseMetrics = new ArrayList<>(phases.size());
+        for (Map.Entry<CompilationPhase, long[]> e : phases.entrySet()) {
+            phaseMetrics.add(new PhaseMetrics(e.getKey(), (int) e.getValue()[0], e.getValue()[1]));
+        }
+        return new Snapshot(
+                List.copyOf(phaseMetrics),
+                List.copyOf(plugins.values()),
+                typesAnalyzed,
+                typesReused,
+                domainTypes,
+                portsFound,
+                artifactsWritten,
+                artifactsSkipped,
+                bytesWritten,
+                new DiagnosticCounts(
+                        diagnostics[DiagnosticSeverity.INFO.ordinal()],
+                        diagnostics[DiagnosticSeverity.WARNING.ordinal()],
+                        diagnostics[DiagnosticSeverity.ERROR.ordinal()]));
+    }
+
+    @Override
+    public String toString() {
+        return "CompilationMetrics" + snapshot();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Value types
+    // ─────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Number of diagnostics per severity.
+     *
+     * @param info    INFO count
+     * @param warning WARNING count
+     * @param error   ERROR count
+     */
+    public record DiagnosticCounts(int info, int warning, int error) {
+
+        /** No diagnostics. */
+        public static final DiagnosticCounts NONE = new DiagnosticCounts(0, 0, 0);
+
+        DiagnosticCounts plus(DiagnosticCounts other) {
+            return new DiagnosticCounts(info + other.info, warning + other.warning, error + other.error);
+        }
+    }
+
+    /**
+     * Time spent in a phase.
+     *
+     * @param phase        phase
+     * @param invocations  number of rounds in which the phase ran
+     * @param elapsedNanos total wall time in nanoseconds
+     */
+    public record PhaseMetrics(CompilationPhase phase, int invocations, long elapsedNanos) {}
+
+    /**
+     * Time spent in, and output of, a plugin.
+     *
+     * @param id           plugin id
+     * @param failed       whether an execution of the plugin failed
+     * @param elapsedNanos wall time of the plugin's {@code apply} in nanoseconds
+     * @param artifacts    number of artifacts the plugin produced
+     * @param diagnostics  diagnostics the plugin reported
+     */
+    public record PluginMetrics(
+            String id, boolean failed, long elapsedNanos, int artifacts, DiagnosticCounts diagnostics) {
+
+        /**
+         * Canonical constructor.
+         *
+         * @throws NullPointerException if id or diagnostics is null
+         */
+        public PluginMetrics {
+            Objects.requireNonNull(id, "id");
+            Objects.requireNonNull(diagnostics, "diagnostics");
+        }
+
+        PluginMetrics plus(PluginMetrics other) {
+            return new PluginMetrics(
+                    id,
+                    failed || other.failed,
+                    elapsedNanos + other.elapsedNanos,
+                    artifacts + other.artifacts,
+                    diagnostics.plus(other.diagnostics));
+        }
+    }
+
+    /**
+     * Immutable copy of the metrics of a compilation.
+     *
+     * @param phases           per-phase timings, in phase order
+     * @param plugins          per-plugin metrics, in first execution order
+     * @param typesAnalyzed    number of types analyzed from source
+     * @param typesReused      number of types reused from the persistent IR cache
+     * @param domainTypes      number of domain types in the IR
+     * @param portsFound       number of ports in the IR
+     * @param artifactsWritten number of artifacts written
+     * @param artifactsSkipped number of artifacts skipped because unchanged
+     * @param bytesWritten     number of bytes written
+     * @param diagnostics      diagnostics reported during the compilation
+     */
+    public record Snapshot(
+            List<PhaseMetrics> phases,
+            List<PluginMetrics> plugins,
+            int typesAnalyzed,
+            int typesReused,
+            int domainTypes,
+            int portsFound,
+            int artifactsWritten,
+            int artifactsSkipped,
+            long bytesWritten,
+            DiagnosticCounts diagnostics) {
+
+        /**
+         * Renders this snapshot as a JSON document.
+         *
+         * @return JSON text (never {@code null})
+         */
+        public String toJson() {
+            StringBuilder json = new StringBuilder(512);
+            json.append("{\n  \"phases\": [");
+            for (int i = 0; i < phases.size(); i++) {
+                PhaseMetrics phase = phases.get(i);
+                json.append(i == 0 ? "\n" : ",\n")
+                        .append("    {\"phase\": ")
+                        .append(quote(phase.phase().name()))
+                        .append(", \"invocations\": ")
+                        .append(phase.invocations())
+                        .append(", \"wallTimeMillis\": ")
+                        .append(millis(phase.elapsedNanos()))
+                        .append('}');
+            }
+            json.append(phases.isEmpty() ? "],\n" : "\n  ],\n");
+            json.append("  \"plugins\": [");
+            for (int i = 0; i < plugins.size(); i++) {
+                PluginMetrics plugin = plugins.get(i);
+                json.append(i == 0 ? "\n" : ",\n")
+                        .append("    {\"id\": ")
+                        .append(quote(plugin.id()))
+                        .append(", \"status\": ")
+                        .append(quote(plugin.failed() ? "failed" : "completed"))
+                        .append(", \"wallTimeMillis\": ")
+                        .append(millis(plugin.elapsedNanos()))
+                        .append(", \"artifacts\": ")
+                        .append(plugin.artifacts())
+                        .append(", \"diagnostics\": ");
+                appendCounts(json, plugin.diagnostics());
+                json.append('}');
+            }
+            json.append(plugins.isEmpty() ? "],\n" : "\n  ],\n");
+            json.append("  \"analysis\": {\"typesAnalyzed\": ")
+                    .append(typesAnalyzed)
+                    .append(", \"typesReused\": ")
+                    .append(typesReused)
+                    .append(", \"domainTypes\": ")
+                    .append(domainTypes)
+                    .append(", \"portsFound\": ")
+                    .append(portsFound)
+                    .append("},\n");
+            json.append("  \"emission\": {\"artifactsWritten\": ")
+                    .append(artifactsWritten)
+                    .append(", \"artifactsSkipped\": ")
+                    .append(artifactsSkipped)
+                    .append(", \"bytesWritten\": ")
+                    .append(bytesWritten)
+                    .append("},\n");
+            json.append("  \"diagnostics\": ");
+            appendCounts(json, diagnostics);
+            json.append("\n}\n");
+            return json.toString();
+        }
+
+        /**
+         * Writes this snapshot as a JSON document, replacing the file atomically.
+         *
+         * @param file target file (not {@code null}); parent directories are created
+         * @throws IOException if the file cannot be written
+         */
+        public void writeJson(Path file) throws IOException {
+            Objects.requireNonNull(file, "file");
+            Path absolute = file.toAbsolutePath();
+            Files.createDirectories(absolute.getParent());
+            Path tmp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+            Files.writeString(tmp, toJson(), StandardCharsets.UTF_8);
+            try {
+                Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        private static void appendCounts(StringBuilder json, DiagnosticCounts counts) {
+            json.append("{\"info\": ")
+                    .append(counts.info())
+                    .append(", \"warning\": ")
+                    .append(counts.warning())
+                    .append(", \"error\": ")
+                    .append(counts.error())
+                    .append('}');
+        }
+
+        private static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+        }
+
+        private static String quote(String value) {
+            StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> quoted.append("\\\"");
+                    case '\\' -> quoted.append("\\\\");
+                    case '\n' -> quoted.append("\\n");
+                    case '\r' -> quoted.append("\\r");
+                    case '\t' -> quoted.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                        } else {
+                            quoted.append(c);
+                        }
+                    }
+                }
+            }
+            return quoted.append('"').toString();
+        }
+    }
+}
@@ -16,8 +16,13 @@ import io.hexaglue.core.context.DebugLog;
 import io.hexaglue.core.discovery.DiscoveredPlugin;
 import io.hexaglue.core.discovery.PluginClasspath;
 import io.hexaglue.core.discovery.ServiceLoaderPluginDiscovery;
+import io.hexaglue.core.internal.ir.cache.IrCache;
 import io.hexaglue.core.internal.pipeline.PipelineOrchestrator;
+import io.hexaglue.core.processor.ProcessorOptions;
 import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -38,10 +43,19 @@ import java.util.Objects;
  * <p>
  * The pipeline instance is stateful across rounds; do not reuse it across independent compilations.
  * </p>
+ *
+ * <p>
+ * Phase timings, plugin timings and output counters are recorded in {@link #metrics()}. When the
+ * {@code hexaglue.metrics} option is enabled, they are written as JSON at the end of the last round;
+ * a report that cannot be written is surfaced as an {@code HG-CORE-130} warning.
+ * </p>
  */
 public final class CompilationPipeline {
 
+    private static final DiagnosticCode METRICS_NOT_WRITTEN = DiagnosticCode.of("HG-CORE-130");
+
     private final ServiceLoaderPluginDiscovery discovery;
+    private final CompilationMetrics metrics = CompilationMetrics.create();
 
     private boolean pluginsDiscovered;
     private PluginExecutionPlan executionPlan;
@@ -105,6 +119,7 @@ public final class CompilationPipeline {
         // Run finish phase only on the last round for cleanup and final validation
         if (inputs.isLastRound()) {
             runPhase(session, CompilationPhase.FINISH, inputs, debugLog);
+            writeMetrics(inputs, debugLog);
         }
 
         debugLog.note("Compilation round completed");
@@ -122,6 +137,15 @@ public final class CompilationPipeline {
         return executionPlan;
     }
 
+    /**
+     * Returns the metrics recorded by this pipeline so far.
+     *
+     * @return metrics (never {@code null})
+     */
+    public CompilationMetrics metrics() {
+        return metrics;
+    }
+
     private void ensurePluginsDiscovered(
             PluginClasspath classpath, io.hexaglue.spi.diagnostics.DiagnosticReporter diagnostics, DebugLog debugLog) {
         if (pluginsDiscovered) {
@@ -157,7 +181,51 @@ public final class CompilationPipeline {
             return;
         }
         this.orchestrator = new PipelineOrchestrator(
-                inputs.round().processingEnv(), inputs.diagnosticEngine(), executionPlan, inputs.resolvedOptions());
+                inputs.round().processingEnv(),
+                inputs.diagnosticEngine(),
+                executionPlan,
+                inputs.resolvedOptions(),
+                metrics);
+    }
+
+    private void writeMetrics(CompilationInputs inputs, DebugLog debugLog) {
+        for (DiagnosticSeverity severity : DiagnosticSeverity.values()) {
+            metrics.recordDiagnostics(severity, inputs.diagnosticEngine().sink().count(severity));
+        }
+        if (!inputs.round().options().isMetricsEnabled()) {
+            return;
+        }
+        Path file = inputs.round()
+                .options()
+                .metricsFile()
+                .map(Path::of)
+                .or(() -> IrCache.defaultDirectory(
+                                inputs.round().processingEnv().getFiler())
+                        .map(dir -> dir.resolve("metrics.json")))
+                .orElse(null);
+        if (file == null) {
+            debugLog.note("Metrics enabled but no output location could be determined");
+            inputs.diagnosticEngine()
+                    .reporter()
+                    .warning(
+                            METRICS_NOT_WRITTEN,
+                            "Compilation metrics were not written: no output location could be determined" + " (set "
+                                    + ProcessorOptions.KEY_METRICS_FILE + ")");
+        } else {
+            try {
+                metrics.snapshot().writeJson(file);
+                debugLog.note("Wrote compilation metrics to " + file);
+            } catch (IOException e) {
+                debugLog.note("Failed to write compilation metrics to " + file, e);
+                inputs.diagnosticEngine()
+                        .reporter()
+                        .warning(
+                                METRICS_NOT_WRITTEN,
+                                "Compilation metrics could not be written to " + file + ": " + e.getMessage());
+            }
+        }
+        // The last round usually has no root elements, so WRITE did not flush this warning.
+        inputs.diagnosticEngine().flushToMessager();
     }
 
     private void runPhase(
@@ -168,6 +236,7 @@ public final class CompilationPipeline {
         Objects.requireNonNull(debugLog, "debugLog");
 
         debugLog.note("Entering " + phase + " phase");
+        long start = System.nanoTime();
 
         switch (phase) {
             case DISCOVER_PLUGINS:
@@ -190,6 +259,7 @@ public final class CompilationPipeline {
                 break;
         }
 
+        metrics.recordPhase(phase, System.nanoTime() - start);
         debugLog.note("Completed " + phase + " phase");
     }
 }
@@ -12,10 +12,24 @@
  */
 package io.hexaglue.core.options;
 
+import io.hexaglue.core.internal.ir.cache.IrCache;
 import io.hexaglue.spi.options.OptionsView;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Objects;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -28,16 +42,44 @@ import javax.tools.StandardLocation;
  * <p><strong>Why Filer?</strong> In JSR-269, the processor classloader usually cannot see
  * the project's resources (src/main/resources). Using {@link ProcessingEnvironment#getFiler()}
  * is the robust way to access {@code hexaglue.yaml} during compilation.</p>
+ *
+ * <p>Parsed stores are shared through a JVM-wide {@link ParsedOptionsCache}, so compilations run
+ * by the same build daemon parse an unchanged file only once. When precompiled options are
+ * enabled, a binary form of the store ({@value #PRECOMPILED_SUFFIX} appended to the file name) is
+ * written to the build-private directory of the class output ({@link IrCache#defaultDirectory}),
+ * never next to the YAML: that would put it in the packaged classes or in the source tree. It is
+ * read instead of the YAML while its recorded content hash matches.</p>
  */
 public final class CoreOptionsViewLoader {
 
     /** Default resource name searched on compilation paths. */
     public static final String DEFAULT_YAML_RESOURCE = "hexaglue.yaml";
 
+    /** Suffix of the precompiled binary form of a YAML resource. */
+    public static final String PRECOMPILED_SUFFIX = ".bin";
+
     private final ProcessingEnvironment processingEnv;
+    private final boolean precompiled;
+    private final ParsedOptionsCache cache;
 
     public CoreOptionsViewLoader(ProcessingEnvironment processingEnv) {
+        this(processingEnv, false);
+    }
+
+    /**
+     * Creates a loader.
+     *
+     * @param processingEnv processing environment
+     * @param precompiled whether the precompiled binary form is read and written
+     */
+    public CoreOptionsViewLoader(ProcessingEnvironment processingEnv, boolean precompiled) {
+        this(processingEnv, precompiled, ParsedOptionsCache.SHARED);
+    }
+
+    CoreOptionsViewLoader(ProcessingEnvironment processingEnv, boolean precompiled, ParsedOptionsCache cache) {
         this.processingEnv = Objects.requireNonNull(processingEnv, "processingEnv");
+        this.precompiled = precompiled;
+        this.cache = Objects.requireNonNull(cache, "cache");
     }
 
     /**
@@ -66,19 +108,95 @@ public final class CoreOptionsViewLoader {
     }
 
     private RawOptionsStore tryLoad(StandardLocation location, String resourceName) {
+        FileObject fo;
+        byte[] content;
         try {
-            FileObject fo = processingEnv.getFiler().getResource(location, "", resourceName);
-            try (Reader in = fo.openReader(true);
-                    BufferedReader br = new BufferedReader(in)) {
-                return HexaGlueYamlOptionsParser.parse(br, "config-file:" + location.getName() + ":/" + resourceName);
+            fo = processingEnv.getFiler().getResource(location, "", resourceName);
+            try (InputStream in = fo.openInputStream()) {
+                content = in.readAllBytes();
             }
         } catch (IOException ex) {
             // Not found / not readable in that location => treat as absent.
             return null;
-        } catch (RuntimeException ex) {
-            // Present but invalid => fail fast (better than silently ignoring config)
-            throw new IllegalStateException(
-                    "Failed to parse " + location.getName() + ":/" + resourceName + ": " + ex.getMessage(), ex);
+        }
+
+        String sourceId = "config-file:" + location.getName() + ":/" + resourceName;
+        // Entries carry the source id, so it is part of the cache location
+        String cacheLocation = sourceId + "@" + fo.toUri();
+        long lastModified = fo.getLastModified();
+        String contentHash = hash(content);
+
+        RawOptionsStore store = cache.get(cacheLocation, lastModified, contentHash);
+        if (store != null) return store;
+
+        Path binary = precompiled ? precompiledFile(resourceName) : null;
+        if (binary != null) {
+            store = readPrecompiled(binary, contentHash, sourceId);
+        }
+        if (store == null) {
+            try {
+                store = HexaGlueYamlOptionsParser.parse(
+                        new BufferedReader(new StringReader(new String(content, StandardCharsets.UTF_8))), sourceId);
+            } catch (RuntimeException ex) {
+                // Present but invalid => fail fast (better than silently ignoring config)
+                throw new IllegalStateException(
+                        "Failed to parse " + location.getName() + ":/" + resourceName + ": " + ex.getMessage(), ex);
+            }
+            if (binary != null) {
+                writePrecompiled(binary, contentHash, store);
+            }
+        }
+
+        cache.put(cacheLocation, lastModified, contentHash, store);
+        return store;
+    }
+
+    /**
+     * Returns the precompiled file of a YAML resource in the build-private directory, or
+     * {@code null} when the class output is not a local directory.
+     */
+    private Path precompiledFile(String resourceName) {
+        return IrCache.defaultDirectory(processingEnv.getFiler())
+                .map(directory -> directory.resolve(resourceName + PRECOMPILED_SUFFIX))
+                .orElse(null);
+    }
+
+    static RawOptionsStore readPrecompiled(Path binary, String contentHash, String sourceId) {
+        if (!Files.isRegularFile(binary)) return null;
+        try (InputStream in = Files.newInputStream(binary)) {
+            return RawOptionsStoreCodec.read(
+                    new DataInputStream(new BufferedInputStream(in)), Files.size(binary), contentHash, sourceId);
+        } catch (IOException | RuntimeException ex) {
+            // Corrupt or unreadable => fall back to parsing the YAML, which rewrites it
+            return null;
+        }
+    }
+
+    static void writePrecompiled(Path binary, String contentHash, RawOptionsStore store) {
+        Path temp = null;
+        try {
+            Path directory = Files.createDirectories(binary.toAbsolutePath().getParent());
+            // Unique temp file: concurrent daemons may precompile the same YAML
+            temp = Files.createTempFile(directory, binary.getFileName() + ".", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                RawOptionsStoreCodec.write(new DataOutputStream(new BufferedOutputStream(out)), contentHash, store);
+            }
+            Files.move(temp, binary, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException ex) {
+            // Best effort: the precompiled form is only an optimization
+            try {
+                if (temp != null) Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // nothing else to clean up
+            }
+        }
+    }
+
+    static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 }
@@ -173,7 +173,7 @@ public final class HexaGlueYamlOptionsParser {
             String typePrefix = "types." + fqn + ".";
             Map<?, ?> typeLevelConfig = new LinkedHashMap<>(typeConfig);
             typeLevelConfig.remove("properties"); // Already processed
-            flattenPluginMap(pluginId, typePrefix, typeLevelConfig, out, src);
+            flattenScopedMap(pluginId, typePrefix, typePrefix.length(), fqn, null, typeLevelConfig, out, src);
         }
     }
 
@@ -212,7 +212,8 @@ public final class HexaGlueYamlOptionsParser {
             if (propName.isEmpty()) continue;
 
             String propertyPrefix = "types." + typeFqn + ".properties." + propName + ".";
-            flattenPluginMap(pluginId, propertyPrefix, propertyConfig, out, src);
+            flattenScopedMap(
+                    pluginId, propertyPrefix, propertyPrefix.length(), typeFqn, propName, propertyConfig, out, src);
         }
     }
 
@@ -244,6 +245,33 @@ public final class HexaGlueYamlOptionsParser {
             Map<?, ?> map,
             Map<RawOptionsStore.PluginNameKey, RawOptionsStore.RawEntry> out,
             String src) {
+        flattenScopedMap(pluginId, prefix, prefix.length(), null, null, map, out, src);
+    }
+
+    /**
+     * Flattens a plugin map, tagging leaves with the type and property they belong to.
+     *
+     * <p>The tags let {@link RawOptionsStore} index type and property metadata without re-parsing
+     * flattened keys, which is ambiguous because type names contain dots.</p>
+     *
+     * @param pluginId plugin identifier
+     * @param prefix key prefix of this map
+     * @param scopeLength length of the prefix owned by the type or property scope
+     * @param typeFqn owning type, or {@code null} for plugin-level and port entries
+     * @param propertyName owning property, or {@code null} for type-level entries
+     * @param map map to flatten
+     * @param out output store
+     * @param src source identifier
+     */
+    private static void flattenScopedMap(
+            String pluginId,
+            String prefix,
+            int scopeLength,
+            String typeFqn,
+            String propertyName,
+            Map<?, ?> map,
+            Map<RawOptionsStore.PluginNameKey, RawOptionsStore.RawEntry> out,
+            String src) {
         for (Map.Entry<?, ?> e : map.entrySet()) {
             if (!(e.getKey() instanceof String k)) continue;
             String key = k.trim();
@@ -253,9 +281,12 @@ public final class HexaGlueYamlOptionsParser {
             String full = prefix + key;
 
             if (v instanceof Map<?, ?> nested) {
-                flattenPluginMap(pluginId, full + ".", nested, out, src);
+                flattenScopedMap(pluginId, full + ".", scopeLength, typeFqn, propertyName, nested, out, src);
             } else {
-                out.put(new RawOptionsStore.PluginNameKey(pluginId, full), new RawOptionsStore.RawEntry(v, src));
+                String path = typeFqn == null ? null : full.substring(scopeLength);
+                out.put(
+                        new RawOptionsStore.PluginNameKey(pluginId, full),
+                        new RawOptionsStore.RawEntry(v, src, typeFqn, propertyName, path));
             }
         }
     }
@@ -12,9 +12,14 @@
  */
 package io.hexaglue.core.options;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 final class OptionCoercions {
 
@@ -26,6 +31,12 @@ final class OptionCoercions {
 
         if (raw == null) return null;
 
+        // Map coercion for nested property metadata structures; checked before the exact instance
+        // shortcut so that keys are validated and callers never get the raw map
+        if (type == Map.class && raw instanceof Map<?, ?> rawMap) {
+            return (T) coerceMap(rawMap, labelForErrors);
+        }
+
         // Exact instance
         if (type.isInstance(raw)) {
             return (T) raw;
@@ -42,16 +53,40 @@ final class OptionCoercions {
             return (T) coerceInteger(raw, labelForErrors);
         }
 
-        // Map coercion for nested property metadata structures
-        if (type == Map.class && raw instanceof Map<?, ?> rawMap) {
-            return (T) coerceMap(rawMap, labelForErrors);
-        }
-
         // Unknown type: do not attempt to materialize complex objects in SPI
         // (keeps SPI stable + avoids leaking SnakeYAML internal structures)
         throw new IllegalArgumentException("Unsupported option type for " + labelForErrors + ": " + type.getName());
     }
 
+    /**
+     * Returns a deeply unmodifiable copy of a raw value.
+     *
+     * <p>Parsed stores are shared by every compilation of the JVM (see {@link ParsedOptionsCache}),
+     * so the maps and lists built by the YAML parser must not be handed out as-is. Scalars are
+     * returned unchanged; map and list order is preserved and {@code null} elements are kept.</p>
+     *
+     * @param raw raw value, may be {@code null}
+     * @return unmodifiable value
+     */
+    static Object freeze(Object raw) {
+        if (raw instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(k, freeze(v)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (raw instanceof Set<?> set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            set.forEach(v -> copy.add(freeze(v)));
+            return Collections.unmodifiableSet(copy);
+        }
+        if (raw instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(v -> copy.add(freeze(v)));
+            return Collections.unmodifiableList(copy);
+        }
+        return raw;
+    }
+
     private static Boolean coerceBoolean(Object raw, String label) {
         if (raw instanceof Boolean b) return b;
         if (raw instanceof Number n) return n.intValue() != 0;
@@ -94,6 +129,6 @@ final class OptionCoercions {
             }
             result.put(key, entry.getValue());
         }
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 }
@@ -0,0 +1,84 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.options;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JVM-wide cache of parsed {@code hexaglue.yaml} stores.
+ *
+ * <p>Build daemons run many compilations in the same JVM, often against the same configuration
+ * file. Entries are keyed by location and reused only while both the modification time and the
+ * content hash recorded with them still match, so an edited file is always parsed again. Each
+ * location keeps a single entry, which bounds the cache by the number of distinct files.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. Cached stores are immutable apart from the memoized coercions of
+ * their entries, which are safe to share: raw values are frozen into unmodifiable maps and lists
+ * when entries are created, so a plugin cannot change what later compilations read.</p>
+ */
+final class ParsedOptionsCache {
+
+    /** Cache shared by all loaders of this JVM. */
+    static final ParsedOptionsCache SHARED = new ParsedOptionsCache();
+
+    private final ConcurrentMap<String, Entry> byLocation = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the store cached for a location if it was parsed from the same content.
+     *
+     * @param location    location of the configuration file (not {@code null})
+     * @param lastModified modification time of the file
+     * @param contentHash hash of the file content (not {@code null})
+     * @return cached store, or {@code null} if absent or stale
+     */
+    RawOptionsStore get(String location, long lastModified, String contentHash) {
+        Entry entry = byLocation.get(Objects.requireNonNull(location, "location"));
+        if (entry == null
+                || entry.lastModified() != lastModified
+                || !entry.contentHash().equals(contentHash)) {
+            return null;
+        }
+        return entry.store();
+    }
+
+    /**
+     * Records the store parsed for a location, replacing any previous entry.
+     *
+     * @param location    location of the configuration file (not {@code null})
+     * @param lastModified modification time of the file
+     * @param contentHash hash of the file content (not {@code null})
+     * @param store       parsed store (not {@code null})
+     */
+    void put(String location, long lastModified, String contentHash, RawOptionsStore store) {
+        Objects.requireNonNull(location, "location");
+        byLocation.put(
+                location,
+                new Entry(
+                        lastModified,
+                        Objects.requireNonNull(contentHash, "contentHash"),
+                        Objects.requireNonNull(store, "store")));
+    }
+
+    int size() {
+        return byLocation.size();
+    }
+
+    void clear() {
+        byLocation.clear();
+    }
+
+    private record Entry(long lastModified, String contentHash, RawOptionsStore store) {}
+}
@@ -12,29 +12,151 @@
  */
 package io.hexaglue.core.options;
 
+import io.hexaglue.spi.options.OptionValue;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
+/**
+ * Immutable store of raw (uncoerced) option entries.
+ *
+ * <p>Plugin entries are additionally indexed per plugin id, and entries that the parser tagged as
+ * type- or property-scoped ({@code types.<fqn>...}) are grouped into a per-plugin type tree so
+ * property metadata can be resolved without rebuilding flattened keys.</p>
+ */
 final class RawOptionsStore {
 
     static final class RawEntry {
-        final Object raw;
+        final Object raw; // deeply unmodifiable, see OptionCoercions.freeze
         final String source; // stable, e.g. "config-file:/hexaglue.yaml"
+        final String typeFqn; // set for entries under "types.<fqn>."
+        final String propertyName; // set for entries under "types.<fqn>.properties.<name>."
+        final String path; // path relative to the type or property, when typeFqn is set
+
+        // Last coercion result; a key is almost always read with a single type
+        private volatile Coerced coerced;
 
         RawEntry(Object raw, String source) {
-            this.raw = raw;
+            this(raw, source, null, null, null);
+        }
+
+        RawEntry(Object raw, String source, String typeFqn, String propertyName, String path) {
+            this.raw = OptionCoercions.freeze(raw);
             this.source = source;
+            this.typeFqn = typeFqn;
+            this.propertyName = propertyName;
+            this.path = path;
+        }
+
+        /**
+         * Returns this entry coerced to {@code type}, memoizing the result for that type.
+         *
+         * @param type expected type
+         * @param label supplies the error label; only invoked when coercion actually runs
+         * @param <T> value type
+         * @return present option value
+         */
+        @SuppressWarnings("unchecked")
+        <T> OptionValue<T> value(Class<T> type, Supplier<String> label) {
+            Coerced c = coerced;
+            if (c != null && c.type() == type) {
+                return (OptionValue<T>) c.value();
+            }
+            OptionValue<T> v = OptionValue.present(OptionCoercions.coerce(raw, type, label.get()), source);
+            coerced = new Coerced(type, v);
+            return v;
+        }
+
+        private record Coerced(Class<?> type, OptionValue<?> value) {}
+    }
+
+    /** Type- and property-scoped entries of one plugin for one type. */
+    static final class TypeEntries {
+        final Map<String, RawEntry> typeLevel;
+        final Map<String, Map<String, RawEntry>> properties;
+        final Map<String, Map<String, Object>> propertyValues; // raw values, for bulk reads
+
+        private TypeEntries(Map<String, RawEntry> typeLevel, Map<String, Map<String, RawEntry>> properties) {
+            this.typeLevel = Collections.unmodifiableMap(typeLevel);
+            Map<String, Map<String, Object>> values = new LinkedHashMap<>();
+            properties.replaceAll((name, entries) -> {
+                Map<String, Object> raw = new LinkedHashMap<>();
+                entries.forEach((path, e) -> raw.put(path, e.raw));
+                values.put(name, Collections.unmodifiableMap(raw));
+                return Collections.unmodifiableMap(entries);
+            });
+            this.properties = Collections.unmodifiableMap(properties);
+            this.propertyValues = Collections.unmodifiableMap(values);
+        }
+
+        RawEntry findProperty(String propertyName, String path) {
+            Map<String, RawEntry> entries = properties.get(propertyName);
+            return entries == null ? null : entries.get(path);
         }
     }
 
     private final Map<String, RawEntry> global;
     private final Map<PluginNameKey, RawEntry> plugin;
+    private final Map<String, Map<String, RawEntry>> pluginEntries;
+    private final Map<String, Map<String, TypeEntries>> pluginTypes;
 
     RawOptionsStore(Map<String, RawEntry> global, Map<PluginNameKey, RawEntry> plugin) {
         this.global = Map.copyOf(Objects.requireNonNull(global, "global"));
         this.plugin = Map.copyOf(Objects.requireNonNull(plugin, "plugin"));
+
+        // Index in the caller's iteration order so bulk reads keep YAML declaration order
+        Map<String, Map<String, RawEntry>> byPlugin = new LinkedHashMap<>();
+        Map<String, Map<String, Map<String, RawEntry>>> typeLevel = new LinkedHashMap<>();
+        Map<String, Map<String, Map<String, Map<String, RawEntry>>>> properties = new LinkedHashMap<>();
+        for (Map.Entry<PluginNameKey, RawEntry> e : plugin.entrySet()) {
+            String pid = e.getKey().pluginId();
+            RawEntry entry = e.getValue();
+            byPlugin.computeIfAbsent(pid, k -> new LinkedHashMap<>())
+                    .put(e.getKey().name(), entry);
+            if (entry.typeFqn == null) continue;
+
+            if (entry.propertyName == null) {
+                typeLevel
+                        .computeIfAbsent(pid, k -> new LinkedHashMap<>())
+                        .computeIfAbsent(entry.typeFqn, k -> new LinkedHashMap<>())
+                        .put(entry.path, entry);
+            } else {
+                properties
+                        .computeIfAbsent(pid, k -> new LinkedHashMap<>())
+                        .computeIfAbsent(entry.typeFqn, k -> new LinkedHashMap<>())
+                        .computeIfAbsent(entry.propertyName, k -> new LinkedHashMap<>())
+                        .put(entry.path, entry);
+            }
+        }
+
+        Map<String, Map<String, RawEntry>> entries = new LinkedHashMap<>();
+        byPlugin.forEach((pid, m) -> entries.put(pid, Collections.unmodifiableMap(m)));
+        this.pluginEntries = Collections.unmodifiableMap(entries);
+
+        Map<String, Map<String, TypeEntries>> types = new LinkedHashMap<>();
+        for (String pid : byPlugin.keySet()) {
+            Map<String, Map<String, RawEntry>> typeLevelOf = typeLevel.getOrDefault(pid, Map.of());
+            Map<String, Map<String, Map<String, RawEntry>>> propertiesOf = properties.getOrDefault(pid, Map.of());
+            if (typeLevelOf.isEmpty() && propertiesOf.isEmpty()) continue;
+
+            Set<String> fqns = new LinkedHashSet<>(typeLevelOf.keySet());
+            fqns.addAll(propertiesOf.keySet());
+            Map<String, TypeEntries> perType = new LinkedHashMap<>();
+            for (String fqn : fqns) {
+                perType.put(
+                        fqn,
+                        new TypeEntries(
+                                typeLevelOf.getOrDefault(fqn, new LinkedHashMap<>()),
+                                propertiesOf.getOrDefault(fqn, new LinkedHashMap<>())));
+            }
+            types.put(pid, Collections.unmodifiableMap(perType));
+        }
+        this.pluginTypes = Collections.unmodifiableMap(types);
     }
 
     Optional<RawEntry> findGlobal(String name) {
@@ -42,7 +164,41 @@ final class RawOptionsStore {
     }
 
     Optional<RawEntry> findPlugin(String pluginId, String name) {
-        return Optional.ofNullable(plugin.get(new PluginNameKey(pluginId, name)));
+        return Optional.ofNullable(pluginEntries(pluginId).get(name.trim()));
+    }
+
+    /**
+     * Returns all entries of a plugin keyed by option name.
+     *
+     * @param pluginId plugin id
+     * @return immutable map (empty if the plugin has no options)
+     */
+    Map<String, RawEntry> pluginEntries(String pluginId) {
+        return pluginEntries.getOrDefault(pluginId.trim(), Map.of());
+    }
+
+    /**
+     * Returns the type-scoped entries of a plugin for one type.
+     *
+     * @param pluginId plugin id
+     * @param typeFqn fully qualified type name
+     * @return entries, or {@code null} if nothing is configured for that type
+     */
+    TypeEntries findType(String pluginId, String typeFqn) {
+        return pluginTypes.getOrDefault(pluginId, Map.of()).get(typeFqn);
+    }
+
+    /**
+     * Returns the ids of the plugins having options, in declaration order.
+     *
+     * @return immutable set of plugin ids
+     */
+    Set<String> pluginIds() {
+        return pluginEntries.keySet();
+    }
+
+    Map<String, RawEntry> globalEntries() {
+        return global;
     }
 
     Set<String> globalNames() {
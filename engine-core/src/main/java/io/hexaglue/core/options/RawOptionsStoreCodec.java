@@ -0,0 +1,308 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.options;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of a flattened {@link RawOptionsStore}.
+ *
+ * <h2>Format</h2>
+ * <pre>
+ * int     magic ("HGOP")
+ * short   format version
+ * string  content hash of the YAML the store was parsed from
+ * int     global entry count
+ * entry*  name, value
+ * int     plugin count
+ * plugin* plugin id, entry count, (name, type, property, path, value)*
+ * </pre>
+ *
+ * <p>
+ * Strings are interned per stream like in the IR cache. Values are limited to what the YAML
+ * parser produces for plain scalars and collections: {@code null}, strings, booleans, integers,
+ * longs, doubles, big integers, lists and maps. Entry sources are not encoded; they are assigned
+ * on read so a file stays valid when the YAML is reached through another location. Files recorded
+ * for other content or written by another format version are ignored.
+ * </p>
+ *
+ * <p>
+ * Every element takes at least one byte, so no count or length read back can exceed the size of
+ * the stream. Larger or negative values are rejected as malformed before anything is allocated.
+ * </p>
+ */
+final class RawOptionsStoreCodec {
+
+    static final int MAGIC = 0x48474F50;
+    static final short FORMAT_VERSION = 1;
+
+    private static final byte STRING_NULL = 0;
+    private static final byte STRING_REF = 1;
+    private static final byte STRING_NEW = 2;
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_TRUE = 2;
+    private static final byte VALUE_FALSE = 3;
+    private static final byte VALUE_INT = 4;
+    private static final byte VALUE_LONG = 5;
+    private static final byte VALUE_DOUBLE = 6;
+    private static final byte VALUE_BIG_INTEGER = 7;
+    private static final byte VALUE_LIST = 8;
+    private static final byte VALUE_MAP = 9;
+
+    private RawOptionsStoreCodec() {
+        // utility class
+    }
+
+    /**
+     * Writes a store to the given stream.
+     *
+     * @param out         target stream (not {@code null})
+     * @param contentHash hash of the YAML content the store was parsed from (not {@code null})
+     * @param store       store to write (not {@code null})
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if an entry holds a value that cannot be encoded
+     */
+    static void write(DataOutputStream out, String contentHash, RawOptionsStore store) throws IOException {
+        Writer writer = new Writer(out);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        writer.string(contentHash);
+
+        Map<String, RawOptionsStore.RawEntry> global = store.globalEntries();
+        out.writeInt(global.size());
+        for (Map.Entry<String, RawOptionsStore.RawEntry> e : global.entrySet()) {
+            writer.string(e.getKey());
+            writer.value(e.getValue().raw);
+        }
+
+        out.writeInt(store.pluginIds().size());
+        for (String pluginId : store.pluginIds()) {
+            Map<String, RawOptionsStore.RawEntry> entries = store.pluginEntries(pluginId);
+            writer.string(pluginId);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, RawOptionsStore.RawEntry> e : entries.entrySet()) {
+                RawOptionsStore.RawEntry entry = e.getValue();
+                writer.string(e.getKey());
+                writer.string(entry.typeFqn);
+                writer.string(entry.propertyName);
+                writer.string(entry.path);
+                writer.value(entry.raw);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a store from the given stream.
+     *
+     * @param in          source stream (not {@code null})
+     * @param size        number of bytes in the stream
+     * @param contentHash hash of the current YAML content (not {@code null})
+     * @param sourceId    source assigned to every entry (not {@code null})
+     * @return the store, or {@code null} if the stream was recorded for other content or written by
+     *     another format version
+     * @throws IOException if the stream is truncated or malformed
+     */
+    static RawOptionsStore read(DataInputStream in, long size, String contentHash, String sourceId) throws IOException {
+        Reader reader = new Reader(in, size);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a precompiled options file");
+        }
+        if (in.readShort() != FORMAT_VERSION || !contentHash.equals(reader.string())) {
+            return null;
+        }
+
+        int globalCount = reader.length();
+        Map<String, RawOptionsStore.RawEntry> global = new LinkedHashMap<>();
+        for (int i = 0; i < globalCount; i++) {
+            String name = reader.string();
+            global.put(name, new RawOptionsStore.RawEntry(reader.value(), sourceId));
+        }
+
+        int pluginCount = reader.length();
+        Map<RawOptionsStore.PluginNameKey, RawOptionsStore.RawEntry> plugins = new LinkedHashMap<>();
+        for (int i = 0; i < pluginCount; i++) {
+            String pluginId = reader.string();
+            int entryCount = reader.length();
+            for (int j = 0; j < entryCount; j++) {
+                String name = reader.string();
+                String typeFqn = reader.string();
+                String propertyName = reader.string();
+                String path = reader.string();
+                plugins.put(
+                        new RawOptionsStore.PluginNameKey(pluginId, name),
+                        new RawOptionsStore.RawEntry(reader.value(), sourceId, typeFqn, propertyName, path));
+            }
+        }
+        return new RawOptionsStore(global, plugins);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Writer
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void value(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(VALUE_NULL);
+            } else if (value instanceof String s) {
+                out.writeByte(VALUE_STRING);
+                string(s);
+            } else if (value instanceof Boolean b) {
+                out.writeByte(b ? VALUE_TRUE : VALUE_FALSE);
+            } else if (value instanceof Integer i) {
+                out.writeByte(VALUE_INT);
+                out.writeInt(i);
+            } else if (value instanceof Long l) {
+                out.writeByte(VALUE_LONG);
+                out.writeLong(l);
+            } else if (value instanceof Double d) {
+                out.writeByte(VALUE_DOUBLE);
+                out.writeDouble(d);
+            } else if (value instanceof BigInteger big) {
+                out.writeByte(VALUE_BIG_INTEGER);
+                byte[] bytes = big.toByteArray();
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            } else if (value instanceof List<?> list) {
+                out.writeByte(VALUE_LIST);
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    value(element);
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                out.writeByte(VALUE_MAP);
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> e : map.entrySet()) {
+                    value(e.getKey());
+                    value(e.getValue());
+                }
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported option value type: " + value.getClass().getName());
+            }
+        }
+
+        void string(String value) throws IOException {
+            if (value == null) {
+                out.writeByte(STRING_NULL);
+                return;
+            }
+            Integer ref = strings.get(value);
+            if (ref != null) {
+                out.writeByte(STRING_REF);
+                out.writeInt(ref);
+            } else {
+                strings.put(value, strings.size());
+                out.writeByte(STRING_NEW);
+                out.writeUTF(value);
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Reader
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static final class Reader {
+        private final DataInputStream in;
+        private final long size;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(DataInputStream in, long size) {
+            this.in = in;
+            this.size = size;
+        }
+
+        int length() throws IOException {
+            int length = in.readInt();
+            if (length < 0 || length > size) {
+                throw new IOException("Invalid length: " + length);
+            }
+            return length;
+        }
+
+        Object value() throws IOException {
+            byte tag = in.readByte();
+            return switch (tag) {
+                case VALUE_NULL -> null;
+                case VALUE_STRING -> string();
+                case VALUE_TRUE -> Boolean.TRUE;
+                case VALUE_FALSE -> Boolean.FALSE;
+                case VALUE_INT -> in.readInt();
+                case VALUE_LONG -> in.readLong();
+                case VALUE_DOUBLE -> in.readDouble();
+                case VALUE_BIG_INTEGER -> {
+                    byte[] bytes = new byte[length()];
+                    in.readFully(bytes);
+                    yield new BigInteger(bytes);
+                }
+                case VALUE_LIST -> {
+                    int count = length();
+                    List<Object> list = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        list.add(value());
+                    }
+                    yield list;
+                }
+                case VALUE_MAP -> {
+                    int count = length();
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < count; i++) {
+                        Object key = value();
+                        map.put(key, value());
+                    }
+                    yield map;
+                }
+                default -> throw new IOException("Unknown value tag: " + tag);
+            };
+        }
+
+        String string() throws IOException {
+            byte tag = in.readByte();
+            return switch (tag) {
+                case STRING_NULL -> null;
+                case STRING_REF -> {
+                    int ref = in.readInt();
+                    if (ref < 0 || ref >= strings.size()) {
+                        throw new IOException("Invalid string reference: " + ref);
+                    }
+                    yield strings.get(ref);
+                }
+                case STRING_NEW -> {
+                    String value = in.readUTF();
+                    strings.add(value);
+                    yield value;
+                }
+                default -> throw new IOException("Unknown string tag: " + tag);
+            };
+        }
+    }
+}
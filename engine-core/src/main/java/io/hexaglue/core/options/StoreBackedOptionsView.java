@@ -19,15 +19,25 @@ import io.hexaglue.spi.options.OptionsView;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Core options view backed by a raw store, plugin-agnostic.
  *
- * <p>Type coercion is performed on demand using {@link OptionKey#type()}.</p>
+ * <p>Type coercion is performed on demand using {@link OptionKey#type()} and memoized per entry,
+ * so repeated lookups of the same key and type return the same {@link OptionValue}. Plugin views
+ * are cached per plugin id and resolve names and per-property metadata directly against the
+ * store's per-plugin index, without allocating option keys.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. Concurrent first lookups of a key may coerce it more than once;
+ * the results are equal.</p>
  */
 public final class StoreBackedOptionsView implements OptionsView {
 
     private final RawOptionsStore store;
+    private final ConcurrentMap<String, PluginOptionsView> pluginViews = new ConcurrentHashMap<>();
 
     public StoreBackedOptionsView(RawOptionsStore store) {
         this.store = Objects.requireNonNull(store, "store");
@@ -50,13 +60,11 @@ public final class StoreBackedOptionsView implements OptionsView {
                 switch (key.scope()) {
                     case GLOBAL -> store.findGlobal(key.name()).orElse(null);
                     case PLUGIN ->
-                        store.findPlugin(key.pluginId().orElseThrow(), key.name())
-                                .orElse(null);
+                        store.pluginEntries(key.pluginId().orElseThrow()).get(key.name());
                 };
         if (e == null) return OptionValue.missing();
 
-        T decoded = OptionCoercions.coerce(e.raw, key.type(), key.toString());
-        return OptionValue.present(decoded, e.source);
+        return e.value(key.type(), key::toString);
     }
 
     @Override
@@ -80,6 +88,11 @@ public final class StoreBackedOptionsView implements OptionsView {
 
     @Override
     public PluginOptionsView forPlugin(String pluginId) {
-        return PluginOptionsView.of(this, pluginId);
+        Objects.requireNonNull(pluginId, "pluginId");
+        String pid = pluginId.trim();
+        if (pid.isEmpty()) {
+            throw new IllegalArgumentException("pluginId must not be blank");
+        }
+        return pluginViews.computeIfAbsent(pid, id -> new StorePluginOptionsView(store, id));
     }
 }
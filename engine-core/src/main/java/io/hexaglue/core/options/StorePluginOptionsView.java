@@ -0,0 +1,87 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.options;
+
+import io.hexaglue.spi.options.OptionKey;
+import io.hexaglue.spi.options.OptionValue;
+import io.hexaglue.spi.options.OptionsView.PluginOptionsView;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Plugin-bound view over a {@link RawOptionsStore}.
+ *
+ * <p>Resolves names against the store's per-plugin entry map and per-property metadata against its
+ * type tree, so lookups allocate neither option keys nor flattened key strings. Coerced values are
+ * memoized by the underlying entries.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is immutable and thread-safe.</p>
+ */
+final class StorePluginOptionsView implements PluginOptionsView {
+
+    private final RawOptionsStore store;
+    private final String pluginId;
+    private final Map<String, RawOptionsStore.RawEntry> entries;
+
+    StorePluginOptionsView(RawOptionsStore store, String pluginId) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.pluginId = Objects.requireNonNull(pluginId, "pluginId");
+        this.entries = store.pluginEntries(pluginId);
+    }
+
+    @Override
+    public String pluginId() {
+        return pluginId;
+    }
+
+    @Override
+    public boolean isPresent(String name) {
+        Objects.requireNonNull(name, "name");
+        return entries.containsKey(name.trim());
+    }
+
+    @Override
+    public <T> OptionValue<T> get(String name, Class<T> type) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(type, "type");
+        String n = name.trim();
+        if (n.isEmpty()) throw new IllegalArgumentException("name must not be blank");
+
+        RawOptionsStore.RawEntry e = entries.get(n);
+        if (e == null) return OptionValue.missing();
+        return e.value(type, () -> OptionKey.plugin(pluginId, n, type).toString());
+    }
+
+    @Override
+    public <T> OptionValue<T> getPropertyOption(String typeFqn, String propertyName, String path, Class<T> type) {
+        Objects.requireNonNull(typeFqn, "typeFqn");
+        Objects.requireNonNull(propertyName, "propertyName");
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(type, "type");
+
+        RawOptionsStore.TypeEntries t = store.findType(pluginId, typeFqn);
+        RawOptionsStore.RawEntry e = (t == null) ? null : t.findProperty(propertyName, path);
+        if (e == null) return OptionValue.missing();
+        return e.value(type, () -> OptionKey.plugin(
+                        pluginId, "types." + typeFqn + ".properties." + propertyName + "." + path, type)
+                .toString());
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> propertyOptions(String typeFqn) {
+        Objects.requireNonNull(typeFqn, "typeFqn");
+        RawOptionsStore.TypeEntries t = store.findType(pluginId, typeFqn.trim());
+        return (t == null) ? Map.of() : t.propertyValues;
+    }
+}
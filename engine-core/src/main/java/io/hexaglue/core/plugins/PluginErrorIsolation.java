@@ -14,6 +14,7 @@ package io.hexaglue.core.plugins;
 
 import io.hexaglue.core.context.DebugLog;
 import io.hexaglue.core.discovery.DiscoveredPlugin;
+import io.hexaglue.core.internal.events.PluginApplyEvent;
 import io.hexaglue.spi.HexaGluePlugin;
 import io.hexaglue.spi.context.GenerationContextSpec;
 import io.hexaglue.spi.diagnostics.Diagnostic;
@@ -65,7 +66,8 @@ public final class PluginErrorIsolation {
      *
      * <p>
      * If the plugin throws any exception, it is caught, logged, and reported as a diagnostic.
-     * The method always returns normally, even if the plugin fails.
+     * The method always returns normally, even if the plugin fails. The execution is recorded as
+     * a {@link PluginApplyEvent} Flight Recorder event.
      * </p>
      *
      * @param discovered discovered plugin to execute, not {@code null}
@@ -80,11 +82,16 @@ public final class PluginErrorIsolation {
         HexaGluePlugin plugin = discovered.plugin();
         String pluginId = discovered.id();
 
+        PluginApplyEvent event = new PluginApplyEvent();
+        event.begin();
         try {
             plugin.apply(context);
         } catch (Throwable ex) {
+            event.finish(pluginId, ex);
             handlePluginError(pluginId, ex, context, debugLog);
+            return;
         }
+        event.finish(pluginId, null);
     }
 
     /**
@@ -95,8 +102,7 @@ public final class PluginErrorIsolation {
      * @param context  generation context
      * @param debugLog debug logger
      */
-    private static void handlePluginError(
-            String pluginId, Throwable error, GenerationContextSpec context, DebugLog debugLog) {
+    static void handlePluginError(String pluginId, Throwable error, GenerationContextSpec context, DebugLog debugLog) {
 
         debugLog.note(
                 "Plugin " + pluginId + " failed with error: " + error.getClass().getSimpleName(), error);
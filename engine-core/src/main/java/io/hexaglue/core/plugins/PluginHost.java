@@ -45,34 +45,47 @@ import java.util.Objects;
  *
  * <h2>Threading</h2>
  * <p>
- * This class is not thread-safe. Plugin execution is expected to be sequential within a single
- * annotation processing round. Future implementations may introduce parallel execution with
- * proper synchronization.
+ * This class is not thread-safe and must be used from the annotation processing thread. Plugins
+ * are ordered and, with a parallelism above {@code 1}, run concurrently by {@link PluginScheduler};
+ * their output is applied to the context in the same order as a sequential run.
  * </p>
  */
 public final class PluginHost {
 
     private final PluginExecutionPlan plan;
     private final DebugLog debugLog;
+    private final int parallelism;
 
     /**
-     * Creates a plugin host for the given execution plan.
+     * Creates a plugin host for the given execution plan, running plugins sequentially.
      *
      * @param plan      plugin execution plan, not {@code null}
      * @param debugLog  debug logger, not {@code null}
      */
     public PluginHost(PluginExecutionPlan plan, DebugLog debugLog) {
+        this(plan, debugLog, 1);
+    }
+
+    /**
+     * Creates a plugin host for the given execution plan.
+     *
+     * @param plan        plugin execution plan, not {@code null}
+     * @param debugLog    debug logger, not {@code null}
+     * @param parallelism maximum number of plugins running concurrently
+     */
+    public PluginHost(PluginExecutionPlan plan, DebugLog debugLog, int parallelism) {
         this.plan = Objects.requireNonNull(plan, "plan");
         this.debugLog = Objects.requireNonNull(debugLog, "debugLog");
+        this.parallelism = Math.max(1, parallelism);
     }
 
     /**
      * Executes all plugins in the plan against the provided generation context.
      *
      * <p>
-     * Each plugin is executed in isolation using {@link PluginErrorIsolation}. If a plugin throws
-     * an unexpected exception, the host captures it, reports a diagnostic, and continues with the
-     * next plugin.
+     * Each plugin is executed in isolation. If a plugin throws an unexpected exception, the host
+     * reports a diagnostic through {@link PluginErrorIsolation} and continues with the next plugin;
+     * plugins that {@linkplain io.hexaglue.spi.HexaGluePlugin#dependsOn() depend on} it are skipped.
      * </p>
      *
      * <p>
@@ -91,30 +104,25 @@ public final class PluginHost {
 
         debugLog.note("Executing " + plan.plugins().size() + " plugin(s)");
 
-        for (DiscoveredPlugin discovered : plan.plugins()) {
-            executePlugin(discovered, context);
-        }
+        PluginScheduler scheduler = PluginScheduler.create(plan);
+        scheduler.warnings().forEach(debugLog::note);
+        scheduler.execute(context, parallelism, new PluginScheduler.Listener() {
+            @Override
+            public void started(DiscoveredPlugin plugin) {
+                debugLog.note("Executing plugin: " + plugin.id());
+            }
 
-        debugLog.note("Plugin execution completed");
-    }
+            @Override
+            public void failed(DiscoveredPlugin plugin, Throwable error) {
+                PluginErrorIsolation.handlePluginError(plugin.id(), error, context, debugLog);
+            }
 
-    /**
-     * Executes a single plugin with error isolation.
-     *
-     * @param discovered discovered plugin metadata
-     * @param context    generation context
-     */
-    private void executePlugin(DiscoveredPlugin discovered, GenerationContextSpec context) {
-        String pluginId = discovered.id();
-        debugLog.note("Executing plugin: " + pluginId);
+            @Override
+            public void skipped(DiscoveredPlugin plugin, String reason) {
+                debugLog.note("Skipping plugin " + plugin.id() + ": " + reason);
+            }
+        });
 
-        try {
-            PluginErrorIsolation.execute(discovered, context, debugLog);
-        } catch (RuntimeException ex) {
-            // This should rarely happen as PluginErrorIsolation handles most exceptions.
-            // If we reach here, it's likely a bug in PluginErrorIsolation itself or a severe JVM issue.
-            debugLog.note("Unexpected error executing plugin " + pluginId + ": " + ex.getMessage());
-            // We continue execution to maintain fault tolerance at the host level.
-        }
+        debugLog.note("Plugin execution completed");
     }
 }
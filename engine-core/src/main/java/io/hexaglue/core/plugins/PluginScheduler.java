@@ -0,0 +1,752 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.plugins;
+
+import io.hexaglue.core.discovery.DiscoveredPlugin;
+import io.hexaglue.core.internal.events.PluginApplyEvent;
+import io.hexaglue.core.lifecycle.PluginExecutionPlan;
+import io.hexaglue.spi.HexaGluePlugin;
+import io.hexaglue.spi.PluginMetadata;
+import io.hexaglue.spi.codegen.ArtifactSink;
+import io.hexaglue.spi.codegen.BinaryContent;
+import io.hexaglue.spi.codegen.DocFile;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.ResourceFile;
+import io.hexaglue.spi.codegen.SourceFile;
+import io.hexaglue.spi.codegen.TextContent;
+import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.types.ArrayRef;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.PrimitiveRef;
+import io.hexaglue.spi.types.TypeRef;
+import io.hexaglue.spi.types.TypeSystemSpec;
+import io.hexaglue.spi.types.TypeVariableRef;
+import io.hexaglue.spi.types.WildcardRef;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Schedules plugin execution according to declared plugin dependencies.
+ *
+ * <p>
+ * Plugins declare dependencies through {@link HexaGluePlugin#dependsOn()} (hard: the plugin only
+ * runs if every listed plugin is present and completed successfully) and
+ * {@link HexaGluePlugin#runsAfter()} (soft: ordering only, ignored when the listed plugin is
+ * absent). Dependencies refer to a plugin by its metadata id, its {@code id()} or its
+ * implementation class name.
+ * </p>
+ *
+ * <h2>Ordering</h2>
+ * <p>
+ * The execution order is a topological order of the dependency graph. Among plugins whose
+ * dependencies are satisfied, the plan order (priority, then class name) decides, so plugins
+ * without declared dependencies run in exactly the plan order. Cycles are broken by running the
+ * earliest plugin of the cycle first; a warning is recorded in {@link #warnings()}.
+ * </p>
+ *
+ * <h2>Parallel Execution</h2>
+ * <p>
+ * With a parallelism above {@code 1}, plugins whose dependencies have completed run concurrently
+ * on a bounded pool. Each plugin then receives a context whose {@link GenerationContextSpec#output()}
+ * and {@link GenerationContextSpec#diagnostics()} buffer what the plugin produces; the other
+ * views are shared and must be safe for concurrent reads. javac is not thread-safe, so
+ * {@link TypeSystemSpec#tryResolveClass(String)} calls made on a worker are forwarded to the
+ * processing thread, which runs them while it waits for the workers. Once all plugins are done,
+ * the buffers are applied to the real sink and reporter in execution order, so the resulting
+ * artifacts and diagnostics are the same as with a sequential run.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * Instances are immutable. {@link #execute(GenerationContextSpec, int, Listener)} must be called
+ * on the annotation processing thread; the {@link Listener} is only invoked from that thread.
+ * </p>
+ *
+ * <h2>Profiling</h2>
+ * <p>
+ * Each {@code apply} call is recorded as a {@link PluginApplyEvent} Flight Recorder event, on the
+ * thread that ran the plugin.
+ * </p>
+ */
+public final class PluginScheduler {
+
+    private final List<DiscoveredPlugin> order;
+    private final List<List<Integer>> requires;
+    private final List<List<Integer>> predecessors;
+    private final List<String> missing;
+    private final List<String> warnings;
+
+    private PluginScheduler(
+            List<DiscoveredPlugin> order,
+            List<List<Integer>> requires,
+            List<List<Integer>> predecessors,
+            List<String> missing,
+            List<String> warnings) {
+        this.order = order;
+        this.requires = requires;
+        this.predecessors = predecessors;
+        this.missing = missing;
+        this.warnings = warnings;
+    }
+
+    /**
+     * Builds the schedule of the given plan.
+     *
+     * @param plan plugin execution plan (not {@code null})
+     * @return scheduler (never {@code null})
+     * @throws NullPointerException if plan is null
+     */
+    public static PluginScheduler create(PluginExecutionPlan plan) {
+        Objects.requireNonNull(plan, "plan");
+        List<DiscoveredPlugin> plugins = plan.plugins();
+        int n = plugins.size();
+
+        Map<String, Integer> byId = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            for (String alias : aliases(plugins.get(i))) {
+                byId.putIfAbsent(alias, i);
+            }
+        }
+
+        List<TreeSet<Integer>> hard = new ArrayList<>(n);
+        List<TreeSet<Integer>> edges = new ArrayList<>(n);
+        String[] missingIds = new String[n];
+        for (int i = 0; i < n; i++) {
+            TreeSet<Integer> required = new TreeSet<>();
+            TreeSet<Integer> before = new TreeSet<>();
+            HexaGluePlugin plugin = plugins.get(i).plugin();
+            for (String id : declared(plugin::dependsOn)) {
+                Integer target = byId.get(id);
+                if (target == null) {
+                    if (missingIds[i] == null) {
+                        missingIds[i] = id;
+                    }
+                } else if (target != i) {
+                    required.add(target);
+                    before.add(target);
+                }
+            }
+            for (String id : declared(plugin::runsAfter)) {
+                Integer target = byId.get(id);
+                if (target != null && target != i) {
+                    before.add(target);
+                }
+            }
+            hard.add(required);
+            edges.add(before);
+        }
+
+        // Kahn's algorithm; ties are broken on the plan order.
+        int[] pending = new int[n];
+        List<List<Integer>> successors = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            successors.add(new ArrayList<>());
+        }
+        for (int i = 0; i < n; i++) {
+            pending[i] = edges.get(i).size();
+            for (int p : edges.get(i)) {
+                successors.get(p).add(i);
+            }
+        }
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < n; i++) {
+            if (pending[i] == 0) {
+                ready.add(i);
+            }
+        }
+        boolean[] placed = new boolean[n];
+        int[] position = new int[n];
+        List<Integer> sorted = new ArrayList<>(n);
+        List<String> warnings = new ArrayList<>();
+        while (sorted.size() < n) {
+            Integer next = ready.poll();
+            if (next == null) {
+                int forced = 0;
+                while (placed[forced]) {
+                    forced++;
+                }
+                warnings.add("Plugin dependency cycle detected involving '"
+                        + plugins.get(forced).id() + "'; running it before its dependencies");
+                next = forced;
+            }
+            if (placed[next]) {
+                continue;
+            }
+            placed[next] = true;
+            position[next] = sorted.size();
+            sorted.add(next);
+            for (int s : successors.get(next)) {
+                if (--pending[s] == 0 && !placed[s]) {
+                    ready.add(s);
+                }
+            }
+        }
+
+        // Re-index on execution order, keeping only edges that point backwards in that order.
+        List<DiscoveredPlugin> order = new ArrayList<>(n);
+        List<List<Integer>> requires = new ArrayList<>(n);
+        List<List<Integer>> predecessors = new ArrayList<>(n);
+        List<String> missing = new ArrayList<>(n);
+        for (int index : sorted) {
+            order.add(plugins.get(index));
+            requires.add(remap(hard.get(index), position));
+            List<Integer> before = new ArrayList<>();
+            for (int p : edges.get(index)) {
+                if (position[p] < position[index]) {
+                    before.add(position[p]);
+                }
+            }
+            Collections.sort(before);
+            predecessors.add(List.copyOf(before));
+            missing.add(missingIds[index]);
+        }
+
+        return new PluginScheduler(
+                List.copyOf(order),
+                List.copyOf(requires),
+                List.copyOf(predecessors),
+                Collections.unmodifiableList(missing),
+                List.copyOf(warnings));
+    }
+
+    /**
+     * Returns the plugins in execution order.
+     *
+     * @return ordered plugins (never {@code null})
+     */
+    public List<DiscoveredPlugin> order() {
+        return order;
+    }
+
+    /**
+     * Returns the warnings raised while building the schedule (e.g. dependency cycles).
+     *
+     * @return warnings (never {@code null})
+     */
+    public List<String> warnings() {
+        return warnings;
+    }
+
+    /**
+     * Executes all plugins against the given context.
+     *
+     * <p>
+     * A plugin failure is reported to the listener and never stops the execution of other plugins;
+     * plugins depending on a failed or skipped plugin are skipped.
+     * </p>
+     *
+     * @param context     generation context (not {@code null})
+     * @param parallelism maximum number of worker threads; values below {@code 2} mean sequential
+     * @param listener    execution listener (not {@code null})
+     * @throws NullPointerException if context or listener is null
+     */
+    public void execute(GenerationContextSpec context, int parallelism, Listener listener) {
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(listener, "listener");
+
+        if (parallelism <= 1 || order.size() < 2) {
+            executeSequentially(context, listener);
+        } else {
+            executeInParallel(context, Math.min(parallelism, order.size()), listener);
+        }
+    }
+
+    private void executeSequentially(GenerationContextSpec context, Listener listener) {
+        boolean[] succeeded = new boolean[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            DiscoveredPlugin plugin = order.get(i);
+            String reason = skipReason(i, succeeded);
+            if (reason != null) {
+                listener.skipped(plugin, reason);
+                continue;
+            }
+            listener.started(plugin);
+            PluginApplyEvent event = new PluginApplyEvent();
+            event.begin();
+            long start = System.nanoTime();
+            try {
+                plugin.plugin().apply(context);
+            } catch (Throwable error) {
+                listener.measured(plugin, System.nanoTime() - start);
+                event.finish(plugin.id(), error);
+                listener.failed(plugin, error);
+                continue;
+            }
+            listener.measured(plugin, System.nanoTime() - start);
+            event.finish(plugin.id(), null);
+            succeeded[i] = true;
+            listener.completed(plugin);
+        }
+    }
+
+    private void executeInParallel(GenerationContextSpec context, int threads, Listener listener) {
+        int n = order.size();
+        Run[] runs = new Run[n];
+        boolean[] runSucceeded = new boolean[n];
+        int[] pending = new int[n];
+        List<List<Integer>> successors = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            successors.add(new ArrayList<>());
+        }
+        for (int i = 0; i < n; i++) {
+            pending[i] = predecessors.get(i).size();
+            for (int p : predecessors.get(i)) {
+                successors.get(p).add(i);
+            }
+        }
+
+        // Receives finished runs and the type system calls forwarded by workers
+        BlockingQueue<Object> mailbox = new LinkedBlockingQueue<>();
+        TypeSystemSpec types = new ProcessingThreadTypes(context.types(), mailbox);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+        try {
+            Deque<Integer> ready = new ArrayDeque<>();
+            for (int i = 0; i < n; i++) {
+                if (pending[i] == 0) {
+                    ready.add(i);
+                }
+            }
+            int finished = 0;
+            int running = 0;
+            while (finished < n) {
+                while (!ready.isEmpty()) {
+                    int index = ready.poll();
+                    if (skipReason(index, runSucceeded) != null) {
+                        runs[index] = Run.skipped(index);
+                        finished++;
+                        release(index, pending, successors, ready);
+                    } else {
+                        executor.execute(() -> {
+                            try {
+                                mailbox.add(run(index, context, types));
+                            } catch (Throwable t) {
+                                mailbox.add(new WorkerFailure(t));
+                            }
+                        });
+                        running++;
+                    }
+                }
+                if (running == 0) {
+                    break;
+                }
+                Run run = await(mailbox);
+                running--;
+                finished++;
+                runs[run.index()] = run;
+                runSucceeded[run.index()] = run.error() == null;
+                release(run.index(), pending, successors, ready);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        boolean[] succeeded = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            DiscoveredPlugin plugin = order.get(i);
+            String reason = skipReason(i, succeeded);
+            if (reason != null) {
+                listener.skipped(plugin, reason);
+                continue;
+            }
+            listener.started(plugin);
+            Run run = runs[i];
+            Throwable error = run.error();
+            try {
+                context.diagnostics().reportAll(run.diagnostics());
+                for (Consumer<ArtifactSink> write : run.writes()) {
+                    write.accept(context.output());
+                }
+            } catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+            listener.measured(plugin, run.nanos());
+            if (error != null) {
+                listener.failed(plugin, error);
+                continue;
+            }
+            succeeded[i] = true;
+            listener.completed(plugin);
+        }
+    }
+
+    private String skipReason(int index, boolean[] succeeded) {
+        String missingId = missing.get(index);
+        if (missingId != null) {
+            return "required plugin '" + missingId + "' is not available";
+        }
+        for (int required : requires.get(index)) {
+            if (required >= index || !succeeded[required]) {
+                return "required plugin '" + order.get(required).id() + "' did not complete successfully";
+            }
+        }
+        return null;
+    }
+
+    private static void release(int index, int[] pending, List<List<Integer>> successors, Deque<Integer> ready) {
+        for (int s : successors.get(index)) {
+            if (--pending[s] == 0) {
+                ready.add(s);
+            }
+        }
+    }
+
+    private Run run(int index, GenerationContextSpec context, TypeSystemSpec types) {
+        List<Diagnostic> diagnostics = Collections.synchronizedList(new ArrayList<>());
+        BufferedArtifactSink output = new BufferedArtifactSink();
+        GenerationContextSpec isolated = GenerationContextSpec.of(
+                context.names(),
+                context.model(),
+                types,
+                context.options(),
+                DiagnosticReporter.accumulating(diagnostics),
+                output,
+                context.environment(),
+                context.request());
+        Throwable error = null;
+        PluginApplyEvent event = new PluginApplyEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            order.get(index).plugin().apply(isolated);
+        } catch (Throwable t) {
+            error = t;
+        }
+        long nanos = System.nanoTime() - start;
+        event.finish(order.get(index).id(), error);
+        synchronized (diagnostics) {
+            return new Run(index, List.copyOf(diagnostics), output.writes(), error, nanos);
+        }
+    }
+
+    private static Run await(BlockingQueue<Object> mailbox) {
+        try {
+            while (true) {
+                Object message = mailbox.take();
+                if (message instanceof Run run) {
+                    return run;
+                }
+                if (message instanceof WorkerFailure failure) {
+                    // Plugin errors are captured in Run; this is a scheduler failure.
+                    throw new IllegalStateException("Parallel plugin execution failed", failure.cause());
+                }
+                // A type system call forwarded by a worker
+                ((Runnable) message).run();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for plugin execution", e);
+        }
+    }
+
+    private static List<String> aliases(DiscoveredPlugin plugin) {
+        List<String> aliases = new ArrayList<>(3);
+        plugin.metadata().map(PluginMetadata::id).ifPresent(aliases::add);
+        try {
+            String id = plugin.plugin().id();
+            if (id != null && !id.isBlank()) {
+                aliases.add(id.trim());
+            }
+        } catch (RuntimeException ex) {
+            // Misbehaving plugins must not break scheduling.
+        }
+        aliases.add(plugin.implementationClassName());
+        return aliases;
+    }
+
+    private static Set<String> declared(Supplier<Set<String>> ids) {
+        Set<String> declared;
+        try {
+            declared = ids.get();
+        } catch (RuntimeException ex) {
+            // Misbehaving plugins must not break scheduling.
+            return Set.of();
+        }
+        if (declared == null || declared.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String id : declared) {
+            if (id != null && !id.isBlank()) {
+                normalized.add(id.trim());
+            }
+        }
+        return normalized;
+    }
+
+    private static List<Integer> remap(TreeSet<Integer> indexes, int[] position) {
+        List<Integer> remapped = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            remapped.add(position[index]);
+        }
+        Collections.sort(remapped);
+        return List.copyOf(remapped);
+    }
+
+    /**
+     * Receives plugin execution events, on the annotation processing thread and in execution order.
+     */
+    public interface Listener {
+
+        /**
+         * Called before a plugin's output is applied (or, sequentially, before the plugin runs).
+         *
+         * @param plugin plugin
+         */
+        default void started(DiscoveredPlugin plugin) {}
+
+        /**
+         * Called with the time spent in the plugin's {@code apply}, before {@link #completed} or
+         * {@link #failed}.
+         *
+         * <p>
+         * With parallel execution, this is the time the plugin ran on its worker thread, not the
+         * time needed to apply its buffered output.
+         * </p>
+         *
+         * @param plugin       plugin
+         * @param elapsedNanos wall time in nanoseconds
+         */
+        default void measured(DiscoveredPlugin plugin, long elapsedNanos) {}
+
+        /**
+         * Called when a plugin completed successfully.
+         *
+         * @param plugin plugin
+         */
+        default void completed(DiscoveredPlugin plugin) {}
+
+        /**
+         * Called when a plugin threw, or when applying its output failed.
+         *
+         * @param plugin plugin
+         * @param error  failure
+         */
+        default void failed(DiscoveredPlugin plugin, Throwable error) {}
+
+        /**
+         * Called when a plugin is not run because a required plugin is missing or failed.
+         *
+         * @param plugin plugin
+         * @param reason human-readable reason
+         */
+        default void skipped(DiscoveredPlugin plugin, String reason) {}
+    }
+
+    private record Run(
+            int index, List<Diagnostic> diagnostics, List<Consumer<ArtifactSink>> writes, Throwable error, long nanos) {
+
+        static Run skipped(int index) {
+            return new Run(index, List.of(), List.of(), null, 0L);
+        }
+    }
+
+    /**
+     * Records the writes of one plugin, to be applied later on the real sink.
+     *
+     * <p>
+     * Content producers are not invoked here but handed to the real sink when the writes are
+     * applied, so a streaming sink still receives them unmaterialized.
+     * </p>
+     */
+    private static final class BufferedArtifactSink implements ArtifactSink {
+
+        private final List<Consumer<ArtifactSink>> writes = new ArrayList<>();
+
+        @Override
+        public synchronized void write(SourceFile file) {
+            Objects.requireNonNull(file, "file");
+            writes.add(sink -> sink.write(file));
+        }
+
+        @Override
+        public synchronized void write(ResourceFile file) {
+            Objects.requireNonNull(file, "file");
+            writes.add(sink -> sink.write(file));
+        }
+
+        @Override
+        public synchronized void write(DocFile file) {
+            Objects.requireNonNull(file, "file");
+            writes.add(sink -> sink.write(file));
+        }
+
+        @Override
+        public synchronized void writeSource(String qualifiedTypeName, MergeMode mergeMode, TextContent content) {
+            writes.add(sink -> sink.writeSource(qualifiedTypeName, mergeMode, content));
+        }
+
+        @Override
+        public synchronized void writeResource(String path, MergeMode mergeMode, BinaryContent content) {
+            writes.add(sink -> sink.writeResource(path, mergeMode, content));
+        }
+
+        @Override
+        public synchronized void writeDoc(String path, MergeMode mergeMode, TextContent content) {
+            writes.add(sink -> sink.writeDoc(path, mergeMode, content));
+        }
+
+        synchronized List<Consumer<ArtifactSink>> writes() {
+            return List.copyOf(writes);
+        }
+    }
+
+    private record WorkerFailure(Throwable cause) {}
+
+    /**
+     * Type system handed to plugins running on worker threads.
+     *
+     * <p>
+     * Class resolution goes through javac, which is not thread-safe: it is forwarded to the
+     * processing thread, which runs it while waiting for the workers. The other operations do
+     * not touch javac and run on the calling thread.
+     * </p>
+     */
+    private static final class ProcessingThreadTypes implements TypeSystemSpec {
+
+        private final TypeSystemSpec delegate;
+        private final BlockingQueue<Object> mailbox;
+
+        ProcessingThreadTypes(TypeSystemSpec delegate, BlockingQueue<Object> mailbox) {
+            this.delegate = delegate;
+            this.mailbox = mailbox;
+        }
+
+        @Override
+        public ClassRef objectType() {
+            return delegate.objectType();
+        }
+
+        @Override
+        public ClassRef stringType() {
+            return delegate.stringType();
+        }
+
+        @Override
+        public ClassRef classRef(String qualifiedName) {
+            return delegate.classRef(qualifiedName);
+        }
+
+        @Override
+        public Optional<ClassRef> tryResolveClass(String qualifiedName) {
+            FutureTask<Optional<ClassRef>> call = new FutureTask<>(() -> delegate.tryResolveClass(qualifiedName));
+            mailbox.add(call);
+            try {
+                return call.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while resolving '" + qualifiedName + "'", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Failed to resolve '" + qualifiedName + "'", e.getCause());
+            }
+        }
+
+        @Override
+        public PrimitiveRef primitive(String keyword) {
+            return delegate.primitive(keyword);
+        }
+
+        @Override
+        public ArrayRef arrayOf(TypeRef component) {
+            return delegate.arrayOf(component);
+        }
+
+        @Override
+        public ParameterizedRef parameterized(ClassRef raw, List<TypeRef> args) {
+            return delegate.parameterized(raw, args);
+        }
+
+        @Override
+        public WildcardRef wildcard() {
+            return delegate.wildcard();
+        }
+
+        @Override
+        public WildcardRef wildcardExtends(TypeRef upper) {
+            return delegate.wildcardExtends(upper);
+        }
+
+        @Override
+        public WildcardRef wildcardSuper(TypeRef lower) {
+            return delegate.wildcardSuper(lower);
+        }
+
+        @Override
+        public TypeVariableRef typeVariable(String name, List<TypeRef> bounds) {
+            return delegate.typeVariable(name, bounds);
+        }
+
+        @Override
+        public TypeRef erasure(TypeRef type) {
+            return delegate.erasure(type);
+        }
+
+        @Override
+        public boolean isAssignable(TypeRef from, TypeRef to) {
+            return delegate.isAssignable(from, to);
+        }
+
+        @Override
+        public TypeRef box(TypeRef type) {
+            return delegate.box(type);
+        }
+
+        @Override
+        public TypeRef unbox(TypeRef type) {
+            return delegate.unbox(type);
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "hexaglue-plugin-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
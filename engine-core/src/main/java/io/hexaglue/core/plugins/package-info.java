@@ -24,6 +24,8 @@
  *   <li>Plugins are discovered by {@link io.hexaglue.core.discovery.ServiceLoaderPluginDiscovery}</li>
  *   <li>A {@link io.hexaglue.core.lifecycle.PluginExecutionPlan} is built with deterministic ordering</li>
  *   <li>{@link io.hexaglue.core.plugins.PluginHost} orchestrates the execution</li>
+ *   <li>{@link io.hexaglue.core.plugins.PluginScheduler} orders plugins by declared dependencies and
+ *       optionally runs independent plugins in parallel</li>
  *   <li>{@link io.hexaglue.core.plugins.PluginContextBridge} provides SPI-compliant contexts</li>
  *   <li>{@link io.hexaglue.core.plugins.PluginErrorIsolation} catches and reports plugin errors</li>
  * </ol>
@@ -14,6 +14,7 @@ package io.hexaglue.core.processor;
 
 import io.hexaglue.core.diagnostics.DiagnosticEngine;
 import io.hexaglue.core.discovery.PluginClasspath;
+import io.hexaglue.core.internal.ir.domain.semantics.DomainSemanticEnricher;
 import io.hexaglue.core.lifecycle.CompilationInputs;
 import io.hexaglue.core.lifecycle.CompilationOutputs;
 import io.hexaglue.core.lifecycle.CompilationPipeline;
@@ -164,12 +165,18 @@ public final class ProcessorBootstrap {
 
         // Create diagnostic engine on first round
         if (diagnosticEngine == null) {
-            diagnosticEngine = DiagnosticEngine.create(round.messager());
+            // Enrichment re-runs over the cumulative model each round: report its findings once
+            diagnosticEngine = DiagnosticEngine.create(
+                    round.messager(),
+                    round.processingEnv().getElementUtils(),
+                    options.diagnosticPolicy(),
+                    DomainSemanticEnricher.DIAGNOSTIC_CODES::contains);
         }
 
         // Compute resolved options once per compilation (YAML optional).
         if (resolvedOptions == null) {
-            resolvedOptions = new CoreOptionsViewLoader(round.processingEnv()).load();
+            resolvedOptions =
+                    new CoreOptionsViewLoader(round.processingEnv(), options.isPrecompiledOptionsEnabled()).load();
 
             if (options.isDebugEnabled()) {
                 round.messager().printMessage(Diagnostic.Kind.NOTE, "[HexaGlue] options view loaded (yaml optional)");
@@ -12,10 +12,15 @@
  */
 package io.hexaglue.core.processor;
 
+import io.hexaglue.core.diagnostics.DiagnosticPolicy;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import javax.annotation.processing.ProcessingEnvironment;
 
 /**
@@ -58,13 +63,155 @@ public final class ProcessorOptions {
      */
     public static final String KEY_MODE = PREFIX + "mode";
 
+    /**
+     * Enables the persistent IR cache, stored in the build directory.
+     *
+     * <p>
+     * When enabled, the IR extracted for each type is written to disk at the end of the compilation
+     * and reused by the next one for types whose declaration did not change. Each class output has
+     * its own cache (e.g. {@code target/hexaglue/classes/} and {@code target/hexaglue/test-classes/}),
+     * so the main and test compilations do not replace each other's entries.
+     * </p>
+     */
+    public static final String KEY_IR_CACHE = PREFIX + "irCache";
+
+    /**
+     * Directory of the persistent IR cache. Setting it implicitly enables {@link #KEY_IR_CACHE}.
+     *
+     * <p>
+     * Compilations that share this directory overwrite each other's cache, so each compilation
+     * should be given its own.
+     * </p>
+     */
+    public static final String KEY_IR_CACHE_DIR = KEY_IR_CACHE + ".dir";
+
+    /**
+     * Maximum number of threads used to run plugins during the GENERATE phase.
+     *
+     * <p>
+     * Defaults to {@code 1} (sequential execution). With a larger value, independent plugins run
+     * concurrently; generated artifacts and diagnostics are still applied in the deterministic
+     * plugin order.
+     * </p>
+     */
+    public static final String KEY_PLUGIN_PARALLELISM = PREFIX + "plugins.parallelism";
+
+    /**
+     * Emits generated artifacts as soon as plugins write them, instead of collecting them until
+     * the WRITE phase.
+     *
+     * <p>
+     * Reduces peak memory for plugins generating many or large files. Defaults to {@code false}.
+     * </p>
+     */
+    public static final String KEY_STREAMING_EMISSION = PREFIX + "emission.streaming";
+
+    /**
+     * Skips writing resources and documentation whose content is unchanged since the previous
+     * compilation.
+     *
+     * <p>
+     * Content hashes are recorded in a manifest stored in the build directory, one per class output
+     * (e.g. {@code target/hexaglue/classes/artifact-manifest.txt}). Keeping unchanged
+     * files untouched preserves their timestamps, so incremental builds do not redo downstream
+     * work. Generated sources are always written, so that javac compiles them in every
+     * compilation. Defaults to {@code false}.
+     * </p>
+     */
+    public static final String KEY_SKIP_UNCHANGED = PREFIX + "emission.skipUnchanged";
+
+    /**
+     * Reads and writes a precompiled binary form of {@code hexaglue.yaml}.
+     *
+     * <p>
+     * The binary file ({@code hexaglue.yaml.bin}) is written to the build directory, next to the IR
+     * cache of the class output (e.g. {@code target/hexaglue/classes/}), so it is neither packaged
+     * nor written to the source tree. It is used instead of parsing the YAML while its recorded
+     * content hash matches. Defaults to {@code false}. Parsed options are shared within the JVM regardless.
+     * </p>
+     */
+    public static final String KEY_PRECOMPILED_OPTIONS = PREFIX + "options.precompiled";
+
+    /**
+     * Lowest severity of the diagnostics reported ({@code INFO}, {@code WARNING} or {@code ERROR}).
+     *
+     * <p>
+     * Defaults to {@code INFO}. Errors are always reported.
+     * </p>
+     */
+    public static final String KEY_DIAGNOSTICS_MIN_SEVERITY = PREFIX + "diagnostics.minSeverity";
+
+    /**
+     * Maximum number of INFO and WARNING diagnostics reported per diagnostic code.
+     *
+     * <p>
+     * Further diagnostics of a capped code are summarized with a single line giving their count.
+     * Defaults to unlimited.
+     * </p>
+     */
+    public static final String KEY_DIAGNOSTICS_MAX_PER_CODE = PREFIX + "diagnostics.maxPerCode";
+
+    /**
+     * Per-code caps overriding {@link #KEY_DIAGNOSTICS_MAX_PER_CODE}, as a comma-separated list of
+     * {@code CODE:cap} entries (e.g. {@code "HG-CORE-IR-200:0,HG-CORE-IR-201:10"}).
+     */
+    public static final String KEY_DIAGNOSTICS_CAPS = PREFIX + "diagnostics.caps";
+
+    /**
+     * Writes a JSON report of the compilation's phase and plugin timings and counters.
+     *
+     * <p>
+     * The report is written to {@code metrics.json} next to the persistent IR cache of the class
+     * output being compiled (e.g. {@code target/hexaglue/classes/metrics.json} or
+     * {@code build/hexaglue/main/metrics.json}), so main and test compilations keep separate
+     * reports. A report that cannot be written is reported as an {@code HG-CORE-130} warning.
+     * Defaults to {@code false}.
+     * </p>
+     */
+    public static final String KEY_METRICS = PREFIX + "metrics";
+
+    /**
+     * File of the JSON metrics report. Setting it implicitly enables {@link #KEY_METRICS}.
+     */
+    public static final String KEY_METRICS_FILE = KEY_METRICS + ".file";
+
     private final boolean debugEnabled;
     private final String mode;
+    private final boolean irCacheEnabled;
+    private final String irCacheDirectory;
+    private final int pluginParallelism;
+    private final boolean streamingEmission;
+    private final boolean skipUnchanged;
+    private final boolean precompiledOptions;
+    private final DiagnosticPolicy diagnosticPolicy;
+    private final boolean metricsEnabled;
+    private final String metricsFile;
     private final Map<String, String> raw;
 
-    private ProcessorOptions(boolean debugEnabled, String mode, Map<String, String> raw) {
+    private ProcessorOptions(
+            boolean debugEnabled,
+            String mode,
+            boolean irCacheEnabled,
+            String irCacheDirectory,
+            int pluginParallelism,
+            boolean streamingEmission,
+            boolean skipUnchanged,
+            boolean precompiledOptions,
+            DiagnosticPolicy diagnosticPolicy,
+            boolean metricsEnabled,
+            String metricsFile,
+            Map<String, String> raw) {
         this.debugEnabled = debugEnabled;
         this.mode = mode;
+        this.irCacheEnabled = irCacheEnabled;
+        this.irCacheDirectory = irCacheDirectory;
+        this.pluginParallelism = pluginParallelism;
+        this.streamingEmission = streamingEmission;
+        this.skipUnchanged = skipUnchanged;
+        this.precompiledOptions = precompiledOptions;
+        this.diagnosticPolicy = diagnosticPolicy;
+        this.metricsEnabled = metricsEnabled;
+        this.metricsFile = metricsFile;
         this.raw = raw;
     }
 
@@ -79,7 +226,19 @@ public final class ProcessorOptions {
 
         Map<String, String> source = processingEnv.getOptions();
         if (source == null || source.isEmpty()) {
-            return new ProcessorOptions(false, "DEFAULT", Collections.emptyMap());
+            return new ProcessorOptions(
+                    false,
+                    "DEFAULT",
+                    false,
+                    null,
+                    1,
+                    false,
+                    false,
+                    false,
+                    DiagnosticPolicy.unrestricted(),
+                    false,
+                    null,
+                    Collections.emptyMap());
         }
 
         Map<String, String> raw = new LinkedHashMap<>();
@@ -93,8 +252,29 @@ public final class ProcessorOptions {
 
         boolean debug = parseBoolean(raw.get(KEY_DEBUG), false);
         String mode = normalize(raw.get(KEY_MODE), "DEFAULT");
+        String irCacheDirectory = normalize(raw.get(KEY_IR_CACHE_DIR), null);
+        boolean irCache = parseBoolean(raw.get(KEY_IR_CACHE), irCacheDirectory != null);
+        int pluginParallelism = Math.max(1, parseInt(raw.get(KEY_PLUGIN_PARALLELISM), 1));
+        boolean streamingEmission = parseBoolean(raw.get(KEY_STREAMING_EMISSION), false);
+        boolean skipUnchanged = parseBoolean(raw.get(KEY_SKIP_UNCHANGED), false);
+        boolean precompiledOptions = parseBoolean(raw.get(KEY_PRECOMPILED_OPTIONS), false);
+        DiagnosticPolicy diagnosticPolicy = parseDiagnosticPolicy(raw);
+        String metricsFile = normalize(raw.get(KEY_METRICS_FILE), null);
+        boolean metrics = parseBoolean(raw.get(KEY_METRICS), metricsFile != null);
 
-        return new ProcessorOptions(debug, mode, Collections.unmodifiableMap(raw));
+        return new ProcessorOptions(
+                debug,
+                mode,
+                irCache,
+                irCacheDirectory,
+                pluginParallelism,
+                streamingEmission,
+                skipUnchanged,
+                precompiledOptions,
+                diagnosticPolicy,
+                metrics,
+                metricsFile,
+                Collections.unmodifiableMap(raw));
     }
 
     /**
@@ -115,6 +295,87 @@ public final class ProcessorOptions {
         return mode;
     }
 
+    /**
+     * Returns whether the persistent IR cache is enabled.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isIrCacheEnabled() {
+        return irCacheEnabled;
+    }
+
+    /**
+     * Returns the explicitly configured IR cache directory.
+     *
+     * @return cache directory, or empty to use the default location
+     */
+    public Optional<String> irCacheDirectory() {
+        return Optional.ofNullable(irCacheDirectory);
+    }
+
+    /**
+     * Returns the maximum number of threads used to run plugins.
+     *
+     * @return parallelism, at least {@code 1}
+     */
+    public int pluginParallelism() {
+        return pluginParallelism;
+    }
+
+    /**
+     * Returns whether artifacts are emitted as soon as they are written.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isStreamingEmissionEnabled() {
+        return streamingEmission;
+    }
+
+    /**
+     * Returns whether artifacts with unchanged content are not written again.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isSkipUnchangedEnabled() {
+        return skipUnchanged;
+    }
+
+    /**
+     * Returns whether the precompiled binary form of {@code hexaglue.yaml} is used.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isPrecompiledOptionsEnabled() {
+        return precompiledOptions;
+    }
+
+    /**
+     * Returns the policy filtering reported diagnostics.
+     *
+     * @return diagnostic policy, never {@code null}
+     */
+    public DiagnosticPolicy diagnosticPolicy() {
+        return diagnosticPolicy;
+    }
+
+    /**
+     * Returns whether the JSON metrics report is written.
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * Returns the explicitly configured metrics report file.
+     *
+     * @return report file, or empty to use the default location
+     */
+    public Optional<String> metricsFile() {
+        return Optional.ofNullable(metricsFile);
+    }
+
     /**
      * Returns the raw option map (unmodifiable).
      *
@@ -130,7 +391,42 @@ public final class ProcessorOptions {
      * @return debug string, never {@code null}
      */
     public String toDebugString() {
-        return "debug=" + debugEnabled + ", mode=" + mode;
+        return "debug=" + debugEnabled + ", mode=" + mode + ", irCache=" + irCacheEnabled + ", pluginParallelism="
+                + pluginParallelism
+                + ", streamingEmission=" + streamingEmission + ", skipUnchanged=" + skipUnchanged
+                + ", precompiledOptions=" + precompiledOptions
+                + ", diagnosticPolicy=" + diagnosticPolicy + ", metrics=" + metricsEnabled;
+    }
+
+    private static DiagnosticPolicy parseDiagnosticPolicy(Map<String, String> raw) {
+        DiagnosticPolicy.Builder builder = DiagnosticPolicy.builder();
+        String minSeverity = normalize(raw.get(KEY_DIAGNOSTICS_MIN_SEVERITY), null);
+        if (minSeverity != null) {
+            try {
+                builder.minimumSeverity(DiagnosticSeverity.valueOf(minSeverity.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                // Unknown severity: keep the default
+            }
+        }
+        int maxPerCode = parseInt(raw.get(KEY_DIAGNOSTICS_MAX_PER_CODE), -1);
+        if (maxPerCode >= 0) {
+            builder.defaultCap(maxPerCode);
+        }
+        String caps = normalize(raw.get(KEY_DIAGNOSTICS_CAPS), null);
+        if (caps != null) {
+            for (String entry : caps.split(",")) {
+                int colon = entry.lastIndexOf(':');
+                if (colon <= 0) {
+                    continue;
+                }
+                String code = entry.substring(0, colon).trim();
+                int cap = parseInt(entry.substring(colon + 1), -1);
+                if (!code.isEmpty() && cap >= 0) {
+                    builder.cap(DiagnosticCode.of(code), cap);
+                }
+            }
+        }
+        return builder.build();
     }
 
     private static boolean parseBoolean(String value, boolean defaultValue) {
@@ -144,6 +440,17 @@ public final class ProcessorOptions {
         return "true".equalsIgnoreCase(s) || "1".equals(s) || "yes".equalsIgnoreCase(s) || "on".equalsIgnoreCase(s);
     }
 
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     private static String normalize(String value, String defaultValue) {
         if (value == null) {
             return defaultValue;
@@ -39,8 +39,10 @@ import javax.lang.model.util.Types;
  *
  * <h2>Thread Safety</h2>
  * <p>
- * Instances are thread-safe as long as the underlying JSR-269 utilities are used
- * within a single annotation processing round.
+ * {@link #tryResolveClass(String)} goes through javac and the memoizing {@link TypeResolver},
+ * neither of which is thread-safe: it must be called on the annotation processing thread. Plugins
+ * running in parallel reach it through {@code PluginScheduler}, which forwards the call to that
+ * thread. The other operations do not touch javac and are thread-safe.
  * </p>
  *
  * <h2>Usage</h2>
@@ -72,7 +74,7 @@ public final class DefaultTypeSystem implements TypeSystemSpec {
     public static DefaultTypeSystem create(Elements elements, Types types) {
         Objects.requireNonNull(elements, "elements");
         Objects.requireNonNull(types, "types");
-        return new DefaultTypeSystem(TypeResolver.create(elements, types));
+        return new DefaultTypeSystem(TypeResolver.create(elements));
     }
 
     @Override
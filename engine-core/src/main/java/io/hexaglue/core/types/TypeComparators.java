@@ -70,6 +70,10 @@ public final class TypeComparators {
         Objects.requireNonNull(a, "a");
         Objects.requireNonNull(b, "b");
 
+        // Interned references (see TypeRefInterner) are usually identical
+        if (a == b) {
+            return true;
+        }
         if (a.kind() != b.kind()) {
             return false;
         }
@@ -95,6 +99,9 @@ public final class TypeComparators {
         Objects.requireNonNull(a, "a");
         Objects.requireNonNull(b, "b");
 
+        if (a == b) {
+            return true;
+        }
         return equalIgnoringNullability(a, b) && a.nullability() == b.nullability();
     }
 
@@ -43,6 +43,13 @@ import java.util.Objects;
  * </ul>
  * </p>
  *
+ * <h2>Canonical Instances</h2>
+ * <p>
+ * All references returned by this factory, including the constants, are interned in the
+ * {@link TypeRefInterner#shared() shared pool}: equal references created through the factory are
+ * the same instance.
+ * </p>
+ *
  * <h2>Thread Safety</h2>
  * <p>
  * All methods are thread-safe. Factory constants are immutable.
@@ -51,23 +58,23 @@ import java.util.Objects;
 public final class TypeRefFactory {
 
     // Common primitive types
-    public static final PrimitiveRef VOID = PrimitiveRef.of("void");
-    public static final PrimitiveRef BOOLEAN = PrimitiveRef.of("boolean");
-    public static final PrimitiveRef BYTE = PrimitiveRef.of("byte");
-    public static final PrimitiveRef SHORT = PrimitiveRef.of("short");
-    public static final PrimitiveRef INT = PrimitiveRef.of("int");
-    public static final PrimitiveRef LONG = PrimitiveRef.of("long");
-    public static final PrimitiveRef FLOAT = PrimitiveRef.of("float");
-    public static final PrimitiveRef DOUBLE = PrimitiveRef.of("double");
-    public static final PrimitiveRef CHAR = PrimitiveRef.of("char");
+    public static final PrimitiveRef VOID = intern(PrimitiveRef.of("void"));
+    public static final PrimitiveRef BOOLEAN = intern(PrimitiveRef.of("boolean"));
+    public static final PrimitiveRef BYTE = intern(PrimitiveRef.of("byte"));
+    public static final PrimitiveRef SHORT = intern(PrimitiveRef.of("short"));
+    public static final PrimitiveRef INT = intern(PrimitiveRef.of("int"));
+    public static final PrimitiveRef LONG = intern(PrimitiveRef.of("long"));
+    public static final PrimitiveRef FLOAT = intern(PrimitiveRef.of("float"));
+    public static final PrimitiveRef DOUBLE = intern(PrimitiveRef.of("double"));
+    public static final PrimitiveRef CHAR = intern(PrimitiveRef.of("char"));
 
     // Common class types
-    public static final ClassRef OBJECT = ClassRef.of("java.lang.Object");
-    public static final ClassRef STRING = ClassRef.of("java.lang.String");
-    public static final ClassRef INTEGER = ClassRef.of("java.lang.Integer");
-    public static final ClassRef LONG_WRAPPER = ClassRef.of("java.lang.Long");
-    public static final ClassRef BOOLEAN_WRAPPER = ClassRef.of("java.lang.Boolean");
-    public static final ClassRef DOUBLE_WRAPPER = ClassRef.of("java.lang.Double");
+    public static final ClassRef OBJECT = intern(ClassRef.of("java.lang.Object"));
+    public static final ClassRef STRING = intern(ClassRef.of("java.lang.String"));
+    public static final ClassRef INTEGER = intern(ClassRef.of("java.lang.Integer"));
+    public static final ClassRef LONG_WRAPPER = intern(ClassRef.of("java.lang.Long"));
+    public static final ClassRef BOOLEAN_WRAPPER = intern(ClassRef.of("java.lang.Boolean"));
+    public static final ClassRef DOUBLE_WRAPPER = intern(ClassRef.of("java.lang.Double"));
 
     private TypeRefFactory() {
         // utility class
@@ -81,7 +88,7 @@ public final class TypeRefFactory {
      */
     public static PrimitiveRef primitive(String keyword) {
         Objects.requireNonNull(keyword, "keyword");
-        return PrimitiveRef.of(keyword);
+        return intern(PrimitiveRef.of(keyword));
     }
 
     /**
@@ -92,7 +99,7 @@ public final class TypeRefFactory {
      */
     public static ClassRef classRef(String qualifiedName) {
         Objects.requireNonNull(qualifiedName, "qualifiedName");
-        return ClassRef.of(qualifiedName);
+        return intern(ClassRef.of(qualifiedName));
     }
 
     /**
@@ -105,7 +112,7 @@ public final class TypeRefFactory {
     public static ClassRef classRef(String qualifiedName, Nullability nullability) {
         Objects.requireNonNull(qualifiedName, "qualifiedName");
         Objects.requireNonNull(nullability, "nullability");
-        return ClassRef.of(qualifiedName).withNullability(nullability);
+        return intern(ClassRef.of(qualifiedName).withNullability(nullability));
     }
 
     /**
@@ -116,7 +123,7 @@ public final class TypeRefFactory {
      */
     public static ArrayRef arrayOf(TypeRef component) {
         Objects.requireNonNull(component, "component");
-        return ArrayRef.of(component);
+        return intern(ArrayRef.of(component));
     }
 
     /**
@@ -129,7 +136,7 @@ public final class TypeRefFactory {
     public static ArrayRef arrayOf(TypeRef component, Nullability nullability) {
         Objects.requireNonNull(component, "component");
         Objects.requireNonNull(nullability, "nullability");
-        return ArrayRef.of(component).withNullability(nullability);
+        return intern(ArrayRef.of(component).withNullability(nullability));
     }
 
     /**
@@ -142,7 +149,7 @@ public final class TypeRefFactory {
     public static ParameterizedRef parameterized(ClassRef rawType, List<TypeRef> typeArguments) {
         Objects.requireNonNull(rawType, "rawType");
         Objects.requireNonNull(typeArguments, "typeArguments");
-        return ParameterizedRef.of(rawType, typeArguments);
+        return intern(ParameterizedRef.of(rawType, typeArguments));
     }
 
     /**
@@ -155,7 +162,7 @@ public final class TypeRefFactory {
     public static ParameterizedRef parameterized(ClassRef rawType, TypeRef... args) {
         Objects.requireNonNull(rawType, "rawType");
         Objects.requireNonNull(args, "args");
-        return ParameterizedRef.of(rawType, List.of(args));
+        return intern(ParameterizedRef.of(rawType, List.of(args)));
     }
 
     /**
@@ -164,7 +171,7 @@ public final class TypeRefFactory {
      * @return wildcard reference (never {@code null})
      */
     public static WildcardRef wildcard() {
-        return WildcardRef.unbounded();
+        return intern(WildcardRef.unbounded());
     }
 
     /**
@@ -175,7 +182,7 @@ public final class TypeRefFactory {
      */
     public static WildcardRef wildcardExtends(TypeRef upper) {
         Objects.requireNonNull(upper, "upper");
-        return WildcardRef.extendsBound(upper);
+        return intern(WildcardRef.extendsBound(upper));
     }
 
     /**
@@ -186,7 +193,7 @@ public final class TypeRefFactory {
      */
     public static WildcardRef wildcardSuper(TypeRef lower) {
         Objects.requireNonNull(lower, "lower");
-        return WildcardRef.superBound(lower);
+        return intern(WildcardRef.superBound(lower));
     }
 
     /**
@@ -199,7 +206,10 @@ public final class TypeRefFactory {
     public static TypeVariableRef typeVariable(String name, List<TypeRef> bounds) {
         Objects.requireNonNull(name, "name");
         List<TypeRef> b = (bounds == null) ? List.of() : bounds;
-        return new TypeVariableRef(io.hexaglue.spi.types.TypeName.of(name.trim()), b, Nullability.UNSPECIFIED);
+        return intern(new TypeVariableRef(
+                TypeRefInterner.shared().intern(io.hexaglue.spi.types.TypeName.of(name.trim())),
+                b,
+                Nullability.UNSPECIFIED));
     }
 
     /**
@@ -260,4 +270,8 @@ public final class TypeRefFactory {
         Objects.requireNonNull(classRef, "classRef");
         return unbox(classRef) != null;
     }
+
+    private static <T extends TypeRef> T intern(T typeRef) {
+        return TypeRefInterner.shared().intern(typeRef);
+    }
 }
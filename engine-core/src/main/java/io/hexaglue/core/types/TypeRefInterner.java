@@ -0,0 +1,144 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.types;
+
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.types.TypeRef;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Flyweight pool of {@link TypeRef} and {@link TypeName} values.
+ *
+ * <p>
+ * Type references are immutable records compared by value. A large model holds thousands of equal
+ * references (e.g. {@code java.lang.String} or {@code java.util.List<String>}); interning them
+ * keeps a single canonical instance of each, and lets equality checks succeed on identity (see
+ * {@link TypeComparators}).
+ * </p>
+ *
+ * <h2>Storage</h2>
+ * <p>
+ * Entries are weakly referenced: a canonical instance is dropped once nothing else refers to it,
+ * so the {@link #shared() shared} pool does not retain references across compilations in
+ * long-lived build daemons. The pool is split in lock-striped segments to limit contention
+ * between its concurrent callers: plugins generating in parallel, and compilations sharing the
+ * daemon-wide pool. Analysis itself runs on the processing thread.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public final class TypeRefInterner {
+
+    private static final int SEGMENTS = 16;
+
+    private static final TypeRefInterner SHARED = new TypeRefInterner();
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private TypeRefInterner() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Returns the JVM-wide pool used by {@link TypeRefFactory} and {@link TypeResolver}.
+     *
+     * @return shared pool (never {@code null})
+     */
+    public static TypeRefInterner shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates a new, independent pool.
+     *
+     * @return pool (never {@code null})
+     */
+    public static TypeRefInterner create() {
+        return new TypeRefInterner();
+    }
+
+    /**
+     * Returns the canonical instance equal to the given type reference.
+     *
+     * @param typeRef type reference (not {@code null})
+     * @param <T>     type reference type
+     * @return canonical instance (never {@code null})
+     * @throws NullPointerException if typeRef is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TypeRef> T intern(T typeRef) {
+        Objects.requireNonNull(typeRef, "typeRef");
+        return (T) segmentFor(typeRef).intern(typeRef);
+    }
+
+    /**
+     * Returns the canonical instance equal to the given type name.
+     *
+     * @param typeName type name (not {@code null})
+     * @return canonical instance (never {@code null})
+     * @throws NullPointerException if typeName is null
+     */
+    public TypeName intern(TypeName typeName) {
+        Objects.requireNonNull(typeName, "typeName");
+        return (TypeName) segmentFor(typeName).intern(typeName);
+    }
+
+    /**
+     * Returns the number of canonical instances currently held.
+     *
+     * <p>
+     * Weakly referenced entries may be cleared at any time, so the result is only an estimate.
+     * </p>
+     *
+     * @return approximate size
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(Object value) {
+        int h = value.hashCode();
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private static final class Segment {
+
+        private final Map<Object, WeakReference<Object>> pool = new WeakHashMap<>();
+
+        synchronized Object intern(Object value) {
+            WeakReference<Object> ref = pool.get(value);
+            Object existing = ref != null ? ref.get() : null;
+            if (existing != null) {
+                return existing;
+            }
+            pool.put(value, new WeakReference<>(value));
+            return value;
+        }
+
+        synchronized int size() {
+            return pool.size();
+        }
+    }
+}
@@ -20,8 +20,13 @@ import io.hexaglue.spi.types.PrimitiveRef;
 import io.hexaglue.spi.types.TypeRef;
 import io.hexaglue.spi.types.WildcardRef;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.ArrayType;
@@ -42,17 +47,48 @@ import javax.lang.model.util.Types;
  * stable {@link TypeRef} abstraction.
  * </p>
  *
+ * <h2>Memoization</h2>
+ * <p>
+ * The same types are resolved many times during analysis (a field, its getter and setter, port
+ * parameters, supertypes). javac allocates a new mirror for most use sites, so a cache keyed by
+ * mirror identity alone would miss {@code List<String>} written in two places. Each resolver
+ * therefore keeps two caches:
+ * </p>
+ * <ul>
+ *   <li>a fast path keyed by mirror identity, for mirrors that are resolved again as-is</li>
+ *   <li>a canonical cache for declared types, keyed by the erased type, the nullability and the
+ *       resolved type arguments, so that distinct mirrors of the same type reuse one reference</li>
+ * </ul>
+ * <p>
+ * References are interned in the {@link TypeRefInterner#shared() shared pool}, so that equal
+ * references are the same instance. Mirrors are only meaningful within a round; the analysis
+ * pipeline shares one resolver across the analyzers of a round.
+ * </p>
+ *
+ * <h2>Recursive Bounds</h2>
+ * <p>
+ * F-bounded type variables such as {@code T extends Comparable<T>} refer to themselves through
+ * their bounds. When a type variable is met again while its own bounds are being resolved, it is
+ * resolved to a back-reference: a {@link io.hexaglue.spi.types.TypeVariableRef} with the same name
+ * and no bounds. {@code T extends Comparable<T>} thus resolves to {@code T} bounded by
+ * {@code Comparable<T>}, where the inner {@code T} is a back-reference.
+ * </p>
+ *
  * <h2>Thread Safety</h2>
  * <p>
- * Instances are thread-safe as long as the underlying {@link Elements} and {@link Types}
- * utilities are used in a single annotation processing round.
+ * This class is not thread-safe. Instances hold their memoization state and must be confined to
+ * one thread, within a single annotation processing round.
  * </p>
  */
 public final class TypeResolver {
 
     private final Elements elements;
+    private final Map<TypeMirror, TypeRef> resolved = new IdentityHashMap<>();
+    private final Map<DeclaredKey, TypeRef> declared = new HashMap<>();
+    private final Set<Element> resolvingVariables = new HashSet<>();
+    private int backReferences;
 
-    private TypeResolver(Elements elements, Types types) {
+    private TypeResolver(Elements elements) {
         this.elements = Objects.requireNonNull(elements, "elements");
     }
 
@@ -60,11 +96,23 @@ public final class TypeResolver {
      * Creates a type resolver.
      *
      * @param elements element utilities (not {@code null})
-     * @param types    type utilities (not {@code null})
      * @return type resolver (never {@code null})
      */
+    public static TypeResolver create(Elements elements) {
+        return new TypeResolver(elements);
+    }
+
+    /**
+     * Creates a type resolver.
+     *
+     * @param elements element utilities (not {@code null})
+     * @param types    type utilities (ignored)
+     * @return type resolver (never {@code null})
+     * @deprecated type utilities are not used; use {@link #create(Elements)}
+     */
+    @Deprecated(since = "0.2.0", forRemoval = true)
     public static TypeResolver create(Elements elements, Types types) {
-        return new TypeResolver(elements, types);
+        return create(elements);
     }
 
     /**
@@ -76,6 +124,21 @@ public final class TypeResolver {
     public TypeRef resolve(TypeMirror typeMirror) {
         Objects.requireNonNull(typeMirror, "typeMirror");
 
+        TypeRef cached = resolved.get(typeMirror);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Results that contain a back-reference depend on where the resolution started
+        int backReferencesBefore = backReferences;
+        TypeRef result = TypeRefInterner.shared().intern(resolveUncached(typeMirror));
+        if (backReferences == backReferencesBefore) {
+            resolved.put(typeMirror, result);
+        }
+        return result;
+    }
+
+    private TypeRef resolveUncached(TypeMirror typeMirror) {
         Nullability nullability = NullabilityResolver.fromTypeMirror(typeMirror);
 
         return switch (typeMirror.getKind()) {
@@ -161,21 +224,27 @@ public final class TypeResolver {
 
         TypeElement typeElement = (TypeElement) element;
         String qualifiedName = typeElement.getQualifiedName().toString();
-        ClassRef classRef = ClassRef.of(qualifiedName).withNullability(nullability);
 
-        // Check if parameterized
+        // Resolve type arguments first: together with the erasure they identify the type
         List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
-        if (typeArguments.isEmpty()) {
-            return classRef;
-        }
-
-        // Resolve type arguments
-        List<TypeRef> resolvedArgs = new ArrayList<>();
+        List<TypeRef> resolvedArgs = new ArrayList<>(typeArguments.size());
         for (TypeMirror arg : typeArguments) {
             resolvedArgs.add(resolve(arg));
         }
 
-        return TypeRefFactory.parameterized(classRef, resolvedArgs).withNullability(nullability);
+        DeclaredKey key = new DeclaredKey(qualifiedName, nullability, resolvedArgs);
+        TypeRef cached = declared.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        ClassRef classRef = ClassRef.of(qualifiedName).withNullability(nullability);
+        TypeRef result = resolvedArgs.isEmpty()
+                ? classRef
+                : TypeRefFactory.parameterized(classRef, resolvedArgs).withNullability(nullability);
+        result = TypeRefInterner.shared().intern(result);
+        declared.put(key, result);
+        return result;
     }
 
     private ArrayRef resolveArray(ArrayType arrayType, Nullability nullability) {
@@ -187,14 +256,25 @@ public final class TypeResolver {
             TypeVariable typeVariable, Nullability nullability) {
         String name = typeVariable.toString();
 
-        // Resolve bounds
-        TypeMirror upperBound = typeVariable.getUpperBound();
-        List<TypeRef> bounds = new ArrayList<>();
-        if (upperBound != null && !isJavaLangObject(upperBound)) {
-            bounds.add(resolve(upperBound));
+        // Cut recursive bounds (e.g., T extends Comparable<T>) with a back-reference
+        Element declaration = typeVariable.asElement();
+        if (!resolvingVariables.add(declaration)) {
+            backReferences++;
+            return TypeRefFactory.typeVariable(name, List.of());
         }
 
-        return TypeRefFactory.typeVariable(name, bounds);
+        try {
+            // Resolve bounds
+            TypeMirror upperBound = typeVariable.getUpperBound();
+            List<TypeRef> bounds = new ArrayList<>();
+            if (upperBound != null && !isJavaLangObject(upperBound)) {
+                bounds.add(resolve(upperBound));
+            }
+
+            return TypeRefFactory.typeVariable(name, bounds);
+        } finally {
+            resolvingVariables.remove(declaration);
+        }
     }
 
     private WildcardRef resolveWildcard(WildcardType wildcardType, Nullability nullability) {
@@ -226,4 +306,14 @@ public final class TypeResolver {
         TypeElement typeElement = (TypeElement) element;
         return "java.lang.Object".equals(typeElement.getQualifiedName().toString());
     }
+
+    /**
+     * Canonical identity of a declared type: its erasure, nullability and resolved arguments.
+     *
+     * <p>
+     * The arguments are already resolved, so the key fully determines the resulting reference,
+     * back-references included.
+     * </p>
+     */
+    private record DeclaredKey(String qualifiedName, Nullability nullability, List<TypeRef> arguments) {}
 }
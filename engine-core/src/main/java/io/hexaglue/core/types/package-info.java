@@ -41,6 +41,8 @@
  *   <li>Converts {@link javax.lang.model.type.TypeMirror} to {@link io.hexaglue.spi.types.TypeRef}</li>
  *   <li>Handles all type kinds (primitives, classes, arrays, parameterized, wildcards, type variables)</li>
  *   <li>Preserves nullability information</li>
+ *   <li>Memoizes resolutions and interns equal references</li>
+ *   <li>Cuts recursive bounds ({@code T extends Comparable<T>}) with a back-reference</li>
  * </ul>
  * </p>
  *
@@ -51,9 +53,17 @@
  *   <li>Provides constants for common types (Object, String, primitives)</li>
  *   <li>Convenient factory methods for all type kinds</li>
  *   <li>Boxing/unboxing utilities</li>
+ *   <li>Canonical (interned) instances</li>
  * </ul>
  * </p>
  *
+ * <h3>{@link io.hexaglue.core.types.TypeRefInterner}</h3>
+ * <p>
+ * Weak flyweight pool of type references and type names. {@code TypeRefFactory} and
+ * {@code TypeResolver} return canonical instances from the shared pool, so that equal
+ * references are usually identical.
+ * </p>
+ *
  * <h3>{@link io.hexaglue.core.types.TypeComparators}</h3>
  * <p>
  * Comparison and equality utilities:
@@ -197,8 +207,9 @@
  * annotation processing round:
  * <ul>
  *   <li>{@link io.hexaglue.core.types.DefaultTypeSystem} - thread-safe</li>
- *   <li>{@link io.hexaglue.core.types.TypeResolver} - thread-safe per round</li>
+ *   <li>{@link io.hexaglue.core.types.TypeResolver} - confined to one thread (memoizing)</li>
  *   <li>{@link io.hexaglue.core.types.TypeRefFactory} - stateless utility</li>
+ *   <li>{@link io.hexaglue.core.types.TypeRefInterner} - thread-safe (lock-striped weak pool)</li>
  *   <li>{@link io.hexaglue.core.types.TypeComparators} - stateless utility</li>
  *   <li>{@link io.hexaglue.core.types.TypeDisplay} - stateless utility</li>
  *   <li>{@link io.hexaglue.core.types.NullabilityResolver} - stateless utility</li>
@@ -26,6 +26,7 @@ module io.hexaglue.core {
 
     requires java.compiler; // JSR-269 annotation processing
     requires java.logging; // diagnostics / debug logs
+    requires jdk.jfr; // Flight Recorder events
     requires java.base;
     requires org.apache.commons.collections4; // Apache Commons
     requires org.apache.commons.lang3; // Apache Commons
@@ -42,6 +43,9 @@ module io.hexaglue.core {
     provides javax.annotation.processing.Processor with
             io.hexaglue.core.processor.HexaGlueProcessor;
 
+    // Plugin discovery (ServiceLoader lookups made from this module)
+    uses io.hexaglue.spi.HexaGluePlugin;
+
 /* ------------------------------------------------------------------
  * Strong encapsulation
  * ------------------------------------------------------------------ */
@@ -0,0 +1,218 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.codegen.DocFile;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.ResourceFile;
+import io.hexaglue.spi.codegen.SourceFile;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the merge modes applied by {@link ArtifactEmitter}.
+ */
+class ArtifactEmitterTest {
+
+    private static final String TEMPLATE = """
+            package com.example;
+            public class OrderAdapter {
+                // @hexaglue-custom-start: methods
+                // Add custom methods here
+                // @hexaglue-custom-end: methods
+            }
+            """;
+
+    @TempDir
+    Path root;
+
+    private Path sourceOutput;
+    private Path classOutput;
+    private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private ArtifactEmitter emitter;
+
+    @BeforeEach
+    void setUp() {
+        sourceOutput = root.resolve("generated-sources");
+        classOutput = root.resolve("classes");
+        emitter = new ArtifactEmitter(
+                new DirectoryFiler(sourceOutput, classOutput), DiagnosticReporter.accumulating(diagnostics));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // MERGE_CUSTOM_BLOCKS
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void emitSource_mergeCustomBlocks_preservesExistingBlockContent() throws IOException {
+        // Given
+        Path file = sourceOutput.resolve("com/example/OrderAdapter.java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, """
+                package com.example;
+                public class OrderAdapter {
+                    int stale;
+                    // @hexaglue-custom-start: methods
+                    void audit() {}
+                    // @hexaglue-custom-end: methods
+                }
+                """);
+
+        // When
+        emitter.emitSource(source(
+                TEMPLATE.replace("OrderAdapter {", "OrderAdapter implements Port {"), MergeMode.MERGE_CUSTOM_BLOCKS));
+
+        // Then
+        assertThat(diagnostics).isEmpty();
+        assertThat(Files.readString(file)).isEqualTo("""
+                package com.example;
+                public class OrderAdapter implements Port {
+                    // @hexaglue-custom-start: methods
+                    void audit() {}
+                    // @hexaglue-custom-end: methods
+                }""");
+        assertThat(emitter.writtenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void emitSource_mergeCustomBlocksWithoutExistingFile_writesTemplate() throws IOException {
+        // When
+        emitter.emitSource(source(TEMPLATE, MergeMode.MERGE_CUSTOM_BLOCKS));
+
+        // Then
+        assertThat(diagnostics).isEmpty();
+        assertThat(Files.readString(sourceOutput.resolve("com/example/OrderAdapter.java")))
+                .isEqualTo(TEMPLATE.strip());
+    }
+
+    @Test
+    void emitSource_orphanedBlock_reportsWarning() throws IOException {
+        // Given
+        Path file = sourceOutput.resolve("com/example/OrderAdapter.java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, TEMPLATE.replace("methods", "fields"));
+
+        // When
+        emitter.emitSource(source(TEMPLATE, MergeMode.MERGE_CUSTOM_BLOCKS));
+
+        // Then
+        assertThat(diagnostics).hasSize(1);
+        assertThat(diagnostics.get(0).code().value()).isEqualTo("HG-MERGE-100");
+        assertThat(diagnostics.get(0).message()).contains("fields");
+        assertThat(Files.readString(file)).isEqualTo(TEMPLATE.strip());
+    }
+
+    @Test
+    void emitSource_malformedExistingFile_reportsErrorAndKeepsFile() throws IOException {
+        // Given
+        Path file = sourceOutput.resolve("com/example/OrderAdapter.java");
+        Files.createDirectories(file.getParent());
+        String broken = "// @hexaglue-custom-start: methods\nclass OrderAdapter {}\n";
+        Files.writeString(file, broken);
+
+        // When
+        emitter.emitSource(source(TEMPLATE, MergeMode.MERGE_CUSTOM_BLOCKS));
+
+        // Then
+        assertThat(diagnostics).hasSize(1);
+        assertThat(diagnostics.get(0).code().value()).isEqualTo("HG-MERGE-201");
+        assertThat(Files.readString(file)).isEqualTo(broken);
+        assertThat(emitter.writtenCount()).isEqualTo(0);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // WRITE_ONCE and FAIL_IF_EXISTS
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void emitDoc_writeOnce_keepsExistingFile() throws IOException {
+        // Given
+        Path file = classOutput.resolve("docs/README.md");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "edited by the user");
+
+        // When
+        emitter.emitDoc(DocFile.builder()
+                .path("docs/README.md")
+                .content("# Generated")
+                .mergeMode(MergeMode.WRITE_ONCE)
+                .build());
+
+        // Then
+        assertThat(diagnostics).isEmpty();
+        assertThat(Files.readString(file)).isEqualTo("edited by the user");
+        assertThat(emitter.skippedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void emitResource_binaryWriteOnce_writesOnlyWhenMissing() throws IOException {
+        // Given
+        ResourceFile resource = ResourceFile.builder()
+                .path("META-INF/data.bin")
+                .bytes(new byte[] {1, 2, 3})
+                .mergeMode(MergeMode.WRITE_ONCE)
+                .build();
+
+        // When
+        emitter.emitResource(resource);
+        Files.write(classOutput.resolve("META-INF/data.bin"), new byte[] {9});
+        emitter.emitResource(resource);
+
+        // Then
+        assertThat(Files.readAllBytes(classOutput.resolve("META-INF/data.bin"))).isEqualTo(new byte[] {9});
+        assertThat(emitter.writtenCount()).isEqualTo(1);
+        assertThat(emitter.skippedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void emitResource_failIfExists_reportsError() throws IOException {
+        // Given
+        Path file = classOutput.resolve("app.properties");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "a=1");
+
+        // When
+        emitter.emitResource(ResourceFile.builder()
+                .path("app.properties")
+                .text("a=2")
+                .mergeMode(MergeMode.FAIL_IF_EXISTS)
+                .build());
+
+        // Then
+        assertThat(diagnostics).hasSize(1);
+        assertThat(diagnostics.get(0).code().value()).isEqualTo("HG-MERGE-201");
+        assertThat(Files.readString(file)).isEqualTo("a=1");
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static SourceFile source(String content, MergeMode mode) {
+        return SourceFile.builder()
+                .qualifiedTypeName("com.example.OrderAdapter")
+                .content(content)
+                .mergeMode(mode)
+                .build();
+    }
+}
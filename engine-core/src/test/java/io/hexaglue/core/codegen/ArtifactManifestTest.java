@@ -0,0 +1,242 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.ResourceFile;
+import io.hexaglue.spi.codegen.SourceFile;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ArtifactManifest} and its use by {@link ArtifactEmitter}.
+ */
+class ArtifactManifestTest {
+
+    @TempDir
+    Path root;
+
+    private Path manifestDir;
+    private Path sourceOutput;
+    private Path classOutput;
+
+    @BeforeEach
+    void setUp() {
+        manifestDir = root.resolve("hexaglue");
+        sourceOutput = root.resolve("generated-sources");
+        classOutput = root.resolve("classes");
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Skipping
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void emit_unchangedContent_skipsWriteOnNextCompilation() throws IOException {
+        // Given
+        compile(resource("META-INF/app.txt", "v1"), resource("META-INF/other.txt", "v1"));
+        Path file = classOutput.resolve("META-INF/app.txt");
+        FileTime before = Files.getLastModifiedTime(file);
+
+        // When
+        ArtifactEmitter emitter = compile(resource("META-INF/app.txt", "v1"), resource("META-INF/other.txt", "v1"));
+
+        // Then
+        assertThat(emitter.writtenCount()).isEqualTo(0);
+        assertThat(emitter.skippedCount()).isEqualTo(2);
+        assertThat(Files.getLastModifiedTime(file)).isEqualTo(before);
+    }
+
+    @Test
+    void emit_unchangedSource_isAlwaysWritten() throws IOException {
+        // Given
+        compile(source("com.example.Order", "class Order {}"));
+
+        // When
+        ArtifactEmitter emitter = compile(source("com.example.Order", "class Order {}"));
+
+        // Then
+        assertThat(emitter.writtenCount()).isEqualTo(1);
+        assertThat(emitter.skippedCount()).isEqualTo(0);
+        assertThat(Files.readString(sourceOutput.resolve("com/example/Order.java")))
+                .isEqualTo("class Order {}");
+    }
+
+    @Test
+    void emit_changedContent_rewritesOnlyChangedArtifact() throws IOException {
+        // Given
+        compile(resource("META-INF/app.txt", "v1"), resource("META-INF/other.txt", "v1"));
+
+        // When
+        ArtifactEmitter emitter = compile(resource("META-INF/app.txt", "v2"), resource("META-INF/other.txt", "v1"));
+
+        // Then
+        assertThat(emitter.writtenCount()).isEqualTo(1);
+        assertThat(emitter.skippedCount()).isEqualTo(1);
+        assertThat(Files.readString(classOutput.resolve("META-INF/app.txt"))).isEqualTo("v2");
+    }
+
+    @Test
+    void emit_fileModifiedOnDisk_isWrittenAgain() throws IOException {
+        // Given
+        compile(resource("META-INF/app.txt", "v1"));
+        Path file = classOutput.resolve("META-INF/app.txt");
+        Files.writeString(file, "edited by hand, longer than before");
+
+        // When
+        ArtifactEmitter emitter = compile(resource("META-INF/app.txt", "v1"));
+
+        // Then
+        assertThat(emitter.writtenCount()).isEqualTo(1);
+        assertThat(Files.readString(file)).isEqualTo("v1");
+    }
+
+    @Test
+    void emit_artifactDroppedForOneCompilation_isNotCarriedOver() throws IOException {
+        // Given
+        compile(resource("META-INF/app.txt", "v1"));
+        compile(resource("META-INF/other.txt", "v1"));
+
+        // When
+        ArtifactEmitter emitter = compile(resource("META-INF/app.txt", "v1"));
+
+        // Then
+        assertThat(emitter.writtenCount()).isEqualTo(1);
+        assertThat(emitter.skippedCount()).isEqualTo(0);
+    }
+
+    @Test
+    void openDefault_testCompilation_keepsMainManifest() throws IOException {
+        // Given: main and test compilations of the same module
+        Path target = root.resolve("target");
+        DirectoryFiler main = new DirectoryFiler(target.resolve("generated-sources"), target.resolve("classes"));
+        DirectoryFiler test =
+                new DirectoryFiler(target.resolve("generated-test-sources"), target.resolve("test-classes"));
+        compile(main, resource("META-INF/app.txt", "v1"));
+        compile(test, resource("META-INF/test.txt", "v1"));
+
+        // When
+        ArtifactEmitter emitter = compile(main, resource("META-INF/app.txt", "v1"));
+
+        // Then
+        assertThat(emitter.writtenCount()).isEqualTo(0);
+        assertThat(emitter.skippedCount()).isEqualTo(1);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Persistence
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void open_corruptManifest_startsEmpty() throws IOException {
+        // Given
+        Files.createDirectories(manifestDir);
+        Files.writeString(
+                manifestDir.resolve(ArtifactManifest.FILE_NAME), "# hexaglue artifact manifest v1\nx\ty\tz\tw\n");
+
+        // When
+        ArtifactManifest manifest = ArtifactManifest.open(manifestDir, classOutput);
+
+        // Then
+        assertThat(manifest.loadedCount()).isEqualTo(0);
+    }
+
+    @Test
+    void save_thenOpen_roundTripsEntries() throws IOException {
+        // Given
+        compile(source("com.example.Order", "class Order {}"), resource("META-INF/app.txt", "v1"));
+
+        // When
+        ArtifactManifest manifest = ArtifactManifest.open(manifestDir, classOutput);
+
+        // Then
+        assertThat(manifest.loadedCount()).isEqualTo(1);
+        assertThat(manifest.isUnchangedResource("META-INF/app.txt", ArtifactManifest.hash("v1")))
+                .isTrue();
+        assertThat(manifest.isUnchangedResource("META-INF/app.txt", ArtifactManifest.hash("other")))
+                .isFalse();
+    }
+
+    @Test
+    void outputDirectory_resolvesLocationWithoutCreatingFiles() {
+        // Given
+        DirectoryFiler filer = new DirectoryFiler(sourceOutput, classOutput);
+
+        // When
+        Optional<Path> directory = ArtifactManifest.outputDirectory(filer, StandardLocation.SOURCE_OUTPUT);
+
+        // Then
+        assertThat(directory).hasValue(sourceOutput);
+        assertThat(Files.exists(sourceOutput)).isFalse();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private ArtifactEmitter compile(Object... artifacts) throws IOException {
+        return compile(
+                new DirectoryFiler(sourceOutput, classOutput),
+                ArtifactManifest.open(manifestDir, classOutput),
+                artifacts);
+    }
+
+    private static ArtifactEmitter compile(DirectoryFiler filer, Object... artifacts) throws IOException {
+        return compile(filer, ArtifactManifest.openDefault(filer).orElseThrow(), artifacts);
+    }
+
+    private static ArtifactEmitter compile(DirectoryFiler filer, ArtifactManifest manifest, Object... artifacts)
+            throws IOException {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        ArtifactEmitter emitter = new ArtifactEmitter(filer, DiagnosticReporter.accumulating(diagnostics), manifest);
+        for (Object artifact : artifacts) {
+            if (artifact instanceof SourceFile file) {
+                emitter.emitSource(file);
+            } else {
+                emitter.emitResource((ResourceFile) artifact);
+            }
+        }
+        manifest.save();
+        assertThat(diagnostics).isEmpty();
+        return emitter;
+    }
+
+    private static SourceFile source(String name, String content) {
+        return SourceFile.builder()
+                .qualifiedTypeName(name)
+                .content(content)
+                .mergeMode(MergeMode.OVERWRITE)
+                .build();
+    }
+
+    private static ResourceFile resource(String path, String text) {
+        return ResourceFile.builder()
+                .path(path)
+                .text(text)
+                .mergeMode(MergeMode.OVERWRITE)
+                .build();
+    }
+}
@@ -0,0 +1,309 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.SourceFile;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.FilerException;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DefaultArtifactSink}.
+ */
+class DefaultArtifactSinkTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Duplicates
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void write_duplicateQualifiedName_reportsConflictAndKeepsFirst() {
+        // Given
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        DefaultArtifactSink sink = new DefaultArtifactSink(DiagnosticReporter.accumulating(diagnostics));
+
+        // When
+        sink.write(source("com.example.Order", "first"));
+        sink.write(source("com.example.Order", "second"));
+        sink.writeTextResource("META-INF/a.txt", "a", MergeMode.OVERWRITE);
+        sink.writeTextResource("META-INF/a.txt", "b", MergeMode.OVERWRITE);
+
+        // Then
+        assertThat(diagnostics).hasSize(2);
+        assertThat(diagnostics.get(0).code().value()).isEqualTo("HG-CORE-CODEGEN-201");
+        assertThat(diagnostics.get(0).message()).contains("com.example.Order");
+        assertThat(diagnostics.get(1).message()).contains("META-INF/a.txt");
+        ArtifactPlan plan = sink.buildPlan();
+        assertThat(plan.hasConflicts()).isFalse();
+        assertThat(plan.sourceFiles()).hasSize(1);
+        assertThat(plan.sourceFiles().get(0).content()).isEqualTo("first");
+        assertThat(plan.resourceFiles().get(0).text()).hasValue("a");
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Concurrency and ordering
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void write_fromManyThreads_collectsAllInDeterministicOrder() throws Exception {
+        // Given
+        List<Diagnostic> diagnostics = Collections.synchronizedList(new ArrayList<>());
+        DefaultArtifactSink sink = new DefaultArtifactSink(DiagnosticReporter.accumulating(diagnostics));
+        int threads = 8;
+        int perThread = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = perThread - 1; i >= 0; i--) {
+                        sink.write(source("com.example.T" + thread + "_" + i, "class"));
+                        // Every thread also writes the same shared resource.
+                        sink.writeTextResource("shared.txt", "shared", MergeMode.OVERWRITE);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        ArtifactPlan plan = sink.buildPlan();
+
+        // Then
+        List<String> names =
+                plan.sourceFiles().stream().map(SourceFile::qualifiedTypeName).toList();
+        assertThat(names).hasSize(threads * perThread);
+        assertThat(names).isInStrictOrder();
+        assertThat(plan.resourceFiles()).hasSize(1);
+        assertThat(diagnostics).hasSize(threads * perThread - 1);
+        assertThat(sink.totalArtifactCount()).isEqualTo(threads * perThread + 1);
+    }
+
+    @Test
+    void buildPlan_calledTwice_throws() {
+        // Given
+        DefaultArtifactSink sink = new DefaultArtifactSink(DiagnosticReporter.accumulating(new ArrayList<>()));
+        SourceFile late = source("a.B", "class B {}");
+        sink.buildPlan();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, sink::buildPlan);
+        assertThrows(IllegalStateException.class, () -> sink.write(late));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Streaming mode
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void streaming_emitsArtifactsAsTheyAreWritten() {
+        // Given
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        DiagnosticReporter reporter = DiagnosticReporter.accumulating(diagnostics);
+        InMemoryFiler filer = new InMemoryFiler();
+        DefaultArtifactSink sink =
+                DefaultArtifactSink.streaming(reporter, new ArtifactEmitter(filer, reporter), new EmittedArtifacts());
+
+        // When
+        sink.write(source("com.example.Order", "class Order {}"));
+        String afterFirstWrite = filer.contents("com.example.Order");
+        sink.writeDoc("docs/big.md", MergeMode.OVERWRITE, writer -> {
+            for (int i = 0; i < 3; i++) {
+                writer.write("line " + i + "\n");
+            }
+        });
+        sink.writeResource("diagram.bin", MergeMode.OVERWRITE, out -> out.write(new byte[] {1, 2, 3}));
+        sink.writeDoc("docs/big.md", MergeMode.OVERWRITE, writer -> writer.write("again"));
+
+        // Then
+        assertThat(afterFirstWrite).isEqualTo("class Order {}");
+        assertThat(filer.contents("docs/big.md")).isEqualTo("line 0\nline 1\nline 2\n");
+        assertThat(filer.bytes("diagram.bin")).isEqualTo(new byte[] {1, 2, 3});
+        assertThat(diagnostics).hasSize(1);
+        assertThat(diagnostics.get(0).message()).contains("docs/big.md");
+        assertThat(sink.streamedArtifactCount()).isEqualTo(3);
+        assertThat(sink.buildPlan().isEmpty()).isTrue();
+    }
+
+    @Test
+    void streaming_skipsArtifactsEmittedInEarlierRound() {
+        // Given
+        DiagnosticReporter reporter = DiagnosticReporter.accumulating(new ArrayList<>());
+        InMemoryFiler filer = new InMemoryFiler();
+        ArtifactEmitter emitter = new ArtifactEmitter(filer, reporter);
+        EmittedArtifacts emitted = new EmittedArtifacts();
+        DefaultArtifactSink firstRound = DefaultArtifactSink.streaming(reporter, emitter, emitted);
+        firstRound.write(source("com.example.Order", "class Order {}"));
+        firstRound.buildPlan();
+
+        // When
+        DefaultArtifactSink secondRound = DefaultArtifactSink.streaming(reporter, emitter, emitted);
+        secondRound.write(source("com.example.Order", "class Order {}"));
+        secondRound.write(source("com.example.Customer", "class Customer {}"));
+
+        // Then
+        assertThat(secondRound.streamedArtifactCount()).isEqualTo(1);
+        assertThat(filer.created).containsExactly("com.example.Order", "com.example.Customer");
+    }
+
+    @Test
+    void streaming_warnsOnceWhenLaterRoundChangesEmittedArtifact() {
+        // Given
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        DiagnosticReporter reporter = DiagnosticReporter.accumulating(diagnostics);
+        InMemoryFiler filer = new InMemoryFiler();
+        ArtifactEmitter emitter = new ArtifactEmitter(filer, reporter);
+        EmittedArtifacts emitted = new EmittedArtifacts();
+        DefaultArtifactSink firstRound = DefaultArtifactSink.streaming(reporter, emitter, emitted);
+        firstRound.write(source("com.example.Order", "class Order {}"));
+        firstRound.buildPlan();
+
+        // When
+        DefaultArtifactSink secondRound = DefaultArtifactSink.streaming(reporter, emitter, emitted);
+        secondRound.write(source("com.example.Order", "class Order { Customer customer; }"));
+        secondRound.buildPlan();
+        DefaultArtifactSink thirdRound = DefaultArtifactSink.streaming(reporter, emitter, emitted);
+        thirdRound.write(source("com.example.Order", "class Order { Customer customer; }"));
+
+        // Then
+        assertThat(filer.created).containsExactly("com.example.Order");
+        assertThat(diagnostics).hasSize(1);
+        assertThat(diagnostics.get(0).severity()).isEqualTo(DiagnosticSeverity.WARNING);
+        assertThat(diagnostics.get(0).code().value()).isEqualTo("HG-CORE-CODEGEN-100");
+    }
+
+    @Test
+    void buffered_materializesContentProducers() {
+        // Given
+        DefaultArtifactSink sink = new DefaultArtifactSink(DiagnosticReporter.accumulating(new ArrayList<>()));
+
+        // When
+        sink.writeSource("com.example.Order", MergeMode.OVERWRITE, writer -> writer.write("class Order {}"));
+
+        // Then
+        ArtifactPlan plan = sink.buildPlan();
+        assertThat(plan.sourceFiles().get(0).content()).isEqualTo("class Order {}");
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static SourceFile source(String qualifiedName, String content) {
+        return SourceFile.builder()
+                .qualifiedTypeName(qualifiedName)
+                .content(content)
+                .mergeMode(MergeMode.OVERWRITE)
+                .build();
+    }
+
+    /**
+     * Filer keeping created files in memory; like javac's, it refuses to create a file twice.
+     */
+    private static final class InMemoryFiler implements Filer {
+
+        private final Map<String, ByteArrayOutputStream> files = new LinkedHashMap<>();
+        private final List<String> created = new ArrayList<>();
+
+        String contents(String name) {
+            return files.get(name).toString(StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes(String name) {
+            return files.get(name).toByteArray();
+        }
+
+        @Override
+        public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements) throws IOException {
+            return create(name.toString(), JavaFileObject.Kind.SOURCE);
+        }
+
+        @Override
+        public JavaFileObject createClassFile(CharSequence name, Element... originatingElements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileObject createResource(
+                JavaFileManager.Location location,
+                CharSequence moduleAndPkg,
+                CharSequence relativeName,
+                Element... originatingElements)
+                throws IOException {
+            return create(relativeName.toString(), JavaFileObject.Kind.OTHER);
+        }
+
+        @Override
+        public FileObject getResource(
+                JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName) {
+            throw new UnsupportedOperationException();
+        }
+
+        private JavaFileObject create(String name, JavaFileObject.Kind kind) throws IOException {
+            if (files.containsKey(name)) {
+                throw new FilerException("Attempt to recreate a file: " + name);
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            files.put(name, buffer);
+            created.add(name);
+            return new SimpleJavaFileObject(URI.create("mem:///" + name.replace('.', '/')), kind) {
+                @Override
+                public OutputStream openOutputStream() {
+                    return buffer;
+                }
+
+                @Override
+                public Writer openWriter() {
+                    return new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+                }
+            };
+        }
+    }
+}
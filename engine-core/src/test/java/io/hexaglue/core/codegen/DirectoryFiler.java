@@ -0,0 +1,101 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * {@link Filer} writing to local output directories, as javac does, for emitter tests.
+ */
+final class DirectoryFiler implements Filer {
+
+    private final Path sourceOutput;
+    private final Path classOutput;
+
+    DirectoryFiler(Path sourceOutput, Path classOutput) {
+        this.sourceOutput = sourceOutput;
+        this.classOutput = classOutput;
+    }
+
+    @Override
+    public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements) {
+        return file(sourceOutput.resolve(name.toString().replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE);
+    }
+
+    @Override
+    public JavaFileObject createClassFile(CharSequence name, Element... originatingElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FileObject createResource(
+            JavaFileManager.Location location,
+            CharSequence moduleAndPkg,
+            CharSequence relativeName,
+            Element... originatingElements) {
+        return file(resolve(location, moduleAndPkg, relativeName), JavaFileObject.Kind.OTHER);
+    }
+
+    @Override
+    public FileObject getResource(
+            JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName) {
+        return file(resolve(location, moduleAndPkg, relativeName), JavaFileObject.Kind.OTHER);
+    }
+
+    private Path resolve(JavaFileManager.Location location, CharSequence pkg, CharSequence relativeName) {
+        Path directory = location == StandardLocation.SOURCE_OUTPUT ? sourceOutput : classOutput;
+        if (pkg.length() > 0) {
+            directory = directory.resolve(pkg.toString().replace('.', '/'));
+        }
+        return directory.resolve(relativeName.toString());
+    }
+
+    private static JavaFileObject file(Path path, JavaFileObject.Kind kind) {
+        return new SimpleJavaFileObject(path.toUri(), kind) {
+            @Override
+            public InputStream openInputStream() throws IOException {
+                return Files.newInputStream(path);
+            }
+
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) throws IOException {
+                return Files.readString(path);
+            }
+
+            @Override
+            public OutputStream openOutputStream() throws IOException {
+                Files.createDirectories(path.getParent());
+                return Files.newOutputStream(path);
+            }
+
+            @Override
+            public Writer openWriter() throws IOException {
+                Files.createDirectories(path.getParent());
+                return Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen.merge;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CustomBlockMerger}.
+ */
+class CustomBlockMergerTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Merge rules
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void merge_preservedBlock_replacesTemplatePlaceholder() throws Exception {
+        // Given
+        String template = "a\n# @hexaglue-custom-start: x\ndefault\n# @hexaglue-custom-end: x\nb";
+        String existing = "old\n# @hexaglue-custom-start: x\nmine 1\nmine 2\n# @hexaglue-custom-end: x\n";
+
+        // When
+        CustomBlockMerger.Result result = CustomBlockMerger.merge(template, existing);
+
+        // Then
+        assertThat(result.content())
+                .isEqualTo("a\n# @hexaglue-custom-start: x\nmine 1\nmine 2\n# @hexaglue-custom-end: x\nb");
+        assertThat(result.preservedCount()).isEqualTo(1);
+        assertThat(result.orphanedBlockIds()).isEmpty();
+    }
+
+    @Test
+    void merge_emptyPreservedBlock_staysEmpty() throws Exception {
+        // Given
+        String template = "<!-- @hexaglue-custom-start: x -->\ndefault\n<!-- @hexaglue-custom-end: x -->\n";
+        String existing = "<!-- @hexaglue-custom-start: x -->\n<!-- @hexaglue-custom-end: x -->\n";
+
+        // When
+        CustomBlockMerger.Result result = CustomBlockMerger.merge(template, existing);
+
+        // Then
+        assertThat(result.content()).isEqualTo(existing);
+    }
+
+    @Test
+    void merge_newAndOrphanedBlocks_keepsDefaultAndReportsOrphans() throws Exception {
+        // Given
+        String template = "// @hexaglue-custom-start: added\ndefault\n// @hexaglue-custom-end: added\n";
+        String existing = "/* @hexaglue-custom-start: gone */\nlost\n/* @hexaglue-custom-end: gone */\n"
+                + "// @hexaglue-custom-start: other\n// @hexaglue-custom-end: other\n";
+
+        // When
+        CustomBlockMerger.Result result = CustomBlockMerger.merge(template, existing);
+
+        // Then
+        assertThat(result.content()).isEqualTo(template);
+        assertThat(result.preservedCount()).isEqualTo(0);
+        assertThat(result.orphanedBlockIds()).containsExactly("gone", "other").inOrder();
+    }
+
+    @Test
+    void merge_crlfAndIndentedMarkers_areRecognized() throws Exception {
+        // Given
+        String template = "  // @hexaglue-custom-start: x\r\n  x\r\n  // @hexaglue-custom-end: x\r\n";
+        String existing = "\t//@hexaglue-custom-start:x\r\nkept\r\n\t// @hexaglue-custom-end: x  \r\n";
+
+        // When
+        CustomBlockMerger.Result result = CustomBlockMerger.merge(template, existing);
+
+        // Then
+        assertThat(result.content())
+                .isEqualTo("  // @hexaglue-custom-start: x\r\nkept\r\n  // @hexaglue-custom-end: x\r\n");
+    }
+
+    @Test
+    void merge_markerLikeText_isNotAMarker() throws Exception {
+        // Given
+        String template = "String s = \"// @hexaglue-custom-start: x\";\n";
+
+        // When
+        CustomBlockMerger.Result result = CustomBlockMerger.merge(template, "");
+
+        // Then
+        assertThat(result.content()).isEqualTo(template);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Validation
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void merge_malformedExisting_throwsWithLineNumber() {
+        // Given
+        String existing = "a\n// @hexaglue-custom-start: x\n// @hexaglue-custom-end: y\n";
+
+        // When
+        CustomBlockParser.ParseException e =
+                assertThrows(CustomBlockParser.ParseException.class, () -> CustomBlockMerger.merge("a", existing));
+
+        // Then
+        assertThat(e.lineNumber()).isEqualTo(3);
+        assertThat(e.getMessage()).contains("mismatch");
+    }
+
+    @Test
+    void merge_duplicateOrUnclosedBlocks_throw() {
+        // Given
+        String duplicate = "# @hexaglue-custom-start: x\n# @hexaglue-custom-end: x\n"
+                + "# @hexaglue-custom-start: x\n# @hexaglue-custom-end: x\n";
+        String unclosed = "# @hexaglue-custom-start: x\n";
+
+        // When / Then
+        assertThrows(CustomBlockParser.ParseException.class, () -> CustomBlockMerger.merge(duplicate, ""));
+        assertThrows(CustomBlockParser.ParseException.class, () -> CustomBlockMerger.merge("a", duplicate));
+        assertThrows(CustomBlockParser.ParseException.class, () -> CustomBlockMerger.merge(unclosed, ""));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Scaling
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void merge_largeFile_preservesEveryBlock() throws Exception {
+        // Given
+        StringBuilder template = new StringBuilder();
+        StringBuilder existing = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            template.append("// @hexaglue-custom-start: b")
+                    .append(i)
+                    .append("\n// @hexaglue-custom-end: b")
+                    .append(i)
+                    .append("\ngenerated ")
+                    .append(i)
+                    .append('\n');
+            existing.append("// @hexaglue-custom-start: b")
+                    .append(i)
+                    .append("\nuser ")
+                    .append(i)
+                    .append("\n// @hexaglue-custom-end: b")
+                    .append(i)
+                    .append('\n');
+        }
+
+        // When
+        CustomBlockMerger.Result result = CustomBlockMerger.merge(template.toString(), existing.toString());
+
+        // Then
+        assertThat(result.preservedCount()).isEqualTo(5_000);
+        assertThat(result.content()).contains("user 4999\n// @hexaglue-custom-end: b4999\ngenerated 4999\n");
+    }
+}
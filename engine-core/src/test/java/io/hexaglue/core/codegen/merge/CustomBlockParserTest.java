@@ -0,0 +1,142 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.codegen.merge;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CustomBlockParser}.
+ */
+class CustomBlockParserTest {
+
+    private static final String FILE = """
+            package com.example;
+            // @hexaglue-custom-start: imports
+            import java.util.List;
+            import java.util.Map;
+            // @hexaglue-custom-end: imports
+            class Foo {
+                String s = "// @hexaglue-custom-start: not-a-marker";
+                /* @hexaglue-custom-start: body */
+                /* @hexaglue-custom-end: body */
+            }
+            """;
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Parsing
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void parse_returnsBlocksWithContentAndLines() throws Exception {
+        // When
+        List<CustomBlockParser.ParsedBlock> blocks = CustomBlockParser.parse(FILE);
+
+        // Then
+        assertThat(blocks).hasSize(2);
+        CustomBlockParser.ParsedBlock imports = blocks.get(0);
+        assertThat(imports.id()).isEqualTo("imports");
+        assertThat(imports.content()).isEqualTo("import java.util.List;\nimport java.util.Map;");
+        assertThat(imports.startLine()).isEqualTo(2);
+        assertThat(imports.endLine()).isEqualTo(5);
+        assertThat(imports.lineCount()).isEqualTo(2);
+        assertThat(FILE.substring(imports.contentStart(), imports.contentEnd()))
+                .isEqualTo("import java.util.List;\nimport java.util.Map;\n");
+
+        CustomBlockParser.ParsedBlock body = blocks.get(1);
+        assertThat(body.content()).isEmpty();
+        assertThat(body.isEmpty()).isTrue();
+        assertThat(body.lineCount()).isEqualTo(0);
+        assertThat(body.startLine()).isEqualTo(8);
+    }
+
+    @Test
+    void parse_charSequence_matchesStringParse() throws Exception {
+        // When
+        List<CustomBlockParser.ParsedBlock> fromBuilder = CustomBlockParser.parse(new StringBuilder(FILE));
+
+        // Then
+        assertThat(fromBuilder.stream()
+                        .map(CustomBlockParser.ParsedBlock::content)
+                        .toList())
+                .isEqualTo(CustomBlockParser.parse(FILE).stream()
+                        .map(CustomBlockParser.ParsedBlock::content)
+                        .toList());
+    }
+
+    @Test
+    void parse_textWithoutMarkers_returnsEmptyList() throws Exception {
+        // When / Then
+        assertThat(CustomBlockParser.parse("class Foo {}\n")).isEmpty();
+        assertThat(CustomBlockParser.hasCustomBlocks("class Foo {}\n")).isFalse();
+        assertThat(CustomBlockParser.hasCustomBlocks(FILE)).isTrue();
+        assertThat(CustomBlockParser.countBlocks(FILE)).isEqualTo(2);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Validation
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void parse_duplicateId_throws() {
+        // Given
+        String content = "# @hexaglue-custom-start: a\n# @hexaglue-custom-end: a\n"
+                + "\n# @hexaglue-custom-start: a\n# @hexaglue-custom-end: a\n";
+
+        // When
+        CustomBlockParser.ParseException e =
+                assertThrows(CustomBlockParser.ParseException.class, () -> CustomBlockParser.parse(content));
+
+        // Then
+        assertThat(e.getMessage()).contains("Duplicate custom block ID 'a'");
+        assertThat(e.lineNumber()).isEqualTo(4);
+    }
+
+    @Test
+    void parse_nestedOrUnmatchedMarkers_throw() {
+        // When / Then
+        assertThrows(
+                CustomBlockParser.ParseException.class,
+                () -> CustomBlockParser.parse("// @hexaglue-custom-start: a\n// @hexaglue-custom-start: b\n"));
+        assertThrows(
+                CustomBlockParser.ParseException.class,
+                () -> CustomBlockParser.parse("x\n// @hexaglue-custom-end: a\n"));
+        CustomBlockParser.ParseException unclosed = assertThrows(
+                CustomBlockParser.ParseException.class,
+                () -> CustomBlockParser.parse("x\ny\n// @hexaglue-custom-start: a"));
+        assertThat(unclosed.lineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    void parse_manyBlocks_scalesLinearly() throws Exception {
+        // Given
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            content.append("// @hexaglue-custom-start: b")
+                    .append(i)
+                    .append("\nline\n// @hexaglue-custom-end: b")
+                    .append(i)
+                    .append('\n');
+        }
+
+        // When
+        List<CustomBlockParser.ParsedBlock> blocks = CustomBlockParser.parse(content);
+
+        // Then
+        assertThat(blocks).hasSize(20_000);
+        assertThat(blocks.get(19_999).startLine()).isEqualTo(59_998);
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.diagnostics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DefaultDiagnosticReporter} and {@link DiagnosticPolicy}.
+ */
+class DefaultDiagnosticReporterTest {
+
+    private static final DiagnosticCode NOISY = DiagnosticCode.of("HG-CORE-IR-200");
+    private static final DiagnosticCode OTHER = DiagnosticCode.of("HG-CORE-IR-201");
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Policy
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void report_belowMinimumSeverity_isDroppedButErrorsAreKept() {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.create();
+        DefaultDiagnosticReporter reporter = DefaultDiagnosticReporter.of(
+                sink,
+                DiagnosticPolicy.builder()
+                        .minimumSeverity(DiagnosticSeverity.ERROR)
+                        .build());
+
+        // When
+        reporter.info(NOISY, "info");
+        reporter.warning(NOISY, "warning");
+        reporter.error(NOISY, "error");
+
+        // Then
+        assertThat(sink.size()).isEqualTo(1);
+        assertThat(sink.hasErrors()).isTrue();
+        assertThat(reporter.suppressed()).isEmpty();
+    }
+
+    @Test
+    void report_overCap_isCountedAsSuppressed() {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.create();
+        DefaultDiagnosticReporter reporter = DefaultDiagnosticReporter.of(
+                sink, DiagnosticPolicy.builder().defaultCap(2).cap(OTHER, 0).build());
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            reporter.info(NOISY, "noisy " + i);
+            reporter.info(OTHER, "other " + i);
+        }
+
+        // Then
+        assertThat(sink.size()).isEqualTo(2);
+        assertThat(reporter.suppressed())
+                .containsExactly(
+                        new DefaultDiagnosticReporter.Suppressed(NOISY, DiagnosticSeverity.INFO, 5, 2),
+                        new DefaultDiagnosticReporter.Suppressed(OTHER, DiagnosticSeverity.INFO, 5, 0))
+                .inOrder();
+    }
+
+    @Test
+    void reportWithSupplier_suppressedDiagnostic_isNotBuilt() {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.create();
+        DefaultDiagnosticReporter reporter = DefaultDiagnosticReporter.of(
+                sink, DiagnosticPolicy.builder().cap(NOISY, 1).build());
+        AtomicInteger built = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            reporter.report(DiagnosticSeverity.INFO, NOISY, () -> {
+                built.incrementAndGet();
+                return Diagnostic.info(NOISY, "noisy");
+            });
+        }
+
+        // Then
+        assertThat(built.get()).isEqualTo(1);
+        assertThat(sink.size()).isEqualTo(1);
+    }
+
+    @Test
+    void unrestrictedPolicy_keepsEverything() {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.create();
+        DefaultDiagnosticReporter reporter = DefaultDiagnosticReporter.of(sink);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            reporter.info(NOISY, "noisy " + i);
+        }
+
+        // Then
+        assertThat(reporter.policy().isUnrestricted()).isTrue();
+        assertThat(sink.size()).isEqualTo(100);
+        assertThat(reporter.suppressed()).isEmpty();
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.diagnostics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DiagnosticEngine} flushing.
+ */
+class DiagnosticEngineTest {
+
+    private static final DiagnosticCode CODE = DiagnosticCode.of("HG-TEST-001");
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Flushing
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void flushToMessager_calledEveryRound_printsEachDiagnosticOnce() {
+        // Given
+        RecordingMessager messager = new RecordingMessager();
+        DiagnosticEngine engine = DiagnosticEngine.create(messager);
+        engine.report(Diagnostic.error(CODE, "first"));
+
+        // When
+        engine.flushToMessager();
+        engine.report(Diagnostic.warning(CODE, "second"));
+        engine.flushToMessager();
+        engine.flushToMessager();
+
+        // Then
+        assertThat(messager.messages).hasSize(2);
+        assertThat(messager.messages.get(0).kind).isEqualTo(Kind.ERROR);
+        assertThat(messager.messages.get(0).text).contains("first");
+        assertThat(messager.messages.get(1).kind).isEqualTo(Kind.WARNING);
+        assertThat(messager.messages.get(1).text).contains("second");
+    }
+
+    @Test
+    void flushToMessager_afterClear_printsNewDiagnostics() {
+        // Given
+        RecordingMessager messager = new RecordingMessager();
+        DiagnosticEngine engine = DiagnosticEngine.create(messager);
+        engine.report(Diagnostic.error(CODE, "first"));
+        engine.flushAndClear();
+
+        // When
+        engine.report(Diagnostic.error(CODE, "second"));
+        engine.flushToMessager();
+
+        // Then
+        assertThat(messager.messages).hasSize(2);
+        assertThat(messager.messages.get(1).text).contains("second");
+    }
+
+    @Test
+    void flushToMessager_sinkClearedAndRefilledPastFlushed_printsNewDiagnostics() {
+        // Given
+        RecordingMessager messager = new RecordingMessager();
+        DiagnosticEngine engine = DiagnosticEngine.create(messager);
+        engine.report(Diagnostic.error(CODE, "first"));
+        engine.flushToMessager();
+
+        // When
+        engine.sink().clear();
+        engine.report(Diagnostic.error(CODE, "second"));
+        engine.report(Diagnostic.error(CODE, "third"));
+        engine.flushToMessager();
+
+        // Then
+        assertThat(messager.messages).hasSize(3);
+        assertThat(messager.messages.get(1).text).contains("second");
+        assertThat(messager.messages.get(2).text).contains("third");
+    }
+
+    @Test
+    void flushToMessager_consecutiveInfos_printedAsSingleNote() {
+        // Given
+        RecordingMessager messager = new RecordingMessager();
+        DiagnosticEngine engine = DiagnosticEngine.create(messager);
+        engine.report(Diagnostic.info(CODE, "one"));
+        engine.report(Diagnostic.info(CODE, "two"));
+        engine.report(Diagnostic.error(CODE, "boom"));
+        engine.report(Diagnostic.info(CODE, "three"));
+
+        // When
+        engine.flushToMessager();
+
+        // Then
+        assertThat(messager.messages).hasSize(3);
+        assertThat(messager.messages.get(0).kind).isEqualTo(Kind.NOTE);
+        assertThat(messager.messages.get(0).text).contains("one");
+        assertThat(messager.messages.get(0).text).contains("two");
+        assertThat(messager.messages.get(1).kind).isEqualTo(Kind.ERROR);
+        assertThat(messager.messages.get(2).text).contains("three");
+    }
+
+    @Test
+    void flushToMessager_locationOfKnownType_attachesElement() {
+        // Given
+        RecordingMessager messager = new RecordingMessager();
+        TypeElement order = proxy(TypeElement.class, null);
+        Elements elements = proxy(Elements.class, order);
+        DiagnosticEngine engine = DiagnosticEngine.create(messager, elements);
+        engine.report(Diagnostic.builder()
+                .severity(DiagnosticSeverity.WARNING)
+                .code(CODE)
+                .message("attached")
+                .location(DiagnosticLocation.ofQualifiedName("com.example.Order"))
+                .build());
+
+        // When
+        engine.flushToMessager();
+
+        // Then
+        assertThat(messager.messages).hasSize(1);
+        assertThat(messager.messages.get(0).element).isSameInstanceAs(order);
+    }
+
+    @Test
+    void flushToMessager_cappedCode_printsSummaryLineOncePerChange() {
+        // Given
+        RecordingMessager messager = new RecordingMessager();
+        TypeElement order = proxy(TypeElement.class, null);
+        DiagnosticEngine engine = DiagnosticEngine.create(
+                messager,
+                proxy(Elements.class, order),
+                DiagnosticPolicy.builder().cap(CODE, 1).build());
+        for (int i = 0; i < 5; i++) {
+            engine.reporter().info(CODE, "noisy " + i);
+        }
+
+        // When
+        engine.flushToMessager();
+        engine.flushToMessager();
+
+        // Then
+        assertThat(messager.messages).hasSize(1);
+        assertThat(messager.messages.get(0).text).contains("noisy 0");
+        assertThat(messager.messages.get(0).text).contains("HG-TEST-001 × 5 (4 not shown)");
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Test fixtures
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object typeElement) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+            if (method.getName().equals("getTypeElement")) {
+                return "com.example.Order".equals(String.valueOf(args[0])) ? typeElement : null;
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(p);
+            }
+            if (method.getName().equals("equals")) {
+                return p == args[0];
+            }
+            return null;
+        });
+    }
+
+    private record Message(Kind kind, String text, Element element) {}
+
+    private static final class RecordingMessager implements Messager {
+
+        final List<Message> messages = new ArrayList<>();
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg) {
+            messages.add(new Message(kind, msg.toString(), null));
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e) {
+            messages.add(new Message(kind, msg.toString(), e));
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e, AnnotationMirror a) {
+            printMessage(kind, msg, e);
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e, AnnotationMirror a, AnnotationValue v) {
+            printMessage(kind, msg, e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.diagnostics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DiagnosticSink}.
+ */
+class DiagnosticSinkTest {
+
+    private static final DiagnosticCode INFO_CODE = DiagnosticCode.of("HG-TEST-001");
+    private static final DiagnosticCode ERROR_CODE = DiagnosticCode.of("HG-TEST-002");
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Collection
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void add_manyDiagnostics_keepsInsertionOrderAndCounts() {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.create();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            sink.add(i % 10 == 0 ? Diagnostic.error(ERROR_CODE, "e" + i) : Diagnostic.info(INFO_CODE, "i" + i));
+        }
+
+        // Then
+        List<Diagnostic> all = sink.all();
+        assertThat(all).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(all.get(i).message()).endsWith(String.valueOf(i));
+        }
+        assertThat(sink.count(DiagnosticSeverity.ERROR)).isEqualTo(100);
+        assertThat(sink.count(DiagnosticSeverity.INFO)).isEqualTo(900);
+        assertThat(sink.hasErrors()).isTrue();
+        assertThat(sink.hasWarnings()).isFalse();
+        assertThat(sink.errors()).hasSize(100);
+        assertThat(sink.warnings()).isEmpty();
+    }
+
+    @Test
+    void forEach_visitsDiagnosticsInInsertionOrder() {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.create();
+        sink.add(Diagnostic.info(INFO_CODE, "first"));
+        sink.add(Diagnostic.warning(INFO_CODE, "second"));
+
+        // When
+        List<String> messages = new ArrayList<>();
+        sink.forEach(d -> messages.add(d.message()));
+
+        // Then
+        assertThat(messages).containsExactly("first", "second").inOrder();
+    }
+
+    @Test
+    void clear_resetsDiagnosticsAndCounters() {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.create();
+        sink.add(Diagnostic.error(ERROR_CODE, "boom"));
+
+        // When
+        sink.clear();
+
+        // Then
+        assertThat(sink.isEmpty()).isTrue();
+        assertThat(sink.hasErrors()).isFalse();
+        assertThat(sink.all()).isEmpty();
+    }
+
+    @Test
+    void add_concurrently_keepsEveryDiagnostic() throws Exception {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.create();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    sink.add(Diagnostic.warning(INFO_CODE, "w" + i));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(sink.size()).isEqualTo(8000);
+        assertThat(sink.count(DiagnosticSeverity.WARNING)).isEqualTo(8000);
+        assertThat(sink.all()).doesNotContain(null);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Deduplication
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void deduplicating_dropsIdenticalDiagnosticsForSelectedCodes() {
+        // Given
+        DiagnosticSink sink = DiagnosticSink.deduplicating(INFO_CODE::equals);
+
+        // When
+        sink.add(Diagnostic.info(INFO_CODE, "same"));
+        sink.add(Diagnostic.info(INFO_CODE, "same"));
+        sink.add(Diagnostic.info(INFO_CODE, "other"));
+        sink.add(Diagnostic.error(ERROR_CODE, "same"));
+        sink.add(Diagnostic.error(ERROR_CODE, "same"));
+
+        // Then
+        assertThat(sink.size()).isEqualTo(4);
+        assertThat(sink.duplicateCount()).isEqualTo(1);
+        assertThat(sink.count(DiagnosticSeverity.INFO)).isEqualTo(2);
+        assertThat(sink.count(DiagnosticSeverity.ERROR)).isEqualTo(2);
+    }
+}
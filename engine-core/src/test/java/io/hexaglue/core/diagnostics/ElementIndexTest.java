@@ -0,0 +1,154 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.diagnostics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ElementIndex}.
+ */
+class ElementIndexTest {
+
+    private static final String SOURCE = """
+            package com.example;
+
+            public class Order {
+                private String id;
+
+                public void confirm() {}
+
+                public static class Line {}
+            }
+            """;
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Lookup
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void find_resolvesTypesAndMembersByStableId() {
+        // Given / When
+        List<String> resolved = compileAndResolve(
+                "com.example.Order",
+                "com.example.Order.Line",
+                "com.example.Order#id",
+                "com.example.Order#confirm",
+                "com.example.Order.id",
+                "com.example.Order#unknown",
+                "com.example.Missing");
+
+        // Then
+        assertThat(resolved)
+                .containsExactly(
+                        "CLASS Order", "CLASS Line", "FIELD id", "METHOD confirm", "FIELD id", "CLASS Order", "<none>")
+                .inOrder();
+    }
+
+    @Test
+    void find_locationWithoutQualifiedName_isEmpty() {
+        // Given
+        ElementIndex index = ElementIndex.create();
+
+        // When / Then
+        assertThat(index.find(DiagnosticLocation.ofPath("Order.java", 1, 1))).isEmpty();
+        assertThat(index.find((DiagnosticLocation) null)).isEmpty();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static List<String> compileAndResolve(String... ids) {
+        IndexingProcessor processor = new IndexingProcessor(ids);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task =
+                compiler.getTask(null, null, null, List.of("-proc:only"), null, List.of(new InMemorySource()));
+        task.setProcessors(List.of(processor));
+        assertThat(task.call()).isTrue();
+        return processor.resolved;
+    }
+
+    @SupportedAnnotationTypes("*")
+    private static final class IndexingProcessor extends AbstractProcessor {
+
+        private final String[] ids;
+        private final List<String> resolved = new ArrayList<>();
+
+        IndexingProcessor(String... ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (roundEnv.processingOver()) {
+                return false;
+            }
+            ElementIndex index = ElementIndex.create();
+            for (Element root : roundEnv.getRootElements()) {
+                register(index, (TypeElement) root);
+            }
+            for (String id : ids) {
+                Optional<Element> element = index.find(id);
+                resolved.add(
+                        element.map(e -> e.getKind() + " " + e.getSimpleName()).orElse("<none>"));
+            }
+            return false;
+        }
+
+        private static void register(ElementIndex index, TypeElement type) {
+            index.registerType(type);
+            for (Element member : type.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.CLASS) {
+                    register(index, (TypeElement) member);
+                } else {
+                    index.registerMember(type, member);
+                }
+            }
+        }
+    }
+
+    private static final class InMemorySource extends SimpleJavaFileObject {
+
+        InMemorySource() {
+            super(URI.create("string:///com/example/Order.java"), Kind.SOURCE);
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return SOURCE;
+        }
+    }
+}
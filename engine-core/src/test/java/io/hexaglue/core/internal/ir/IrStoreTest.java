@@ -0,0 +1,123 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.core.internal.ir.domain.DomainModel;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.core.internal.ir.ports.PortMethod;
+import io.hexaglue.core.internal.ir.ports.PortModel;
+import io.hexaglue.core.types.TypeRefFactory;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.ports.PortDirection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IrStore}.
+ *
+ * <p>These tests simulate several annotation-processing rounds by merging per-round models and
+ * verify that the store accumulates entries and tracks staleness of the published snapshot.</p>
+ */
+class IrStoreTest {
+
+    @Test
+    void newStore_isStaleAndEmpty() {
+        IrStore store = new IrStore();
+
+        assertThat(store.isStale()).isTrue();
+        assertThat(store.snapshot()).isEmpty();
+        assertThat(store.domainModel().isEmpty()).isTrue();
+        assertThat(store.portModel().isEmpty()).isTrue();
+    }
+
+    @Test
+    void merge_accumulatesEntriesAcrossRounds() {
+        IrStore store = new IrStore();
+
+        // Round 1: one entity
+        store.merge(domainOf(type("com.example.Order")), PortModel.empty());
+        store.publish(IrSnapshot.empty());
+
+        // Round 2: a repository port and another entity
+        boolean changed = store.merge(
+                domainOf(type("com.example.Customer")),
+                PortModel.builder()
+                        .addPort(port("com.example.ports.OrderRepository"))
+                        .build());
+
+        assertThat(changed).isTrue();
+        assertThat(store.isStale()).isTrue();
+        assertThat(store.domainModel().types().stream()
+                        .map(DomainType::qualifiedName)
+                        .toList())
+                .containsExactly("com.example.Order", "com.example.Customer")
+                .inOrder();
+        assertThat(store.portModel().findPort("com.example.ports.OrderRepository"))
+                .isPresent();
+    }
+
+    @Test
+    void merge_emptyDelta_keepsPublishedSnapshotFresh() {
+        IrStore store = new IrStore();
+        store.merge(domainOf(type("com.example.Order")), PortModel.empty());
+        IrSnapshot snapshot = IrSnapshot.empty();
+        store.publish(snapshot);
+
+        boolean changed = store.merge(DomainModel.empty(), PortModel.empty());
+
+        assertThat(changed).isFalse();
+        assertThat(store.isStale()).isFalse();
+        assertThat(store.snapshot()).hasValue(snapshot);
+    }
+
+    @Test
+    void merge_sameQualifiedName_replacesInPlace() {
+        IrStore store = new IrStore();
+        store.merge(domainOf(type("com.example.Order"), type("com.example.Customer")), PortModel.empty());
+
+        DomainType replacement = type("com.example.Order");
+        store.merge(domainOf(replacement), PortModel.empty());
+
+        assertThat(store.domainModel().types()).hasSize(2);
+        assertThat(store.domainModel().types().get(0)).isSameInstanceAs(replacement);
+    }
+
+    private static DomainModel domainOf(DomainType... types) {
+        return DomainModel.builder().addTypes(List.of(types)).build();
+    }
+
+    private static DomainType type(String qualifiedName) {
+        return DomainType.builder()
+                .qualifiedName(qualifiedName)
+                .simpleName(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1))
+                .kind(DomainTypeKind.ENTITY)
+                .type(TypeRefFactory.classRef(qualifiedName))
+                .build();
+    }
+
+    private static Port port(String qualifiedName) {
+        return Port.builder()
+                .qualifiedName(qualifiedName)
+                .simpleName(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1))
+                .direction(PortDirection.DRIVEN)
+                .type(TypeRefFactory.classRef(qualifiedName))
+                .addMethod(PortMethod.builder()
+                        .name("save")
+                        .returnType(TypeRefFactory.VOID)
+                        .build())
+                .build();
+    }
+}
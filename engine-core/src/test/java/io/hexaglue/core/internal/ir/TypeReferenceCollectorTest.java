@@ -0,0 +1,157 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.core.internal.ir.app.ApplicationModel;
+import io.hexaglue.core.internal.ir.domain.DomainId;
+import io.hexaglue.core.internal.ir.domain.DomainModel;
+import io.hexaglue.core.internal.ir.domain.DomainProperty;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.core.internal.ir.ports.PortMethod;
+import io.hexaglue.core.internal.ir.ports.PortModel;
+import io.hexaglue.core.internal.ir.ports.PortParameter;
+import io.hexaglue.core.internal.spi.IrViewAdapter;
+import io.hexaglue.core.types.TypeRefFactory;
+import io.hexaglue.spi.ir.IrView;
+import io.hexaglue.spi.ir.TypeReference;
+import io.hexaglue.spi.ir.TypeReferenceGraph;
+import io.hexaglue.spi.ir.TypeReferenceKind;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.ports.PortDirection;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.ParameterizedRef;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TypeReferenceCollector}.
+ *
+ * <p>These tests verify that the type-reference graph covers properties, identities, super types,
+ * interfaces and port signatures, and that the snapshot builds it only once.</p>
+ */
+class TypeReferenceCollectorTest {
+
+    @Test
+    void collect_recordsDomainAndPortReferences() {
+        // Given
+        IrSnapshot snapshot = snapshot();
+
+        // When
+        TypeReferenceGraph graph = TypeReferenceCollector.collect(snapshot);
+
+        // Then
+        assertThat(graph.referencesTo("com.example.OrderLine"))
+                .containsExactly(TypeReference.of(
+                        "com.example.Order", TypeReferenceKind.PROPERTY, "lines", "com.example.OrderLine"));
+        assertThat(graph.referencesTo("com.example.Order"))
+                .containsExactly(
+                        TypeReference.of(
+                                "com.example.OrderRepository",
+                                TypeReferenceKind.METHOD_RETURN,
+                                "findById",
+                                "com.example.Order"),
+                        TypeReference.of(
+                                "com.example.OrderRepository",
+                                TypeReferenceKind.METHOD_PARAMETER,
+                                "save",
+                                "com.example.Order"))
+                .inOrder();
+        assertThat(graph.dependenciesOf("com.example.Order").stream()
+                        .map(TypeReference::target)
+                        .toList())
+                .containsExactly(
+                        "java.util.List",
+                        "com.example.OrderLine",
+                        "com.example.OrderId",
+                        "com.example.BaseEntity",
+                        "java.io.Serializable")
+                .inOrder();
+    }
+
+    @Test
+    void collect_matchesGraphBuiltFromSpiViews() {
+        // Given
+        IrSnapshot snapshot = snapshot();
+        IrView view = IrViewAdapter.from(snapshot);
+
+        // When
+        TypeReferenceGraph fromIr = TypeReferenceCollector.collect(snapshot);
+        TypeReferenceGraph fromViews = TypeReferenceGraph.of(view);
+
+        // Then
+        assertThat(fromIr.all()).containsExactlyElementsIn(fromViews.all()).inOrder();
+    }
+
+    @Test
+    void typeReferences_isBuiltOncePerSnapshot() {
+        // Given
+        IrSnapshot snapshot = snapshot();
+        IrView view = IrViewAdapter.from(snapshot);
+
+        // When / Then
+        assertThat(snapshot.typeReferences()).isSameInstanceAs(snapshot.typeReferences());
+        assertThat(view.typeReferences()).isSameInstanceAs(snapshot.typeReferences());
+        assertThat(view.referencesTo("com.example.OrderId")).hasSize(2);
+        assertThat(IrSnapshot.empty().typeReferences().all()).isEmpty();
+    }
+
+    private static IrSnapshot snapshot() {
+        DomainType order = DomainType.builder()
+                .qualifiedName("com.example.Order")
+                .simpleName("Order")
+                .kind(DomainTypeKind.AGGREGATE_ROOT)
+                .type(TypeRefFactory.classRef("com.example.Order"))
+                .addProperty(DomainProperty.builder()
+                        .name("lines")
+                        .type(ParameterizedRef.of(
+                                ClassRef.of("java.util.List"), List.of(ClassRef.of("com.example.OrderLine"))))
+                        .build())
+                .id(DomainId.builder()
+                        .name("id")
+                        .type(TypeRefFactory.classRef("com.example.OrderId"))
+                        .build())
+                .superType(TypeRefFactory.classRef("com.example.BaseEntity"))
+                .interfaces(List.of(TypeRefFactory.classRef("java.io.Serializable")))
+                .build();
+        Port repository = Port.builder()
+                .qualifiedName("com.example.OrderRepository")
+                .simpleName("OrderRepository")
+                .direction(PortDirection.DRIVEN)
+                .type(TypeRefFactory.classRef("com.example.OrderRepository"))
+                .addMethod(PortMethod.builder()
+                        .name("findById")
+                        .returnType(TypeRefFactory.classRef("com.example.Order"))
+                        .addParameter(PortParameter.builder()
+                                .name("id")
+                                .type(TypeRefFactory.classRef("com.example.OrderId"))
+                                .build())
+                        .build())
+                .addMethod(PortMethod.builder()
+                        .name("save")
+                        .returnType(TypeRefFactory.VOID)
+                        .addParameter(PortParameter.builder()
+                                .name("order")
+                                .type(TypeRefFactory.classRef("com.example.Order"))
+                                .build())
+                        .build())
+                .build();
+        return IrSnapshot.builder()
+                .domainModel(DomainModel.builder().addType(order).build())
+                .portModel(PortModel.builder().addPort(repository).build())
+                .applicationModel(ApplicationModel.empty())
+                .build();
+    }
+}
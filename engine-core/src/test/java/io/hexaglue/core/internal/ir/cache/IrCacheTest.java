@@ -0,0 +1,497 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.core.internal.ir.SourceRef;
+import io.hexaglue.core.internal.ir.domain.DomainId;
+import io.hexaglue.core.internal.ir.domain.DomainProperty;
+import io.hexaglue.core.internal.ir.domain.DomainService;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.core.internal.ir.ports.PortMethod;
+import io.hexaglue.core.internal.ir.ports.PortParameter;
+import io.hexaglue.core.processor.HexaGlueProcessor;
+import io.hexaglue.core.types.TypeRefFactory;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticLocation;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.ports.PortDirection;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.Nullability;
+import io.hexaglue.spi.types.TypeRef;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link IrCache} and its binary encoding.
+ */
+class IrCacheTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Encoding
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void roundTrip_preservesDomainTypes() throws IOException {
+        // Given
+        IrCacheEntry entry = IrCacheEntry.of("com.example.Order", "fp-1", orderType(), null, null);
+
+        // When
+        IrCacheEntry decoded = roundTrip(entry);
+
+        // Then
+        assertThat(decoded.qualifiedName()).isEqualTo("com.example.Order");
+        assertThat(decoded.fingerprint()).isEqualTo("fp-1");
+        DomainType type = decoded.domainType().orElseThrow();
+        DomainType expected = orderType();
+        assertThat(type.kind()).isEqualTo(expected.kind());
+        assertThat(type.type()).isEqualTo(expected.type());
+        assertThat(type.sourceRef()).isEqualTo(expected.sourceRef());
+        assertThat(type.id().orElseThrow().type()).isEqualTo(TypeRefFactory.LONG_WRAPPER);
+        assertThat(type.properties().stream().map(DomainProperty::name).toList())
+                .containsExactly("id", "lines")
+                .inOrder();
+        assertThat(type.properties().get(1).type())
+                .isEqualTo(expected.properties().get(1).type());
+        assertThat(type.superType()).isEqualTo(expected.superType());
+        assertThat(type.interfaces()).isEqualTo(expected.interfaces());
+        assertThat(type.enumConstants()).isEmpty();
+        assertThat(decoded.domainService()).isEmpty();
+        assertThat(decoded.port()).isEmpty();
+    }
+
+    @Test
+    void roundTrip_preservesNestedTypeReferences() throws IOException {
+        // Given
+        TypeRef complex = TypeRefFactory.parameterized(
+                ClassRef.of("java.util.Map"),
+                TypeRefFactory.wildcardExtends(TypeRefFactory.typeVariable("T", List.of(TypeRefFactory.OBJECT))),
+                TypeRefFactory.arrayOf(TypeRefFactory.INT, Nullability.NULLABLE));
+        Port port = Port.builder()
+                .qualifiedName("com.example.ports.Lookup")
+                .simpleName("Lookup")
+                .direction(PortDirection.DRIVING)
+                .type(TypeRefFactory.classRef("com.example.ports.Lookup"))
+                .addMethod(PortMethod.builder()
+                        .name("find")
+                        .returnType(complex)
+                        .addParameter(PortParameter.builder()
+                                .name("keys")
+                                .type(TypeRefFactory.arrayOf(TypeRefFactory.STRING))
+                                .varArgs(true)
+                                .build())
+                        .build())
+                .build();
+
+        // When
+        IrCacheEntry decoded = roundTrip(IrCacheEntry.of(port.qualifiedName(), "fp-2", null, null, port));
+
+        // Then
+        assertThat(decoded.port()).hasValue(port);
+        assertThat(decoded.port().get().internalMethods().get(0).returnType()).isEqualTo(complex);
+    }
+
+    @Test
+    void roundTrip_preservesServicesAndEmptyEntries() throws IOException {
+        // Given
+        DomainService service = DomainService.builder()
+                .qualifiedName("com.example.Pricing")
+                .simpleName("Pricing")
+                .description("Computes prices")
+                .build();
+        Map<String, IrCacheEntry> entries = new LinkedHashMap<>();
+        entries.put("com.example.Pricing", IrCacheEntry.of("com.example.Pricing", "fp-3", null, service, null));
+        entries.put("com.example.Util", IrCacheEntry.of("com.example.Util", "fp-4", null, null, null));
+
+        // When
+        Map<String, IrCacheEntry> decoded = decode(encode(entries));
+
+        // Then
+        assertThat(decoded.keySet())
+                .containsExactly("com.example.Pricing", "com.example.Util")
+                .inOrder();
+        DomainService decodedService =
+                decoded.get("com.example.Pricing").domainService().orElseThrow();
+        assertThat(decodedService.qualifiedName()).isEqualTo("com.example.Pricing");
+        assertThat(decodedService.description()).hasValue("Computes prices");
+        assertThat(decoded.get("com.example.Util").domainType()).isEmpty();
+    }
+
+    @Test
+    void roundTrip_preservesDiagnosticsWithoutCause() throws IOException {
+        // Given
+        Diagnostic warning = Diagnostic.builder()
+                .severity(DiagnosticSeverity.WARNING)
+                .code(DiagnosticCode.of("HG-CORE-IR-201"))
+                .message("Port 'Orders': could have a common suffix")
+                .location(DiagnosticLocation.of("com.example.Orders", "com/example/Orders.java", 3, null))
+                .pluginId("io.hexaglue.core")
+                .attribute("hint", "rename")
+                .cause(new IllegalStateException("debug only"))
+                .build();
+
+        // When
+        IrCacheEntry decoded =
+                roundTrip(IrCacheEntry.of("com.example.Orders", "fp-5", null, null, null, List.of(warning)));
+
+        // Then
+        assertThat(decoded.diagnostics()).hasSize(1);
+        Diagnostic restored = decoded.diagnostics().get(0);
+        assertThat(restored.severity()).isEqualTo(DiagnosticSeverity.WARNING);
+        assertThat(restored.code()).isEqualTo(warning.code());
+        assertThat(restored.message()).isEqualTo(warning.message());
+        assertThat(restored.location()).isEqualTo(warning.location());
+        assertThat(restored.pluginId()).isEqualTo("io.hexaglue.core");
+        assertThat(restored.attributes()).containsExactly("hint", "rename");
+        assertThat(restored.cause()).isNull();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // File lifecycle
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void open_missingFile_yieldsEmptyCache(@TempDir Path dir) {
+        // When
+        IrCache cache = IrCache.open(dir.resolve("absent"));
+
+        // Then
+        assertThat(cache.loadedCount()).isEqualTo(0);
+        assertThat(cache.loadFailure()).isEmpty();
+    }
+
+    @Test
+    void open_corruptFile_yieldsEmptyCacheWithFailure(@TempDir Path dir) throws IOException {
+        // Given
+        Files.write(dir.resolve(IrCache.FILE_NAME), new byte[] {1, 2, 3});
+
+        // When
+        IrCache cache = IrCache.open(dir);
+
+        // Then
+        assertThat(cache.loadedCount()).isEqualTo(0);
+        assertThat(cache.loadFailure()).isPresent();
+    }
+
+    @Test
+    void save_thenOpen_restoresRecordedEntries(@TempDir Path dir) throws IOException {
+        // Given
+        IrCache cache = IrCache.open(dir.resolve("hexaglue"));
+        cache.record(IrCacheEntry.of("com.example.Order", "fp-1", orderType(), null, null));
+
+        // When
+        cache.save();
+        IrCache reopened = IrCache.open(dir.resolve("hexaglue"));
+
+        // Then
+        assertThat(reopened.loadedCount()).isEqualTo(1);
+        assertThat(Files.exists(dir.resolve("hexaglue").resolve(IrCache.FILE_NAME + ".tmp")))
+                .isFalse();
+    }
+
+    @Test
+    void defaultDirectory_mavenOutputs_doNotShareCacheFile(@TempDir Path dir) {
+        // Given
+        Path target = dir.resolve("target");
+
+        // When
+        Path main = IrCache.defaultDirectory(filer(target.resolve("classes"))).orElseThrow();
+        Path test =
+                IrCache.defaultDirectory(filer(target.resolve("test-classes"))).orElseThrow();
+
+        // Then
+        assertThat(main).isEqualTo(target.resolve("hexaglue").resolve("classes"));
+        assertThat(test).isEqualTo(target.resolve("hexaglue").resolve("test-classes"));
+    }
+
+    @Test
+    void defaultDirectory_gradleOutputs_resolveUnderBuildDirectory(@TempDir Path dir) {
+        // Given
+        Path build = dir.resolve("build");
+        Path classes = build.resolve("classes").resolve("java");
+
+        // When
+        Path main = IrCache.defaultDirectory(filer(classes.resolve("main"))).orElseThrow();
+        Path test = IrCache.defaultDirectory(filer(classes.resolve("test"))).orElseThrow();
+
+        // Then
+        assertThat(main).isEqualTo(build.resolve("hexaglue").resolve("main"));
+        assertThat(test).isEqualTo(build.resolve("hexaglue").resolve("test"));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Fingerprints
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void lookup_javadocOnlyChange_missesCachedEntry(@TempDir Path dir) throws IOException {
+        // Given: an entry cached for the first version of a documented type
+        String original = """
+                package com.example;
+
+                /** A customer order. */
+                public class Order {
+                    /** Order number. */
+                    private String number;
+
+                    /** Confirms the order. */
+                    public void confirm() {}
+                }
+                """;
+        String redocumented = original.replace("Confirms the order.", "Confirms the order and notifies the customer.");
+        IrCache cache = IrCache.open(dir.resolve("hexaglue"));
+        FingerprintProcessor first = compile(original, null);
+        cache.record(IrCacheEntry.of("com.example.Order", first.fingerprint, orderType(), null, null));
+        cache.save();
+
+        // When
+        FingerprintProcessor unchanged = compile(original, IrCache.open(dir.resolve("hexaglue")));
+        FingerprintProcessor changed = compile(redocumented, IrCache.open(dir.resolve("hexaglue")));
+
+        // Then
+        assertThat(unchanged.fingerprint).isEqualTo(first.fingerprint);
+        assertThat(unchanged.hit).isTrue();
+        assertThat(changed.fingerprint).isNotEqualTo(first.fingerprint);
+        assertThat(changed.hit).isFalse();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Diagnostics
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void cachedType_reReportsExtractionWarning(@TempDir Path dir) {
+        // Given: a port whose name triggers a style warning during extraction
+        String source = """
+                package com.example.ports;
+
+                public interface Orders {
+                    void save(String id);
+                }
+                """;
+        String cacheOption = "-Ahexaglue.irCache.dir=" + dir.resolve("hexaglue");
+        List<String> first = compileWithHexaGlue(source, cacheOption);
+
+        // When: the unchanged port is served from the cache
+        List<String> second = compileWithHexaGlue(source, cacheOption);
+
+        // Then
+        assertThat(IrCache.open(dir.resolve("hexaglue")).loadedCount()).isEqualTo(1);
+        assertThat(first).isNotEmpty();
+        assertThat(second).containsExactlyElementsIn(first);
+    }
+
+    @Test
+    void cachedType_diagnosticFilteredWhenCached_isReportedOncePolicyAllowsIt(@TempDir Path dir) {
+        // Given: a repository port whose extraction reports an INFO, cached while INFOs are dropped
+        InMemorySource annotation = new InMemorySource("org/jmolecules/ddd/annotation/Repository", """
+                package org.jmolecules.ddd.annotation;
+
+                public @interface Repository {}
+                """);
+        InMemorySource port = new InMemorySource("com/example/ports/OrderRepository", """
+                package com.example.ports;
+
+                @org.jmolecules.ddd.annotation.Repository
+                public interface OrderRepository {
+                    void save(String id);
+                }
+                """);
+        String cacheOption = "-Ahexaglue.irCache.dir=" + dir.resolve("hexaglue");
+        List<String> filtered = messages(
+                javax.tools.Diagnostic.Kind.NOTE,
+                "@Repository detected",
+                List.of(cacheOption, "-Ahexaglue.diagnostics.minSeverity=WARNING"),
+                annotation,
+                port);
+
+        // When: the unchanged port is served from the cache under the default policy
+        List<String> replayed = messages(
+                javax.tools.Diagnostic.Kind.NOTE, "@Repository detected", List.of(cacheOption), annotation, port);
+
+        // Then
+        assertThat(filtered).isEmpty();
+        assertThat(replayed).hasSize(1);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static List<String> compileWithHexaGlue(String source, String cacheOption) {
+        return messages(
+                javax.tools.Diagnostic.Kind.WARNING,
+                "Orders",
+                List.of(cacheOption),
+                new InMemorySource("com/example/ports/Orders", source));
+    }
+
+    private static List<String> messages(
+            javax.tools.Diagnostic.Kind kind, String containing, List<String> options, InMemorySource... sources) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new java.util.ArrayList<>(List.of("-proc:only"));
+        arguments.addAll(options);
+        JavaCompiler.CompilationTask task =
+                compiler.getTask(null, null, diagnostics, arguments, null, List.of(sources));
+        task.setProcessors(List.of(new HexaGlueProcessor()));
+        assertThat(task.call()).isTrue();
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == kind)
+                .map(d -> d.getMessage(null))
+                .filter(message -> message.contains(containing))
+                .toList();
+    }
+
+    private static FingerprintProcessor compile(String source, IrCache cache) {
+        FingerprintProcessor processor = new FingerprintProcessor(cache);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task =
+                compiler.getTask(null, null, null, List.of("-proc:only"), null, List.of(new InMemorySource(source)));
+        task.setProcessors(List.of(processor));
+        assertThat(task.call()).isTrue();
+        return processor;
+    }
+
+    @SupportedAnnotationTypes("*")
+    private static final class FingerprintProcessor extends AbstractProcessor {
+
+        private final IrCache cache;
+        private String fingerprint;
+        private boolean hit;
+
+        FingerprintProcessor(IrCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (roundEnv.processingOver()) {
+                return false;
+            }
+            TypeElement order = processingEnv.getElementUtils().getTypeElement("com.example.Order");
+            fingerprint = TypeFingerprint.of(processingEnv.getElementUtils(), order);
+            hit = cache != null && cache.lookup(order, fingerprint).isPresent();
+            return false;
+        }
+    }
+
+    private static final class InMemorySource extends SimpleJavaFileObject {
+
+        private final String source;
+
+        InMemorySource(String source) {
+            this("com/example/Order", source);
+        }
+
+        InMemorySource(String path, String source) {
+            super(URI.create("string:///" + path + ".java"), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    private static Filer filer(Path classOutput) {
+        return (Filer) Proxy.newProxyInstance(
+                Filer.class.getClassLoader(), new Class<?>[] {Filer.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getResource")) {
+                        URI uri = classOutput.resolve(args[2].toString()).toUri();
+                        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.OTHER) {};
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static IrCacheEntry roundTrip(IrCacheEntry entry) throws IOException {
+        return decode(encode(Map.of(entry.qualifiedName(), entry))).get(entry.qualifiedName());
+    }
+
+    private static byte[] encode(Map<String, IrCacheEntry> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IrCache.write(out, entries);
+        return out.toByteArray();
+    }
+
+    private static Map<String, IrCacheEntry> decode(byte[] bytes) throws IOException {
+        return IrCache.read(new ByteArrayInputStream(bytes));
+    }
+
+    private static DomainType orderType() {
+        SourceRef ref = SourceRef.builder(SourceRef.Kind.TYPE, "com.example.Order")
+                .origin("jsr269")
+                .hint("class")
+                .build();
+        return DomainType.builder()
+                .qualifiedName("com.example.Order")
+                .simpleName("Order")
+                .kind(DomainTypeKind.ENTITY)
+                .type(TypeRefFactory.classRef("com.example.Order"))
+                .sourceRef(ref)
+                .id(DomainId.builder()
+                        .declaringEntity("com.example.Order")
+                        .name("id")
+                        .type(TypeRefFactory.LONG_WRAPPER)
+                        .build())
+                .addProperty(DomainProperty.builder()
+                        .name("id")
+                        .type(TypeRefFactory.LONG_WRAPPER)
+                        .identity(true)
+                        .immutable(true)
+                        .declaringType("com.example.Order")
+                        .build())
+                .addProperty(DomainProperty.builder()
+                        .name("lines")
+                        .type(TypeRefFactory.parameterized(
+                                ClassRef.of("java.util.List"), TypeRefFactory.classRef("com.example.OrderLine")))
+                        .declaringType("com.example.Order")
+                        .build())
+                .superType(TypeRefFactory.classRef("com.example.BaseEntity"))
+                .interfaces(List.of(TypeRefFactory.classRef("java.io.Serializable")))
+                .build();
+    }
+}
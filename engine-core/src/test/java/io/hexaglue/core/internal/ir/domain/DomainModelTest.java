@@ -0,0 +1,77 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.domain;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.core.types.TypeRefFactory;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DomainModel} lookups.
+ */
+class DomainModelTest {
+
+    @Test
+    void findType_andFindService_useIndex() {
+        // Given
+        DomainModel model = DomainModel.builder()
+                .addType(type("com.example.Order", DomainTypeKind.ENTITY))
+                .addService(DomainService.builder()
+                        .qualifiedName("com.example.Pricing")
+                        .simpleName("Pricing")
+                        .build())
+                .build();
+
+        // When / Then
+        assertThat(model.findType("com.example.Order")).isPresent();
+        assertThat(model.findType("com.example.Missing")).isEmpty();
+        assertThat(model.findService("com.example.Pricing")).isPresent();
+        assertThat(model.index().typeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void index_isBuiltOnceAndReused() {
+        // Given
+        DomainModel model = DomainModel.builder()
+                .addType(type("com.example.Order", DomainTypeKind.ENTITY))
+                .build();
+
+        // When
+        model.findType("com.example.Order");
+
+        // Then
+        assertThat(model.index()).isSameInstanceAs(model.index());
+    }
+
+    @Test
+    void findType_duplicateQualifiedName_returnsFirstOccurrence() {
+        // Given
+        DomainType first = type("com.example.Order", DomainTypeKind.ENTITY);
+        DomainType second = type("com.example.Order", DomainTypeKind.VALUE_OBJECT);
+        DomainModel model = DomainModel.builder().addType(first).addType(second).build();
+
+        // When / Then
+        assertThat(model.findType("com.example.Order").orElseThrow()).isSameInstanceAs(first);
+    }
+
+    private static DomainType type(String qualifiedName, DomainTypeKind kind) {
+        return DomainType.builder()
+                .qualifiedName(qualifiedName)
+                .simpleName(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1))
+                .kind(kind)
+                .type(TypeRefFactory.classRef(qualifiedName))
+                .build();
+    }
+}
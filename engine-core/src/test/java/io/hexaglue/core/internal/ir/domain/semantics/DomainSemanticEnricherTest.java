@@ -0,0 +1,132 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.domain.semantics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.core.diagnostics.DiagnosticEngine;
+import io.hexaglue.core.diagnostics.DiagnosticPolicy;
+import io.hexaglue.core.internal.ir.SourceRef;
+import io.hexaglue.core.internal.ir.domain.DomainModel;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.PortModel;
+import io.hexaglue.core.types.TypeRefFactory;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DomainSemanticEnricher} diagnostics across annotation-processing rounds.
+ */
+class DomainSemanticEnricherTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Multi-round Diagnostics
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void enrich_cumulativeModelOverTwoRounds_reportsEachTypeOnce() {
+        // Given: the engine set up by the processor, and a type added in each round
+        RecordingMessager messager = new RecordingMessager();
+        DiagnosticEngine engine = DiagnosticEngine.create(
+                messager,
+                proxy(Elements.class),
+                DiagnosticPolicy.unrestricted(),
+                DomainSemanticEnricher.DIAGNOSTIC_CODES::contains);
+        DomainSemanticEnricher enricher = DomainSemanticEnricher.withDiagnostics(engine.reporter());
+        DomainType order = entity("com.example.OrderAggregate", "OrderAggregate");
+        DomainType invoice = entity("com.example.InvoiceAggregate", "InvoiceAggregate");
+
+        // When: each round enriches the cumulative model and flushes
+        enricher.enrich(DomainModel.builder().addType(order).build(), PortModel.empty());
+        engine.flushToMessager();
+        enricher.enrich(DomainModel.builder().addType(order).addType(invoice).build(), PortModel.empty());
+        engine.flushToMessager();
+
+        // Then
+        assertThat(occurrences(messager, "'OrderAggregate'")).isEqualTo(1);
+        assertThat(occurrences(messager, "'InvoiceAggregate'")).isEqualTo(1);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Test fixtures
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static DomainType entity(String qualifiedName, String simpleName) {
+        return DomainType.builder()
+                .qualifiedName(qualifiedName)
+                .simpleName(simpleName)
+                .kind(DomainTypeKind.ENTITY)
+                .type(TypeRefFactory.classRef(qualifiedName))
+                .sourceRef(SourceRef.builder(SourceRef.Kind.TYPE, qualifiedName)
+                        .origin("test")
+                        .build())
+                .build();
+    }
+
+    private static int occurrences(RecordingMessager messager, String text) {
+        int count = 0;
+        for (String message : messager.messages) {
+            for (int i = message.indexOf(text); i >= 0; i = message.indexOf(text, i + text.length())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(p);
+            }
+            if (method.getName().equals("equals")) {
+                return p == args[0];
+            }
+            return null;
+        });
+    }
+
+    private static final class RecordingMessager implements Messager {
+
+        final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg) {
+            messages.add(msg.toString());
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e) {
+            messages.add(msg.toString());
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e, AnnotationMirror a) {
+            printMessage(kind, msg, e);
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e, AnnotationMirror a, AnnotationValue v) {
+            printMessage(kind, msg, e);
+        }
+    }
+}
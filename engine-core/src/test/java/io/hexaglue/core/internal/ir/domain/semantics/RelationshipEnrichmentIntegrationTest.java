@@ -255,6 +255,36 @@ class RelationshipEnrichmentIntegrationTest {
         assertThat(itemRel.isInterAggregate()).isFalse(); // Intra-aggregate
     }
 
+    @Test
+    void enrich_rebuiltTypeKeepsSupertypesAndIsIndexed() {
+        // Given: A type with supertypes whose property triggers a relationship
+        DomainType orderType = DomainType.builder()
+                .qualifiedName("com.example.domain.Order")
+                .simpleName("Order")
+                .kind(DomainTypeKind.AGGREGATE_ROOT)
+                .type(classRef("com.example.domain.Order"))
+                .superType(classRef("com.example.domain.BaseAggregate"))
+                .interfaces(List.of(classRef("java.io.Serializable")))
+                .addProperty(DomainProperty.builder()
+                        .name("customerId")
+                        .type(classRef("com.example.domain.CustomerId"))
+                        .build())
+                .build();
+        DomainModel initialModel = DomainModel.builder().addType(orderType).build();
+
+        // When
+        DomainModel enrichedModel = DomainSemanticEnricher.defaults().enrich(initialModel, PortModel.empty());
+
+        // Then: The rebuilt type keeps fields not touched by enrichment and is found via the index
+        DomainType enrichedOrder =
+                enrichedModel.findType("com.example.domain.Order").orElseThrow();
+        assertThat(enrichedOrder).isNotSameInstanceAs(orderType);
+        assertThat(enrichedOrder.superType()).hasValue(classRef("com.example.domain.BaseAggregate"));
+        assertThat(enrichedOrder.interfaces()).containsExactly(classRef("java.io.Serializable"));
+        assertThat(enrichedModel.index().containsType("com.example.domain.Order"))
+                .isTrue();
+    }
+
     // ─────────────────────────────────────────────────────────────────────────
     // Helper Methods
     // ─────────────────────────────────────────────────────────────────────────
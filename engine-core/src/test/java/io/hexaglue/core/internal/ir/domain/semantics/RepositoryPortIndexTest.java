@@ -0,0 +1,118 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.ir.domain.semantics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.core.internal.ir.ports.PortMethod;
+import io.hexaglue.core.internal.ir.ports.PortParameter;
+import io.hexaglue.core.types.TypeRefFactory;
+import io.hexaglue.spi.ir.ports.PortDirection;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RepositoryPortIndex} as built by {@link RepositoryPortMatcher#index(List)}.
+ */
+class RepositoryPortIndexTest {
+
+    private static final TypeRef ORDER = TypeRefFactory.classRef("com.example.Order");
+    private static final TypeRef CUSTOMER = TypeRefFactory.classRef("com.example.Customer");
+
+    private final RepositoryPortMatcher matcher = new RepositoryPortMatcher();
+
+    @Test
+    void index_collectsTypesNestedInSignatures() {
+        // Given: A repository referencing Order through Optional<List<? extends Order[]>>
+        TypeRef nested = TypeRefFactory.parameterized(
+                TypeRefFactory.classRef("java.util.Optional"),
+                TypeRefFactory.parameterized(
+                        TypeRefFactory.classRef("java.util.List"),
+                        TypeRefFactory.wildcardExtends(TypeRefFactory.arrayOf(ORDER))));
+        Port port = port("OrderRepository", PortDirection.DRIVEN, nested, CUSTOMER);
+
+        // When
+        RepositoryPortIndex index = matcher.index(List.of(port));
+
+        // Then
+        assertThat(index.repositoriesOf("com.example.Order")).containsExactly(port);
+        assertThat(index.repositoriesOf("com.example.Customer")).containsExactly(port);
+        assertThat(index.hasRepositoryPort("java.util.Optional")).isTrue();
+    }
+
+    @Test
+    void index_ignoresDrivingPortsAndNonRepositoryNames() {
+        // Given
+        Port driving = port("OrderRepository", PortDirection.DRIVING, ORDER, ORDER);
+        Port gateway = port("OrderGateway", PortDirection.DRIVEN, ORDER, ORDER);
+
+        // When
+        RepositoryPortIndex index = matcher.index(List.of(driving, gateway));
+
+        // Then
+        assertThat(index.hasRepositoryPort("com.example.Order")).isFalse();
+        assertThat(index.referencedTypeCount()).isEqualTo(0);
+    }
+
+    @Test
+    void index_doesNotMatchOnSimpleNamePrefix() {
+        // Given: Only CustomerOrder is referenced
+        Port port = port(
+                "CustomerOrderStore",
+                PortDirection.DRIVEN,
+                TypeRefFactory.classRef("com.example.CustomerOrder"),
+                TypeRefFactory.LONG);
+
+        // When
+        RepositoryPortIndex index = matcher.index(List.of(port));
+
+        // Then
+        assertThat(index.hasRepositoryPort("com.example.Customer")).isFalse();
+        assertThat(index.hasRepositoryPort("com.example.CustomerOrder")).isTrue();
+    }
+
+    @Test
+    void index_listsEachPortOncePerTypeInPortOrder() {
+        // Given: Two repositories both referencing Order several times
+        Port first = port("OrderRepository", PortDirection.DRIVEN, ORDER, ORDER);
+        Port second = port("OrderArchiveDao", PortDirection.DRIVEN, ORDER, ORDER);
+
+        // When
+        RepositoryPortIndex index = matcher.index(List.of(first, second));
+
+        // Then
+        assertThat(index.repositoriesOf("com.example.Order"))
+                .containsExactly(first, second)
+                .inOrder();
+    }
+
+    private static Port port(String simpleName, PortDirection direction, TypeRef returnType, TypeRef parameterType) {
+        String qualifiedName = "com.example.ports." + simpleName;
+        return Port.builder()
+                .qualifiedName(qualifiedName)
+                .simpleName(simpleName)
+                .direction(direction)
+                .type(TypeRefFactory.classRef(qualifiedName))
+                .addMethod(PortMethod.builder()
+                        .name("find")
+                        .returnType(returnType)
+                        .addParameter(PortParameter.builder()
+                                .name("key")
+                                .type(parameterType)
+                                .build())
+                        .build())
+                .build();
+    }
+}
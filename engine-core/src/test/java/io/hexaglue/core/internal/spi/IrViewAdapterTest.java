@@ -0,0 +1,302 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.internal.spi;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hexaglue.core.internal.ir.IrSnapshot;
+import io.hexaglue.core.internal.ir.app.ApplicationModel;
+import io.hexaglue.core.internal.ir.domain.DomainModel;
+import io.hexaglue.core.internal.ir.domain.DomainProperty;
+import io.hexaglue.core.internal.ir.domain.DomainType;
+import io.hexaglue.core.internal.ir.ports.Port;
+import io.hexaglue.core.internal.ir.ports.PortMethod;
+import io.hexaglue.core.internal.ir.ports.PortModel;
+import io.hexaglue.core.types.TypeRefFactory;
+import io.hexaglue.spi.ir.IrView;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortDirection;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.ParameterizedRef;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IrViewAdapter}.
+ *
+ * <p>These tests verify that SPI views are backed by the internal IR without copying, are
+ * materialized once, answer indexed queries in declaration order, and are reused while the
+ * snapshot stays the same.</p>
+ */
+class IrViewAdapterTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Domain Model
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void allTypes_returnsSameViewInstanceOnRepeatedAccess() {
+        // Given
+        IrView view = IrViewAdapter.from(snapshot(List.of(type("com.example.Order"), type("com.example.Customer"))));
+
+        // When
+        DomainTypeView first = view.domain().allTypes().get(0);
+        DomainTypeView again = view.domain().allTypes().get(0);
+
+        // Then
+        assertThat(again).isSameInstanceAs(first);
+        assertThat(first.qualifiedName()).isEqualTo("com.example.Order");
+        assertThat(first.properties().get(0))
+                .isSameInstanceAs(first.properties().get(0));
+        assertThat(first.properties().get(0).name()).isEqualTo("id");
+    }
+
+    @Test
+    void findType_returnsViewFromAllTypes() {
+        // Given
+        IrView view = IrViewAdapter.from(snapshot(List.of(type("com.example.Order"), type("com.example.Customer"))));
+
+        // When
+        DomainTypeView found = view.domain().findType(" com.example.Customer ").orElseThrow();
+
+        // Then
+        assertThat(found).isSameInstanceAs(view.domain().allTypes().get(1));
+        assertThat(view.domain().findType("com.example.Missing")).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> view.domain().findType("  "));
+    }
+
+    @Test
+    void allTypes_isUnmodifiable() {
+        // Given
+        IrView view = IrViewAdapter.from(snapshot(List.of(type("com.example.Order"))));
+
+        // When / Then
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> view.domain().allTypes().remove(0));
+    }
+
+    @Test
+    void typesOfKind_returnsMatchingViewsInDeclarationOrder() {
+        // Given
+        IrView view = IrViewAdapter.from(snapshot(List.of(
+                type("com.example.Order", DomainTypeKind.AGGREGATE_ROOT),
+                type("com.example.Money", DomainTypeKind.VALUE_OBJECT),
+                type("com.example.Customer", DomainTypeKind.AGGREGATE_ROOT))));
+
+        // When
+        List<DomainTypeView> roots = view.domain().typesOfKind(DomainTypeKind.AGGREGATE_ROOT);
+
+        // Then
+        assertThat(roots)
+                .containsExactly(
+                        view.domain().allTypes().get(0),
+                        view.domain().allTypes().get(2))
+                .inOrder();
+        assertThat(view.domain().typesOfKind(DomainTypeKind.ENTITY)).isEmpty();
+    }
+
+    @Test
+    void typesInPackage_matchesWholePackageSegments() {
+        // Given
+        IrView view = IrViewAdapter.from(snapshot(
+                List.of(type("com.example.sales.Order"), type("com.examples.Other"), type("com.example.Customer"))));
+
+        // When
+        List<DomainTypeView> types = view.domain().typesInPackage("com.example");
+
+        // Then
+        assertThat(types.stream().map(DomainTypeView::qualifiedName).toList())
+                .containsExactly("com.example.sales.Order", "com.example.Customer")
+                .inOrder();
+        assertThat(view.domain().typesInPackage("")).hasSize(3);
+    }
+
+    @Test
+    void typesReferencing_findsTypesThroughPropertyTypeArguments() {
+        // Given
+        DomainType order = DomainType.builder()
+                .qualifiedName("com.example.Order")
+                .simpleName("Order")
+                .kind(DomainTypeKind.AGGREGATE_ROOT)
+                .type(TypeRefFactory.classRef("com.example.Order"))
+                .addProperty(DomainProperty.builder()
+                        .name("lines")
+                        .type(ParameterizedRef.of(
+                                ClassRef.of("java.util.List"), List.of(ClassRef.of("com.example.OrderLine"))))
+                        .build())
+                .build();
+        IrView view = IrViewAdapter.from(snapshot(List.of(order, type("com.example.OrderLine"))));
+
+        // When
+        List<DomainTypeView> referencing = view.domain().typesReferencing("com.example.OrderLine");
+
+        // Then
+        assertThat(referencing).containsExactly(view.domain().allTypes().get(0));
+        assertThat(view.domain().typesReferencing("com.example.Order")).isEmpty();
+    }
+
+    @Test
+    void typesReferencing_readsSnapshotGraphAndKeepsDomainAndPortSourcesApart() {
+        // Given
+        DomainType order = DomainType.builder()
+                .qualifiedName("com.example.Order")
+                .simpleName("Order")
+                .kind(DomainTypeKind.AGGREGATE_ROOT)
+                .type(TypeRefFactory.classRef("com.example.Order"))
+                .addProperty(DomainProperty.builder()
+                        .name("customer")
+                        .type(ClassRef.of("com.example.Customer"))
+                        .build())
+                .addProperty(DomainProperty.builder()
+                        .name("payer")
+                        .type(ClassRef.of("com.example.Customer"))
+                        .build())
+                .build();
+        Port repository = Port.builder()
+                .qualifiedName("com.example.CustomerRepository")
+                .simpleName("CustomerRepository")
+                .direction(PortDirection.DRIVEN)
+                .type(TypeRefFactory.classRef("com.example.CustomerRepository"))
+                .addMethod(PortMethod.builder()
+                        .name("save")
+                        .returnType(TypeRefFactory.classRef("com.example.Customer"))
+                        .build())
+                .build();
+        IrSnapshot snapshot = snapshot(List.of(order), List.of(repository));
+        IrView view = IrViewAdapter.from(snapshot);
+
+        // When
+        List<DomainTypeView> types = view.domain().typesReferencing("com.example.Customer");
+        List<PortView> ports = view.ports().portsReferencing("com.example.Customer");
+
+        // Then
+        assertThat(types).containsExactly(view.domain().allTypes().get(0));
+        assertThat(ports).containsExactly(repository);
+        assertThat(view.typeReferences()).isSameInstanceAs(snapshot.typeReferences());
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Port Model
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void allPorts_exposesInternalPortsWithoutCopying() {
+        // Given
+        Port port = port("com.example.OrderRepository");
+        IrView view = IrViewAdapter.from(snapshot(List.of(), List.of(port)));
+
+        // When
+        List<PortView> ports = view.ports().allPorts();
+
+        // Then
+        assertThat(ports.get(0)).isSameInstanceAs(port);
+        assertThat(view.ports().findPort("com.example.OrderRepository").orElseThrow())
+                .isSameInstanceAs(port);
+        assertThrows(UnsupportedOperationException.class, () -> ports.remove(0));
+    }
+
+    @Test
+    void portQueries_answerByDirectionPackageAndReferencedType() {
+        // Given
+        Port repository = port("com.example.sales.OrderRepository");
+        Port useCase = Port.builder()
+                .qualifiedName("com.example.PlaceOrder")
+                .simpleName("PlaceOrder")
+                .direction(PortDirection.DRIVING)
+                .type(TypeRefFactory.classRef("com.example.PlaceOrder"))
+                .addMethod(PortMethod.builder()
+                        .name("place")
+                        .returnType(TypeRefFactory.classRef("com.example.Order"))
+                        .build())
+                .build();
+        IrView view = IrViewAdapter.from(snapshot(List.of(), List.of(repository, useCase)));
+
+        // When / Then
+        assertThat(view.ports().allPorts(PortDirection.DRIVING)).containsExactly(useCase);
+        assertThat(view.ports().allPorts(PortDirection.DRIVEN)).containsExactly(repository);
+        assertThat(view.ports().portsInPackage("com.example"))
+                .containsExactly(repository, useCase)
+                .inOrder();
+        assertThat(view.ports().portsInPackage("com.example.sales")).containsExactly(repository);
+        assertThat(view.ports().portsReferencing("com.example.Order")).containsExactly(useCase);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Reuse
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void reuse_keepsViewForSameSnapshotOnly() {
+        // Given
+        IrSnapshot snapshot = snapshot(List.of(type("com.example.Order")));
+        IrView view = IrViewAdapter.from(snapshot);
+
+        // When
+        IrView reused = IrViewAdapter.reuse(view, snapshot);
+        IrView fresh = IrViewAdapter.reuse(view, snapshot(List.of(type("com.example.Order"))));
+
+        // Then
+        assertThat(reused).isSameInstanceAs(view);
+        assertThat(fresh).isNotSameInstanceAs(view);
+        assertThat(IrViewAdapter.reuse(null, snapshot)).isNotNull();
+    }
+
+    private static IrSnapshot snapshot(List<DomainType> types) {
+        return snapshot(types, List.of());
+    }
+
+    private static IrSnapshot snapshot(List<DomainType> types, List<Port> ports) {
+        DomainModel.Builder domain = DomainModel.builder();
+        types.forEach(domain::addType);
+        return IrSnapshot.builder()
+                .domainModel(domain.build())
+                .portModel(PortModel.builder().addPorts(ports).build())
+                .applicationModel(ApplicationModel.empty())
+                .build();
+    }
+
+    private static DomainType type(String qualifiedName) {
+        return type(qualifiedName, DomainTypeKind.ENTITY);
+    }
+
+    private static DomainType type(String qualifiedName, DomainTypeKind kind) {
+        return DomainType.builder()
+                .qualifiedName(qualifiedName)
+                .simpleName(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1))
+                .kind(kind)
+                .type(TypeRefFactory.classRef(qualifiedName))
+                .addProperty(DomainProperty.builder()
+                        .name("id")
+                        .type(TypeRefFactory.classRef("java.util.UUID"))
+                        .identity(true)
+                        .build())
+                .build();
+    }
+
+    private static Port port(String qualifiedName) {
+        return Port.builder()
+                .qualifiedName(qualifiedName)
+                .simpleName(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1))
+                .direction(PortDirection.DRIVEN)
+                .type(TypeRefFactory.classRef(qualifiedName))
+                .addMethod(PortMethod.builder()
+                        .name("save")
+                        .returnType(TypeRefFactory.VOID)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.lifecycle;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.core.processor.HexaGlueProcessor;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link CompilationMetrics}.
+ */
+class CompilationMetricsTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Recording
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void recordPhase_sumsInvocationsAndTimeInPhaseOrder() {
+        // Given
+        CompilationMetrics metrics = CompilationMetrics.create();
+
+        // When
+        metrics.recordPhase(CompilationPhase.GENERATE, 5_000_000L);
+        metrics.recordPhase(CompilationPhase.ANALYZE, 1_000_000L);
+        metrics.recordPhase(CompilationPhase.ANALYZE, 2_000_000L);
+
+        // Then
+        CompilationMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.phases())
+                .containsExactly(
+                        new CompilationMetrics.PhaseMetrics(CompilationPhase.ANALYZE, 2, 3_000_000L),
+                        new CompilationMetrics.PhaseMetrics(CompilationPhase.GENERATE, 1, 5_000_000L))
+                .inOrder();
+    }
+
+    @Test
+    void recordPlugin_mergesExecutionsOfTheSamePlugin() {
+        // Given
+        CompilationMetrics metrics = CompilationMetrics.create();
+
+        // When
+        metrics.recordPlugin(new CompilationMetrics.PluginMetrics(
+                "a", false, 10L, 2, new CompilationMetrics.DiagnosticCounts(1, 0, 0)));
+        metrics.recordPlugin(
+                new CompilationMetrics.PluginMetrics("b", false, 7L, 1, CompilationMetrics.DiagnosticCounts.NONE));
+        metrics.recordPlugin(new CompilationMetrics.PluginMetrics(
+                "a", true, 5L, 1, new CompilationMetrics.DiagnosticCounts(0, 1, 1)));
+
+        // Then
+        assertThat(metrics.snapshot().plugins())
+                .containsExactly(
+                        new CompilationMetrics.PluginMetrics(
+                                "a", true, 15L, 3, new CompilationMetrics.DiagnosticCounts(1, 1, 1)),
+                        new CompilationMetrics.PluginMetrics(
+                                "b", false, 7L, 1, CompilationMetrics.DiagnosticCounts.NONE))
+                .inOrder();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // JSON report
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void toJson_containsAllSections() {
+        // Given
+        CompilationMetrics metrics = CompilationMetrics.create();
+        metrics.recordPhase(CompilationPhase.ANALYZE, 1_500_000L);
+        metrics.recordPlugin(new CompilationMetrics.PluginMetrics(
+                "io.example.\"quoted\"", false, 2_000_000L, 4, CompilationMetrics.DiagnosticCounts.NONE));
+        metrics.recordAnalysis(10, 2);
+        metrics.recordModel(5, 3);
+        metrics.recordEmission(4, 1, 1024L);
+        metrics.recordDiagnostics(DiagnosticSeverity.WARNING, 7);
+
+        // When
+        String json = metrics.snapshot().toJson();
+
+        // Then
+        assertThat(json).contains("{\"phase\": \"ANALYZE\", \"invocations\": 1, \"wallTimeMillis\": 1.500}");
+        assertThat(json).contains("\"id\": \"io.example.\\\"quoted\\\"\", \"status\": \"completed\"");
+        assertThat(json)
+                .contains("\"analysis\": {\"typesAnalyzed\": 10, \"typesReused\": 2, \"domainTypes\": 5, "
+                        + "\"portsFound\": 3}");
+        assertThat(json)
+                .contains("\"emission\": {\"artifactsWritten\": 4, \"artifactsSkipped\": 1, \"bytesWritten\": 1024}");
+        assertThat(json).contains("\"diagnostics\": {\"info\": 0, \"warning\": 7, \"error\": 0}");
+    }
+
+    @Test
+    void writeJson_createsParentDirectoriesAndReplacesExistingFile(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = dir.resolve("hexaglue").resolve("metrics.json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "stale");
+        CompilationMetrics.Snapshot snapshot = CompilationMetrics.create().snapshot();
+
+        // When
+        snapshot.writeJson(file);
+
+        // Then
+        assertThat(Files.readString(file, StandardCharsets.UTF_8)).isEqualTo(snapshot.toJson());
+        assertThat(Files.exists(file.resolveSibling("metrics.json.tmp"))).isFalse();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Pipeline output
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void metricsFile_writable_isWrittenWithoutWarning(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = dir.resolve("metrics.json");
+
+        // When
+        List<String> warnings = compileWithMetricsFile(file);
+
+        // Then
+        assertThat(warnings.stream().filter(w -> w.contains("HG-CORE-130")).toList())
+                .isEmpty();
+        assertThat(Files.readString(file, StandardCharsets.UTF_8)).contains("\"phases\"");
+    }
+
+    @Test
+    void metricsFile_notWritable_isReportedAsWarning(@TempDir Path dir) throws Exception {
+        // Given
+        Path blocker = dir.resolve("blocker");
+        Files.writeString(blocker, "not a directory");
+        Path file = blocker.resolve("metrics.json");
+
+        // When
+        List<String> warnings = compileWithMetricsFile(file);
+
+        // Then
+        assertThat(warnings.stream().filter(w -> w.contains("HG-CORE-130")).toList())
+                .hasSize(1);
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    private static List<String> compileWithMetricsFile(Path file) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                diagnostics,
+                List.of("-proc:only", "-Ahexaglue.metrics.file=" + file),
+                null,
+                List.of(new InMemorySource("package com.example; public class Order {}")));
+        task.setProcessors(List.of(new HexaGlueProcessor()));
+        assertThat(task.call()).isTrue();
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == javax.tools.Diagnostic.Kind.WARNING)
+                .map(d -> d.getMessage(null))
+                .toList();
+    }
+
+    private static final class InMemorySource extends SimpleJavaFileObject {
+
+        private final String source;
+
+        InMemorySource(String source) {
+            super(URI.create("string:///com/example/Order.java"), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.options;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.options.OptionKey;
+import io.hexaglue.spi.options.OptionScope;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.options.OptionsView.PluginOptionsView;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiFunction;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link RawOptionsStoreCodec}, the precompiled form of {@code hexaglue.yaml}, and
+ * the JVM-wide {@link ParsedOptionsCache}.
+ */
+class RawOptionsStoreCodecTest {
+
+    private static final String JPA = "io.hexaglue.plugin.jpa";
+    private static final String CUSTOMER = "com.example.domain.Customer";
+
+    private static final String YAML = """
+            hexaglue:
+              routing:
+                default:
+                  driven: io.hexaglue.plugin.jpa
+              plugins:
+                io.hexaglue.plugin.jpa:
+                  enabled: true
+                  limit: 12345678901
+                  ratio: 0.5
+                  tags: [a, b]
+                  types:
+                    com.example.domain.Customer:
+                      tableName: customers
+                      properties:
+                        email:
+                          column:
+                            length: 255
+                            unique: true
+                          comment: ~
+            """;
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Codec
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void roundTripPreservesEntriesAndTypeTree() throws IOException {
+        // Given
+        RawOptionsStore parsed = parse(YAML);
+
+        // When
+        RawOptionsStore decoded = decode(encode(parsed, "hash"), "hash", "precompiled");
+
+        // Then
+        assertThat(decoded).isNotNull();
+        OptionsView original = new StoreBackedOptionsView(parsed);
+        OptionsView restored = new StoreBackedOptionsView(decoded);
+        assertThat(restored.keys(OptionScope.PLUGIN)).isEqualTo(original.keys(OptionScope.PLUGIN));
+        assertThat(restored.get(OptionKey.global("hexaglue.routing.default.driven", String.class))
+                        .value())
+                .isEqualTo(JPA);
+        assertThat(restored.get(OptionKey.plugin(JPA, "tags", Object.class)).value())
+                .isEqualTo(List.of("a", "b"));
+        assertThat(restored.get(OptionKey.plugin(JPA, "limit", Object.class)).value())
+                .isEqualTo(12345678901L);
+
+        PluginOptionsView plugin = restored.forPlugin(JPA);
+        assertThat(plugin.propertyOptions(CUSTOMER))
+                .isEqualTo(original.forPlugin(JPA).propertyOptions(CUSTOMER));
+        assertThat(plugin.getPropertyOption(CUSTOMER, "email", "column.length", Integer.class)
+                        .source())
+                .isEqualTo("precompiled");
+    }
+
+    @Test
+    void storeRecordedForOtherContentIsIgnored() throws IOException {
+        // Given
+        byte[] encoded = encode(parse(YAML), "old-hash");
+
+        // When
+        RawOptionsStore decoded = decode(encoded, "new-hash", "precompiled");
+
+        // Then
+        assertThat(decoded).isNull();
+    }
+
+    @Test
+    void precompiledFileIsWrittenAndReadBack(@TempDir Path dir) {
+        // Given
+        Path binary = dir.resolve("hexaglue.yaml" + CoreOptionsViewLoader.PRECOMPILED_SUFFIX);
+        String hash = CoreOptionsViewLoader.hash(YAML.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        CoreOptionsViewLoader.writePrecompiled(binary, hash, parse(YAML));
+        RawOptionsStore read = CoreOptionsViewLoader.readPrecompiled(binary, hash, "precompiled");
+
+        // Then
+        assertThat(Files.isRegularFile(binary)).isTrue();
+        assertThat(read).isNotNull();
+        assertThat(new StoreBackedOptionsView(read)
+                        .forPlugin(JPA)
+                        .getPropertyOption(CUSTOMER, "email", "column.unique", Boolean.class)
+                        .value())
+                .isTrue();
+        assertThat(CoreOptionsViewLoader.readPrecompiled(binary, "other", "precompiled"))
+                .isNull();
+    }
+
+    @Test
+    void precompiledFileIsWrittenToBuildDirectoryNotNextToYaml(@TempDir Path dir) throws IOException {
+        // Given: hexaglue.yaml copied to the class output, as Maven resources do
+        Path classes = dir.resolve("target").resolve("classes");
+        Files.createDirectories(classes);
+        Files.writeString(classes.resolve("hexaglue.yaml"), YAML);
+        CoreOptionsViewLoader loader =
+                new CoreOptionsViewLoader(processingEnv(classes), true, new ParsedOptionsCache());
+
+        // When
+        OptionsView options = loader.load();
+
+        // Then
+        assertThat(options.forPlugin(JPA).get("enabled", Boolean.class).value()).isTrue();
+        assertThat(Files.exists(classes.resolve("hexaglue.yaml" + CoreOptionsViewLoader.PRECOMPILED_SUFFIX)))
+                .isFalse();
+        assertThat(Files.isRegularFile(dir.resolve("target/hexaglue/classes/hexaglue.yaml.bin")))
+                .isTrue();
+    }
+
+    @Test
+    void corruptLengthFallsBackToParsing(@TempDir Path dir) throws IOException {
+        // Given: a file whose header matches but whose list claims a negative, then a huge size
+        Path binary = dir.resolve("hexaglue.yaml" + CoreOptionsViewLoader.PRECOMPILED_SUFFIX);
+        String hash = CoreOptionsViewLoader.hash(YAML.getBytes(StandardCharsets.UTF_8));
+        for (int size : new int[] {-1, Integer.MAX_VALUE}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(RawOptionsStoreCodec.MAGIC);
+            out.writeShort(RawOptionsStoreCodec.FORMAT_VERSION);
+            out.writeByte(2); // new string
+            out.writeUTF(hash);
+            out.writeInt(1); // one global entry
+            out.writeByte(2);
+            out.writeUTF("hexaglue.tags");
+            out.writeByte(8); // list
+            out.writeInt(size);
+            Files.write(binary, bytes.toByteArray());
+
+            // When
+            RawOptionsStore read = CoreOptionsViewLoader.readPrecompiled(binary, hash, "precompiled");
+
+            // Then
+            assertThat(read).isNull();
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Cache
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void cachedStoreIsReusedOnlyForSameTimestampAndContent() {
+        // Given
+        ParsedOptionsCache cache = new ParsedOptionsCache();
+        RawOptionsStore store = parse(YAML);
+        cache.put("file:/hexaglue.yaml", 42L, "hash", store);
+
+        // When / Then
+        assertThat(cache.get("file:/hexaglue.yaml", 42L, "hash")).isSameInstanceAs(store);
+        assertThat(cache.get("file:/hexaglue.yaml", 43L, "hash")).isNull();
+        assertThat(cache.get("file:/hexaglue.yaml", 42L, "other")).isNull();
+        assertThat(cache.get("file:/other.yaml", 42L, "hash")).isNull();
+
+        cache.put("file:/hexaglue.yaml", 43L, "other", parse(YAML));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    /** Processing environment whose class path and class output are the given directory. */
+    private static ProcessingEnvironment processingEnv(Path classes) {
+        Filer filer = proxy(Filer.class, (method, args) -> {
+            if (!method.getName().equals("getResource")) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            Path file = classes.resolve(args[2].toString());
+            return new SimpleJavaFileObject(file.toUri(), JavaFileObject.Kind.OTHER) {
+                @Override
+                public InputStream openInputStream() throws IOException {
+                    return Files.newInputStream(file);
+                }
+            };
+        });
+        return proxy(ProcessingEnvironment.class, (method, args) -> {
+            if (method.getName().equals("getFiler")) {
+                return filer;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, BiFunction<Method, Object[], Object> handler) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> handler.apply(method, args));
+    }
+
+    private static RawOptionsStore parse(String yaml) {
+        return HexaGlueYamlOptionsParser.parse(new BufferedReader(new StringReader(yaml)), "test");
+    }
+
+    private static byte[] encode(RawOptionsStore store, String hash) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RawOptionsStoreCodec.write(new DataOutputStream(bytes), hash, store);
+        return bytes.toByteArray();
+    }
+
+    private static RawOptionsStore decode(byte[] bytes, String hash, String sourceId) throws IOException {
+        return RawOptionsStoreCodec.read(
+                new DataInputStream(new ByteArrayInputStream(bytes)), bytes.length, hash, sourceId);
+    }
+}
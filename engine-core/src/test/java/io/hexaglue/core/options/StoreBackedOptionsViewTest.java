@@ -0,0 +1,210 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.options;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hexaglue.spi.options.OptionKey;
+import io.hexaglue.spi.options.OptionValue;
+import io.hexaglue.spi.options.OptionsView.PluginOptionsView;
+import io.hexaglue.spi.options.PropertyMetadataHelper;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StoreBackedOptionsView} lookups over a parsed {@code hexaglue.yaml}.
+ */
+class StoreBackedOptionsViewTest {
+
+    private static final String JPA = "io.hexaglue.plugin.jpa";
+    private static final String CUSTOMER = "com.example.domain.Customer";
+
+    private static final String YAML = """
+            hexaglue:
+              plugins:
+                io.hexaglue.plugin.jpa:
+                  enabled: "true"
+                  packages: [com.example.domain]
+                  types:
+                    com.example.domain.Customer:
+                      tableName: customers
+                      properties:
+                        email:
+                          column:
+                            length: 255
+                            unique: true
+                        name:
+                          column:
+                            length: "80"
+                    com.example.domain.properties.Address:
+                      properties:
+                        city:
+                          nullable: false
+            """;
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Memoization
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void repeatedLookupsReuseCoercedValues() {
+        // Given
+        StoreBackedOptionsView view = view();
+        OptionKey<Boolean> key = OptionKey.plugin(JPA, "enabled", Boolean.class);
+
+        // When
+        OptionValue<Boolean> first = view.get(key);
+        OptionValue<Boolean> second = view.get(key);
+        OptionValue<String> asString = view.get(OptionKey.plugin(JPA, "enabled", String.class));
+
+        // Then
+        assertThat(first.value()).isTrue();
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(asString.value()).isEqualTo("true");
+    }
+
+    @Test
+    void coercedMapsAreUnmodifiableAndValidated() {
+        // Given
+        String port = "hexaglue.routing.port.com.example.OrderRepository";
+        Map<Object, Object> routing = new LinkedHashMap<>();
+        routing.put("driven", "io.hexaglue.plugin.jpa");
+        Map<Object, Object> invalid = new LinkedHashMap<>();
+        invalid.put(1, "io.hexaglue.plugin.jpa");
+        StoreBackedOptionsView view = new StoreBackedOptionsView(new RawOptionsStore(
+                Map.of(
+                        port,
+                        new RawOptionsStore.RawEntry(routing, "test"),
+                        "invalid",
+                        new RawOptionsStore.RawEntry(invalid, "test")),
+                Map.of()));
+        OptionKey<Map> key = OptionKey.global(port, Map.class);
+
+        // When
+        Map<?, ?> first = view.get(key).value();
+
+        // Then
+        assertThrows(UnsupportedOperationException.class, () -> first.clear());
+        assertThat(view.get(key).value()).containsExactly("driven", "io.hexaglue.plugin.jpa");
+        assertThrows(IllegalArgumentException.class, () -> view.get(OptionKey.global("invalid", Map.class)));
+    }
+
+    @Test
+    void pluginViewsAreCachedAndAgreeWithKeyLookups() {
+        // Given
+        StoreBackedOptionsView view = view();
+
+        // When
+        PluginOptionsView plugin = view.forPlugin(JPA);
+
+        // Then
+        assertThat(view.forPlugin(" " + JPA + " ")).isSameInstanceAs(plugin);
+        assertThat(plugin.isPresent("enabled")).isTrue();
+        assertThat(plugin.get("enabled", Boolean.class))
+                .isEqualTo(view.get(OptionKey.plugin(JPA, "enabled", Boolean.class)));
+        assertThat(plugin.get("missing", String.class).present()).isFalse();
+    }
+
+    @Test
+    void rawCollectionsCannotBeModifiedThroughSharedStore() {
+        // Given: two views over one store, as for compilations sharing the parsed-options cache
+        RawOptionsStore store = HexaGlueYamlOptionsParser.parse(new BufferedReader(new StringReader(YAML)), "test");
+        OptionKey<List> key = OptionKey.plugin(JPA, "packages", List.class);
+        List<?> packages = new StoreBackedOptionsView(store).get(key).value();
+
+        // When / Then
+        assertThrows(UnsupportedOperationException.class, () -> packages.clear());
+        assertThat(new StoreBackedOptionsView(store).get(key).value()).containsExactly("com.example.domain");
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Property Metadata
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void propertyOptionsResolveThroughTypeTree() {
+        // Given
+        PluginOptionsView plugin = view().forPlugin(JPA);
+
+        // When
+        OptionValue<Integer> length = plugin.getPropertyOption(CUSTOMER, "name", "column.length", Integer.class);
+
+        // Then
+        assertThat(length.value()).isEqualTo(80);
+        assertThat(length.source()).isEqualTo("test");
+        assertThat(plugin.getPropertyOption(CUSTOMER, "email", "column.length", Integer.class))
+                .isEqualTo(plugin.get("types." + CUSTOMER + ".properties.email.column.length", Integer.class));
+        assertThat(plugin.getPropertyOption(CUSTOMER, "email", "column.precision", Integer.class)
+                        .present())
+                .isFalse();
+        assertThat(PropertyMetadataHelper.getPropertyMetadata(
+                        plugin, "com.example.domain.properties.Address", "city", "nullable", Boolean.class))
+                .isEqualTo(Optional.of(false));
+    }
+
+    @Test
+    void bulkLookupReturnsAllPropertyMetadataOfType() {
+        // Given
+        PluginOptionsView plugin = view().forPlugin(JPA);
+
+        // When
+        Map<String, Map<String, Object>> all = PropertyMetadataHelper.getAllPropertyMetadata(plugin, CUSTOMER);
+
+        // Then
+        assertThat(all.keySet()).containsExactly("email", "name").inOrder();
+        assertThat(all.get("email")).containsExactly("column.length", 255, "column.unique", true);
+        assertThat(PropertyMetadataHelper.getAllPropertyMetadata(plugin, "com.example.Unknown"))
+                .isEmpty();
+    }
+
+    @Test
+    void propertyConfigSectionIsRebuiltFromFlattenedEntries() {
+        // Given
+        PluginOptionsView plugin = view().forPlugin(JPA);
+
+        // When
+        Map<String, Object> column = PropertyMetadataHelper.getPropertyConfig(plugin, CUSTOMER, "email", "column");
+
+        // Then
+        assertThat(column).containsExactly("length", 255, "unique", true);
+        assertThat(PropertyMetadataHelper.getPropertyConfig(plugin, CUSTOMER, "email", "validation"))
+                .isEmpty();
+    }
+
+    @Test
+    void genericPluginViewScansKeysForBulkLookup() {
+        // Given: the SPI's key-scanning view over the same store
+        PluginOptionsView generic = PluginOptionsView.of(view(), JPA);
+
+        // When
+        Map<String, Map<String, Object>> all = generic.propertyOptions(CUSTOMER);
+
+        // Then
+        assertThat(all).isEqualTo(view().forPlugin(JPA).propertyOptions(CUSTOMER));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static StoreBackedOptionsView view() {
+        return new StoreBackedOptionsView(
+                HexaGlueYamlOptionsParser.parse(new BufferedReader(new StringReader(YAML)), "test"));
+    }
+}
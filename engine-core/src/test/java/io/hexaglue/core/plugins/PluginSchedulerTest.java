@@ -0,0 +1,375 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.plugins;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.core.discovery.DiscoveredPlugin;
+import io.hexaglue.core.lifecycle.PluginExecutionPlan;
+import io.hexaglue.spi.HexaGluePlugin;
+import io.hexaglue.spi.PluginMetadata;
+import io.hexaglue.spi.codegen.ArtifactSink;
+import io.hexaglue.spi.codegen.DocFile;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.ResourceFile;
+import io.hexaglue.spi.codegen.SourceFile;
+import io.hexaglue.spi.context.BuildEnvironment;
+import io.hexaglue.spi.context.ExecutionMode;
+import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.context.GenerationRequest;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.ir.IrView;
+import io.hexaglue.spi.naming.NameStrategySpec;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.types.TypeSystemSpec;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link PluginScheduler}.
+ */
+class PluginSchedulerTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Ordering
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void order_withoutDependencies_keepsPlanOrder() {
+        // Given
+        PluginExecutionPlan plan = plan(plugin("a"), plugin("b"), plugin("c"));
+
+        // When
+        PluginScheduler scheduler = PluginScheduler.create(plan);
+
+        // Then
+        assertThat(ids(scheduler.order())).containsExactly("a", "b", "c").inOrder();
+        assertThat(scheduler.warnings()).isEmpty();
+    }
+
+    @Test
+    void order_withDependencies_runsDependenciesFirst() {
+        // Given
+        PluginExecutionPlan plan = plan(
+                plugin("docs", m -> m.withRunsAfter("jpa", "absent")),
+                plugin("jpa", m -> m.withDependsOn("model")),
+                plugin("model"),
+                plugin("rest"));
+
+        // When
+        PluginScheduler scheduler = PluginScheduler.create(plan);
+
+        // Then
+        assertThat(ids(scheduler.order()))
+                .containsExactly("model", "jpa", "docs", "rest")
+                .inOrder();
+    }
+
+    @Test
+    void order_withCycle_runsEarliestPluginFirstAndWarns() {
+        // Given
+        PluginExecutionPlan plan =
+                plan(plugin("a", m -> m.withRunsAfter("b")), plugin("b", m -> m.withRunsAfter("a")), plugin("c"));
+
+        // When
+        PluginScheduler scheduler = PluginScheduler.create(plan);
+
+        // Then
+        assertThat(ids(scheduler.order())).containsExactly("c", "a", "b").inOrder();
+        assertThat(scheduler.warnings()).hasSize(1);
+        assertThat(scheduler.warnings().get(0)).contains("cycle");
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Execution
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void execute_failedOrMissingDependency_skipsDependents() {
+        // Given
+        PluginExecutionPlan plan = plan(
+                plugin("base", m -> m, ctx -> {
+                    throw new IllegalStateException("boom");
+                }),
+                plugin("child", m -> m.withDependsOn("base")),
+                plugin("orphan", m -> m.withDependsOn("absent")),
+                plugin("soft", m -> m.withRunsAfter("base")));
+        RecordingListener listener = new RecordingListener();
+
+        // When
+        PluginScheduler.create(plan).execute(context(new ArrayList<>(), new RecordingSink()), 1, listener);
+
+        // Then
+        assertThat(listener.events)
+                .containsExactly(
+                        "started base",
+                        "failed base boom",
+                        "skipped child",
+                        "skipped orphan",
+                        "started soft",
+                        "completed soft")
+                .inOrder();
+    }
+
+    @Test
+    void execute_parallel_matchesSequentialOutput() {
+        // Given
+        PluginExecutionPlan plan = plan(
+                plugin("a", m -> m, ctx -> emit(ctx, "a")),
+                plugin("b", m -> m.withDependsOn("a"), ctx -> emit(ctx, "b")),
+                plugin("c", m -> m, ctx -> {
+                    emit(ctx, "c");
+                    throw new IllegalStateException("c failed");
+                }),
+                plugin("d", m -> m.withDependsOn("c"), ctx -> emit(ctx, "d")),
+                plugin("e", m -> m.withRunsAfter("b"), ctx -> emit(ctx, "e")),
+                plugin("f", m -> m, ctx -> emit(ctx, "f")));
+
+        // When
+        Outcome sequential = run(plan, 1);
+        Outcome parallel = run(plan, 4);
+
+        // Then
+        assertThat(sequential.writes()).containsExactly("a", "b", "c", "e", "f").inOrder();
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void execute_parallel_runsIndependentPluginsConcurrently() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Consumer<GenerationContextSpec> rendezvous = ctx -> {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("plugins did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+        PluginExecutionPlan plan = plan(plugin("x", m -> m, rendezvous), plugin("y", m -> m, rendezvous));
+        RecordingListener listener = new RecordingListener();
+
+        // When
+        PluginScheduler.create(plan).execute(context(new ArrayList<>(), new RecordingSink()), 2, listener);
+
+        // Then
+        assertThat(listener.events)
+                .containsExactly("started x", "completed x", "started y", "completed y")
+                .inOrder();
+    }
+
+    @Test
+    void execute_parallel_resolvesClassesOnCallingThread() {
+        // Given
+        List<Thread> resolvingThreads = Collections.synchronizedList(new ArrayList<>());
+        TypeSystemSpec types = (TypeSystemSpec) Proxy.newProxyInstance(
+                TypeSystemSpec.class.getClassLoader(), new Class<?>[] {TypeSystemSpec.class}, (proxy, m, args) -> {
+                    if (!m.getName().equals("tryResolveClass")) {
+                        throw new UnsupportedOperationException(m.getName());
+                    }
+                    resolvingThreads.add(Thread.currentThread());
+                    return Optional.empty();
+                });
+        Consumer<GenerationContextSpec> resolve = ctx -> ctx.types().tryResolveClass("com.example.Order");
+        PluginExecutionPlan plan = plan(plugin("x", m -> m, resolve), plugin("y", m -> m, resolve));
+        RecordingListener listener = new RecordingListener();
+
+        // When
+        PluginScheduler.create(plan).execute(context(new ArrayList<>(), new RecordingSink(), types), 2, listener);
+
+        // Then
+        assertThat(listener.events)
+                .containsExactly("started x", "completed x", "started y", "completed y")
+                .inOrder();
+        assertThat(resolvingThreads).containsExactly(Thread.currentThread(), Thread.currentThread());
+    }
+
+    @Test
+    void execute_recordsPluginApplyFlightRecorderEvents(@TempDir Path dir) throws Exception {
+        // Given
+        PluginExecutionPlan plan = plan(plugin("ok"), plugin("broken", m -> m, ctx -> {
+            throw new IllegalStateException("boom");
+        }));
+        Path file = dir.resolve("plugins.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable("io.hexaglue.PluginApply").withThreshold(Duration.ZERO);
+            recording.start();
+            PluginScheduler.create(plan)
+                    .execute(context(new ArrayList<>(), new RecordingSink()), 1, new RecordingListener());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<String> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("io.hexaglue.PluginApply"))
+                .map(e -> e.getString("pluginId") + " " + e.getString("outcome") + " " + e.getString("error"))
+                .toList();
+        String id = TestPlugin.class.getName();
+        assertThat(events)
+                .containsExactly(id + " completed null", id + " failed java.lang.IllegalStateException")
+                .inOrder();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    record Outcome(List<String> events, List<String> writes, List<String> diagnostics) {}
+
+    private static Outcome run(PluginExecutionPlan plan, int parallelism) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        RecordingSink sink = new RecordingSink();
+        RecordingListener listener = new RecordingListener();
+        PluginScheduler.create(plan).execute(context(diagnostics, sink), parallelism, listener);
+        return new Outcome(
+                listener.events,
+                sink.paths,
+                diagnostics.stream().map(Diagnostic::message).toList());
+    }
+
+    private static void emit(GenerationContextSpec context, String name) {
+        context.diagnostics().info(DiagnosticCode.of("TEST-001"), "generated " + name);
+        context.output().writeTextResource(name, "content of " + name, MergeMode.OVERWRITE);
+    }
+
+    private static List<String> ids(List<DiscoveredPlugin> plugins) {
+        return plugins.stream().map(p -> p.plugin().id()).toList();
+    }
+
+    private static PluginExecutionPlan plan(DiscoveredPlugin... plugins) {
+        return new PluginExecutionPlan(List.of(plugins));
+    }
+
+    private static DiscoveredPlugin plugin(String id) {
+        return plugin(id, m -> m);
+    }
+
+    private static DiscoveredPlugin plugin(String id, UnaryOperator<TestPlugin> dependencies) {
+        return plugin(id, dependencies, ctx -> {});
+    }
+
+    private static DiscoveredPlugin plugin(
+            String id, UnaryOperator<TestPlugin> dependencies, Consumer<GenerationContextSpec> body) {
+        TestPlugin plugin = dependencies.apply(new TestPlugin(id, Set.of(), Set.of(), body));
+        return new DiscoveredPlugin(plugin, PluginMetadata.minimal(id));
+    }
+
+    private static GenerationContextSpec context(List<Diagnostic> diagnostics, ArtifactSink sink) {
+        return context(diagnostics, sink, stub(TypeSystemSpec.class));
+    }
+
+    private static GenerationContextSpec context(
+            List<Diagnostic> diagnostics, ArtifactSink sink, TypeSystemSpec types) {
+        return GenerationContextSpec.of(
+                stub(NameStrategySpec.class),
+                stub(IrView.class),
+                types,
+                stub(OptionsView.class),
+                DiagnosticReporter.accumulating(diagnostics),
+                sink,
+                BuildEnvironment.of(ExecutionMode.CI, false, Locale.ROOT, null, null, null),
+                GenerationRequest.of(null, null, null, null));
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, m, args) -> {
+            throw new UnsupportedOperationException(m.getName());
+        }));
+    }
+
+    private record TestPlugin(
+            String id, Set<String> dependsOn, Set<String> runsAfter, Consumer<GenerationContextSpec> body)
+            implements HexaGluePlugin {
+
+        TestPlugin withDependsOn(String... ids) {
+            return new TestPlugin(id, Set.of(ids), runsAfter, body);
+        }
+
+        TestPlugin withRunsAfter(String... ids) {
+            return new TestPlugin(id, dependsOn, Set.of(ids), body);
+        }
+
+        @Override
+        public void apply(GenerationContextSpec context) {
+            body.accept(context);
+        }
+    }
+
+    private static final class RecordingListener implements PluginScheduler.Listener {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void started(DiscoveredPlugin plugin) {
+            events.add("started " + plugin.plugin().id());
+        }
+
+        @Override
+        public void completed(DiscoveredPlugin plugin) {
+            events.add("completed " + plugin.plugin().id());
+        }
+
+        @Override
+        public void failed(DiscoveredPlugin plugin, Throwable error) {
+            events.add("failed " + plugin.plugin().id() + " " + error.getMessage());
+        }
+
+        @Override
+        public void skipped(DiscoveredPlugin plugin, String reason) {
+            events.add("skipped " + plugin.plugin().id());
+        }
+    }
+
+    private static final class RecordingSink implements ArtifactSink {
+
+        private final List<String> paths = new ArrayList<>();
+
+        @Override
+        public void write(SourceFile file) {
+            paths.add(file.qualifiedTypeName());
+        }
+
+        @Override
+        public void write(ResourceFile file) {
+            paths.add(file.path());
+        }
+
+        @Override
+        public void write(DocFile file) {
+            paths.add(file.path());
+        }
+    }
+}
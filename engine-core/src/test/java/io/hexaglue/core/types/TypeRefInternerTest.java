@@ -0,0 +1,105 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.types;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.Nullability;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TypeRefInterner} and the canonical instances returned by {@link TypeRefFactory}.
+ */
+class TypeRefInternerTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Interning
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void intern_equalReferences_returnsFirstInstance() {
+        // Given
+        TypeRefInterner interner = TypeRefInterner.create();
+        ParameterizedRef first = ParameterizedRef.of(ClassRef.of("java.util.List"), List.of(ClassRef.of("a.B")));
+        ParameterizedRef second = ParameterizedRef.of(ClassRef.of("java.util.List"), List.of(ClassRef.of("a.B")));
+
+        // When
+        ParameterizedRef canonicalFirst = interner.intern(first);
+        ParameterizedRef canonicalSecond = interner.intern(second);
+
+        // Then
+        assertThat(canonicalFirst).isSameInstanceAs(first);
+        assertThat(canonicalSecond).isSameInstanceAs(first);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    void intern_differentNullability_keepsDistinctInstances() {
+        // Given
+        TypeRefInterner interner = TypeRefInterner.create();
+
+        // When
+        TypeRef plain = interner.intern(ClassRef.of("a.B"));
+        TypeRef nullable = interner.intern(ClassRef.of("a.B").withNullability(Nullability.NULLABLE));
+
+        // Then
+        assertThat(nullable).isNotSameInstanceAs(plain);
+        assertThat(nullable.nullability()).isEqualTo(Nullability.NULLABLE);
+    }
+
+    @Test
+    void intern_typeNames_returnsCanonicalInstance() {
+        // Given
+        TypeRefInterner interner = TypeRefInterner.create();
+        TypeName first = TypeName.of("com.example.Order");
+
+        // When
+        TypeName second = interner.intern(TypeName.of("com.example.Order"));
+
+        // Then
+        assertThat(interner.intern(first)).isSameInstanceAs(second);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Factory
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void factory_returnsCanonicalInstances() {
+        // When / Then
+        assertThat(TypeRefFactory.classRef("java.lang.String")).isSameInstanceAs(TypeRefFactory.STRING);
+        assertThat(TypeRefFactory.primitive("int")).isSameInstanceAs(TypeRefFactory.INT);
+        assertThat(TypeRefFactory.box(TypeRefFactory.INT)).isSameInstanceAs(TypeRefFactory.INTEGER);
+        assertThat(TypeRefFactory.box(TypeRefFactory.CHAR)).isSameInstanceAs(TypeRefFactory.box(TypeRefFactory.CHAR));
+        assertThat(TypeRefFactory.parameterized(ClassRef.of("java.util.List"), TypeRefFactory.STRING))
+                .isSameInstanceAs(
+                        TypeRefFactory.parameterized(TypeRefFactory.classRef("java.util.List"), TypeRefFactory.STRING));
+    }
+
+    @Test
+    void comparators_acceptIdenticalReferences() {
+        // Given
+        TypeRef list = TypeRefFactory.parameterized(ClassRef.of("java.util.List"), TypeRefFactory.STRING);
+
+        // When / Then
+        assertThat(TypeComparators.deepEquals(list, list)).isTrue();
+        assertThat(TypeComparators.equalIgnoringNullability(
+                        list, TypeRefFactory.parameterized(ClassRef.of("java.util.List"), TypeRefFactory.STRING)))
+                .isTrue();
+    }
+}
@@ -0,0 +1,206 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.core.types;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeRef;
+import io.hexaglue.spi.types.TypeVariableRef;
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TypeResolver}.
+ */
+class TypeResolverTest {
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Recursive bounds
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void resolve_fBoundedTypeVariable_terminatesWithBackReference() throws Exception {
+        compileAndProcess("""
+                package test;
+                public class Ranked<T extends Comparable<T>> {
+                    private T value;
+                }
+                """, (type, resolver) -> {
+            // When
+            TypeRef resolved = resolver.resolve(field(type, "value").asType());
+
+            // Then
+            TypeVariableRef variable = (TypeVariableRef) resolved;
+            assertThat(variable.name().value()).isEqualTo("T");
+            ParameterizedRef bound = (ParameterizedRef) variable.bounds().get(0);
+            assertThat(bound.rawType().name().value()).isEqualTo("java.lang.Comparable");
+            TypeVariableRef backReference =
+                    (TypeVariableRef) bound.typeArguments().get(0);
+            assertThat(backReference.name().value()).isEqualTo("T");
+            assertThat(backReference.bounds()).isEmpty();
+        });
+    }
+
+    @Test
+    void resolve_mutuallyRecursiveBounds_terminates() throws Exception {
+        compileAndProcess("""
+                package test;
+                public class Graph<N extends java.util.List<E>, E extends java.util.List<N>> {
+                    private N node;
+                    private E edge;
+                }
+                """, (type, resolver) -> {
+            // When
+            TypeVariableRef node =
+                    (TypeVariableRef) resolver.resolve(field(type, "node").asType());
+            TypeVariableRef edge =
+                    (TypeVariableRef) resolver.resolve(field(type, "edge").asType());
+
+            // Then
+            assertThat(node.bounds()).hasSize(1);
+            assertThat(edge.bounds()).hasSize(1);
+            assertThat(node.bounds().get(0).toString()).contains("E");
+            assertThat(edge.bounds().get(0).toString()).contains("N");
+        });
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Memoization and interning
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @Test
+    void resolve_sameMirror_returnsSameInstance() throws Exception {
+        compileAndProcess("""
+                package test;
+                public class Order {
+                    private java.util.Map<String, java.util.List<Integer>> lines;
+                }
+                """, (type, resolver) -> {
+            // Given
+            var mirror = field(type, "lines").asType();
+
+            // When
+            TypeRef first = resolver.resolve(mirror);
+            TypeRef second = resolver.resolve(mirror);
+
+            // Then
+            assertThat(second).isSameInstanceAs(first);
+        });
+    }
+
+    @Test
+    void resolve_equalTypesFromDistinctMirrors_areInterned() throws Exception {
+        compileAndProcess("""
+                package test;
+                public class Order {
+                    private java.util.List<String> tags;
+                    private java.util.List<String> labels;
+                    public java.util.List<String> getTags() { return tags; }
+                }
+                """, (type, resolver) -> {
+            // When
+            TypeRef tags = resolver.resolve(field(type, "tags").asType());
+            TypeRef labels = resolver.resolve(field(type, "labels").asType());
+
+            // Then
+            assertThat(labels).isSameInstanceAs(tags);
+            ClassRef raw = ((ParameterizedRef) tags).rawType();
+            assertThat(raw.name().value()).isEqualTo("java.util.List");
+        });
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Test Infrastructure
+    // ─────────────────────────────────────────────────────────────────────────
+
+    @FunctionalInterface
+    interface ResolverCallback {
+        void accept(TypeElement type, TypeResolver resolver) throws Exception;
+    }
+
+    private static Element field(TypeElement type, String name) {
+        return type.getEnclosedElements().stream()
+                .filter(e -> e.getKind() == ElementKind.FIELD)
+                .filter(e -> e.getSimpleName().contentEquals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void compileAndProcess(String source, ResolverCallback callback) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String className = source.substring(source.indexOf("class ") + 6).split("[\\s<{]")[0];
+        SimpleJavaFileObject file =
+                new SimpleJavaFileObject(
+                        URI.create("string:///test/" + className + ".java"), SimpleJavaFileObject.Kind.SOURCE) {
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return source;
+                    }
+                };
+
+        CallbackProcessor processor = new CallbackProcessor(callback);
+        JavaCompiler.CompilationTask task =
+                compiler.getTask(null, null, null, List.of("-proc:only"), null, List.of(file));
+        task.setProcessors(List.of(processor));
+        assertThat(task.call()).isTrue();
+        if (processor.failure != null) {
+            throw processor.failure;
+        }
+    }
+
+    @SupportedAnnotationTypes("*")
+    private static final class CallbackProcessor extends AbstractProcessor {
+
+        private final ResolverCallback callback;
+        private Exception failure;
+
+        CallbackProcessor(ResolverCallback callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            for (Element element : roundEnv.getRootElements()) {
+                if (element instanceof TypeElement type) {
+                    try {
+                        callback.accept(type, TypeResolver.create(processingEnv.getElementUtils()));
+                    } catch (Exception e) {
+                        failure = e;
+                    } catch (AssertionError | StackOverflowError e) {
+                        failure = new Exception(e);
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
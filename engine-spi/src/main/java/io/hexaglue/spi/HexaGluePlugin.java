@@ -13,7 +13,9 @@
 package io.hexaglue.spi;
 
 import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.stability.Experimental;
 import io.hexaglue.spi.stability.Stable;
+import java.util.Set;
 
 /**
  * Main extension contract for HexaGlue.
@@ -79,6 +81,32 @@ public interface HexaGluePlugin {
         return PluginOrder.NORMAL;
     }
 
+    /**
+     * Declares the plugins that must complete successfully before this plugin runs.
+     *
+     * <p>The plugin is skipped if one of them is missing or fails. A plugin is referred to by its
+     * {@link #id()}, its metadata id or its implementation class name.</p>
+     *
+     * @return ids of required plugins (defaults to none)
+     */
+    @Experimental(since = "1.1.0")
+    default Set<String> dependsOn() {
+        return Set.of();
+    }
+
+    /**
+     * Declares the plugins that must run before this plugin when they are present.
+     *
+     * <p>This only constrains ordering: the plugin runs whatever their outcome, and ids of absent
+     * plugins are ignored.</p>
+     *
+     * @return ids of plugins to run after (defaults to none)
+     */
+    @Experimental(since = "1.1.0")
+    default Set<String> runsAfter() {
+        return Set.of();
+    }
+
     /**
      * Execute this plugin for the current compilation.
      *
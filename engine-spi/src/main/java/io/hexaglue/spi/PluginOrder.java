@@ -18,7 +18,8 @@ import io.hexaglue.spi.stability.Stable;
  * Best-effort ordering group for plugin execution.
  *
  * <p>The compiler may use this to produce deterministic ordering when multiple plugins are present.
- * Plugins must not rely on ordering for correctness.</p>
+ * Plugins must not rely on ordering groups for correctness; ordering between specific plugins is
+ * declared with {@link HexaGluePlugin#dependsOn()} and {@link HexaGluePlugin#runsAfter()}.</p>
  */
 @Stable(since = "1.0.0")
 public enum PluginOrder {
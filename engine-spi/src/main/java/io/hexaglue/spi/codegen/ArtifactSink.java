@@ -12,6 +12,7 @@
  */
 package io.hexaglue.spi.codegen;
 
+import io.hexaglue.spi.stability.Experimental;
 import io.hexaglue.spi.stability.Stable;
 
 /**
@@ -22,6 +23,11 @@ import io.hexaglue.spi.stability.Stable;
  * diagnostics on conflicts.</p>
  *
  * <p>This interface is intentionally minimal and stable.</p>
+ *
+ * <p>Besides fully materialized artifacts, plugins may pass content producers
+ * ({@link TextContent}, {@link BinaryContent}) for large outputs. Sinks that stream artifacts
+ * to the output invoke the producer on the output directly; the default implementations
+ * materialize the content and delegate to the {@code write} methods.</p>
  */
 @Stable(since = "1.0.0")
 public interface ArtifactSink {
@@ -72,4 +78,52 @@ public interface ArtifactSink {
     default void writeDoc(String path, String content, MergeMode mergeMode) {
         write(DocFile.builder().path(path).content(content).mergeMode(mergeMode).build());
     }
+
+    /**
+     * Writes a generated Java source file whose content is produced on demand.
+     *
+     * @param qualifiedTypeName qualified name of the generated type
+     * @param mergeMode merge mode
+     * @param content content producer
+     */
+    @Experimental(since = "1.1.0")
+    default void writeSource(String qualifiedTypeName, MergeMode mergeMode, TextContent content) {
+        write(SourceFile.builder()
+                .qualifiedTypeName(qualifiedTypeName)
+                .content(content.asString())
+                .mergeMode(mergeMode)
+                .build());
+    }
+
+    /**
+     * Writes a generated binary resource whose content is produced on demand.
+     *
+     * @param path resource path
+     * @param mergeMode merge mode
+     * @param content content producer
+     */
+    @Experimental(since = "1.1.0")
+    default void writeResource(String path, MergeMode mergeMode, BinaryContent content) {
+        write(ResourceFile.builder()
+                .path(path)
+                .bytes(content.asBytes())
+                .mergeMode(mergeMode)
+                .build());
+    }
+
+    /**
+     * Writes a generated documentation file whose content is produced on demand.
+     *
+     * @param path documentation path
+     * @param mergeMode merge mode
+     * @param content content producer
+     */
+    @Experimental(since = "1.1.0")
+    default void writeDoc(String path, MergeMode mergeMode, TextContent content) {
+        write(DocFile.builder()
+                .path(path)
+                .content(content.asString())
+                .mergeMode(mergeMode)
+                .build());
+    }
 }
@@ -0,0 +1,60 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.spi.codegen;
+
+import io.hexaglue.spi.stability.Experimental;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Producer of binary artifact content, written directly to the output.
+ *
+ * <p>Lets a plugin generate large resources (e.g. diagrams) without holding them in a byte array.
+ * The compiler may invoke it at most once, at any time before the end of the generation phase, and
+ * on any thread; the producer must not depend on state that changes after the artifact is
+ * written.</p>
+ *
+ * @see ArtifactSink#writeResource(String, MergeMode, BinaryContent)
+ */
+@Experimental(since = "1.1.0")
+@FunctionalInterface
+public interface BinaryContent {
+
+    /**
+     * Writes the content.
+     *
+     * <p>The stream is owned by the caller; implementations must not close it.</p>
+     *
+     * @param out destination (never {@code null})
+     * @throws IOException if writing fails
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Materializes the content as a byte array.
+     *
+     * @return content (never {@code null})
+     * @throws UncheckedIOException if the producer fails
+     */
+    default byte[] asBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -12,9 +12,11 @@
  */
 package io.hexaglue.spi.diagnostics;
 
+import io.hexaglue.spi.stability.Experimental;
 import io.hexaglue.spi.stability.Stable;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Reporting interface for diagnostics.
@@ -47,6 +49,25 @@ public interface DiagnosticReporter {
         }
     }
 
+    /**
+     * Reports a diagnostic built only if the reporter keeps it.
+     *
+     * <p>Reporters may drop diagnostics of a low severity or too frequent code (see the compiler's
+     * diagnostic options). Use this method for frequent diagnostics whose message is costly to
+     * build: the supplier is not called when the diagnostic would be dropped.</p>
+     *
+     * <p>The default implementation always builds and reports the diagnostic.</p>
+     *
+     * @param severity severity of the diagnostic (never {@code null})
+     * @param code code of the diagnostic (never {@code null})
+     * @param diagnostic builds the diagnostic, which must have the given severity and code (never {@code null})
+     */
+    @Experimental(since = "1.1.0")
+    default void report(DiagnosticSeverity severity, DiagnosticCode code, Supplier<Diagnostic> diagnostic) {
+        Objects.requireNonNull(diagnostic, "diagnostic");
+        report(diagnostic.get());
+    }
+
     /**
      * Convenience method to report an error.
      *
@@ -15,7 +15,9 @@ package io.hexaglue.spi.ir;
 import io.hexaglue.spi.ir.app.ApplicationModelView;
 import io.hexaglue.spi.ir.domain.DomainModelView;
 import io.hexaglue.spi.ir.ports.PortModelView;
+import io.hexaglue.spi.stability.Experimental;
 import io.hexaglue.spi.stability.Stable;
+import java.util.List;
 
 /**
  * Root read-only view of HexaGlue's Intermediate Representation (IR).
@@ -60,4 +62,41 @@ public interface IrView {
      * @return application model view (never {@code null})
      */
     ApplicationModelView application();
+
+    /**
+     * Returns the graph of type references between domain types, ports and the types they use.
+     *
+     * <p>The default implementation walks {@link #domain()} and {@link #ports()} on every call.
+     * The view provided by the compiler builds the graph once per compilation round and returns
+     * the same instance.</p>
+     *
+     * @return type-reference graph (never {@code null})
+     */
+    @Experimental(since = "1.1.0")
+    default TypeReferenceGraph typeReferences() {
+        return TypeReferenceGraph.of(this);
+    }
+
+    /**
+     * Returns every domain property, identity, super type, interface and port method signature
+     * that refers to the given type.
+     *
+     * @param qualifiedName qualified name of the referenced type (non-blank)
+     * @return immutable list of incoming references (never {@code null})
+     */
+    @Experimental(since = "1.1.0")
+    default List<TypeReference> referencesTo(String qualifiedName) {
+        return typeReferences().referencesTo(qualifiedName);
+    }
+
+    /**
+     * Returns the types that the given domain type or port refers to.
+     *
+     * @param qualifiedName qualified name of a domain type or port (non-blank)
+     * @return immutable list of outgoing references (never {@code null})
+     */
+    @Experimental(since = "1.1.0")
+    default List<TypeReference> dependenciesOf(String qualifiedName) {
+        return typeReferences().dependenciesOf(qualifiedName);
+    }
 }
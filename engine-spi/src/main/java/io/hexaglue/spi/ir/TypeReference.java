@@ -0,0 +1,105 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.spi.ir;
+
+import io.hexaglue.spi.stability.Experimental;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A single edge of the type-reference graph: a domain type or port that refers to another type.
+ *
+ * <p>For example, a property {@code List<OrderLine> lines} declared by {@code com.example.Order}
+ * yields two references with source {@code com.example.Order}, kind
+ * {@link TypeReferenceKind#PROPERTY} and member {@code lines}: one to {@code java.util.List} and
+ * one to {@code com.example.OrderLine}.</p>
+ *
+ * <p>Instances are immutable value objects.</p>
+ *
+ * @since 1.1.0
+ */
+@Experimental(since = "1.1.0")
+public final class TypeReference {
+
+    private final String source;
+    private final TypeReferenceKind kind;
+    private final String member;
+    private final String target;
+
+    private TypeReference(String source, TypeReferenceKind kind, String member, String target) {
+        this.source = requireNonBlank(source, "source");
+        this.kind = Objects.requireNonNull(kind, "kind");
+        this.member = (member == null || member.isBlank()) ? null : member.trim();
+        this.target = requireNonBlank(target, "target");
+    }
+
+    /**
+     * Creates a type reference.
+     *
+     * @param source qualified name of the referencing domain type or port (non-blank)
+     * @param kind where the reference occurs (never {@code null})
+     * @param member property, identity or method name (nullable)
+     * @param target qualified name of the referenced type (non-blank)
+     * @return type reference
+     */
+    public static TypeReference of(String source, TypeReferenceKind kind, String member, String target) {
+        return new TypeReference(source, kind, member, target);
+    }
+
+    /** @return qualified name of the referencing domain type or port */
+    public String source() {
+        return source;
+    }
+
+    /** @return where the reference occurs */
+    public TypeReferenceKind kind() {
+        return kind;
+    }
+
+    /** @return property, identity or method name, if the reference occurs in a member */
+    public Optional<String> member() {
+        return Optional.ofNullable(member);
+    }
+
+    /** @return qualified name of the referenced type */
+    public String target() {
+        return target;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof TypeReference other)) return false;
+        return source.equals(other.source)
+                && kind == other.kind
+                && Objects.equals(member, other.member)
+                && target.equals(other.target);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, kind, member, target);
+    }
+
+    @Override
+    public String toString() {
+        return source + (member == null ? "" : "#" + member) + " -" + kind + "-> " + target;
+    }
+
+    private static String requireNonBlank(String v, String label) {
+        Objects.requireNonNull(v, label);
+        String t = v.trim();
+        if (t.isEmpty()) throw new IllegalArgumentException(label + " must not be blank");
+        return t;
+    }
+}
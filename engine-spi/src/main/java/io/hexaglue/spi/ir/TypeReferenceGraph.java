@@ -0,0 +1,168 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.spi.ir;
+
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.stability.Experimental;
+import io.hexaglue.spi.types.TypeRef;
+import io.hexaglue.spi.util.TypeReferences;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable graph of the type references between domain types, ports and the types they use.
+ *
+ * <p>The graph is built once from its edges and keeps precomputed adjacency lists in both
+ * directions, so {@link #referencesTo(String)} and {@link #dependenciesOf(String)} are hash
+ * lookups. Edges keep the order in which they were added.</p>
+ *
+ * <p>Instances are immutable and safe for concurrent use.</p>
+ *
+ * @since 1.1.0
+ */
+@Experimental(since = "1.1.0")
+public final class TypeReferenceGraph {
+
+    private static final TypeReferenceGraph EMPTY = new TypeReferenceGraph(List.of());
+
+    private final List<TypeReference> references;
+    private final Map<String, List<TypeReference>> byTarget;
+    private final Map<String, List<TypeReference>> bySource;
+
+    private TypeReferenceGraph(List<TypeReference> references) {
+        this.references = List.copyOf(references);
+        Map<String, List<TypeReference>> targets = new HashMap<>();
+        Map<String, List<TypeReference>> sources = new HashMap<>();
+        for (TypeReference reference : this.references) {
+            targets.computeIfAbsent(reference.target(), k -> new ArrayList<>()).add(reference);
+            sources.computeIfAbsent(reference.source(), k -> new ArrayList<>()).add(reference);
+        }
+        targets.replaceAll((k, v) -> List.copyOf(v));
+        sources.replaceAll((k, v) -> List.copyOf(v));
+        this.byTarget = targets;
+        this.bySource = sources;
+    }
+
+    /**
+     * Returns an empty graph.
+     *
+     * @return empty graph
+     */
+    public static TypeReferenceGraph empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a graph from its edges.
+     *
+     * @param references edges (never {@code null}, no {@code null} elements)
+     * @return type-reference graph
+     */
+    public static TypeReferenceGraph of(Collection<TypeReference> references) {
+        Objects.requireNonNull(references, "references");
+        return references.isEmpty() ? EMPTY : new TypeReferenceGraph(new ArrayList<>(references));
+    }
+
+    /**
+     * Builds the graph of an IR view by walking every domain type and port.
+     *
+     * <p>Domain types contribute their property, identity, super type and interface types;
+     * ports contribute their method return and parameter types. Type references are walked
+     * structurally, see {@link TypeReferences}.</p>
+     *
+     * @param ir IR view (never {@code null})
+     * @return type-reference graph
+     */
+    public static TypeReferenceGraph of(IrView ir) {
+        Objects.requireNonNull(ir, "ir");
+        List<TypeReference> references = new ArrayList<>();
+        for (DomainTypeView type : ir.domain().allTypes()) {
+            String source = type.qualifiedName();
+            for (DomainPropertyView property : type.properties()) {
+                add(references, source, TypeReferenceKind.PROPERTY, property.name(), property.type());
+            }
+            type.id().ifPresent(id -> add(references, source, TypeReferenceKind.IDENTITY, id.name(), id.type()));
+            type.superType()
+                    .ifPresent(superType -> add(references, source, TypeReferenceKind.SUPERTYPE, null, superType));
+            for (TypeRef iface : type.interfaces()) {
+                add(references, source, TypeReferenceKind.INTERFACE, null, iface);
+            }
+        }
+        for (PortView port : ir.ports().allPorts()) {
+            String source = port.qualifiedName();
+            for (PortMethodView method : port.methods()) {
+                add(references, source, TypeReferenceKind.METHOD_RETURN, method.name(), method.returnType());
+                for (PortParameterView parameter : method.parameters()) {
+                    add(references, source, TypeReferenceKind.METHOD_PARAMETER, method.name(), parameter.type());
+                }
+            }
+        }
+        return of(references);
+    }
+
+    /**
+     * Returns the references pointing to the given type.
+     *
+     * @param qualifiedName qualified name of the referenced type (non-blank)
+     * @return immutable list of incoming references (never {@code null})
+     */
+    public List<TypeReference> referencesTo(String qualifiedName) {
+        return byTarget.getOrDefault(requireQualifiedName(qualifiedName), List.of());
+    }
+
+    /**
+     * Returns the references declared by the given domain type or port.
+     *
+     * @param qualifiedName qualified name of the referencing type (non-blank)
+     * @return immutable list of outgoing references (never {@code null})
+     */
+    public List<TypeReference> dependenciesOf(String qualifiedName) {
+        return bySource.getOrDefault(requireQualifiedName(qualifiedName), List.of());
+    }
+
+    /**
+     * Returns every edge of the graph.
+     *
+     * @return immutable list of references (never {@code null})
+     */
+    public List<TypeReference> all() {
+        return references;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeReferenceGraph{references=" + references.size() + ", targets=" + byTarget.size() + "}";
+    }
+
+    private static void add(
+            List<TypeReference> references, String source, TypeReferenceKind kind, String member, TypeRef type) {
+        for (String target : TypeReferences.of(type)) {
+            references.add(TypeReference.of(source, kind, member, target));
+        }
+    }
+
+    private static String requireQualifiedName(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        String qn = qualifiedName.trim();
+        if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
+        return qn;
+    }
+}
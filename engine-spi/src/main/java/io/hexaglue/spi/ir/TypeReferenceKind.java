@@ -0,0 +1,42 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.spi.ir;
+
+import io.hexaglue.spi.stability.Experimental;
+
+/**
+ * Where a {@link TypeReference} occurs in its source element.
+ *
+ * @since 1.1.0
+ */
+@Experimental(since = "1.1.0")
+public enum TypeReferenceKind {
+
+    /** Type of a domain property; the member is the property name. */
+    PROPERTY,
+
+    /** Type of a domain identity; the member is the identity name. */
+    IDENTITY,
+
+    /** Super type of a domain type; there is no member. */
+    SUPERTYPE,
+
+    /** Interface implemented by a domain type; there is no member. */
+    INTERFACE,
+
+    /** Return type of a port method; the member is the method name. */
+    METHOD_RETURN,
+
+    /** Parameter type of a port method; the member is the method name. */
+    METHOD_PARAMETER
+}
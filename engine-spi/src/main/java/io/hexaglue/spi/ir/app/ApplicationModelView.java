@@ -13,7 +13,9 @@
 package io.hexaglue.spi.ir.app;
 
 import io.hexaglue.spi.stability.Stable;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -82,14 +84,19 @@ public interface ApplicationModelView {
     /**
      * Creates a simple immutable {@link ApplicationModelView} instance.
      *
-     * <p>This factory is intended for tests and tooling.</p>
+     * <p>This factory is intended for tests and tooling. Services are indexed by qualified name.</p>
      *
      * @param services services list (nullable)
      * @return application model view
      */
     static ApplicationModelView of(List<ApplicationServiceView> services) {
         final List<ApplicationServiceView> ss = (services == null) ? List.of() : List.copyOf(services);
-        for (ApplicationServiceView s : ss) Objects.requireNonNull(s, "services contains null");
+        final Map<String, ApplicationServiceView> byName = new HashMap<>();
+        for (ApplicationServiceView s : ss) {
+            Objects.requireNonNull(s, "services contains null");
+            // First occurrence wins, like a list scan
+            byName.putIfAbsent(s.qualifiedName(), s);
+        }
 
         return new ApplicationModelView() {
             @Override
@@ -102,10 +109,7 @@ public interface ApplicationModelView {
                 Objects.requireNonNull(qualifiedName, "qualifiedName");
                 String qn = qualifiedName.trim();
                 if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
-                for (ApplicationServiceView s : ss) {
-                    if (qn.equals(s.qualifiedName())) return Optional.of(s);
-                }
-                return Optional.empty();
+                return Optional.ofNullable(byName.get(qn));
             }
         };
     }
@@ -12,7 +12,10 @@
  */
 package io.hexaglue.spi.ir.domain;
 
+import io.hexaglue.spi.stability.Experimental;
 import io.hexaglue.spi.stability.Stable;
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.util.TypeReferences;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -63,54 +66,67 @@ public interface DomainModelView {
      */
     Optional<DomainServiceView> findService(String qualifiedName);
 
+    /**
+     * Returns the domain types of the given kind, in declaration order.
+     *
+     * <p>The default implementation scans {@link #allTypes()}; the views provided by the
+     * compiler answer from an index.</p>
+     *
+     * @param kind domain type kind (never {@code null})
+     * @return immutable list of matching types (never {@code null})
+     */
+    @Experimental(since = "1.1.0")
+    default List<DomainTypeView> typesOfKind(DomainTypeKind kind) {
+        Objects.requireNonNull(kind, "kind");
+        return allTypes().stream().filter(t -> t.kind() == kind).toList();
+    }
+
+    /**
+     * Returns the domain types declared in the given package or one of its sub-packages, in
+     * declaration order.
+     *
+     * @param packagePrefix package prefix (never {@code null}; blank matches every type)
+     * @return immutable list of matching types (never {@code null})
+     * @see TypeName#isInPackage(String)
+     */
+    @Experimental(since = "1.1.0")
+    default List<DomainTypeView> typesInPackage(String packagePrefix) {
+        Objects.requireNonNull(packagePrefix, "packagePrefix");
+        return allTypes().stream()
+                .filter(t -> TypeName.of(t.qualifiedName()).isInPackage(packagePrefix))
+                .toList();
+    }
+
+    /**
+     * Returns the domain types that refer to the given type through their properties, identity,
+     * super type or interfaces, in declaration order.
+     *
+     * @param qualifiedName qualified name of the referenced type (non-blank)
+     * @return immutable list of referencing types (never {@code null})
+     * @see TypeReferences#of(DomainTypeView)
+     */
+    @Experimental(since = "1.1.0")
+    default List<DomainTypeView> typesReferencing(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        String qn = qualifiedName.trim();
+        if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
+        return allTypes().stream()
+                .filter(t -> TypeReferences.of(t).contains(qn))
+                .toList();
+    }
+
     /**
      * Creates a simple immutable {@link DomainModelView} instance.
      *
-     * <p>This factory is intended for tests and tooling.</p>
+     * <p>This factory is intended for tests and tooling. Lookups by name and kind are answered
+     * from indexes built once by this method.</p>
      *
      * @param types domain types (nullable)
      * @param services domain services (nullable)
      * @return domain model view
      */
     static DomainModelView of(List<DomainTypeView> types, List<DomainServiceView> services) {
-        final List<DomainTypeView> ts = (types == null) ? List.of() : List.copyOf(types);
-        final List<DomainServiceView> ss = (services == null) ? List.of() : List.copyOf(services);
-
-        for (DomainTypeView t : ts) Objects.requireNonNull(t, "types contains null");
-        for (DomainServiceView s : ss) Objects.requireNonNull(s, "services contains null");
-
-        return new DomainModelView() {
-            @Override
-            public List<DomainTypeView> allTypes() {
-                return ts;
-            }
-
-            @Override
-            public Optional<DomainTypeView> findType(String qualifiedName) {
-                Objects.requireNonNull(qualifiedName, "qualifiedName");
-                String qn = qualifiedName.trim();
-                if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
-                for (DomainTypeView t : ts) {
-                    if (qn.equals(t.qualifiedName())) return Optional.of(t);
-                }
-                return Optional.empty();
-            }
-
-            @Override
-            public List<DomainServiceView> allServices() {
-                return ss;
-            }
-
-            @Override
-            public Optional<DomainServiceView> findService(String qualifiedName) {
-                Objects.requireNonNull(qualifiedName, "qualifiedName");
-                String qn = qualifiedName.trim();
-                if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
-                for (DomainServiceView s : ss) {
-                    if (qn.equals(s.qualifiedName())) return Optional.of(s);
-                }
-                return Optional.empty();
-            }
-        };
+        return new IndexedDomainModelView(
+                (types == null) ? List.of() : types, (services == null) ? List.of() : services);
     }
 }
@@ -0,0 +1,134 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.spi.ir.domain;
+
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.util.TypeReferences;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable {@link DomainModelView} returned by {@link DomainModelView#of(List, List)}.
+ *
+ * <p>Name and kind lookups are hash lookups over indexes built at construction. The reverse
+ * reference index behind {@link #typesReferencing(String)} is built on first use; concurrent
+ * first calls may build it more than once, but all callers observe an equivalent index.</p>
+ */
+final class IndexedDomainModelView implements DomainModelView {
+
+    private final List<DomainTypeView> types;
+    private final List<DomainServiceView> services;
+    private final Map<String, DomainTypeView> typesByName;
+    private final Map<String, DomainServiceView> servicesByName;
+    private final Map<DomainTypeKind, List<DomainTypeView>> typesByKind;
+    private final List<TypeName> typeNames;
+    private volatile Map<String, List<DomainTypeView>> referencingTypes;
+
+    IndexedDomainModelView(List<DomainTypeView> types, List<DomainServiceView> services) {
+        this.types = List.copyOf(types);
+        this.services = List.copyOf(services);
+        for (DomainTypeView t : this.types) Objects.requireNonNull(t, "types contains null");
+        for (DomainServiceView s : this.services) Objects.requireNonNull(s, "services contains null");
+
+        Map<String, DomainTypeView> byName = new HashMap<>();
+        Map<DomainTypeKind, List<DomainTypeView>> byKind = new EnumMap<>(DomainTypeKind.class);
+        List<TypeName> names = new ArrayList<>(this.types.size());
+        for (DomainTypeView t : this.types) {
+            // First occurrence wins, like a list scan
+            byName.putIfAbsent(t.qualifiedName(), t);
+            byKind.computeIfAbsent(t.kind(), k -> new ArrayList<>()).add(t);
+            names.add(TypeName.of(t.qualifiedName()));
+        }
+        byKind.replaceAll((k, v) -> List.copyOf(v));
+
+        Map<String, DomainServiceView> servicesByName = new HashMap<>();
+        for (DomainServiceView s : this.services) {
+            servicesByName.putIfAbsent(s.qualifiedName(), s);
+        }
+
+        this.typesByName = byName;
+        this.typesByKind = byKind;
+        this.typeNames = names;
+        this.servicesByName = servicesByName;
+    }
+
+    @Override
+    public List<DomainTypeView> allTypes() {
+        return types;
+    }
+
+    @Override
+    public Optional<DomainTypeView> findType(String qualifiedName) {
+        return Optional.ofNullable(typesByName.get(requireQualifiedName(qualifiedName)));
+    }
+
+    @Override
+    public List<DomainServiceView> allServices() {
+        return services;
+    }
+
+    @Override
+    public Optional<DomainServiceView> findService(String qualifiedName) {
+        return Optional.ofNullable(servicesByName.get(requireQualifiedName(qualifiedName)));
+    }
+
+    @Override
+    public List<DomainTypeView> typesOfKind(DomainTypeKind kind) {
+        Objects.requireNonNull(kind, "kind");
+        return typesByKind.getOrDefault(kind, List.of());
+    }
+
+    @Override
+    public List<DomainTypeView> typesInPackage(String packagePrefix) {
+        Objects.requireNonNull(packagePrefix, "packagePrefix");
+        List<DomainTypeView> result = new ArrayList<>();
+        for (int i = 0; i < types.size(); i++) {
+            if (typeNames.get(i).isInPackage(packagePrefix)) {
+                result.add(types.get(i));
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    @Override
+    public List<DomainTypeView> typesReferencing(String qualifiedName) {
+        return referencingTypes().getOrDefault(requireQualifiedName(qualifiedName), List.of());
+    }
+
+    private Map<String, List<DomainTypeView>> referencingTypes() {
+        Map<String, List<DomainTypeView>> result = referencingTypes;
+        if (result == null) {
+            Map<String, List<DomainTypeView>> built = new HashMap<>();
+            for (DomainTypeView t : types) {
+                for (String referenced : TypeReferences.of(t)) {
+                    built.computeIfAbsent(referenced, k -> new ArrayList<>()).add(t);
+                }
+            }
+            built.replaceAll((k, v) -> List.copyOf(v));
+            referencingTypes = result = built;
+        }
+        return result;
+    }
+
+    private static String requireQualifiedName(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        String qn = qualifiedName.trim();
+        if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
+        return qn;
+    }
+}
@@ -11,6 +11,7 @@
  *   <li>domain model view</li>
  *   <li>ports model view</li>
  *   <li>application services model view (optional)</li>
+ *   <li>type-reference graph ({@link io.hexaglue.spi.ir.TypeReferenceGraph}, experimental)</li>
  * </ul>
  */
 package io.hexaglue.spi.ir;
@@ -0,0 +1,114 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.spi.ir.ports;
+
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.util.TypeReferences;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable {@link PortModelView} returned by {@link PortModelView#of(List)}.
+ *
+ * <p>Name and direction lookups are hash lookups over indexes built at construction. The reverse
+ * reference index behind {@link #portsReferencing(String)} is built on first use; concurrent
+ * first calls may build it more than once, but all callers observe an equivalent index.</p>
+ */
+final class IndexedPortModelView implements PortModelView {
+
+    private final List<PortView> ports;
+    private final Map<String, PortView> portsByName;
+    private final Map<PortDirection, List<PortView>> portsByDirection;
+    private final List<TypeName> portNames;
+    private volatile Map<String, List<PortView>> referencingPorts;
+
+    IndexedPortModelView(List<PortView> ports) {
+        this.ports = List.copyOf(ports);
+        for (PortView p : this.ports) Objects.requireNonNull(p, "ports contains null");
+
+        Map<String, PortView> byName = new HashMap<>();
+        Map<PortDirection, List<PortView>> byDirection = new EnumMap<>(PortDirection.class);
+        List<TypeName> names = new ArrayList<>(this.ports.size());
+        for (PortView p : this.ports) {
+            // First occurrence wins, like a list scan
+            byName.putIfAbsent(p.qualifiedName(), p);
+            byDirection.computeIfAbsent(p.direction(), k -> new ArrayList<>()).add(p);
+            names.add(TypeName.of(p.qualifiedName()));
+        }
+        byDirection.replaceAll((k, v) -> List.copyOf(v));
+
+        this.portsByName = byName;
+        this.portsByDirection = byDirection;
+        this.portNames = names;
+    }
+
+    @Override
+    public List<PortView> allPorts() {
+        return ports;
+    }
+
+    @Override
+    public List<PortView> allPorts(PortDirection direction) {
+        Objects.requireNonNull(direction, "direction");
+        return portsByDirection.getOrDefault(direction, List.of());
+    }
+
+    @Override
+    public Optional<PortView> findPort(String qualifiedName) {
+        return Optional.ofNullable(portsByName.get(requireQualifiedName(qualifiedName)));
+    }
+
+    @Override
+    public List<PortView> portsInPackage(String packagePrefix) {
+        Objects.requireNonNull(packagePrefix, "packagePrefix");
+        List<PortView> result = new ArrayList<>();
+        for (int i = 0; i < ports.size(); i++) {
+            if (portNames.get(i).isInPackage(packagePrefix)) {
+                result.add(ports.get(i));
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    @Override
+    public List<PortView> portsReferencing(String qualifiedName) {
+        return referencingPorts().getOrDefault(requireQualifiedName(qualifiedName), List.of());
+    }
+
+    private Map<String, List<PortView>> referencingPorts() {
+        Map<String, List<PortView>> result = referencingPorts;
+        if (result == null) {
+            Map<String, List<PortView>> built = new HashMap<>();
+            for (PortView p : ports) {
+                for (String referenced : TypeReferences.of(p)) {
+                    built.computeIfAbsent(referenced, k -> new ArrayList<>()).add(p);
+                }
+            }
+            built.replaceAll((k, v) -> List.copyOf(v));
+            referencingPorts = result = built;
+        }
+        return result;
+    }
+
+    private static String requireQualifiedName(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        String qn = qualifiedName.trim();
+        if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
+        return qn;
+    }
+}
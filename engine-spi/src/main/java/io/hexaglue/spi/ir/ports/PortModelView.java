@@ -12,7 +12,10 @@
  */
 package io.hexaglue.spi.ir.ports;
 
+import io.hexaglue.spi.stability.Experimental;
 import io.hexaglue.spi.stability.Stable;
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.util.TypeReferences;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -54,34 +57,52 @@ public interface PortModelView {
      */
     Optional<PortView> findPort(String qualifiedName);
 
+    /**
+     * Returns the ports declared in the given package or one of its sub-packages, in
+     * declaration order.
+     *
+     * <p>The default implementation scans {@link #allPorts()}; the views provided by the
+     * compiler answer from an index.</p>
+     *
+     * @param packagePrefix package prefix (never {@code null}; blank matches every port)
+     * @return immutable list of matching ports (never {@code null})
+     * @see TypeName#isInPackage(String)
+     */
+    @Experimental(since = "1.1.0")
+    default List<PortView> portsInPackage(String packagePrefix) {
+        Objects.requireNonNull(packagePrefix, "packagePrefix");
+        return allPorts().stream()
+                .filter(p -> TypeName.of(p.qualifiedName()).isInPackage(packagePrefix))
+                .toList();
+    }
+
+    /**
+     * Returns the ports whose method signatures refer to the given type, in declaration order.
+     *
+     * @param qualifiedName qualified name of the referenced type (non-blank)
+     * @return immutable list of referencing ports (never {@code null})
+     * @see TypeReferences#of(PortView)
+     */
+    @Experimental(since = "1.1.0")
+    default List<PortView> portsReferencing(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        String qn = qualifiedName.trim();
+        if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
+        return allPorts().stream()
+                .filter(p -> TypeReferences.of(p).contains(qn))
+                .toList();
+    }
+
     /**
      * Creates a simple immutable {@link PortModelView} instance.
      *
-     * <p>This factory is intended for tests and tooling.</p>
+     * <p>This factory is intended for tests and tooling. Lookups by name and direction are
+     * answered from indexes built once by this method.</p>
      *
      * @param ports ports list (nullable)
      * @return port model view
      */
     static PortModelView of(List<PortView> ports) {
-        final List<PortView> ps = (ports == null) ? List.of() : List.copyOf(ports);
-        for (PortView p : ps) Objects.requireNonNull(p, "ports contains null");
-
-        return new PortModelView() {
-            @Override
-            public List<PortView> allPorts() {
-                return ps;
-            }
-
-            @Override
-            public Optional<PortView> findPort(String qualifiedName) {
-                Objects.requireNonNull(qualifiedName, "qualifiedName");
-                String qn = qualifiedName.trim();
-                if (qn.isEmpty()) throw new IllegalArgumentException("qualifiedName must not be blank");
-                for (PortView p : ps) {
-                    if (qn.equals(p.qualifiedName())) return Optional.of(p);
-                }
-                return Optional.empty();
-            }
-        };
+        return new IndexedPortModelView((ports == null) ? List.of() : ports);
     }
 }
@@ -12,7 +12,10 @@
  */
 package io.hexaglue.spi.options;
 
+import io.hexaglue.spi.stability.Experimental;
 import io.hexaglue.spi.stability.Stable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -190,6 +193,46 @@ public interface OptionsView {
             return v.present() ? v.value() : defaultValue;
         }
 
+        /**
+         * Resolves a per-property option of a domain type.
+         *
+         * <p>Equivalent to {@code get("types.<typeFqn>.properties.<propertyName>.<path>", type)}.
+         * Views backed by a pre-indexed store resolve it without building the flattened key.</p>
+         *
+         * @param typeFqn fully qualified domain type name
+         * @param propertyName property name
+         * @param path dot-separated path relative to the property (e.g. {@code column.length})
+         * @param type expected decoded type
+         * @param <T> value type
+         * @return option value (never {@code null})
+         * @since 1.1.0
+         */
+        @Experimental(since = "1.1.0")
+        default <T> OptionValue<T> getPropertyOption(String typeFqn, String propertyName, String path, Class<T> type) {
+            Objects.requireNonNull(typeFqn, "typeFqn");
+            Objects.requireNonNull(propertyName, "propertyName");
+            Objects.requireNonNull(path, "path");
+            return get("types." + typeFqn + ".properties." + propertyName + "." + path, type);
+        }
+
+        /**
+         * Returns every per-property option configured for a domain type.
+         *
+         * <p>The result maps each property name to its options, keyed by dot-separated path relative
+         * to the property (e.g. {@code column.length}). Values are the raw configured values, in
+         * declaration order where the backing store keeps it. Views that cannot enumerate their
+         * options return an empty map.</p>
+         *
+         * @param typeFqn fully qualified domain type name
+         * @return immutable map of property name to options (never {@code null})
+         * @since 1.1.0
+         */
+        @Experimental(since = "1.1.0")
+        default Map<String, Map<String, Object>> propertyOptions(String typeFqn) {
+            Objects.requireNonNull(typeFqn, "typeFqn");
+            return Map.of();
+        }
+
         /**
          * Creates a plugin-bound view backed by a parent {@link OptionsView}.
          *
@@ -226,6 +269,25 @@ public interface OptionsView {
                     // Key equality includes type; resolve using the provided expected type.
                     return parent.get(OptionKey.plugin(pid, n, type));
                 }
+
+                @Override
+                public Map<String, Map<String, Object>> propertyOptions(String typeFqn) {
+                    Objects.requireNonNull(typeFqn, "typeFqn");
+                    String prefix = "types." + typeFqn.trim() + ".properties.";
+                    Map<String, Map<String, Object>> out = new LinkedHashMap<>();
+                    for (OptionKey<?> k : parent.keys(OptionScope.PLUGIN)) {
+                        if (!pid.equals(k.pluginId().orElse(null)) || !k.name().startsWith(prefix)) continue;
+                        String rest = k.name().substring(prefix.length());
+                        int dot = rest.indexOf('.');
+                        if (dot <= 0 || dot == rest.length() - 1) continue;
+                        OptionValue<?> v = parent.get(k);
+                        if (!v.present()) continue;
+                        out.computeIfAbsent(rest.substring(0, dot), p -> new LinkedHashMap<>())
+                                .put(rest.substring(dot + 1), v.value());
+                    }
+                    out.replaceAll((p, options) -> Collections.unmodifiableMap(options));
+                    return Collections.unmodifiableMap(out);
+                }
             };
         }
 
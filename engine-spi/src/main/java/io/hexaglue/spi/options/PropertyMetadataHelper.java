@@ -12,6 +12,9 @@
  */
 package io.hexaglue.spi.options;
 
+import io.hexaglue.spi.stability.Experimental;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -83,8 +86,9 @@ public final class PropertyMetadataHelper {
     /**
      * Gets a specific property metadata value.
      *
-     * <p>Constructs the option key {@code types.<typeFqn>.properties.<propertyName>.<metadataPath>}
-     * and retrieves the value if present in the configuration.</p>
+     * <p>Resolves the option {@code types.<typeFqn>.properties.<propertyName>.<metadataPath>}
+     * through {@link OptionsView.PluginOptionsView#getPropertyOption} and retrieves the value if
+     * present in the configuration.</p>
      *
      * @param options plugin options view
      * @param typeFqn fully qualified domain type name
@@ -107,8 +111,8 @@ public final class PropertyMetadataHelper {
         Objects.requireNonNull(metadataPath, "metadataPath");
         Objects.requireNonNull(type, "type");
 
-        String key = buildPropertyMetadataKey(typeFqn, propertyName, metadataPath);
-        return Optional.ofNullable(options.getOrDefault(key, type, null));
+        OptionValue<T> value = options.getPropertyOption(typeFqn, propertyName, metadataPath, type);
+        return value.present() ? Optional.ofNullable(value.value()) : Optional.empty();
     }
 
     /**
@@ -117,6 +121,10 @@ public final class PropertyMetadataHelper {
      * <p>Useful for accessing multiple related metadata values without separate calls.
      * Returns an empty map if the section is not configured.</p>
      *
+     * <p>When the options store keeps only flattened leaves (as the {@code hexaglue.yaml} parser
+     * does), the section is rebuilt from {@link #getAllPropertyMetadata}; nested entries below the
+     * section are then keyed by their dot-separated relative path.</p>
+     *
      * <p><strong>Example:</strong>
      * <pre>{@code
      * Map<String, Object> column = getPropertyConfig(options, "Customer", "email", "column");
@@ -139,7 +147,52 @@ public final class PropertyMetadataHelper {
         Objects.requireNonNull(section, "section");
 
         String key = buildPropertyMetadataKey(typeFqn, propertyName, section);
-        return options.getOrDefault(key, Map.class, Map.of());
+        Map<String, Object> config = options.getOrDefault(key, Map.class, null);
+        if (config != null) {
+            return config;
+        }
+
+        Map<String, Object> property = options.propertyOptions(typeFqn).get(propertyName);
+        if (property == null) {
+            return Map.of();
+        }
+        String prefix = section + ".";
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> e : property.entrySet()) {
+            if (e.getKey().startsWith(prefix)) {
+                out.put(e.getKey().substring(prefix.length()), e.getValue());
+            }
+        }
+        return out.isEmpty() ? Map.of() : Collections.unmodifiableMap(out);
+    }
+
+    /**
+     * Gets every property metadata entry configured for a type in a single lookup.
+     *
+     * <p>Plugins that inspect several properties of the same type should prefer this over
+     * repeated {@link #getPropertyMetadata} calls. The result maps each property name to its
+     * metadata, keyed by dot-separated path (e.g. {@code column.length}); values are the raw
+     * configured values and are not coerced.</p>
+     *
+     * <p><strong>Example:</strong>
+     * <pre>{@code
+     * Map<String, Map<String, Object>> all = getAllPropertyMetadata(options, "com.example.domain.Customer");
+     * // all = {email={column.length=255, column.unique=true}}
+     * }</pre>
+     *
+     * @param options plugin options view
+     * @param typeFqn fully qualified domain type name
+     * @return immutable map of property name to metadata (empty if none configured)
+     * @throws NullPointerException if any parameter is null
+     * @since 1.1.0
+     */
+    @Experimental(since = "1.1.0")
+    public static Map<String, Map<String, Object>> getAllPropertyMetadata(
+            OptionsView.PluginOptionsView options, String typeFqn) {
+        Objects.requireNonNull(options, "options");
+        Objects.requireNonNull(typeFqn, "typeFqn");
+
+        return options.propertyOptions(typeFqn);
     }
 
     /**
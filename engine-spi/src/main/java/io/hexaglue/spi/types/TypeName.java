@@ -12,6 +12,7 @@
  */
 package io.hexaglue.spi.types;
 
+import io.hexaglue.spi.stability.Experimental;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -73,6 +74,26 @@ public final class TypeName implements Comparable<TypeName> {
         return value.substring(idx + 1);
     }
 
+    /**
+     * Returns whether this name is declared in the given package or one of its sub-packages.
+     *
+     * <p>Matching follows package segments: {@code "com.example"} matches
+     * {@code "com.example.Order"} and {@code "com.example.sales.Order"} but not
+     * {@code "com.examples.Order"}. A blank prefix matches every name.</p>
+     *
+     * @param packagePrefix package prefix (never {@code null})
+     * @return {@code true} if this name lies under {@code packagePrefix}
+     */
+    @Experimental(since = "1.1.0")
+    public boolean isInPackage(String packagePrefix) {
+        Objects.requireNonNull(packagePrefix, "packagePrefix");
+        String prefix = packagePrefix.trim();
+        if (prefix.isEmpty()) return true;
+        int idx = value.lastIndexOf('.');
+        if (idx < prefix.length() || !value.startsWith(prefix)) return false;
+        return idx == prefix.length() || value.charAt(prefix.length()) == '.';
+    }
+
     /**
      * Returns whether this type name looks qualified (contains a dot).
      *
@@ -0,0 +1,121 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.spi.util;
+
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.stability.Experimental;
+import io.hexaglue.spi.types.ArrayRef;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeRef;
+import io.hexaglue.spi.types.WildcardRef;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Utilities for collecting the class types a model element refers to.
+ *
+ * <p>References are collected structurally: the raw type and the type arguments of a
+ * parameterized type, the component type of an array and the bound of a wildcard. Type
+ * variables and primitives contribute nothing. Matching on collected qualified names avoids
+ * the false positives of string matching (e.g. "Customer" matching "CustomerOrder").</p>
+ *
+ * <p>All methods are thread-safe and return immutable sets in encounter order.</p>
+ *
+ * @since 1.1.0
+ */
+@Experimental(since = "1.1.0")
+public final class TypeReferences {
+
+    private TypeReferences() {
+        // utility class
+    }
+
+    /**
+     * Returns the qualified names of all class types used by a type reference.
+     *
+     * @param type type reference (never {@code null})
+     * @return referenced qualified names (never {@code null})
+     */
+    public static Set<String> of(TypeRef type) {
+        Set<String> sink = new LinkedHashSet<>();
+        collect(type, sink);
+        return java.util.Collections.unmodifiableSet(sink);
+    }
+
+    /**
+     * Returns the qualified names of all class types a domain type refers to through its
+     * properties, identity, super type and interfaces.
+     *
+     * @param type domain type (never {@code null})
+     * @return referenced qualified names (never {@code null})
+     */
+    public static Set<String> of(DomainTypeView type) {
+        Objects.requireNonNull(type, "type");
+        Set<String> sink = new LinkedHashSet<>();
+        for (DomainPropertyView property : type.properties()) {
+            collect(property.type(), sink);
+        }
+        type.id().ifPresent(id -> collect(id.type(), sink));
+        type.superType().ifPresent(superType -> collect(superType, sink));
+        for (TypeRef iface : type.interfaces()) {
+            collect(iface, sink);
+        }
+        return java.util.Collections.unmodifiableSet(sink);
+    }
+
+    /**
+     * Returns the qualified names of all class types a port refers to through its method
+     * signatures.
+     *
+     * @param port port (never {@code null})
+     * @return referenced qualified names (never {@code null})
+     */
+    public static Set<String> of(PortView port) {
+        Objects.requireNonNull(port, "port");
+        Set<String> sink = new LinkedHashSet<>();
+        for (PortMethodView method : port.methods()) {
+            collect(method.returnType(), sink);
+            for (PortParameterView parameter : method.parameters()) {
+                collect(parameter.type(), sink);
+            }
+        }
+        return java.util.Collections.unmodifiableSet(sink);
+    }
+
+    private static void collect(TypeRef type, Set<String> sink) {
+        Objects.requireNonNull(type, "type");
+        if (type instanceof ClassRef classRef) {
+            classRef.qualifiedName().ifPresent(sink::add);
+        } else if (type instanceof ParameterizedRef parameterized) {
+            collect(parameterized.rawType(), sink);
+            for (TypeRef argument : parameterized.typeArguments()) {
+                collect(argument, sink);
+            }
+        } else if (type instanceof ArrayRef array) {
+            collect(array.componentType(), sink);
+        } else if (type instanceof WildcardRef wildcard) {
+            if (wildcard.upperBound() != null) {
+                collect(wildcard.upperBound(), sink);
+            } else if (wildcard.lowerBound() != null) {
+                collect(wildcard.lowerBound(), sink);
+            }
+        }
+        // Type variables and primitives never reference other types
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.testing;
+
+import com.sun.source.util.JavacTask;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * In-memory sources attributed by {@code javac}, exposing the compiler's model of them.
+ *
+ * <p>Unlike {@link CompilationTestCase}, this does not run the HexaGlue processor: the sources are
+ * parsed and attributed, and their {@link TypeElement}s, together with the compiler's
+ * {@link Elements} and {@link Types} utilities, stay usable until {@link #close()}. This lets
+ * tests and benchmarks drive core analyzers directly on real elements.</p>
+ *
+ * <pre>{@code
+ * try (CompiledSources sources = CompiledSources.builder()
+ *         .addSourceFile("com.example.Order", "package com.example; public class Order {}")
+ *         .compile()) {
+ *     TypeElement order = sources.typeElement("com.example.Order");
+ * }
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe: javac's model must only be used by one thread at a time.</p>
+ */
+public final class CompiledSources implements AutoCloseable {
+
+    private final StandardJavaFileManager fileManager;
+    private final Elements elements;
+    private final Types types;
+    private final Map<String, TypeElement> typeElements;
+
+    private CompiledSources(
+            StandardJavaFileManager fileManager,
+            Elements elements,
+            Types types,
+            Map<String, TypeElement> typeElements) {
+        this.fileManager = fileManager;
+        this.elements = elements;
+        this.types = types;
+        this.typeElements = typeElements;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the compiler's element utilities.
+     */
+    public Elements elements() {
+        return elements;
+    }
+
+    /**
+     * Returns the compiler's type utilities.
+     */
+    public Types types() {
+        return types;
+    }
+
+    /**
+     * Returns the top-level type elements of the sources, in the order the sources were added.
+     */
+    public List<TypeElement> typeElements() {
+        return List.copyOf(typeElements.values());
+    }
+
+    /**
+     * Returns the type element of the source added under the given qualified name.
+     *
+     * @throws IllegalArgumentException if no such source was added
+     */
+    public TypeElement typeElement(String qualifiedName) {
+        TypeElement element = typeElements.get(qualifiedName);
+        if (element == null) {
+            throw new IllegalArgumentException("No source for type " + qualifiedName);
+        }
+        return element;
+    }
+
+    @Override
+    public void close() {
+        try {
+            fileManager.close();
+        } catch (IOException e) {
+            // Nothing was written; closing only releases the platform class path.
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Builder
+    // -------------------------------------------------------------------------
+
+    public static final class Builder {
+        private final Map<String, String> sources = new LinkedHashMap<>();
+        private final List<String> javacOptions = new ArrayList<>();
+
+        private Builder() {}
+
+        public Builder addSourceFile(String qualifiedName, String source) {
+            if (qualifiedName == null) throw new IllegalArgumentException("qualifiedName must not be null");
+            if (source == null) throw new IllegalArgumentException("source must not be null");
+            this.sources.put(qualifiedName, source);
+            return this;
+        }
+
+        public Builder addJavacOption(String option) {
+            if (option != null && !option.isBlank()) this.javacOptions.add(option);
+            return this;
+        }
+
+        /**
+         * Parses and attributes the sources.
+         *
+         * @throws IllegalStateException if no system compiler is available or the sources do not compile
+         */
+        public CompiledSources compile() {
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            if (compiler == null) {
+                throw new IllegalStateException(
+                        "No system Java compiler available. Are you running on a JRE instead of a JDK?");
+            }
+
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+
+            List<JavaFileObject> units = new ArrayList<>(sources.size());
+            sources.forEach((name, source) -> units.add(MemoryJavaFileObject.source(name, source)));
+
+            List<String> opts = new ArrayList<>();
+            opts.add("-proc:none");
+            opts.addAll(javacOptions);
+
+            JavacTask task = (JavacTask)
+                    compiler.getTask(null, new MemoryFileManager(fileManager), diagnostics, opts, null, units);
+            try {
+                task.analyze();
+            } catch (IOException | RuntimeException e) {
+                closeQuietly(fileManager);
+                throw new IllegalStateException("Compilation failed", e);
+            }
+
+            List<Diagnostic<? extends JavaFileObject>> errors = diagnostics.getDiagnostics().stream()
+                    .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                    .toList();
+            if (!errors.isEmpty()) {
+                closeQuietly(fileManager);
+                throw new IllegalStateException("Compilation failed:\n"
+                        + errors.stream().map(d -> d.getMessage(null)).collect(Collectors.joining("\n")));
+            }
+
+            Elements elements = task.getElements();
+            Map<String, TypeElement> typeElements = new LinkedHashMap<>();
+            for (String name : sources.keySet()) {
+                TypeElement element = elements.getTypeElement(name);
+                if (element == null) {
+                    closeQuietly(fileManager);
+                    throw new IllegalStateException("Source " + name + " does not declare type " + name);
+                }
+                typeElements.put(name, element);
+            }
+            return new CompiledSources(
+                    fileManager, elements, task.getTypes(), Collections.unmodifiableMap(typeElements));
+        }
+
+        private static void closeQuietly(StandardJavaFileManager fileManager) {
+            try {
+                fileManager.close();
+            } catch (IOException e) {
+                // Ignore: the compilation error is what matters.
+            }
+        }
+    }
+}
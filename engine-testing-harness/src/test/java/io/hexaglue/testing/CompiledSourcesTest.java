@@ -0,0 +1,62 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.testing;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validates that {@link CompiledSources} exposes attributed elements of in-memory sources.
+ */
+class CompiledSourcesTest {
+
+    @Test
+    void shouldExposeAttributedTypeElements() {
+        try (CompiledSources sources = CompiledSources.builder()
+                .addSourceFile("com.example.OrderId", """
+                        package com.example;
+                        public record OrderId(String value) {}
+                        """)
+                .addSourceFile("com.example.Order", """
+                        package com.example;
+                        public class Order {
+                            private OrderId id;
+                        }
+                        """)
+                .compile()) {
+
+            assertThat(sources.typeElements()).hasSize(2);
+            assertThat(sources.typeElements().get(0).getKind()).isEqualTo(ElementKind.RECORD);
+
+            TypeElement order = sources.typeElement("com.example.Order");
+            VariableElement id =
+                    ElementFilter.fieldsIn(order.getEnclosedElements()).get(0);
+            assertThat(sources.types().asElement(id.asType())).isEqualTo(sources.typeElement("com.example.OrderId"));
+        }
+    }
+
+    @Test
+    void shouldRejectSourcesThatDoNotCompile() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> CompiledSources.builder()
+                .addSourceFile("com.example.Broken", "package com.example; public class Broken { Missing m; }")
+                .compile());
+
+        assertThat(e).hasMessageThat().contains("Compilation failed");
+    }
+}